@@ -0,0 +1,173 @@
+package com.appsmith.benchmarks;
+
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.Property;
+import net.minidev.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generates the inputs of the benchmarks, shaped like what the server sees in production: query results with
+ * thousands of rows, pages with hundreds of widgets, and actions with bindings in every field.
+ * Everything is generated from a fixed seed, so that every run works on the same data.
+ */
+public class BenchmarkFixtures {
+
+    private static final long SEED = 42;
+
+    private static final String[] STATUSES = {"NEW", "PAID", "SHIPPED", "DELIVERED", "CANCELLED"};
+
+    private static final String[] WIDGET_TYPES = {"TEXT_WIDGET", "INPUT_WIDGET_V2", "BUTTON_WIDGET", "TABLE_WIDGET"};
+
+    private BenchmarkFixtures() {}
+
+    /**
+     * Rows of a query result, with the kind of columns a table of orders would have.
+     */
+    public static List<Map<String, Object>> rows(int rowCount) {
+        Random random = new Random(SEED);
+        List<Map<String, Object>> rows = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", 100000 + i);
+            row.put("name", "Customer " + random.nextInt(rowCount));
+            row.put("email", "customer" + i + "@example.com");
+            row.put("amount", Math.round(random.nextDouble() * 100000) / 100.0);
+            row.put("status", STATUSES[random.nextInt(STATUSES.length)]);
+            row.put("active", random.nextBoolean());
+            row.put("createdAt", "2023-0" + (1 + random.nextInt(9)) + "-1" + random.nextInt(10) + "T10:15:30Z");
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * A page with the given number of widgets, grouped ten at a time into containers, which is how large pages are
+     * usually laid out. Every widget has bindings to queries and to other widgets. Lists are mutable array lists, like
+     * the ones of the DSLs read from the database.
+     */
+    public static JSONObject dsl(int widgetCount) {
+        List<Object> containers = new ArrayList<>();
+        for (int containerIndex = 0; containerIndex * 10 < widgetCount; containerIndex++) {
+            List<Object> widgets = new ArrayList<>();
+            for (int i = containerIndex * 10; i < Math.min(widgetCount, (containerIndex + 1) * 10); i++) {
+                widgets.add(widget(i));
+            }
+            JSONObject canvas = widget("Canvas" + containerIndex, "CANVAS_WIDGET");
+            canvas.put("children", widgets);
+
+            JSONObject container = widget("Container" + containerIndex, "CONTAINER_WIDGET");
+            container.put("backgroundColor", "{{appsmith.theme.colors.backgroundColor}}");
+            container.put("dynamicBindingPathList", new ArrayList<>(List.of(bindingPath("backgroundColor"))));
+            container.put("children", new ArrayList<>(List.of(canvas)));
+            containers.add(container);
+        }
+
+        JSONObject mainContainer = widget("MainContainer", "CANVAS_WIDGET");
+        mainContainer.put("children", containers);
+        return mainContainer;
+    }
+
+    private static JSONObject widget(int index) {
+        String type = WIDGET_TYPES[index % WIDGET_TYPES.length];
+        String query = "Query" + (index % 20);
+        JSONObject widget = widget("Widget" + index, type);
+        switch (type) {
+            case "TABLE_WIDGET" -> {
+                widget.put("tableData", "{{" + query + ".data}}");
+                Map<String, Object> primaryColumns = new HashMap<>();
+                List<Object> dynamicBindingPathList = new ArrayList<>();
+                dynamicBindingPathList.add(bindingPath("tableData"));
+                for (String column : List.of("id", "name", "email", "amount", "status")) {
+                    primaryColumns.put(
+                            column,
+                            new HashMap<>(Map.of(
+                                    "computedValue",
+                                    "{{Widget" + index + ".processedTableData.map((currentRow) => ( currentRow." + column
+                                            + "))}}")));
+                    dynamicBindingPathList.add(bindingPath("primaryColumns." + column + ".computedValue"));
+                }
+                widget.put("primaryColumns", primaryColumns);
+                widget.put("dynamicBindingPathList", dynamicBindingPathList);
+            }
+            case "INPUT_WIDGET_V2" -> {
+                widget.put("defaultText", "{{Widget" + (index + 1) + ".selectedRow.name ?? ''}}");
+                widget.put("isDisabled", "{{!appsmith.store.editable}}");
+                widget.put(
+                        "dynamicBindingPathList",
+                        new ArrayList<>(List.of(bindingPath("defaultText"), bindingPath("isDisabled"))));
+            }
+            case "BUTTON_WIDGET" -> {
+                widget.put("isDisabled", "{{" + query + ".isLoading || !Widget" + (index - 1) + ".isValid}}");
+                widget.put("onClick", "{{" + query + ".run(() => showAlert('Saved', 'success'))}}");
+                widget.put("dynamicBindingPathList", new ArrayList<>(List.of(bindingPath("isDisabled"))));
+            }
+            default -> {
+                widget.put("text", "Total: {{" + query + ".data.length}} of {{" + query + ".data[0].count}}");
+                widget.put("dynamicBindingPathList", new ArrayList<>(List.of(bindingPath("text"))));
+            }
+        }
+        return widget;
+    }
+
+    private static JSONObject widget(String widgetName, String type) {
+        JSONObject widget = new JSONObject();
+        widget.put("widgetName", widgetName);
+        widget.put("widgetId", widgetName.toLowerCase());
+        widget.put("type", type);
+        return widget;
+    }
+
+    private static Map<String, Object> bindingPath(String key) {
+        return new HashMap<>(Map.of("key", key));
+    }
+
+    /**
+     * An action with the given number of bindings, spread over its body, headers, params and form data the way a
+     * binding-heavy API or query action would have them.
+     */
+    public static ActionConfiguration actionConfiguration(int bindingCount) {
+        StringBuilder body = new StringBuilder("INSERT INTO orders VALUES ");
+        List<Property> headers = new ArrayList<>();
+        List<Property> queryParameters = new ArrayList<>();
+        Map<String, Object> formData = new HashMap<>();
+        for (int i = 0; i < bindingCount; i++) {
+            String binding = "{{" + binding(i) + "}}";
+            switch (i % 4) {
+                case 0 -> body.append("(").append(binding).append(", 'pending'), ");
+                case 1 -> headers.add(new Property("X-Header-" + i, binding));
+                case 2 -> queryParameters.add(new Property("param" + i, "prefix-" + binding));
+                default -> formData.put("field" + i, Map.of("data", binding, "componentData", binding));
+            }
+        }
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody(body.toString());
+        actionConfiguration.setHeaders(headers);
+        actionConfiguration.setQueryParameters(queryParameters);
+        actionConfiguration.setFormData(formData);
+        actionConfiguration.setPath("/api/v1/orders/{{Table1.selectedRow.id}}");
+        return actionConfiguration;
+    }
+
+    /**
+     * The evaluated values of the bindings of {@link #actionConfiguration}, keyed by binding.
+     */
+    public static Map<String, String> bindingValues(int bindingCount) {
+        Map<String, String> bindingValues = new HashMap<>();
+        for (int i = 0; i < bindingCount; i++) {
+            bindingValues.put(binding(i), "value &amp; " + i);
+        }
+        bindingValues.put("Table1.selectedRow.id", "100001");
+        return bindingValues;
+    }
+
+    private static String binding(int index) {
+        return "Table1.selectedRow.column" + index;
+    }
+}
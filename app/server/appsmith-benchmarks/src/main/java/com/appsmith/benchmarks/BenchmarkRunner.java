@@ -0,0 +1,29 @@
+package com.appsmith.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks whose names match the regex given as the first argument, all of them by default, and writes
+ * the results as JSON to the file given as the second argument, so that they can be compared across releases.
+ */
+public class BenchmarkRunner {
+
+    private static final String DEFAULT_INCLUDE = ".*";
+
+    private static final String DEFAULT_RESULT_FILE = "jmh-results.json";
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : DEFAULT_INCLUDE;
+        String resultFile = args.length > 1 ? args[1] : DEFAULT_RESULT_FILE;
+
+        new Runner(new OptionsBuilder()
+                        .include(include)
+                        .resultFormat(ResultFormatType.JSON)
+                        .result(resultFile)
+                        .build())
+                .run();
+    }
+}
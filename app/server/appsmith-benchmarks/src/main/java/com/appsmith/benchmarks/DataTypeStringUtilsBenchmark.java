@@ -0,0 +1,62 @@
+package com.appsmith.benchmarks;
+
+import com.appsmith.external.constants.DataType;
+import com.appsmith.external.helpers.DataTypeStringUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Detecting the data type of a value, which is done for every binding substituted into a prepared statement, and for
+ * every cell of the data filtered in memory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DataTypeStringUtilsBenchmark {
+
+    // The converter tries one type after the other, so the values of the types it tries last cost the most
+    private static final Map<String, List<String>> INPUTS = Map.of(
+            "integer", List.of("42", "-7", "1,234"),
+            "double", List.of("3.14", "-0.001", "12345678.9"),
+            "boolean", List.of("true", "false"),
+            "date", List.of("2023-05-01", "1999-12-31"),
+            "timestamp", List.of("2023-05-01 10:15:30", "2023-05-01T10:15:30Z"),
+            "json", List.of("{\"id\": 1, \"name\": \"Customer 1\", \"tags\": [\"a\", \"b\"]}", "[1, 2, 3]"),
+            "string", List.of("Customer 1", "customer1@example.com", "NEW"));
+
+    @Param({"integer", "double", "boolean", "date", "timestamp", "json", "string"})
+    String type;
+
+    private List<String> inputs;
+
+    @Setup
+    public void setup() {
+        inputs = INPUTS.get(type);
+    }
+
+    @Benchmark
+    @SuppressWarnings("deprecation")
+    public void stringToKnownDataTypeConverter(Blackhole blackhole) {
+        for (String input : inputs) {
+            DataType dataType = DataTypeStringUtils.stringToKnownDataTypeConverter(input);
+            blackhole.consume(dataType);
+        }
+    }
+}
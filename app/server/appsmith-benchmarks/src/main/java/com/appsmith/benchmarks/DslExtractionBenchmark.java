@@ -0,0 +1,78 @@
+package com.appsmith.benchmarks;
+
+import com.appsmith.server.services.ce.LayoutActionServiceCEImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.minidev.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Walking the DSL of a page to find its widgets and the bindings in them, which is done on every layout update.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DslExtractionBenchmark {
+
+    @Param({"50", "500"})
+    int widgetCount;
+
+    private JSONObject dsl;
+
+    private final DslExtractor dslExtractor = new DslExtractor();
+
+    @Setup
+    public void setup() {
+        // The extraction replaces the children of every widget with copies of them, so the same DSL can be walked
+        // again and again
+        dsl = BenchmarkFixtures.dsl(widgetCount);
+    }
+
+    @Benchmark
+    public Map<String, Set<String>> extractAllWidgetNamesAndDynamicBindingsFromDSL() {
+        Map<String, Set<String>> widgetDynamicBindingsMap = new HashMap<>();
+        dslExtractor.extractAllWidgetNamesAndDynamicBindingsFromDSL(
+                dsl, new HashSet<>(), widgetDynamicBindingsMap, "pageId", "layoutId", new HashSet<>());
+        return widgetDynamicBindingsMap;
+    }
+
+    /**
+     * The extraction only needs the object mapper of the service, to report invalid bindings.
+     */
+    private static class DslExtractor extends LayoutActionServiceCEImpl {
+
+        DslExtractor() {
+            super(new ObjectMapper(), null, null, null, null, null, null, null, null, null, null, null, null);
+        }
+
+        @Override
+        public JSONObject extractAllWidgetNamesAndDynamicBindingsFromDSL(
+                JSONObject dsl,
+                Set<String> widgetNames,
+                Map<String, Set<String>> widgetDynamicBindingsMap,
+                String pageId,
+                String layoutId,
+                Set<String> escapedWidgetNames) {
+            return super.extractAllWidgetNamesAndDynamicBindingsFromDSL(
+                    dsl, widgetNames, widgetDynamicBindingsMap, pageId, layoutId, escapedWidgetNames);
+        }
+    }
+}
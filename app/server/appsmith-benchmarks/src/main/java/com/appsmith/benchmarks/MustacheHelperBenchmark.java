@@ -0,0 +1,64 @@
+package com.appsmith.benchmarks;
+
+import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.MustacheBindingToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Extracting the bindings of an action and substituting their values, which is done on every action execution.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MustacheHelperBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int bindingCount;
+
+    private ActionConfiguration actionConfiguration;
+
+    private Map<String, String> bindingValues;
+
+    // Rendering replaces the values of the fields in place, so every invocation renders a fresh action
+    private ActionConfiguration unrenderedActionConfiguration;
+
+    @Setup
+    public void setup() {
+        actionConfiguration = BenchmarkFixtures.actionConfiguration(bindingCount);
+        bindingValues = BenchmarkFixtures.bindingValues(bindingCount);
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() {
+        unrenderedActionConfiguration = BenchmarkFixtures.actionConfiguration(bindingCount);
+    }
+
+    @Benchmark
+    public Set<MustacheBindingToken> extractMustacheKeysFromFields() {
+        return MustacheHelper.extractMustacheKeysFromFields(actionConfiguration);
+    }
+
+    @Benchmark
+    public ActionConfiguration renderFieldValues() {
+        return MustacheHelper.renderFieldValues(unrenderedActionConfiguration, bindingValues);
+    }
+}
@@ -0,0 +1,118 @@
+package com.appsmith.benchmarks;
+
+import com.appsmith.external.helpers.ResultSizeEstimator;
+import com.external.plugins.utils.PostgresResultSetUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Turning the rows of a Postgres result set into the maps that make up the body of the action result. The rows are
+ * served from memory, so that only the conversion of the values is measured, and not the driver or the network.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PostgresRowMaterializationBenchmark {
+
+    private static final String[] COLUMN_NAMES = {"id", "name", "amount", "active", "created_at", "birthday", "payload"};
+
+    private static final String[] COLUMN_TYPE_NAMES = {"int4", "varchar", "numeric", "bool", "timestamptz", "date", "jsonb"};
+
+    @Param({"1000", "10000"})
+    int rowCount;
+
+    private Object[][] rows;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        rows = new Object[rowCount][];
+        for (int i = 0; i < rowCount; i++) {
+            rows[i] = new Object[] {
+                i,
+                "Customer " + random.nextInt(rowCount),
+                BigDecimal.valueOf(random.nextInt(100000), 2),
+                random.nextBoolean(),
+                OffsetDateTime.of(2023, 1 + random.nextInt(12), 1 + random.nextInt(28), 10, 15, 30, 0, ZoneOffset.UTC),
+                Date.valueOf(LocalDate.of(1950 + random.nextInt(50), 1 + random.nextInt(12), 1 + random.nextInt(28))),
+                // A fifth of the rows have no payload, as nullable columns usually do
+                random.nextInt(5) == 0 ? null : "{\"tags\": [\"a\", \"b\"], \"score\": " + random.nextInt(100) + "}"
+            };
+        }
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> readRows() throws SQLException, IOException {
+        ResultSet resultSet = resultSet(rows);
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        ResultSizeEstimator resultSizeEstimator = new ResultSizeEstimator(Long.MAX_VALUE);
+        List<Map<String, Object>> rowsList = new ArrayList<>(rowCount);
+        while (resultSet.next()) {
+            rowsList.add(PostgresResultSetUtils.readRow(resultSet, metaData, resultSizeEstimator));
+            resultSizeEstimator.endRow();
+        }
+        return rowsList;
+    }
+
+    /**
+     * A forward only result set over the given rows, which supports the getters that are used to read Postgres rows.
+     */
+    private static ResultSet resultSet(Object[][] rows) {
+        ResultSetMetaData metaData = (ResultSetMetaData) Proxy.newProxyInstance(
+                ResultSetMetaData.class.getClassLoader(),
+                new Class<?>[] {ResultSetMetaData.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getColumnCount" -> COLUMN_NAMES.length;
+                    case "getColumnName", "getColumnLabel" -> COLUMN_NAMES[(int) args[0] - 1];
+                    case "getColumnTypeName" -> COLUMN_TYPE_NAMES[(int) args[0] - 1];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+
+        int[] cursor = {-1};
+        return (ResultSet) Proxy.newProxyInstance(
+                ResultSet.class.getClassLoader(), new Class<?>[] {ResultSet.class}, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "next":
+                            return ++cursor[0] < rows.length;
+                        case "getMetaData":
+                            return metaData;
+                        case "getObject":
+                        case "getDate":
+                            return rows[cursor[0]][(int) args[0] - 1];
+                        case "getString":
+                            Object value = rows[cursor[0]][(int) args[0] - 1];
+                            return value == null ? null : value.toString();
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
@@ -0,0 +1,57 @@
+package com.appsmith.benchmarks;
+
+import com.appsmith.external.models.WidgetSuggestionDTO;
+import com.appsmith.server.helpers.WidgetSuggestionHelper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Suggesting widgets for the result of an action, which is done on every action execution from the editor. Results
+ * of plugins come either as Jackson nodes or as lists of maps.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WidgetSuggestionHelperBenchmark {
+
+    @Param({"100", "10000"})
+    int rowCount;
+
+    private List<Map<String, Object>> rows;
+
+    private ArrayNode rowsNode;
+
+    @Setup
+    public void setup() {
+        rows = BenchmarkFixtures.rows(rowCount);
+        rowsNode = new ObjectMapper().valueToTree(rows);
+    }
+
+    @Benchmark
+    public List<WidgetSuggestionDTO> arrayNode() {
+        return WidgetSuggestionHelper.getSuggestedWidgets(rowsNode);
+    }
+
+    @Benchmark
+    public List<WidgetSuggestionDTO> list() {
+        return WidgetSuggestionHelper.getSuggestedWidgets(rows);
+    }
+}
@@ -0,0 +1,117 @@
+package com.appsmith.external.services.ce;
+
+import com.appsmith.external.constants.ConditionalOperator;
+import com.appsmith.external.constants.DataType;
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.appsmith.external.services.FilterDataService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_LIMIT_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_OFFSET_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_TYPE_KEY;
+
+/**
+ * Compares filtering with {@link ColumnarFilterEngine} against filtering on H2, over data shaped like a Google Sheets
+ * response. It lives in the package of the service, to compare against the H2 path, which isn't public.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FilterDataServiceBenchmark {
+
+    private static final String[] STATUSES = {"NEW", "PAID", "SHIPPED", "DELIVERED", "CANCELLED"};
+
+    // The conversion map used by the Google Sheets plugin
+    private static final Map<DataType, DataType> DATA_TYPE_CONVERSION_MAP = Map.of(
+            DataType.INTEGER, DataType.DOUBLE,
+            DataType.LONG, DataType.DOUBLE,
+            DataType.FLOAT, DataType.DOUBLE);
+
+    @Param({"1000", "10000"})
+    int rowCount;
+
+    // Detecting the data type of every value for the conversion map costs more than the filtering itself
+    @Param({"false", "true"})
+    boolean convertDataTypes;
+
+    private Map<DataType, DataType> dataTypeConversionMap;
+
+    private final FilterDataServiceCE filterDataService = FilterDataService.getInstance();
+
+    private ArrayNode items;
+
+    private UQIDataFilterParams params;
+
+    @Setup
+    public void setup() {
+        dataTypeConversionMap = convertDataTypes ? DATA_TYPE_CONVERSION_MAP : null;
+
+        Random random = new Random(42);
+        items = new ObjectMapper().createArrayNode();
+        for (int i = 0; i < rowCount; i++) {
+            ObjectNode item = items.addObject();
+            // Sheets returns every cell as a string
+            item.put("rowIndex", String.valueOf(i));
+            item.put("id", String.valueOf(100000 + i));
+            item.put("name", "Customer " + random.nextInt(rowCount));
+            item.put("email", "customer" + i + "@example.com");
+            item.put("amount", String.format("%.2f", random.nextDouble() * 1000));
+            item.put("status", STATUSES[random.nextInt(STATUSES.length)]);
+            item.put("active", String.valueOf(random.nextBoolean()));
+        }
+
+        Condition condition = new Condition(
+                null,
+                ConditionalOperator.OR,
+                List.of(
+                        new Condition("name", "CONTAINS", "Customer 1"),
+                        new Condition(
+                                null,
+                                ConditionalOperator.AND,
+                                List.of(
+                                        new Condition("amount", "GT", "250"),
+                                        new Condition("status", "IN", "[\"PAID\", \"SHIPPED\"]"),
+                                        new Condition("active", "EQ", "true")),
+                                null)),
+                null);
+        params = new UQIDataFilterParams(
+                condition,
+                List.of("id", "name", "amount", "status"),
+                List.of(Map.of(SORT_BY_COLUMN_NAME_KEY, "amount", SORT_BY_TYPE_KEY, "Descending")),
+                Map.of(PAGINATE_LIMIT_KEY, "50", PAGINATE_OFFSET_KEY, "0"));
+    }
+
+    @Benchmark
+    public ArrayNode columnar() {
+        return filterDataService.filterDataNew(items, params, dataTypeConversionMap);
+    }
+
+    @Benchmark
+    public ArrayNode h2() {
+        return filterDataService.filterDataUsingH2(
+                items, filterDataService.generateSchema(items, dataTypeConversionMap), params, dataTypeConversionMap);
+    }
+}
@@ -1,6 +1,6 @@
-package com.appsmith.git.constants;
-
-public class AppsmithBotAsset {
-    public static final String APPSMITH_BOT_USERNAME = "Appsmith_Bot";
-    public static final String APPSMITH_BOT_EMAIL = "support@appsmith.com";
-}
+package com.appsmith.git.constants;
+
+public class AppsmithBotAsset {
+    public static final String APPSMITH_BOT_USERNAME = "Appsmith_Bot";
+    public static final String APPSMITH_BOT_EMAIL = "support@appsmith.com";
+}
@@ -1,9 +1,9 @@
-package com.appsmith.git.constants;
-
-public interface GitDirectories {
-    String PAGE_DIRECTORY = "pages";
-    String ACTION_DIRECTORY = "queries";
-    String ACTION_COLLECTION_DIRECTORY = "jsobjects";
-    String DATASOURCE_DIRECTORY = "datasources";
-    String JS_LIB_DIRECTORY = "jslibs";
-}
+package com.appsmith.git.constants;
+
+public interface GitDirectories {
+    String PAGE_DIRECTORY = "pages";
+    String ACTION_DIRECTORY = "queries";
+    String ACTION_COLLECTION_DIRECTORY = "jsobjects";
+    String DATASOURCE_DIRECTORY = "datasources";
+    String JS_LIB_DIRECTORY = "jslibs";
+}
@@ -1,18 +1,18 @@
-package com.appsmith.git.converters;
-
-import com.google.gson.JsonElement;
-import com.google.gson.JsonPrimitive;
-import com.google.gson.JsonSerializationContext;
-import com.google.gson.JsonSerializer;
-
-import java.lang.reflect.Type;
-
-public class GsonDoubleToLongConverter implements JsonSerializer<Double> {
-    @Override
-    public JsonElement serialize(Double src, Type typeOfSrc, JsonSerializationContext context) {
-        if (src == src.longValue()) {
-            return new JsonPrimitive(src.longValue());
-        }
-        return new JsonPrimitive(src);
-    }
-}
+package com.appsmith.git.converters;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSerializationContext;
+import com.google.gson.JsonSerializer;
+
+import java.lang.reflect.Type;
+
+public class GsonDoubleToLongConverter implements JsonSerializer<Double> {
+    @Override
+    public JsonElement serialize(Double src, Type typeOfSrc, JsonSerializationContext context) {
+        if (src == src.longValue()) {
+            return new JsonPrimitive(src.longValue());
+        }
+        return new JsonPrimitive(src);
+    }
+}
@@ -0,0 +1,102 @@
+package com.appsmith.git.helpers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Remembers the hashes of the content of the files written to a repo, so that files whose content didn't change are
+ * not written again. Rewriting a file, even with the same content, updates its modification time, which makes git hash
+ * the file again to find out whether it changed.
+ * <p>
+ * A hash is only trusted while the size and the modification time of the file are the ones it had when the hash was
+ * taken, since files are also changed behind our back, e.g. by a hard reset. Like git, hashes taken right after the
+ * file was modified aren't trusted either, as a change in the same tick of the file system clock would go unnoticed.
+ * In those cases the content of the file is compared instead.
+ */
+public class ContentHashManifest {
+
+    // Larger than the resolution of the modification times of the common file systems
+    private static final long RACY_INTERVAL_MILLIS = 2000;
+
+    private final Map<Path, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Set<Path> writtenPaths = ConcurrentHashMap.newKeySet();
+
+    private record Entry(byte[] hash, long size, long lastModifiedMillis, long recordedAtMillis) {}
+
+    /**
+     * Writes the content to the file, unless the file already has the same content.
+     *
+     * @return true if the file was written
+     */
+    public boolean write(Path path, byte[] content) throws IOException {
+        final byte[] hash = hash(content);
+        if (hasContent(path, content, hash)) {
+            return false;
+        }
+
+        Files.write(path, content);
+        record(path, hash, Files.readAttributes(path, BasicFileAttributes.class));
+        writtenPaths.add(path);
+        return true;
+    }
+
+    /**
+     * Returns the files written since the last call, e.g. since the application was last saved to the repo.
+     */
+    public Set<Path> drainWrittenPaths() {
+        final Set<Path> drainedPaths = new HashSet<>(writtenPaths);
+        writtenPaths.removeAll(drainedPaths);
+        return drainedPaths;
+    }
+
+    private boolean hasContent(Path path, byte[] content, byte[] hash) throws IOException {
+        final BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            entries.remove(path);
+            return false;
+        }
+
+        final Entry entry = entries.get(path);
+        if (entry != null
+                && entry.size() == attributes.size()
+                && entry.lastModifiedMillis() == attributes.lastModifiedTime().toMillis()
+                && entry.lastModifiedMillis() < entry.recordedAtMillis() - RACY_INTERVAL_MILLIS) {
+            return Arrays.equals(entry.hash(), hash);
+        }
+
+        if (attributes.size() != content.length || !Arrays.equals(Files.readAllBytes(path), content)) {
+            return false;
+        }
+        record(path, hash, attributes);
+        return true;
+    }
+
+    private void record(Path path, byte[] hash, BasicFileAttributes attributes) {
+        entries.put(
+                path,
+                new Entry(
+                        hash, attributes.size(), attributes.lastModifiedTime().toMillis(), System.currentTimeMillis()));
+    }
+
+    private static byte[] hash(byte[] content) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
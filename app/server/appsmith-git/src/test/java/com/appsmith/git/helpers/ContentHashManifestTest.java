@@ -0,0 +1,62 @@
+package com.appsmith.git.helpers;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Set;
+
+public class ContentHashManifestTest {
+
+    @TempDir
+    Path directory;
+
+    private final ContentHashManifest manifest = new ContentHashManifest();
+
+    @Test
+    public void write_whenContentIsUnchanged_skipsTheFile() throws IOException {
+        Path path = directory.resolve("page.json");
+
+        Assertions.assertTrue(manifest.write(path, bytes("{\"name\": \"Page1\"}")));
+        Assertions.assertFalse(manifest.write(path, bytes("{\"name\": \"Page1\"}")));
+        Assertions.assertTrue(manifest.write(path, bytes("{\"name\": \"Page2\"}")));
+
+        Assertions.assertEquals("{\"name\": \"Page2\"}", Files.readString(path));
+        Assertions.assertEquals(Set.of(path), manifest.drainWrittenPaths());
+        Assertions.assertTrue(manifest.drainWrittenPaths().isEmpty());
+    }
+
+    @Test
+    public void write_whenFileIsChangedOnDisk_writesTheFileAgain() throws IOException {
+        Path path = directory.resolve("page.json");
+        manifest.write(path, bytes("{\"name\": \"Page1\"}"));
+        Files.setLastModifiedTime(path, FileTime.fromMillis(0));
+        // Trusts the hash from now on, as the file wasn't modified right before it was taken
+        Assertions.assertFalse(manifest.write(path, bytes("{\"name\": \"Page1\"}")));
+
+        // A change of the same size, like a hard reset to another version of the file would make
+        Files.writeString(path, "{\"name\": \"Page9\"}");
+
+        Assertions.assertTrue(manifest.write(path, bytes("{\"name\": \"Page1\"}")));
+        Assertions.assertEquals("{\"name\": \"Page1\"}", Files.readString(path));
+    }
+
+    @Test
+    public void write_whenFileIsDeleted_writesTheFileAgain() throws IOException {
+        Path path = directory.resolve("page.json");
+        manifest.write(path, bytes("{}"));
+        Files.delete(path);
+
+        Assertions.assertTrue(manifest.write(path, bytes("{}")));
+        Assertions.assertTrue(Files.exists(path));
+    }
+
+    private static byte[] bytes(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+}
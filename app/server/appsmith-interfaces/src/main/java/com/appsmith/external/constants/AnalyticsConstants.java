@@ -1,10 +1,10 @@
-package com.appsmith.external.constants;
-
-public interface AnalyticsConstants {
-    String DISABLE_TELEMETRY = "disable-telemetry";
-    String SUBSCRIBE_MARKETING = "subscribe-marketing";
-    String GOAL = "goal";
-    String IP = "ip";
-    String IP_ADDRESS = "ipAddress";
-    String EMAIL_DOMAIN_HASH = "emailDomainHash";
-}
+package com.appsmith.external.constants;
+
+public interface AnalyticsConstants {
+    String DISABLE_TELEMETRY = "disable-telemetry";
+    String SUBSCRIBE_MARKETING = "subscribe-marketing";
+    String GOAL = "goal";
+    String IP = "ip";
+    String IP_ADDRESS = "ipAddress";
+    String EMAIL_DOMAIN_HASH = "emailDomainHash";
+}
@@ -1,6 +1,6 @@
-package com.appsmith.external.constants;
-
-public class Assets {
-    public static final String GIT_DISCARD_DOC_URL =
-            "https://docs.appsmith.com/core-concepts/version-control-with-git/pull-and-sync#discard-and-pull-changes";
-}
+package com.appsmith.external.constants;
+
+public class Assets {
+    public static final String GIT_DISCARD_DOC_URL =
+            "https://docs.appsmith.com/core-concepts/version-control-with-git/pull-and-sync#discard-and-pull-changes";
+}
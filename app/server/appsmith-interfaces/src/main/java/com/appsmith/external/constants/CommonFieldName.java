@@ -1,21 +1,21 @@
-package com.appsmith.external.constants;
-
-public class CommonFieldName {
-    public static final String CLIENT_SECRET = "clientSecret";
-    public static final String TOKEN = "token";
-    public static final String REFRESH_TOKEN = "refreshToken";
-    public static final String TOKEN_RESPONSE = "tokenResponse";
-
-    public static final String PASSWORD = "password";
-
-    public static final String CHILDREN = "children";
-    public static final String KEY = "key";
-    public static final String CONDITION = "condition";
-    public static final String VALUE = "value";
-
-    public static final String FILE_TYPE = "FILE";
-    public static final String REDACTED_DATA = "<redacted>";
-
-    public static final String PREPARED_STATEMENT = "preparedStatement";
-    public static final String BODY = "body";
-}
+package com.appsmith.external.constants;
+
+public class CommonFieldName {
+    public static final String CLIENT_SECRET = "clientSecret";
+    public static final String TOKEN = "token";
+    public static final String REFRESH_TOKEN = "refreshToken";
+    public static final String TOKEN_RESPONSE = "tokenResponse";
+
+    public static final String PASSWORD = "password";
+
+    public static final String CHILDREN = "children";
+    public static final String KEY = "key";
+    public static final String CONDITION = "condition";
+    public static final String VALUE = "value";
+
+    public static final String FILE_TYPE = "FILE";
+    public static final String REDACTED_DATA = "<redacted>";
+
+    public static final String PREPARED_STATEMENT = "preparedStatement";
+    public static final String BODY = "body";
+}
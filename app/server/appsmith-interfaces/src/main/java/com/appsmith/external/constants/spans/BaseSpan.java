@@ -1,5 +1,5 @@
-package com.appsmith.external.constants.spans;
-
-public class BaseSpan {
-    public static final String APPSMITH_SPAN_PREFIX = "appsmith.";
-}
+package com.appsmith.external.constants.spans;
+
+public class BaseSpan {
+    public static final String APPSMITH_SPAN_PREFIX = "appsmith.";
+}
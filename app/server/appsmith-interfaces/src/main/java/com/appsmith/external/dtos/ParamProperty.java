@@ -1,19 +1,19 @@
-package com.appsmith.external.dtos;
-
-import lombok.AllArgsConstructor;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
-
-import java.util.List;
-
-@Getter
-@Setter
-@NoArgsConstructor
-@AllArgsConstructor
-public class ParamProperty {
-
-    Object datatype;
-
-    List<String> blobIdentifiers;
-}
+package com.appsmith.external.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParamProperty {
+
+    Object datatype;
+
+    List<String> blobIdentifiers;
+}
@@ -1,6 +1,6 @@
-package com.appsmith.external.exceptions;
-
-public enum AppsmithErrorAction {
-    DEFAULT,
-    LOG_EXTERNALLY
-}
+package com.appsmith.external.exceptions;
+
+public enum AppsmithErrorAction {
+    DEFAULT,
+    LOG_EXTERNALLY
+}
@@ -1,6 +1,6 @@
-package com.appsmith.external.helpers;
-
-public interface Identifiable {
-
-    String getId();
-}
+package com.appsmith.external.helpers;
+
+public interface Identifiable {
+
+    String getId();
+}
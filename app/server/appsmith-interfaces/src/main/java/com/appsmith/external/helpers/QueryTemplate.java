@@ -0,0 +1,16 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.constants.DataType;
+import com.appsmith.external.models.MustacheBindingToken;
+
+import java.util.List;
+
+/**
+ * A query compiled for a prepared statement: its mustache bindings in the order they appear, the query with each of
+ * them replaced with a question mark, and the type each question mark is explicitly cast to, if any. Only the values
+ * of the bindings are left to be set on the statement when it's executed.
+ * <p>
+ * The lists are shared by every execution of the query and can't be modified.
+ */
+public record QueryTemplate(
+        List<MustacheBindingToken> mustacheKeysInOrder, String query, List<DataType> explicitCastDataTypes) {}
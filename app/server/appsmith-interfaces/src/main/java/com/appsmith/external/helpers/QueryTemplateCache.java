@@ -0,0 +1,89 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.constants.DataType;
+import com.appsmith.external.models.MustacheBindingToken;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Caches the queries of a plugin compiled for prepared statements, so that the bindings of a query are only extracted
+ * and replaced once, rather than on every execution. The body of a query only changes when its action is edited.
+ * <p>
+ * The queries are cached by their body, and the least recently used ones are dropped when there are more than the
+ * given number of them. Queries longer than {@link #MAX_CACHED_QUERY_LENGTH} are compiled every time, so that a few
+ * large queries don't take up the memory of the plugin.
+ */
+public class QueryTemplateCache {
+
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    public static final int MAX_CACHED_QUERY_LENGTH = 64 * 1024;
+
+    private final Function<String, List<DataType>> explicitCastingExtractor;
+
+    private final Map<String, QueryTemplate> templates;
+
+    /**
+     * @param maxSize                  the number of queries to keep
+     * @param explicitCastingExtractor finds the types the question marks of a query are cast to, null if the plugin
+     *                                 doesn't support explicit casting
+     */
+    public QueryTemplateCache(int maxSize, Function<String, List<DataType>> explicitCastingExtractor) {
+        this.explicitCastingExtractor = explicitCastingExtractor;
+        this.templates = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, QueryTemplate> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public QueryTemplateCache(int maxSize) {
+        this(maxSize, null);
+    }
+
+    public QueryTemplate get(String query) {
+        if (query.length() > MAX_CACHED_QUERY_LENGTH) {
+            return compile(query);
+        }
+
+        synchronized (templates) {
+            QueryTemplate template = templates.get(query);
+            if (template != null) {
+                return template;
+            }
+        }
+
+        // Compiled outside the lock, a query compiled twice concurrently is cached once either way
+        QueryTemplate template = compile(query);
+        synchronized (templates) {
+            templates.put(query, template);
+        }
+        return template;
+    }
+
+    private QueryTemplate compile(String query) {
+        List<MustacheBindingToken> mustacheKeysInOrder = MustacheHelper.extractMustacheKeysInOrder(query);
+        String updatedQuery = MustacheHelper.replaceMustacheWithQuestionMark(query, mustacheKeysInOrder);
+        List<DataType> explicitCastDataTypes =
+                explicitCastingExtractor == null ? null : explicitCastingExtractor.apply(updatedQuery);
+
+        return new QueryTemplate(
+                Collections.unmodifiableList(new ArrayList<>(mustacheKeysInOrder)),
+                updatedQuery,
+                explicitCastDataTypes == null
+                        ? null
+                        : Collections.unmodifiableList(new ArrayList<>(explicitCastDataTypes)));
+    }
+
+    public int size() {
+        synchronized (templates) {
+            return templates.size();
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.appsmith.external.helpers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Getter;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Keeps a running estimate of the size of a query result while the rows are being read from the database.
+ * <p>
+ * Plugins used to re-serialize the whole accumulated result (see {@link Sizeof}) every few rows to check that the
+ * response does not grow beyond the supported size. That makes the size check quadratic in the number of rows. This
+ * class instead accounts for every value exactly once, as it is read, so that the limit can be enforced in constant
+ * time per row.
+ * <p>
+ * The estimate approximates the size of the JSON representation of the result, which is what finally gets sent to
+ * the client. It is not meant to be byte accurate.
+ */
+@Getter
+public class ResultSizeEstimator {
+
+    // Rough overhead of the quotes, colon and comma that surround a key-value pair in JSON.
+    private static final int ENTRY_OVERHEAD = 4;
+
+    // Rough overhead of the braces / brackets and separators around a row, an array or an object.
+    private static final int CONTAINER_OVERHEAD = 2;
+
+    private static final int NULL_SIZE = 4;
+
+    private static final int BOOLEAN_SIZE = 5;
+
+    private static final int NUMBER_SIZE = 8;
+
+    private final long maxSize;
+
+    private long estimatedSize = CONTAINER_OVERHEAD;
+
+    private long rowCount = 0;
+
+    public ResultSizeEstimator(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Accounts for one row of the result.
+     *
+     * @param row the row, as a map from column name to value
+     * @return the estimated size of the result so far, in bytes
+     */
+    public long addRow(Map<String, Object> row) {
+        estimatedSize += estimateSize(row) + 1;
+        rowCount++;
+        return estimatedSize;
+    }
+
+    /**
+     * Accounts for a single value of a row whose columns are being read one by one. Callers using this method must
+     * call {@link #endRow()} once all the values of the row have been added.
+     *
+     * @param key   column name
+     * @param value column value
+     * @return the estimated size of the result so far, in bytes
+     */
+    public long addValue(String key, Object value) {
+        estimatedSize += estimateEntrySize(key, value);
+        return estimatedSize;
+    }
+
+    /**
+     * Marks the end of a row that was accounted for with {@link #addValue(String, Object)}.
+     *
+     * @return the estimated size of the result so far, in bytes
+     */
+    public long endRow() {
+        estimatedSize += CONTAINER_OVERHEAD + 1;
+        rowCount++;
+        return estimatedSize;
+    }
+
+    public boolean isLimitExceeded() {
+        return estimatedSize > maxSize;
+    }
+
+    /**
+     * Returns a rough estimate of the number of bytes the given value would take up once serialized to JSON.
+     */
+    public static long estimateSize(Object value) {
+        if (value == null) {
+            return NULL_SIZE;
+        }
+
+        if (value instanceof CharSequence) {
+            return ((CharSequence) value).length() + 2L;
+        }
+
+        if (value instanceof Boolean) {
+            return BOOLEAN_SIZE;
+        }
+
+        if (value instanceof BigDecimal || value instanceof BigInteger) {
+            return value.toString().length();
+        }
+
+        if (value instanceof Number) {
+            return NUMBER_SIZE;
+        }
+
+        if (value instanceof Character) {
+            return 3;
+        }
+
+        if (value instanceof byte[]) {
+            // Byte arrays are serialized as base64 strings.
+            return ((((byte[]) value).length + 2L) / 3) * 4 + 2;
+        }
+
+        if (value instanceof JsonNode) {
+            return estimateJsonNodeSize((JsonNode) value);
+        }
+
+        if (value instanceof Map) {
+            long size = CONTAINER_OVERHEAD;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                size += estimateEntrySize(String.valueOf(entry.getKey()), entry.getValue());
+            }
+            return size;
+        }
+
+        if (value instanceof Collection) {
+            long size = CONTAINER_OVERHEAD;
+            for (Object item : (Collection<?>) value) {
+                size += estimateSize(item) + 1;
+            }
+            return size;
+        }
+
+        if (value.getClass().isArray()) {
+            final int length = Array.getLength(value);
+            long size = CONTAINER_OVERHEAD;
+            for (int i = 0; i < length; i++) {
+                size += estimateSize(Array.get(value, i)) + 1;
+            }
+            return size;
+        }
+
+        return value.toString().length() + 2L;
+    }
+
+    private static long estimateEntrySize(String key, Object value) {
+        return (key == null ? 0 : key.length()) + ENTRY_OVERHEAD + estimateSize(value);
+    }
+
+    private static long estimateJsonNodeSize(JsonNode node) {
+        if (node.isObject()) {
+            long size = CONTAINER_OVERHEAD;
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                size += field.getKey().length() + ENTRY_OVERHEAD + estimateJsonNodeSize(field.getValue());
+            }
+            return size;
+        }
+
+        if (node.isArray()) {
+            long size = CONTAINER_OVERHEAD;
+            for (JsonNode item : node) {
+                size += estimateJsonNodeSize(item) + 1;
+            }
+            return size;
+        }
+
+        if (node.isNull() || node.isMissingNode()) {
+            return NULL_SIZE;
+        }
+
+        if (node.isTextual()) {
+            return node.textValue().length() + 2L;
+        }
+
+        return node.asText().length();
+    }
+}
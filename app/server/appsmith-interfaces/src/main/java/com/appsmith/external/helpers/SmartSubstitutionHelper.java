@@ -1,24 +1,21 @@
-package com.appsmith.external.helpers;
-
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
-
-public class SmartSubstitutionHelper {
-
-    public static final String APPSMITH_SUBSTITUTION_PLACEHOLDER = "#_appsmith_placeholder#";
-
-    public static String replaceQuestionMarkWithDollarIndex(String query) {
-        final AtomicInteger counter = new AtomicInteger();
-        String updatedQuery = query.chars()
-                .mapToObj(c -> {
-                    if (c == '?') {
-                        return "$" + counter.incrementAndGet();
-                    }
-
-                    return Character.toString(c);
-                })
-                .collect(Collectors.joining());
-
-        return updatedQuery;
-    }
-}
+package com.appsmith.external.helpers;
+
+public class SmartSubstitutionHelper {
+
+    public static final String APPSMITH_SUBSTITUTION_PLACEHOLDER = "#_appsmith_placeholder#";
+
+    public static String replaceQuestionMarkWithDollarIndex(String query) {
+        StringBuilder updatedQuery = new StringBuilder(query.length() + 16);
+        int counter = 0;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (c == '?') {
+                updatedQuery.append('$').append(++counter);
+            } else {
+                updatedQuery.append(c);
+            }
+        }
+
+        return updatedQuery.toString();
+    }
+}
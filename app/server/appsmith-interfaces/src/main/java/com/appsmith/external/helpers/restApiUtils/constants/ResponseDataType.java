@@ -1,9 +1,9 @@
-package com.appsmith.external.helpers.restApiUtils.constants;
-
-public enum ResponseDataType {
-    BINARY,
-    IMAGE,
-    TEXT,
-    JSON,
-    UNDEFINED
-}
+package com.appsmith.external.helpers.restApiUtils.constants;
+
+public enum ResponseDataType {
+    BINARY,
+    IMAGE,
+    TEXT,
+    JSON,
+    UNDEFINED
+}
@@ -0,0 +1,280 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import com.appsmith.external.helpers.SSLHelper;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.SSLDetails;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.SocketAddress;
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToIntFunction;
+
+/**
+ * Keeps one reactor-netty {@link ConnectionProvider} per datasource, so that TCP and TLS connections are reused across
+ * action executions instead of paying for a new handshake on every API call.
+ * <p>
+ * Plugins don't know the id of the datasource they are executing against, so a pool is identified by the origin of the
+ * datasource URL along with a hash of the settings that affect how connections are established (SSL and proxy). When
+ * any of those settings change, the datasource simply starts using a fresh pool, and the old one is disposed once it
+ * has been idle for long enough or when the registry needs to make room for a new pool.
+ * <p>
+ * The number of active and idle connections of every pool, and of requests waiting for one, are published as the
+ * {@code appsmith.http.connection.pool.connections} gauge, tagged with the pool name and the state.
+ */
+@Slf4j
+public class HttpConnectionPoolRegistry {
+
+    private static final String POOL_NAME_PREFIX = "rest-api-provider-";
+
+    public static final int MAX_POOLS = 100;
+
+    public static final Duration MAX_IDLE_TIME = Duration.ofSeconds(600);
+
+    private static final HttpConnectionPoolRegistry INSTANCE =
+            new HttpConnectionPoolRegistry(MAX_POOLS, MAX_IDLE_TIME, Clock.systemUTC(), Metrics.globalRegistry);
+
+    private final int maxPools;
+
+    private final Duration maxIdleTime;
+
+    private final Clock clock;
+
+    // Access ordered, so that the least recently used pool is the first one to be evicted. Guarded by `this`.
+    private final LinkedHashMap<String, PoolHolder> pools = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final MultiGauge connectionsGauge;
+
+    HttpConnectionPoolRegistry(int maxPools, Duration maxIdleTime, Clock clock, MeterRegistry meterRegistry) {
+        this.maxPools = maxPools;
+        this.maxIdleTime = maxIdleTime;
+        this.clock = clock;
+        this.connectionsGauge = MultiGauge.builder("appsmith.http.connection.pool.connections")
+                .description("Number of active and idle connections of the HTTP connection pools, and of requests "
+                        + "pending a connection, per pool")
+                .register(meterRegistry);
+    }
+
+    public static HttpConnectionPoolRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    public ConnectionProvider getConnectionProvider(DatasourceConfiguration datasourceConfiguration) {
+        return getConnectionProvider(getPoolKey(datasourceConfiguration));
+    }
+
+    public synchronized ConnectionProvider getConnectionProvider(String poolKey) {
+        return getPoolHolder(poolKey).getProvider();
+    }
+
+    /**
+     * Returns the HTTP client of the pool of the given datasource. The client, and hence its SSL context, is built once
+     * per pool, as reactor-netty only reuses a connection for clients secured by the very same SSL provider instance.
+     */
+    public synchronized HttpClient getHttpClient(DatasourceConfiguration datasourceConfiguration) {
+        final PoolHolder holder = getPoolHolder(getPoolKey(datasourceConfiguration));
+        if (holder.getHttpClient() == null) {
+            holder.setHttpClient(HttpClient.create(holder.getProvider())
+                    .secure(SSLHelper.sslCheckForHttpClient(datasourceConfiguration))
+                    .compress(true));
+        }
+        return holder.getHttpClient();
+    }
+
+    private PoolHolder getPoolHolder(String poolKey) {
+        final Instant now = clock.instant();
+        final int poolCount = pools.size();
+        evictIdlePools(now);
+
+        PoolHolder holder = pools.get(poolKey);
+        if (holder == null) {
+            holder = new PoolHolder(POOL_NAME_PREFIX + Integer.toHexString(poolKey.hashCode()));
+            pools.put(poolKey, holder);
+            evictLeastRecentlyUsedPools();
+            registerGauges();
+        } else if (pools.size() != poolCount) {
+            registerGauges();
+        }
+
+        holder.setLastAccessedAt(now);
+        return holder;
+    }
+
+    /**
+     * Disposes the pool for the given key, if there's one. Connections that are currently in use are closed once they
+     * are released back to the pool.
+     */
+    public synchronized void evict(String poolKey) {
+        final PoolHolder holder = pools.remove(poolKey);
+        if (holder != null) {
+            holder.dispose();
+            registerGauges();
+        }
+    }
+
+    public synchronized int size() {
+        return pools.size();
+    }
+
+    /**
+     * Builds the key of the pool to be used for the given datasource. Two configurations get the same pool only if they
+     * point to the same origin and have the same SSL and proxy settings.
+     */
+    public static String getPoolKey(DatasourceConfiguration datasourceConfiguration) {
+        final SSLDetails sslDetails = datasourceConfiguration.getConnection() == null
+                ? null
+                : datasourceConfiguration.getConnection().getSsl();
+
+        return getPoolKey(datasourceConfiguration.getUrl(), sslDetails);
+    }
+
+    public static String getPoolKey(String url, SSLDetails sslDetails) {
+        final int settingsHash = Objects.hash(
+                sslDetails,
+                System.getProperty("java.net.useSystemProxies"),
+                System.getProperty("http.proxyHost"),
+                System.getProperty("http.proxyPort"),
+                System.getProperty("https.proxyHost"),
+                System.getProperty("https.proxyPort"));
+
+        return getOrigin(url) + "#" + Integer.toHexString(settingsHash);
+    }
+
+    private static String getOrigin(String url) {
+        if (url == null) {
+            return "";
+        }
+
+        try {
+            final URI uri = new URI(url.trim());
+            if (uri.getHost() == null) {
+                return url.trim();
+            }
+            return (uri.getScheme() == null ? "" : uri.getScheme().toLowerCase() + "://")
+                    + uri.getHost().toLowerCase()
+                    + (uri.getPort() == -1 ? "" : ":" + uri.getPort());
+        } catch (Exception e) {
+            // URLs with mustache bindings in them may not be valid URIs. Such datasources get a pool of their own.
+            return url.trim();
+        }
+    }
+
+    private void evictIdlePools(Instant now) {
+        final Iterator<Map.Entry<String, PoolHolder>> iterator =
+                pools.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final PoolHolder holder = iterator.next().getValue();
+            if (holder.getLastAccessedAt().plus(maxIdleTime).isBefore(now)) {
+                log.debug(
+                        "Disposing HTTP connection pool {} as it has been idle since {}",
+                        holder.getName(),
+                        holder.getLastAccessedAt());
+                iterator.remove();
+                holder.dispose();
+            }
+        }
+    }
+
+    private void evictLeastRecentlyUsedPools() {
+        final Iterator<Map.Entry<String, PoolHolder>> iterator =
+                pools.entrySet().iterator();
+        while (pools.size() > maxPools && iterator.hasNext()) {
+            final PoolHolder holder = iterator.next().getValue();
+            log.debug("Disposing HTTP connection pool {} as the registry is full", holder.getName());
+            iterator.remove();
+            holder.dispose();
+        }
+    }
+
+    /**
+     * Replaces the rows of the connections gauge with those of the pools currently in the registry, so that disposed
+     * pools stop being reported.
+     */
+    private void registerGauges() {
+        final List<MultiGauge.Row<?>> rows = new ArrayList<>();
+        for (PoolHolder holder : pools.values()) {
+            rows.add(holder.gaugeRow("active", ConnectionPoolMetrics::acquiredSize));
+            rows.add(holder.gaugeRow("idle", ConnectionPoolMetrics::idleSize));
+            rows.add(holder.gaugeRow("pending", ConnectionPoolMetrics::pendingAcquireSize));
+        }
+        connectionsGauge.register(rows, true);
+    }
+
+    @Getter
+    private class PoolHolder implements ConnectionProvider.MeterRegistrar {
+
+        private final String name;
+
+        private final ConnectionProvider provider;
+
+        // reactor-netty maintains a separate pool for every remote address, each of them registers its metrics here.
+        private final Map<String, ConnectionPoolMetrics> metricsByRemoteAddress = new ConcurrentHashMap<>();
+
+        // Built on first use, as the SSL settings it is secured with are only known to the executions. Guarded by the
+        // registry.
+        private HttpClient httpClient;
+
+        private volatile Instant lastAccessedAt;
+
+        PoolHolder(String name) {
+            this.name = name;
+            this.lastAccessedAt = clock.instant();
+            this.provider = ConnectionProvider.builder(name)
+                    .maxIdleTime(maxIdleTime)
+                    .maxLifeTime(maxIdleTime)
+                    .evictInBackground(maxIdleTime)
+                    .metrics(true, () -> this)
+                    .build();
+        }
+
+        void setLastAccessedAt(Instant lastAccessedAt) {
+            this.lastAccessedAt = lastAccessedAt;
+        }
+
+        void setHttpClient(HttpClient httpClient) {
+            this.httpClient = httpClient;
+        }
+
+        void dispose() {
+            provider.disposeLater().subscribe();
+            metricsByRemoteAddress.clear();
+        }
+
+        MultiGauge.Row<PoolHolder> gaugeRow(String state, ToIntFunction<ConnectionPoolMetrics> size) {
+            return MultiGauge.Row.of(
+                    Tags.of("pool", name, "state", state),
+                    this,
+                    holder -> holder.metricsByRemoteAddress.values().stream()
+                            .mapToInt(size)
+                            .sum());
+        }
+
+        @Override
+        public void registerMetrics(
+                String poolName, String id, SocketAddress remoteAddress, ConnectionPoolMetrics metrics) {
+            metricsByRemoteAddress.put(id, metrics);
+        }
+
+        @Override
+        public void deRegisterMetrics(String poolName, String id, SocketAddress remoteAddress) {
+            metricsByRemoteAddress.remove(id);
+        }
+    }
+}
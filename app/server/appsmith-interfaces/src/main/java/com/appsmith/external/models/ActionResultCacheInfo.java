@@ -0,0 +1,27 @@
+package com.appsmith.external.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Whether the result of an execution was read from the result cache, along with how often the results of the action
+ * have been, on this server.
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActionResultCacheInfo {
+
+    Boolean hit;
+
+    Long hitCount;
+
+    Long missCount;
+
+    Double hitRate;
+}
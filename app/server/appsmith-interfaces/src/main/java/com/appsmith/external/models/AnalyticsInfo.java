@@ -1,16 +1,16 @@
-package com.appsmith.external.models;
-
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
-import lombok.ToString;
-
-import java.util.Map;
-
-@Getter
-@Setter
-@ToString
-@NoArgsConstructor
-public class AnalyticsInfo {
-    private Map<String, Object> analyticsData;
-}
+package com.appsmith.external.models;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+public class AnalyticsInfo {
+    private Map<String, Object> analyticsData;
+}
@@ -1,3 +1,3 @@
-package com.appsmith.external.models;
-
-public interface AppsmithDomain {}
+package com.appsmith.external.models;
+
+public interface AppsmithDomain {}
@@ -1,19 +1,19 @@
-package com.appsmith.external.models;
-
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
-import lombok.ToString;
-import org.springframework.data.mongodb.core.index.Indexed;
-import org.springframework.data.mongodb.core.mapping.Document;
-
-@Getter
-@Setter
-@ToString
-@NoArgsConstructor
-@Document
-public class Category extends BaseDomain {
-
-    @Indexed(unique = true)
-    String name; // Category name here
-}
+package com.appsmith.external.models;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@Document
+public class Category extends BaseDomain {
+
+    @Indexed(unique = true)
+    String name; // Category name here
+}
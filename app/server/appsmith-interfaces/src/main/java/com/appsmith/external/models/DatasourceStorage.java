@@ -1,150 +1,150 @@
-package com.appsmith.external.models;
-
-import com.appsmith.external.views.Views;
-import com.fasterxml.jackson.annotation.JsonProperty;
-import com.fasterxml.jackson.annotation.JsonView;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
-import org.springframework.data.annotation.Transient;
-import org.springframework.data.mongodb.core.mapping.Document;
-import org.springframework.util.CollectionUtils;
-
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
-
-import static com.appsmith.external.constants.PluginConstants.DEFAULT_REST_DATASOURCE;
-
-@Getter
-@Setter
-@AllArgsConstructor
-@NoArgsConstructor
-@Document
-public class DatasourceStorage extends BaseDomain {
-
-    @JsonView(Views.Public.class)
-    String datasourceId;
-
-    @JsonView(Views.Public.class)
-    String environmentId;
-
-    @JsonView(Views.Public.class)
-    DatasourceConfiguration datasourceConfiguration;
-
-    /*
-     * This field is introduced as part of git sync feature, for the git import we will need to identify the datasource's
-     * which are not configured. This way user can configure those datasource, which may have been introduced as part of git import.
-     */
-    @JsonView(Views.Public.class)
-    Boolean isConfigured;
-
-    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
-    @JsonView(Views.Public.class)
-    Set<String> invalids = new HashSet<>();
-
-    @Transient
-    String name;
-
-    @Transient
-    String pluginId;
-
-    /*
-     * - To return useful hints to the user.
-     * - These messages are generated by the API server based on the other datasource attributes.
-     */
-    @Transient
-    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
-    @JsonView(Views.Public.class)
-    Set<String> messages = new HashSet<>();
-
-    @Transient
-    String pluginName;
-
-    @Transient
-    String workspaceId;
-
-    @Transient
-    String templateName;
-
-    @Transient
-    Boolean isAutoGenerated;
-
-    @Transient
-    Boolean isRecentlyCreated;
-
-    @Transient
-    Boolean isTemplate;
-
-    @Transient
-    Boolean isMock;
-
-    public DatasourceStorage(
-            String datasourceId,
-            String environmentId,
-            DatasourceConfiguration datasourceConfiguration,
-            Boolean isConfigured,
-            Set<String> invalids,
-            Set<String> messages) {
-
-        this.datasourceId = datasourceId;
-        this.environmentId = environmentId;
-        this.datasourceConfiguration = datasourceConfiguration;
-        this.isConfigured = isConfigured;
-        this.invalids = new HashSet<>();
-        if (invalids != null) {
-            this.invalids.addAll(invalids);
-        }
-        if (messages != null) {
-            this.messages = messages;
-        }
-    }
-
-    public void prepareTransientFields(Datasource datasource) {
-        this.datasourceId = datasource.getId();
-        this.name = datasource.getName();
-        this.pluginId = datasource.getPluginId();
-        this.pluginName = datasource.getPluginName();
-        this.workspaceId = datasource.getWorkspaceId();
-        this.templateName = datasource.getTemplateName();
-        this.isAutoGenerated = datasource.getIsAutoGenerated();
-        this.isRecentlyCreated = datasource.getIsRecentlyCreated();
-        this.isTemplate = datasource.getIsTemplate();
-        this.isMock = datasource.getIsMock();
-
-        if (datasource.getInvalids() != null) {
-            this.invalids.addAll(datasource.getInvalids());
-        }
-        this.gitSyncId = datasource.getGitSyncId();
-    }
-
-    @JsonView(Views.Public.class)
-    public boolean getIsValid() {
-        return CollectionUtils.isEmpty(invalids);
-    }
-
-    public void sanitiseToExportResource(Map<String, String> pluginMap) {
-        this.setDatasourceId(null);
-        this.setEnvironmentId(null);
-        this.setPolicies(null);
-        this.setUpdatedAt(null);
-        this.setCreatedAt(null);
-        this.setUserPermissions(null);
-        this.setIsConfigured(null);
-        this.setInvalids(null);
-        this.setId(null);
-        this.setWorkspaceId(null);
-        this.setPluginId(pluginMap.get(this.getPluginId()));
-        this.setIsRecentlyCreated(null);
-    }
-
-    public boolean isEmbedded() {
-        /**
-         * We cannot just rely on datasourceId == null check because it will always be true for all cases when the
-         * user clicks on `test datasource` button.
-         * DEFAULT_REST_DATASOURCE is the embedded datasource name for both REST API plugin and GraphQL plugin.
-         */
-        return DEFAULT_REST_DATASOURCE.equals(this.name) && this.getDatasourceId() == null;
-    }
-}
+package com.appsmith.external.models;
+
+import com.appsmith.external.views.Views;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonView;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.util.CollectionUtils;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static com.appsmith.external.constants.PluginConstants.DEFAULT_REST_DATASOURCE;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Document
+public class DatasourceStorage extends BaseDomain {
+
+    @JsonView(Views.Public.class)
+    String datasourceId;
+
+    @JsonView(Views.Public.class)
+    String environmentId;
+
+    @JsonView(Views.Public.class)
+    DatasourceConfiguration datasourceConfiguration;
+
+    /*
+     * This field is introduced as part of git sync feature, for the git import we will need to identify the datasource's
+     * which are not configured. This way user can configure those datasource, which may have been introduced as part of git import.
+     */
+    @JsonView(Views.Public.class)
+    Boolean isConfigured;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @JsonView(Views.Public.class)
+    Set<String> invalids = new HashSet<>();
+
+    @Transient
+    String name;
+
+    @Transient
+    String pluginId;
+
+    /*
+     * - To return useful hints to the user.
+     * - These messages are generated by the API server based on the other datasource attributes.
+     */
+    @Transient
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @JsonView(Views.Public.class)
+    Set<String> messages = new HashSet<>();
+
+    @Transient
+    String pluginName;
+
+    @Transient
+    String workspaceId;
+
+    @Transient
+    String templateName;
+
+    @Transient
+    Boolean isAutoGenerated;
+
+    @Transient
+    Boolean isRecentlyCreated;
+
+    @Transient
+    Boolean isTemplate;
+
+    @Transient
+    Boolean isMock;
+
+    public DatasourceStorage(
+            String datasourceId,
+            String environmentId,
+            DatasourceConfiguration datasourceConfiguration,
+            Boolean isConfigured,
+            Set<String> invalids,
+            Set<String> messages) {
+
+        this.datasourceId = datasourceId;
+        this.environmentId = environmentId;
+        this.datasourceConfiguration = datasourceConfiguration;
+        this.isConfigured = isConfigured;
+        this.invalids = new HashSet<>();
+        if (invalids != null) {
+            this.invalids.addAll(invalids);
+        }
+        if (messages != null) {
+            this.messages = messages;
+        }
+    }
+
+    public void prepareTransientFields(Datasource datasource) {
+        this.datasourceId = datasource.getId();
+        this.name = datasource.getName();
+        this.pluginId = datasource.getPluginId();
+        this.pluginName = datasource.getPluginName();
+        this.workspaceId = datasource.getWorkspaceId();
+        this.templateName = datasource.getTemplateName();
+        this.isAutoGenerated = datasource.getIsAutoGenerated();
+        this.isRecentlyCreated = datasource.getIsRecentlyCreated();
+        this.isTemplate = datasource.getIsTemplate();
+        this.isMock = datasource.getIsMock();
+
+        if (datasource.getInvalids() != null) {
+            this.invalids.addAll(datasource.getInvalids());
+        }
+        this.gitSyncId = datasource.getGitSyncId();
+    }
+
+    @JsonView(Views.Public.class)
+    public boolean getIsValid() {
+        return CollectionUtils.isEmpty(invalids);
+    }
+
+    public void sanitiseToExportResource(Map<String, String> pluginMap) {
+        this.setDatasourceId(null);
+        this.setEnvironmentId(null);
+        this.setPolicies(null);
+        this.setUpdatedAt(null);
+        this.setCreatedAt(null);
+        this.setUserPermissions(null);
+        this.setIsConfigured(null);
+        this.setInvalids(null);
+        this.setId(null);
+        this.setWorkspaceId(null);
+        this.setPluginId(pluginMap.get(this.getPluginId()));
+        this.setIsRecentlyCreated(null);
+    }
+
+    public boolean isEmbedded() {
+        /**
+         * We cannot just rely on datasourceId == null check because it will always be true for all cases when the
+         * user clicks on `test datasource` button.
+         * DEFAULT_REST_DATASOURCE is the embedded datasource name for both REST API plugin and GraphQL plugin.
+         */
+        return DEFAULT_REST_DATASOURCE.equals(this.name) && this.getDatasourceId() == null;
+    }
+}
@@ -1,26 +1,26 @@
-package com.appsmith.external.models;
-
-import com.appsmith.external.annotations.encryption.Encrypted;
-import com.fasterxml.jackson.annotation.JsonProperty;
-import lombok.AllArgsConstructor;
-import lombok.EqualsAndHashCode;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
-import lombok.ToString;
-import org.springframework.data.mongodb.core.mapping.Document;
-
-@Getter
-@Setter
-@ToString
-@EqualsAndHashCode
-@NoArgsConstructor
-@AllArgsConstructor
-@Document
-public class PEMCertificate implements AppsmithDomain {
-
-    UploadedFile file;
-
-    @Encrypted @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
-    String password;
-}
+package com.appsmith.external.models;
+
+import com.appsmith.external.annotations.encryption.Encrypted;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+@Document
+public class PEMCertificate implements AppsmithDomain {
+
+    UploadedFile file;
+
+    @Encrypted @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
+    String password;
+}
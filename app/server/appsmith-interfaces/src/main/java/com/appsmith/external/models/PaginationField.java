@@ -1,6 +1,6 @@
-package com.appsmith.external.models;
-
-public enum PaginationField {
-    NEXT,
-    PREV
-}
+package com.appsmith.external.models;
+
+public enum PaginationField {
+    NEXT,
+    PREV
+}
@@ -1,8 +1,8 @@
-package com.appsmith.external.models;
-
-public enum PaginationType {
-    NONE,
-    PAGE_NO,
-    URL,
-    CURSOR
-}
+package com.appsmith.external.models;
+
+public enum PaginationType {
+    NONE,
+    PAGE_NO,
+    URL,
+    CURSOR
+}
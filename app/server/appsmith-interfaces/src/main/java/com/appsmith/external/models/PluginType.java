@@ -1,9 +1,9 @@
-package com.appsmith.external.models;
-
-public enum PluginType {
-    DB,
-    API,
-    JS,
-    SAAS,
-    REMOTE
-}
+package com.appsmith.external.models;
+
+public enum PluginType {
+    DB,
+    API,
+    JS,
+    SAAS,
+    REMOTE
+}
@@ -1,22 +1,22 @@
-package com.appsmith.external.models;
-
-import com.appsmith.external.annotations.encryption.Encrypted;
-import com.fasterxml.jackson.annotation.JsonProperty;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
-import lombok.ToString;
-
-@Getter
-@Setter
-@ToString
-@NoArgsConstructor
-@AllArgsConstructor
-public class SSHPrivateKey implements AppsmithDomain {
-
-    UploadedFile keyFile;
-
-    @Encrypted @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
-    String password;
-}
+package com.appsmith.external.models;
+
+import com.appsmith.external.annotations.encryption.Encrypted;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class SSHPrivateKey implements AppsmithDomain {
+
+    UploadedFile keyFile;
+
+    @Encrypted @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
+    String password;
+}
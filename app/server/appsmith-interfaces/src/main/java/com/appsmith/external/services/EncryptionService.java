@@ -1,5 +1,5 @@
-package com.appsmith.external.services;
-
-import com.appsmith.external.services.ce.EncryptionServiceCE;
-
-public interface EncryptionService extends EncryptionServiceCE {}
+package com.appsmith.external.services;
+
+import com.appsmith.external.services.ce.EncryptionServiceCE;
+
+public interface EncryptionService extends EncryptionServiceCE {}
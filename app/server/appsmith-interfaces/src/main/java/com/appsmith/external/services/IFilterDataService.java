@@ -1,5 +1,5 @@
-package com.appsmith.external.services;
-
-import com.appsmith.external.services.ce.IFilterDataServiceCE;
-
-public interface IFilterDataService extends IFilterDataServiceCE {}
+package com.appsmith.external.services;
+
+import com.appsmith.external.services.ce.IFilterDataServiceCE;
+
+public interface IFilterDataService extends IFilterDataServiceCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.external.services;
-
-import com.appsmith.external.services.ce.SharedConfigCE;
-
-public interface SharedConfig extends SharedConfigCE {}
+package com.appsmith.external.services;
+
+import com.appsmith.external.services.ce.SharedConfigCE;
+
+public interface SharedConfig extends SharedConfigCE {}
@@ -0,0 +1,940 @@
+package com.appsmith.external.services.ce;
+
+import com.appsmith.external.constants.ConditionalOperator;
+import com.appsmith.external.constants.DataType;
+import com.appsmith.external.constants.SortType;
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.util.CollectionUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+import static com.appsmith.external.services.ce.FilterDataServiceCE.IS_NOT_NULL_OPERATORS;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.IS_NULL_OPERATORS;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_LIMIT_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_OFFSET_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_TYPE_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SQL_OPERATOR_MAP;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.toSqlValue;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Evaluates {@link UQIDataFilterParams} directly over the rows of an {@link ArrayNode}, without loading them into the
+ * in memory H2 database first.
+ * <p>
+ * The rows are converted into one typed array per column, exactly the way {@link FilterDataServiceCE} would have
+ * inserted them into H2, and the where clause, sorting, pagination and projection are then evaluated over those arrays
+ * with the same semantics as the SQL query that FilterDataServiceCE generates for them: comparisons against NULL never
+ * match, NULLs sort first in ascending order and ties keep the order of the input rows.
+ * <p>
+ * Filters that can't be reproduced faithfully here, like the ones over date columns or the ones H2 would reject, are
+ * reported as unsupported, so that the caller falls back to H2.
+ */
+@Slf4j
+class ColumnarFilterEngine {
+
+    // H2 doesn't allow identifiers longer than this.
+    private static final int MAX_COLUMN_NAME_LENGTH = 256;
+
+    private final ObjectMapper objectMapper;
+
+    ColumnarFilterEngine(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Filters the data as per the given parameters.
+     *
+     * @param items                 - data
+     * @param schema                - schema of the data, as generated by FilterDataServiceCE
+     * @param uqiDataFilterParams   - filter conditions to apply on data
+     * @param dataTypeConversionMap - A Map to provide custom Datatype against the actual Datatype found.
+     * @return the filtered rows, or an empty optional if the filter needs to be evaluated by H2
+     */
+    Optional<List<Map<String, Object>>> filter(
+            ArrayNode items,
+            Map<String, DataType> schema,
+            UQIDataFilterParams uqiDataFilterParams,
+            Map<DataType, DataType> dataTypeConversionMap) {
+
+        final Query query;
+        try {
+            query = compile(schema, uqiDataFilterParams, dataTypeConversionMap);
+        } catch (UnsupportedFilterException e) {
+            log.debug("Filtering on H2 since {}", e.getMessage());
+            return Optional.empty();
+        } catch (RuntimeException e) {
+            // These parameters fail on H2 as well. Let H2 report the error the way it always has.
+            log.debug("Filtering on H2 since the filter parameters could not be parsed", e);
+            return Optional.empty();
+        }
+
+        try {
+            final Map<String, Column> columns = loadColumns(items, schema, dataTypeConversionMap);
+            return Optional.of(query.execute(columns, items.size()));
+        } catch (UnsupportedFilterException e) {
+            log.debug("Filtering on H2 since {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Query compile(
+            Map<String, DataType> schema,
+            UQIDataFilterParams uqiDataFilterParams,
+            Map<DataType, DataType> dataTypeConversionMap) {
+
+        for (Map.Entry<String, DataType> entry : schema.entrySet()) {
+            final String columnName = entry.getKey();
+            final DataType dataType = entry.getValue();
+            if (columnName.isEmpty() || columnName.length() > MAX_COLUMN_NAME_LENGTH) {
+                throw new UnsupportedFilterException("column name `" + columnName + "` is not a valid identifier");
+            }
+            if (dataType == DataType.DATE || dataType == DataType.TIMESTAMP) {
+                throw new UnsupportedFilterException("column " + columnName + " is of type " + dataType);
+            }
+            if (dataTypeConversionMap != null && !isStorable(dataType, dataTypeConversionMap.get(dataType))) {
+                // Values would be converted to a type that H2 would have to cast to the type of the column
+                throw new UnsupportedFilterException("column " + columnName + " has a converted data type");
+            }
+        }
+
+        final Query query = new Query();
+
+        final Condition condition = uqiDataFilterParams.getCondition();
+        if (Condition.isValid(condition)) {
+            query.where =
+                    compileLogicalExpression((List<Condition>) condition.getValue(), schema, condition.getOperator());
+        }
+
+        final List<Map<String, String>> sortBy = uqiDataFilterParams.getSortBy();
+        if (!CollectionUtils.isEmpty(sortBy)) {
+            for (Map<String, String> sortCondition : sortBy) {
+                final String columnName = sortCondition.get(SORT_BY_COLUMN_NAME_KEY);
+                if (isBlank(columnName)) {
+                    continue;
+                }
+                checkQuotableColumn(columnName, schema);
+                final SortType sortType =
+                        SortType.valueOf(sortCondition.get(SORT_BY_TYPE_KEY).toUpperCase());
+                query.sortColumns.add(columnName);
+                query.sortTypes.add(sortType);
+            }
+        }
+
+        final Map<String, String> paginateBy = uqiDataFilterParams.getPaginateBy();
+        if (!CollectionUtils.isEmpty(paginateBy)) {
+            final String limit = paginateBy.get(PAGINATE_LIMIT_KEY);
+            final String offset = paginateBy.get(PAGINATE_OFFSET_KEY);
+            query.limit = isBlank(limit) ? "20" : limit;
+            query.offset = isBlank(offset) ? "0" : offset;
+        }
+
+        final List<String> projectionColumns = uqiDataFilterParams.getProjectionColumns();
+        if (!CollectionUtils.isEmpty(projectionColumns)) {
+            for (String columnName : projectionColumns) {
+                checkQuotableColumn(columnName, schema);
+            }
+            query.projectionColumns = projectionColumns;
+        } else {
+            query.projectionColumns = new ArrayList<>(schema.keySet());
+        }
+
+        return query;
+    }
+
+    /**
+     * Checks whether values converted to the given type can be stored in a column of the given type. Besides the
+     * trivial case, this supports decimals being stored in integer columns, which happens with the `rowIndex` column
+     * of Google Sheets, since that's the only column that the conversion map is not applied to while generating the
+     * schema.
+     */
+    private static boolean isStorable(DataType columnType, DataType convertedType) {
+        if (convertedType == null || convertedType == columnType) {
+            return true;
+        }
+        return (columnType == DataType.INTEGER || columnType == DataType.LONG)
+                && (convertedType == DataType.FLOAT || convertedType == DataType.DOUBLE);
+    }
+
+    private static void checkQuotableColumn(String columnName, Map<String, DataType> schema) {
+        if (!schema.containsKey(columnName) || columnName.contains("`")) {
+            throw new UnsupportedFilterException("column `" + columnName + "` can't be referred to");
+        }
+    }
+
+    /**
+     * Mirrors {@link FilterDataServiceCE#generateLogicalExpression}, which prefixes every nested expression with the
+     * logical operator, and every other condition but the first one too. The expression is only evaluated here if the
+     * resulting sequence of terms and operators is a valid SQL expression.
+     *
+     * @return the expression, or null if there's nothing to evaluate
+     */
+    private Expression compileLogicalExpression(
+            List<Condition> conditions, Map<String, DataType> schema, ConditionalOperator logicOp) {
+
+        // Terms of the expression, with null standing for the logical operator
+        final List<Expression> tokens = new ArrayList<>();
+
+        boolean firstCondition = true;
+        for (Condition condition : conditions) {
+            final String path = condition.getPath();
+            final ConditionalOperator operator = condition.getOperator();
+            final Object objValue = condition.getValue();
+
+            if (operator.equals(ConditionalOperator.AND) || operator.equals(ConditionalOperator.OR)) {
+                final Expression subExpression = compileLogicalExpression((List<Condition>) objValue, schema, operator);
+                if (subExpression != null) {
+                    tokens.add(null);
+                    tokens.add(subExpression);
+                }
+                continue;
+            }
+
+            final String value = (String) objValue;
+
+            if (firstCondition) {
+                firstCondition = false;
+            } else {
+                tokens.add(null);
+            }
+
+            if (StringUtils.isNotEmpty(path)) {
+                final Expression term = compileCondition(path, operator, value, schema);
+                if (term != null) {
+                    tokens.add(term);
+                }
+            }
+        }
+
+        if (tokens.isEmpty()) {
+            return null;
+        }
+
+        final List<Expression> terms = new ArrayList<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            // Terms are expected at even positions and operators at odd ones
+            if ((tokens.get(i) == null) == (i % 2 == 0)) {
+                throw new UnsupportedFilterException("the where clause is not a valid expression");
+            }
+            if (tokens.get(i) != null) {
+                terms.add(tokens.get(i));
+            }
+        }
+        if (tokens.size() % 2 == 0) {
+            throw new UnsupportedFilterException("the where clause ends with a logical operator");
+        }
+
+        if (terms.size() == 1) {
+            return terms.get(0);
+        }
+        if (logicOp != ConditionalOperator.AND && logicOp != ConditionalOperator.OR) {
+            throw new UnsupportedFilterException(logicOp + " is not a logical operator");
+        }
+        return new Logical(logicOp == ConditionalOperator.AND, terms);
+    }
+
+    private Expression compileCondition(
+            String path, ConditionalOperator operator, String value, Map<String, DataType> schema) {
+
+        if (!schema.containsKey(path)) {
+            throw new UnsupportedFilterException("column " + path + " does not exist");
+        }
+
+        if (value == null || value.equals(StringUtils.EMPTY)) {
+            if (IS_NULL_OPERATORS.contains(operator)) {
+                return new NullCheck(path, true);
+            } else if (IS_NOT_NULL_OPERATORS.contains(operator)) {
+                return new NullCheck(path, false);
+            }
+            return null;
+        }
+
+        if (!SQL_OPERATOR_MAP.containsKey(operator)) {
+            throw new UnsupportedFilterException(operator + " is not supported");
+        }
+
+        if (operator == ConditionalOperator.IN || operator == ConditionalOperator.NOT_IN) {
+            final List<String> values = new ArrayList<>();
+            try {
+                for (Object arrayValue : objectMapper.readValue(value, List.class)) {
+                    values.add(String.valueOf(arrayValue));
+                }
+            } catch (IOException e) {
+                throw new UnsupportedFilterException(value + " could not be parsed into an array");
+            }
+            if (values.isEmpty()) {
+                throw new UnsupportedFilterException("the " + operator + " condition has an empty list");
+            }
+            return new Membership(path, values, operator == ConditionalOperator.NOT_IN);
+        }
+
+        if (operator == ConditionalOperator.CONTAINS) {
+            if (getColumnKind(schema.get(path)) != ColumnKind.STRING) {
+                throw new UnsupportedFilterException("column " + path + " is not a string column");
+            }
+            return new Contains(path, value);
+        }
+
+        return new Comparison(path, operator, value);
+    }
+
+    private static Map<String, Column> loadColumns(
+            ArrayNode items, Map<String, DataType> schema, Map<DataType, DataType> dataTypeConversionMap) {
+
+        final int rowCount = items.size();
+        final List<String> columnNames = new ArrayList<>(schema.keySet());
+        final DataType[] columnTypes = new DataType[columnNames.size()];
+        final Column[] columns = new Column[columnNames.size()];
+        for (int i = 0; i < columns.length; i++) {
+            columnTypes[i] = schema.get(columnNames.get(i));
+            columns[i] = getColumnKind(columnTypes[i]).newColumn(rowCount);
+            columns[i].dataType = columnTypes[i];
+        }
+
+        // Values are converted row by row, so that the first invalid value reported is the same one as with H2
+        for (int row = 0; row < rowCount; row++) {
+            final JsonNode item = items.get(row);
+            for (int i = 0; i < columns.length; i++) {
+                final JsonNode fieldNode = item.get(columnNames.get(i));
+                final Object value =
+                        toSqlValue(fieldNode == null ? "" : fieldNode.asText(), columnTypes[i], dataTypeConversionMap);
+                if (value == null) {
+                    columns[i].nulls[row] = true;
+                } else {
+                    columns[i].set(row, value);
+                }
+            }
+        }
+
+        final Map<String, Column> columnsByName = new LinkedHashMap<>();
+        for (int i = 0; i < columns.length; i++) {
+            columnsByName.put(columnNames.get(i), columns[i]);
+        }
+        return columnsByName;
+    }
+
+    private static ColumnKind getColumnKind(DataType dataType) {
+        if (dataType == null) {
+            return ColumnKind.STRING;
+        }
+        switch (dataType) {
+            case INTEGER:
+                return ColumnKind.INTEGER;
+            case LONG:
+                return ColumnKind.LONG;
+            case FLOAT:
+                return ColumnKind.FLOAT;
+            case DOUBLE:
+                return ColumnKind.DOUBLE;
+            case BOOLEAN:
+                return ColumnKind.BOOLEAN;
+            default:
+                // Every other type is stored as VARCHAR
+                return ColumnKind.STRING;
+        }
+    }
+
+    /**
+     * Converts a value from the filter parameters the same way it is bound to the prepared statement of the H2 query.
+     */
+    private static Object toParameter(String value, Column column) {
+        return toSqlValue(value, column.dataType, null);
+    }
+
+    private static class Query {
+        Expression where;
+
+        final List<String> sortColumns = new ArrayList<>();
+
+        final List<SortType> sortTypes = new ArrayList<>();
+
+        String limit;
+
+        String offset;
+
+        List<String> projectionColumns;
+
+        List<Map<String, Object>> execute(Map<String, Column> columns, int rowCount) {
+            final IntPredicate predicate = where == null ? null : where.bind(columns);
+
+            Integer pageLimit = null;
+            Integer pageOffset = null;
+            if (limit != null) {
+                pageLimit = (Integer) toSqlValue(limit, DataType.INTEGER, null);
+                pageOffset = (Integer) toSqlValue(offset, DataType.INTEGER, null);
+                if (pageLimit == null || pageOffset == null || pageLimit < 0 || pageOffset < 0) {
+                    throw new UnsupportedFilterException("pagination parameters are not valid");
+                }
+            }
+
+            int[] rows = new int[rowCount];
+            int matchCount = 0;
+            for (int row = 0; row < rowCount; row++) {
+                if (predicate == null || predicate.test(row)) {
+                    rows[matchCount++] = row;
+                }
+            }
+
+            if (!sortColumns.isEmpty()) {
+                final Integer[] sortedRows = new Integer[matchCount];
+                for (int i = 0; i < matchCount; i++) {
+                    sortedRows[i] = rows[i];
+                }
+                // Arrays.sort is stable for objects, so rows that compare equal keep their original order
+                Arrays.sort(sortedRows, getRowComparator(columns));
+                for (int i = 0; i < matchCount; i++) {
+                    rows[i] = sortedRows[i];
+                }
+            }
+
+            int from = 0;
+            int to = matchCount;
+            if (pageLimit != null) {
+                from = Math.min(pageOffset, matchCount);
+                to = (int) Math.min((long) from + pageLimit, matchCount);
+            }
+
+            final Column[] projectedColumns = new Column[projectionColumns.size()];
+            for (int i = 0; i < projectedColumns.length; i++) {
+                projectedColumns[i] = columns.get(projectionColumns.get(i));
+            }
+
+            final List<Map<String, Object>> results = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                final int row = rows[i];
+                final Map<String, Object> result = new LinkedHashMap<>(projectedColumns.length);
+                for (int j = 0; j < projectedColumns.length; j++) {
+                    final Column column = projectedColumns[j];
+                    // Set null values to empty strings
+                    result.put(projectionColumns.get(j), column.nulls[row] ? "" : column.get(row));
+                }
+                results.add(result);
+            }
+
+            return results;
+        }
+
+        private Comparator<Integer> getRowComparator(Map<String, Column> columns) {
+            Comparator<Integer> comparator = null;
+            for (int i = 0; i < sortColumns.size(); i++) {
+                final Column column = columns.get(sortColumns.get(i));
+                Comparator<Integer> columnComparator = (a, b) -> column.compareRows(a, b);
+                if (sortTypes.get(i) == SortType.DESCENDING) {
+                    columnComparator = columnComparator.reversed();
+                }
+                comparator = comparator == null ? columnComparator : comparator.thenComparing(columnComparator);
+            }
+            return comparator;
+        }
+    }
+
+    private interface Expression {
+        /**
+         * Converts the values in the expression as per the types of the columns they are compared with, and returns
+         * a predicate over the row indexes.
+         */
+        IntPredicate bind(Map<String, Column> columns);
+    }
+
+    private static class Logical implements Expression {
+        private final boolean isAnd;
+
+        private final List<Expression> terms;
+
+        Logical(boolean isAnd, List<Expression> terms) {
+            this.isAnd = isAnd;
+            this.terms = terms;
+        }
+
+        @Override
+        public IntPredicate bind(Map<String, Column> columns) {
+            final IntPredicate[] predicates = new IntPredicate[terms.size()];
+            for (int i = 0; i < predicates.length; i++) {
+                predicates[i] = terms.get(i).bind(columns);
+            }
+
+            if (isAnd) {
+                return row -> {
+                    for (IntPredicate predicate : predicates) {
+                        if (!predicate.test(row)) {
+                            return false;
+                        }
+                    }
+                    return true;
+                };
+            }
+
+            return row -> {
+                for (IntPredicate predicate : predicates) {
+                    if (predicate.test(row)) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+        }
+    }
+
+    private static class NullCheck implements Expression {
+        private final String path;
+
+        private final boolean isNull;
+
+        NullCheck(String path, boolean isNull) {
+            this.path = path;
+            this.isNull = isNull;
+        }
+
+        @Override
+        public IntPredicate bind(Map<String, Column> columns) {
+            final boolean[] nulls = columns.get(path).nulls;
+            return isNull ? row -> nulls[row] : row -> !nulls[row];
+        }
+    }
+
+    private static class Comparison implements Expression {
+        private final String path;
+
+        private final ConditionalOperator operator;
+
+        private final String value;
+
+        Comparison(String path, ConditionalOperator operator, String value) {
+            this.path = path;
+            this.operator = operator;
+            this.value = value;
+        }
+
+        @Override
+        public IntPredicate bind(Map<String, Column> columns) {
+            final Column column = columns.get(path);
+            final Object parameter = toParameter(value, column);
+            if (parameter == null) {
+                // Comparing with NULL is never true
+                return row -> false;
+            }
+
+            final boolean[] nulls = column.nulls;
+            final IntUnaryOperator comparison = column.compareWith(parameter);
+            switch (operator) {
+                case LT:
+                    return row -> !nulls[row] && comparison.applyAsInt(row) < 0;
+                case LTE:
+                    return row -> !nulls[row] && comparison.applyAsInt(row) <= 0;
+                case EQ:
+                    return row -> !nulls[row] && comparison.applyAsInt(row) == 0;
+                case NOT_EQ:
+                    return row -> !nulls[row] && comparison.applyAsInt(row) != 0;
+                case GT:
+                    return row -> !nulls[row] && comparison.applyAsInt(row) > 0;
+                case GTE:
+                    return row -> !nulls[row] && comparison.applyAsInt(row) >= 0;
+                default:
+                    throw new IllegalStateException("Unexpected comparison operator " + operator);
+            }
+        }
+    }
+
+    private static class Contains implements Expression {
+        private final String path;
+
+        private final String value;
+
+        Contains(String path, String value) {
+            this.path = path;
+            this.value = value;
+        }
+
+        @Override
+        public IntPredicate bind(Map<String, Column> columns) {
+            final Column column = columns.get(path);
+            // H2 gets the escaped value wrapped in wildcards, which has to be converted just like any other value
+            final String escapedLikeValue = value.replace("!", "!!")
+                    .replace("%", "!%")
+                    .replace("_", "!_")
+                    .replace("[", "![");
+            if (toParameter("%" + escapedLikeValue + "%", column) == null) {
+                return row -> false;
+            }
+
+            final boolean[] nulls = column.nulls;
+            final String[] values = ((StringColumn) column).values;
+            return row -> !nulls[row] && values[row].contains(value);
+        }
+    }
+
+    private static class Membership implements Expression {
+        private final String path;
+
+        private final List<String> values;
+
+        private final boolean negated;
+
+        Membership(String path, List<String> values, boolean negated) {
+            this.path = path;
+            this.values = values;
+            this.negated = negated;
+        }
+
+        @Override
+        public IntPredicate bind(Map<String, Column> columns) {
+            final Column column = columns.get(path);
+            final List<IntUnaryOperator> comparisons = new ArrayList<>();
+            boolean hasNull = false;
+            for (String value : values) {
+                final Object parameter = toParameter(value, column);
+                if (parameter == null) {
+                    hasNull = true;
+                } else {
+                    comparisons.add(column.compareWith(parameter));
+                }
+            }
+
+            final boolean[] nulls = column.nulls;
+            final IntUnaryOperator[] candidates = comparisons.toArray(new IntUnaryOperator[0]);
+            final IntPredicate isMember = row -> {
+                for (IntUnaryOperator candidate : candidates) {
+                    if (candidate.applyAsInt(row) == 0) {
+                        return true;
+                    }
+                }
+                return false;
+            };
+
+            if (!negated) {
+                return row -> !nulls[row] && isMember.test(row);
+            }
+            if (hasNull) {
+                // `x NOT IN (..., NULL)` is never true
+                return row -> false;
+            }
+            return row -> !nulls[row] && !isMember.test(row);
+        }
+    }
+
+    private enum ColumnKind {
+        INTEGER {
+            @Override
+            Column newColumn(int rowCount) {
+                return new IntColumn(rowCount);
+            }
+        },
+        LONG {
+            @Override
+            Column newColumn(int rowCount) {
+                return new LongColumn(rowCount);
+            }
+        },
+        FLOAT {
+            @Override
+            Column newColumn(int rowCount) {
+                return new FloatColumn(rowCount);
+            }
+        },
+        DOUBLE {
+            @Override
+            Column newColumn(int rowCount) {
+                return new DoubleColumn(rowCount);
+            }
+        },
+        BOOLEAN {
+            @Override
+            Column newColumn(int rowCount) {
+                return new BooleanColumn(rowCount);
+            }
+        },
+        STRING {
+            @Override
+            Column newColumn(int rowCount) {
+                return new StringColumn(rowCount);
+            }
+        };
+
+        abstract Column newColumn(int rowCount);
+    }
+
+    /**
+     * Values of a single column, stored in a primitive array of the type H2 would have stored them as. Null values are
+     * tracked separately.
+     */
+    private abstract static class Column {
+        final boolean[] nulls;
+
+        // Type of the column in the schema, which the values compared with the column are converted to
+        DataType dataType;
+
+        Column(int rowCount) {
+            nulls = new boolean[rowCount];
+        }
+
+        /**
+         * @param value a non-null value as returned by {@link FilterDataServiceCE#toSqlValue}
+         */
+        abstract void set(int row, Object value);
+
+        abstract Object get(int row);
+
+        /**
+         * @param key a non-null value as returned by {@link FilterDataServiceCE#toSqlValue}
+         * @return a function that compares the non-null value of a row with the given key
+         */
+        abstract IntUnaryOperator compareWith(Object key);
+
+        /**
+         * Compares two rows, with NULLs being smaller than any other value.
+         */
+        int compareRows(int a, int b) {
+            if (nulls[a] || nulls[b]) {
+                return Boolean.compare(!nulls[a], !nulls[b]);
+            }
+            return compareValues(a, b);
+        }
+
+        abstract int compareValues(int a, int b);
+
+        /**
+         * Rounds a decimal the way H2 does when storing it in an integer column.
+         */
+        static long toIntegral(BigDecimal value, long maxValue) {
+            final BigDecimal rounded = value.setScale(0, RoundingMode.HALF_UP);
+            if (rounded.abs().compareTo(BigDecimal.valueOf(maxValue)) > 0) {
+                // H2 fails with an out of range error
+                throw new UnsupportedFilterException(value + " is out of the range of the column");
+            }
+            return rounded.longValueExact();
+        }
+    }
+
+    private static class IntColumn extends Column {
+        final int[] values;
+
+        IntColumn(int rowCount) {
+            super(rowCount);
+            values = new int[rowCount];
+        }
+
+        @Override
+        void set(int row, Object value) {
+            values[row] = value instanceof BigDecimal
+                    ? (int) toIntegral((BigDecimal) value, Integer.MAX_VALUE)
+                    : (Integer) value;
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+
+        @Override
+        IntUnaryOperator compareWith(Object key) {
+            final int keyValue = (Integer) key;
+            return row -> Integer.compare(values[row], keyValue);
+        }
+
+        @Override
+        int compareValues(int a, int b) {
+            return Integer.compare(values[a], values[b]);
+        }
+    }
+
+    private static class LongColumn extends Column {
+        final long[] values;
+
+        LongColumn(int rowCount) {
+            super(rowCount);
+            values = new long[rowCount];
+        }
+
+        @Override
+        void set(int row, Object value) {
+            values[row] = value instanceof BigDecimal ? toIntegral((BigDecimal) value, Long.MAX_VALUE) : (Long) value;
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+
+        @Override
+        IntUnaryOperator compareWith(Object key) {
+            final long keyValue = (Long) key;
+            return row -> Long.compare(values[row], keyValue);
+        }
+
+        @Override
+        int compareValues(int a, int b) {
+            return Long.compare(values[a], values[b]);
+        }
+    }
+
+    private static class FloatColumn extends Column {
+        final float[] values;
+
+        FloatColumn(int rowCount) {
+            super(rowCount);
+            values = new float[rowCount];
+        }
+
+        @Override
+        void set(int row, Object value) {
+            values[row] = ((BigDecimal) value).floatValue();
+            if (Float.isInfinite(values[row])) {
+                throw new UnsupportedFilterException(value + " is out of the range of REAL values");
+            }
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+
+        /**
+         * H2 compares REAL values with NUMERIC parameters as decimals, after converting the REAL values with
+         * {@link Float#toString}. Since that conversion preserves the order of the values, this is the same as
+         * comparing with the float closest to the parameter, and deciding ties by how that float itself compares.
+         */
+        @Override
+        IntUnaryOperator compareWith(Object key) {
+            final BigDecimal decimalKey = (BigDecimal) key;
+            final float nearest = decimalKey.floatValue();
+            if (Float.isInfinite(nearest)) {
+                final int comparison = nearest > 0 ? -1 : 1;
+                return row -> comparison;
+            }
+
+            final int nearestComparison = new BigDecimal(Float.toString(nearest)).compareTo(decimalKey);
+            return row -> values[row] < nearest ? -1 : values[row] > nearest ? 1 : nearestComparison;
+        }
+
+        @Override
+        int compareValues(int a, int b) {
+            return Float.compare(values[a], values[b]);
+        }
+    }
+
+    private static class DoubleColumn extends Column {
+        final double[] values;
+
+        DoubleColumn(int rowCount) {
+            super(rowCount);
+            values = new double[rowCount];
+        }
+
+        @Override
+        void set(int row, Object value) {
+            values[row] = ((BigDecimal) value).doubleValue();
+            if (Double.isInfinite(values[row])) {
+                throw new UnsupportedFilterException(value + " is out of the range of DOUBLE values");
+            }
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+
+        /**
+         * Same as {@link FloatColumn#compareWith}, with {@link Double#toString} being used for the conversion.
+         */
+        @Override
+        IntUnaryOperator compareWith(Object key) {
+            final BigDecimal decimalKey = (BigDecimal) key;
+            final double nearest = decimalKey.doubleValue();
+            if (Double.isInfinite(nearest)) {
+                final int comparison = nearest > 0 ? -1 : 1;
+                return row -> comparison;
+            }
+
+            final int nearestComparison = new BigDecimal(Double.toString(nearest)).compareTo(decimalKey);
+            return row -> values[row] < nearest ? -1 : values[row] > nearest ? 1 : nearestComparison;
+        }
+
+        @Override
+        int compareValues(int a, int b) {
+            return Double.compare(values[a], values[b]);
+        }
+    }
+
+    private static class BooleanColumn extends Column {
+        final boolean[] values;
+
+        BooleanColumn(int rowCount) {
+            super(rowCount);
+            values = new boolean[rowCount];
+        }
+
+        @Override
+        void set(int row, Object value) {
+            values[row] = (Boolean) value;
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+
+        @Override
+        IntUnaryOperator compareWith(Object key) {
+            final boolean keyValue = (Boolean) key;
+            return row -> Boolean.compare(values[row], keyValue);
+        }
+
+        @Override
+        int compareValues(int a, int b) {
+            return Boolean.compare(values[a], values[b]);
+        }
+    }
+
+    private static class StringColumn extends Column {
+        final String[] values;
+
+        StringColumn(int rowCount) {
+            super(rowCount);
+            values = new String[rowCount];
+        }
+
+        @Override
+        void set(int row, Object value) {
+            values[row] = (String) value;
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+
+        @Override
+        IntUnaryOperator compareWith(Object key) {
+            final String keyValue = (String) key;
+            return row -> values[row].compareTo(keyValue);
+        }
+
+        @Override
+        int compareValues(int a, int b) {
+            return values[a].compareTo(values[b]);
+        }
+    }
+
+    private static class UnsupportedFilterException extends RuntimeException {
+        UnsupportedFilterException(String message) {
+            super(message);
+        }
+    }
+}
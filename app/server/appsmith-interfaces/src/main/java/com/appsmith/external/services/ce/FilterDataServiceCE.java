@@ -1,916 +1,1128 @@
-package com.appsmith.external.services.ce;
-
-import com.appsmith.external.constants.ConditionalOperator;
-import com.appsmith.external.constants.DataType;
-import com.appsmith.external.constants.SortType;
-import com.appsmith.external.dtos.PreparedStatementValueDTO;
-import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
-import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
-import com.appsmith.external.models.Condition;
-import com.appsmith.external.models.UQIDataFilterParams;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
-import org.bson.types.ObjectId;
-import org.h2.jdbc.JdbcSQLSyntaxErrorException;
-import org.springframework.util.CollectionUtils;
-
-import java.io.IOException;
-import java.math.BigDecimal;
-import java.sql.Connection;
-import java.sql.DriverManager;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
-import java.sql.SQLException;
-import java.sql.Statement;
-import java.sql.Types;
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-
-import static com.appsmith.external.helpers.DataTypeStringUtils.stringToKnownDataTypeConverter;
-import static com.appsmith.external.models.Condition.addValueDataType;
-import static org.apache.commons.lang3.StringUtils.isBlank;
-
-@Slf4j
-public class FilterDataServiceCE implements IFilterDataServiceCE {
-
-    public static final String SORT_BY_COLUMN_NAME_KEY = "column";
-    public static final String SORT_BY_TYPE_KEY = "order";
-    public static final String PAGINATE_LIMIT_KEY = "limit";
-    public static final String PAGINATE_OFFSET_KEY = "offset";
-
-    private final ObjectMapper objectMapper;
-    private Connection connection;
-
-    private static final String URL = "jdbc:h2:mem:filterDb;DATABASE_TO_UPPER=FALSE";
-
-    private static final Map<DataType, String> SQL_DATATYPE_MAP = Map.of(
-            DataType.INTEGER, "INT",
-            DataType.LONG, "BIGINT",
-            DataType.FLOAT, "REAL",
-            DataType.DOUBLE, "DOUBLE",
-            DataType.BOOLEAN, "BOOLEAN",
-            DataType.STRING, "VARCHAR",
-            DataType.DATE, "DATE",
-            DataType.TIMESTAMP, "TIMESTAMP");
-
-    private static final Map<ConditionalOperator, String> SQL_OPERATOR_MAP = Map.of(
-            ConditionalOperator.LT, "<",
-            ConditionalOperator.LTE, "<=",
-            ConditionalOperator.EQ, "=",
-            ConditionalOperator.NOT_EQ, "<>",
-            ConditionalOperator.GT, ">",
-            ConditionalOperator.GTE, ">=",
-            ConditionalOperator.CONTAINS, "LIKE",
-            ConditionalOperator.IN, "IN",
-            ConditionalOperator.NOT_IN, "NOT IN");
-
-    private static final Map<DataType, Set<DataType>> datatypeCompatibilityMap = Map.of(
-            DataType.INTEGER, Set.of(),
-            DataType.LONG, Set.of(DataType.INTEGER),
-            DataType.FLOAT, Set.of(DataType.INTEGER, DataType.LONG),
-            DataType.DOUBLE, Set.of(DataType.INTEGER, DataType.LONG, DataType.FLOAT),
-            DataType.BOOLEAN, Set.of(),
-            DataType.STRING,
-                    Set.of(
-                            DataType.INTEGER,
-                            DataType.LONG,
-                            DataType.FLOAT,
-                            DataType.DOUBLE,
-                            DataType.BOOLEAN,
-                            DataType.DATE,
-                            DataType.TIME,
-                            DataType.TIMESTAMP),
-            DataType.DATE, Set.of(),
-            DataType.TIMESTAMP, Set.of());
-
-    public FilterDataServiceCE() {
-
-        objectMapper = new ObjectMapper();
-
-        try {
-            connection = DriverManager.getConnection(URL);
-        } catch (SQLException e) {
-            log.error(e.getMessage());
-            throw new AppsmithPluginException(
-                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
-                    "Failed to connect to the in memory database. Unable to perform filtering : " + e.getMessage());
-        }
-    }
-
-    /**
-     * This filter method is using the new UQI format.
-     *
-     * @param items               - data
-     * @param uqiDataFilterParams - filter conditions to apply on data
-     * @return filtered data
-     */
-    public ArrayNode filterDataNew(ArrayNode items, UQIDataFilterParams uqiDataFilterParams) {
-        return this.filterDataNew(items, uqiDataFilterParams, null);
-    }
-
-    public ArrayNode filterDataNew(
-            ArrayNode items, UQIDataFilterParams uqiDataFilterParams, Map<DataType, DataType> dataTypeConversionMap) {
-        if (items == null || items.size() == 0) {
-            return items;
-        }
-
-        Condition condition = uqiDataFilterParams.getCondition();
-        if (Condition.isValid(condition)) {
-            Condition updatedCondition = addValueDataType(condition);
-            uqiDataFilterParams.setCondition(updatedCondition);
-        }
-
-        Map<String, DataType> schema = generateSchema(items, dataTypeConversionMap);
-        String tableName = generateTable(schema);
-
-        // insert the data
-        insertAllData(tableName, items, schema, dataTypeConversionMap);
-
-        // Filter the data
-        List<Map<String, Object>> finalResults =
-                executeFilterQueryNew(tableName, schema, uqiDataFilterParams, dataTypeConversionMap);
-
-        // Now that the data has been filtered. Clean Up. Drop the table
-        dropTable(tableName);
-
-        ArrayNode finalResultsNode = objectMapper.valueToTree(finalResults);
-
-        return finalResultsNode;
-    }
-
-    private List<Map<String, Object>> executeFilterQueryNew(
-            String tableName,
-            Map<String, DataType> schema,
-            UQIDataFilterParams uqiDataFilterParams,
-            Map<DataType, DataType> dataTypeConversionMap) {
-
-        Condition condition = uqiDataFilterParams.getCondition();
-        List<String> projectionColumns = uqiDataFilterParams.getProjectionColumns();
-        List<Map<String, String>> sortBy = uqiDataFilterParams.getSortBy();
-        Map<String, String> paginateBy = uqiDataFilterParams.getPaginateBy();
-
-        Connection conn = checkAndGetConnection();
-
-        StringBuilder sb = new StringBuilder();
-
-        // Add projection columns condition otherwise use `select *`
-        addProjectionCondition(sb, projectionColumns, tableName);
-
-        /**
-         * Moving this from a LinkedHashMap to an ArrayList of objects because with LinkedHashMap we were using
-         * the data value as key. Hence, if two identical data values existed then they would overwrite each other. E.g.
-         * if there was where clause like `Name == John` Or `Name != John, (which is a perfectly valid query) then
-         * the prepared statement substitution would fail because instead of two values to substitute it would only
-         * fine one i.e. {"John" -> DataType.String} is the only entry it would find whereas two entries are
-         * actually required {"John" -> DataType.String, "John" -> DataType.String} - one for each condition in the
-         * where clause. JUnit TC `testProjectionSortingAndPaginationTogether` takes care of this case as well.
-         */
-        List<PreparedStatementValueDTO> values = new ArrayList<>();
-
-        if (Condition.isValid(condition)) {
-            ConditionalOperator operator = condition.getOperator();
-            List<Condition> conditions = (List<Condition>) condition.getValue();
-
-            String whereClause = generateLogicalExpression(conditions, values, schema, operator);
-
-            if (StringUtils.isNotEmpty(whereClause)) {
-                sb.append(" WHERE ");
-                sb.append(whereClause);
-            }
-        }
-
-        // Add `order by` condition
-        addSortCondition(sb, sortBy);
-
-        // Add `limit <num> offset <num>` condition
-        addPaginationCondition(sb, paginateBy, values);
-
-        sb.append(";");
-
-        List<Map<String, Object>> rowsList = new ArrayList<>(50);
-
-        String selectQuery = sb.toString();
-        log.debug("{} : Executing Query on H2 : {}", Thread.currentThread().getName(), selectQuery);
-
-        try (PreparedStatement preparedStatement = conn.prepareStatement(selectQuery)) {
-            Iterator<PreparedStatementValueDTO> iterator = values.iterator();
-            for (int i = 0; iterator.hasNext(); i++) {
-                PreparedStatementValueDTO dataInfo = iterator.next();
-                String value = dataInfo.getValue();
-                DataType dataType = dataInfo.getDataType();
-                setValueInStatement(preparedStatement, i + 1, value, dataType, null);
-            }
-
-            ResultSet resultSet = preparedStatement.executeQuery();
-            ResultSetMetaData metaData = resultSet.getMetaData();
-            int colCount = metaData.getColumnCount();
-
-            while (resultSet.next()) {
-                Map<String, Object> row = new LinkedHashMap<>(colCount);
-                for (int i = 1; i <= colCount; i++) {
-                    Object resultValue = resultSet.getObject(i);
-
-                    // Set null values to empty strings
-                    if (null == resultValue) {
-                        resultValue = "";
-                    }
-
-                    row.put(metaData.getColumnName(i), resultValue);
-                }
-                rowsList.add(row);
-            }
-        } catch (SQLException e) {
-            // Getting an SQL Exception here means that our generated query is incorrect. Raise an alarm!
-            log.error(e.getMessage());
-            if (e instanceof JdbcSQLSyntaxErrorException) {
-                throw new AppsmithPluginException(
-                        AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
-                        "Filtering failure seen : " + ((JdbcSQLSyntaxErrorException) e).getOriginalMessage());
-            }
-            throw new AppsmithPluginException(
-                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR, "Filtering failure seen : " + e);
-        }
-
-        return rowsList;
-    }
-
-    /**
-     * This method adds the following clause to the SQL query: `LIMIT <num> OFFSET <num>`
-     *
-     * @param sb         - SQL query builder
-     * @param paginateBy - values for limit and offset
-     * @param values     - list to hold values to be substituted in prepared statement
-     */
-    private void addPaginationCondition(
-            StringBuilder sb, Map<String, String> paginateBy, List<PreparedStatementValueDTO> values) {
-        if (CollectionUtils.isEmpty(paginateBy)) {
-            return;
-        }
-
-        sb.append(" LIMIT ? OFFSET ?");
-
-        // Set limit value and data type for prepared statement substitution
-        String limit = paginateBy.get(PAGINATE_LIMIT_KEY);
-        if (isBlank(limit)) {
-            limit = "20";
-        }
-        values.add(new PreparedStatementValueDTO(limit, DataType.INTEGER));
-
-        // Set offset value and data type for prepared statement substitution
-        String offset = paginateBy.get(PAGINATE_OFFSET_KEY);
-        if (isBlank(offset)) {
-            offset = "0";
-        }
-        values.add(new PreparedStatementValueDTO(offset, DataType.INTEGER));
-    }
-
-    /**
-     * Display only those columns that the user has chosen to display.
-     * E.g. if the projectionColumns is a list that contains ["ID, Name"], then this method will add the following
-     * SQL line: `SELECT ID, Name from tableName`, otherwise it will add: `SELECT * FROM tableName`
-     *
-     * @param sb                - SQL query builder
-     * @param projectionColumns - list of columns that need to be displayed
-     * @param tableName         - table name in database
-     */
-    private void addProjectionCondition(StringBuilder sb, List<String> projectionColumns, String tableName) {
-        if (!CollectionUtils.isEmpty(projectionColumns)) {
-            sb.append("SELECT");
-            projectionColumns.stream().forEach(columnName -> sb.append(" `" + columnName + "`,"));
-
-            sb.setLength(sb.length() - 1);
-            sb.append(" FROM " + tableName);
-        } else {
-            sb.append("SELECT * FROM " + tableName);
-        }
-    }
-
-    /**
-     * This method adds `ORDER BY` clause to the SQL query. E.g. if the sortBy list is
-     * [
-     * {"columnName": "ID", "type": "ASCENDING"},
-     * {"columnName": "Name", "type": "DESCENDING"}
-     * ]
-     * then this method will add the following line to the SQL query: `ORDER BY ID ASC, Name DESC`
-     *
-     * @param sb     - SQL query builder
-     * @param sortBy - list of columns to sort by and sort type (ascending / descending)
-     * @throws AppsmithPluginException
-     */
-    private void addSortCondition(StringBuilder sb, List<Map<String, String>> sortBy) throws AppsmithPluginException {
-
-        /**
-         * Checks if:
-         *  o `sortBy` condition list is null or empty
-         *  o all column names in the sortBy list are empty
-         */
-        if (isSortConditionEmpty(sortBy)) {
-            return;
-        }
-
-        sb.append(" ORDER BY");
-        sortBy.stream()
-                .filter(sortCondition -> !isBlank(sortCondition.get(SORT_BY_COLUMN_NAME_KEY)))
-                .forEachOrdered(sortCondition -> {
-                    String columnName = sortCondition.get(SORT_BY_COLUMN_NAME_KEY);
-                    SortType sortType;
-                    try {
-                        sortType = SortType.valueOf(
-                                sortCondition.get(SORT_BY_TYPE_KEY).toUpperCase());
-                    } catch (IllegalArgumentException e) {
-                        throw new AppsmithPluginException(
-                                AppsmithPluginError.PLUGIN_ERROR,
-                                "Appsmith server failed "
-                                        + "to parse the type of sort condition. Please reach out to Appsmith customer support "
-                                        + "to resolve this.");
-                    }
-                    sb.append(" `" + columnName + "` " + sortType + ",");
-                });
-
-        sb.setLength(sb.length() - 1);
-    }
-
-    /**
-     * Checks if:
-     * o `sortBy` condition list is null or empty
-     * o all column names in the sortBy list are empty
-     */
-    private boolean isSortConditionEmpty(List<Map<String, String>> sortBy) {
-        if (CollectionUtils.isEmpty(sortBy)) {
-            return true;
-        }
-
-        return sortBy.stream().allMatch(sortCondition -> isBlank(sortCondition.get(SORT_BY_COLUMN_NAME_KEY)));
-    }
-
-    /**
-     * Overloaded Method to handle plugin-based DataType conversion.
-     *
-     * @param tableName             - table name in database
-     * @param items                 - Data
-     * @param schema                - The Schema
-     * @param dataTypeConversionMap - A Map to provide custom Datatype against the actual Datatype found.
-     */
-    public void insertAllData(
-            String tableName,
-            ArrayNode items,
-            Map<String, DataType> schema,
-            Map<DataType, DataType> dataTypeConversionMap) {
-
-        List<String> columnNames = schema.keySet().stream().collect(Collectors.toList());
-
-        List<String> quotedColumnNames =
-                columnNames.stream().map(name -> "\"" + name + "\"").collect(Collectors.toList());
-
-        StringBuilder insertQueryBuilder = new StringBuilder("INSERT INTO ");
-        insertQueryBuilder.append(tableName);
-
-        StringBuilder columnNamesBuilder = new StringBuilder("(");
-        columnNamesBuilder.append(String.join(", ", quotedColumnNames));
-        columnNamesBuilder.append(")");
-
-        // In order data types of all the columns
-        List<DataType> columnTypes = new ArrayList<>();
-        for (String columnName : columnNames) {
-            columnTypes.add(schema.get(columnName));
-        }
-
-        insertQueryBuilder.append(columnNamesBuilder);
-        insertQueryBuilder.append(" VALUES ");
-
-        StringBuilder valuesMasterBuilder = new StringBuilder();
-
-        int counter = 0;
-        List<String> inOrderValues = new ArrayList<>();
-
-        for (JsonNode item : items) {
-
-            // If the number of values inserted is greater than 1000, the insert would fail. Once we have reached 1000
-            // rows, execute the insert for rows so far and start afresh for the rest of the rows
-            if (counter == 1000) {
-
-                insertReadyData(
-                        insertQueryBuilder.toString(),
-                        valuesMasterBuilder,
-                        inOrderValues,
-                        columnTypes,
-                        dataTypeConversionMap);
-                // Reset the values builder and counter for new insert queries.
-                valuesMasterBuilder = new StringBuilder();
-                counter = 0;
-                inOrderValues = new ArrayList<>();
-            }
-
-            StringBuilder valuesBuilder = new StringBuilder();
-
-            if (counter != 0) {
-                // If not the first row, add a separator between rows
-                valuesBuilder.append(",");
-            }
-
-            // Start the row
-            valuesBuilder.append("(");
-
-            Boolean firstEntry = true;
-            for (String columnName : columnNames) {
-
-                if (!firstEntry) {
-                    // Add a separator before adding a new entry
-                    valuesBuilder.append(",");
-                } else {
-                    // For future iterations, set flag to false
-                    firstEntry = false;
-                }
-
-                JsonNode fieldNode = item.get(columnName);
-                if (fieldNode != null) {
-                    valuesBuilder.append("?");
-                    inOrderValues.add(fieldNode.asText());
-                }
-            }
-
-            // End the row
-            valuesBuilder.append(")");
-
-            valuesMasterBuilder.append(valuesBuilder);
-            counter++;
-        }
-
-        if (valuesMasterBuilder.length() > 0) {
-            insertReadyData(
-                    insertQueryBuilder.toString(),
-                    valuesMasterBuilder,
-                    inOrderValues,
-                    columnTypes,
-                    dataTypeConversionMap);
-        }
-    }
-
-    private void executeDbQuery(String query) {
-
-        Connection conn = checkAndGetConnection();
-        log.debug("{} : Executing Query on H2 : {}", Thread.currentThread().getName(), query);
-
-        try (Statement statement = conn.createStatement()) {
-            statement.execute(query);
-        } catch (SQLException e) {
-            log.error(e.getMessage());
-            // Getting a SQL Exception here means that our generated query is incorrect. Raise an alarm!
-            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR, e.getMessage());
-        }
-    }
-
-    private void insertReadyData(
-            String partialInsertQuery,
-            StringBuilder valuesBuilder,
-            List<String> inOrderValues,
-            List<DataType> columnTypes,
-            Map<DataType, DataType> dataTypeConversionMap) {
-
-        Connection conn = checkAndGetConnection();
-
-        StringBuilder insertQueryBuilder = new StringBuilder(partialInsertQuery);
-        insertQueryBuilder.append(valuesBuilder);
-        insertQueryBuilder.append(";");
-
-        String finalInsertQuery = insertQueryBuilder.toString();
-
-        try (PreparedStatement preparedStatement = conn.prepareStatement(finalInsertQuery)) {
-            int valueCounter = 0;
-            while (valueCounter < inOrderValues.size()) {
-
-                for (int columnTypeCounter = 0;
-                        columnTypeCounter < columnTypes.size();
-                        columnTypeCounter++, valueCounter++) {
-                    setValueInStatement(
-                            preparedStatement,
-                            valueCounter + 1,
-                            inOrderValues.get(valueCounter),
-                            columnTypes.get(columnTypeCounter),
-                            dataTypeConversionMap);
-                }
-            }
-
-            preparedStatement.executeUpdate();
-
-        } catch (SQLException e) {
-            e.printStackTrace();
-            throw new AppsmithPluginException(
-                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
-                    "Error in ingesting the data : " + e.getMessage());
-        }
-    }
-
-    private Connection checkAndGetConnection() {
-        try {
-            if (connection == null || connection.isClosed() || !connection.isValid(5)) {
-                connection = DriverManager.getConnection(URL);
-            }
-        } catch (SQLException e) {
-            throw new AppsmithPluginException(
-                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
-                    "Failed to connect to the filtering database");
-        }
-
-        return connection;
-    }
-
-    public String generateTable(Map<String, DataType> schema) {
-
-        // Generate table name
-        String generateUniqueId = new ObjectId().toString().toUpperCase();
-
-        // Appending tbl_ before the generated unique id since using the string directly was throwing a SQL error
-        // which I couldnt solve. Just appending a string to it though works perfectly.
-        String tableName = new StringBuilder("tbl_").append(generateUniqueId).toString();
-
-        StringBuilder sb = new StringBuilder("CREATE TABLE ");
-
-        sb.append(tableName);
-
-        sb.append(" (");
-
-        Boolean columnsAdded = false;
-        for (Map.Entry<String, DataType> entry : schema.entrySet()) {
-
-            if (columnsAdded) {
-                // If columns have been added before, add a separator
-                sb.append(",");
-            }
-
-            String fieldName = entry.getKey();
-            DataType dataType = entry.getValue();
-
-            String sqlDataType = SQL_DATATYPE_MAP.get(dataType);
-            if (sqlDataType == null) {
-                // the data type recognized does not have a native support in appsmith right now
-                // default to String
-                sqlDataType = SQL_DATATYPE_MAP.get(DataType.STRING);
-            }
-            columnsAdded = true;
-            sb.append("\"" + fieldName + "\"");
-            sb.append(" ");
-            sb.append(sqlDataType);
-        }
-
-        sb.append(");");
-
-        String createTableQuery = sb.toString();
-
-        executeDbQuery(createTableQuery);
-
-        return tableName;
-    }
-
-    public void dropTable(String tableName) {
-
-        String dropTableQuery = "DROP TABLE " + tableName + ";";
-
-        executeDbQuery(dropTableQuery);
-    }
-
-    /**
-     * Overloaded Method to handle plugin-based DataType conversion.
-     *
-     * @param items
-     * @param dataTypeConversionMap - A Map to provide custom Datatype against the actual Datatype found.
-     * @return
-     */
-    public Map<String, DataType> generateSchema(ArrayNode items, Map<DataType, DataType> dataTypeConversionMap) {
-
-        JsonNode item = items.get(0);
-
-        Iterator<String> fieldNamesIterator = item.fieldNames();
-
-        Set<String> missingColumnDataTypes = new HashSet<>();
-        /*
-         * For an object of the following type :
-         * {
-         *      "field1" : "stringValue",
-         *      "field2" : "true",
-         *      "field3" : "12"
-         * }
-         *
-         * The schema generated would be a Map as follows :
-         * {
-         *      field1 : DataType.STRING
-         *      field2 : DataType.BOOLEAN
-         *      field3 : DataType.INTEGER
-         * }
-         */
-        Map<String, DataType> schema = Stream.generate(() -> null)
-                .takeWhile(x -> fieldNamesIterator.hasNext())
-                .map(n -> fieldNamesIterator.next())
-                .map(name -> {
-                    if (name.contains("\"") || name.contains("\'")) {
-                        throw new AppsmithPluginException(
-                                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                                "\' or \" are unsupported symbols in column names for filtering. Caused by column name : "
-                                        + name);
-                    }
-                    return name;
-                })
-                .collect(Collectors.toMap(
-                        Function.identity(),
-                        name -> {
-                            String value = item.get(name).asText();
-                            if (StringUtils.isEmpty(value)) {
-                                missingColumnDataTypes.add(name);
-                                // Default to string
-                                return DataType.STRING;
-                            } else {
-                                DataType foundDataType = stringToKnownDataTypeConverter(value);
-                                DataType convertedDataType = foundDataType;
-                                if (!"rowIndex".equals(name) && dataTypeConversionMap != null) {
-                                    convertedDataType =
-                                            dataTypeConversionMap.getOrDefault(foundDataType, foundDataType);
-                                }
-                                return convertedDataType;
-                            }
-                        },
-                        (u, v) -> {
-                            // This is not possible.
-                            throw new IllegalStateException(String.format("Duplicate key %s", u));
-                        },
-                        LinkedHashMap::new));
-
-        // Try to find the missing data type which has been initialized to String
-        Set<String> columns = new HashSet();
-        columns.addAll(missingColumnDataTypes);
-
-        for (String columnName : columns) {
-            for (JsonNode entry : items) {
-                String value = entry.get(columnName).asText();
-                if (!StringUtils.isEmpty(value)) {
-                    DataType foundDataType = stringToKnownDataTypeConverter(value);
-                    DataType dataType = foundDataType;
-                    if (dataTypeConversionMap != null) {
-                        dataType = dataTypeConversionMap.getOrDefault(foundDataType, foundDataType);
-                    }
-                    schema.put(columnName, dataType);
-                    missingColumnDataTypes.remove(columnName);
-                }
-            }
-        }
-
-        // We could not assert a data type for a column because no data exists in any of the rows
-        if (!missingColumnDataTypes.isEmpty()) {
-            // TODO : Decide on the interaction expected here. Currently we are defaulting to String and hence no
-            // error would be shown to the user and filtering on other columns should continue as is.
-        }
-
-        return schema;
-    }
-
-    private void setValueInStatement(PreparedStatement preparedStatement, int index, String value, DataType dataType) {
-        setValueInStatement(preparedStatement, index, value, dataType, null);
-    }
-
-    /**
-     * Overloaded Method to handle plugin-based DataType conversion.
-     *
-     * @param preparedStatement
-     * @param index
-     * @param value
-     * @param topRowDataType
-     * @param dataTypeConversionMap - A Map to provide custom Datatype against the actual Datatype found.
-     * @return
-     */
-    private PreparedStatement setValueInStatement(
-            PreparedStatement preparedStatement,
-            int index,
-            String value,
-            DataType topRowDataType,
-            Map<DataType, DataType> dataTypeConversionMap) {
-
-        DataType dataType = topRowDataType;
-        if (dataTypeConversionMap != null) {
-            // The input datatype will be converted to custom DatType as per implementing dataTypeConversionMap
-            dataType = dataTypeConversionMap.getOrDefault(topRowDataType, topRowDataType);
-        }
-
-        String strNumericValue = value.trim().replaceAll(",", "");
-
-        // Override datatype to null for empty values
-        if (StringUtils.isEmpty(value)) {
-            dataType = DataType.NULL;
-        } else {
-            // value is not empty.
-            DataType currentRowDataType = stringToKnownDataTypeConverter(value);
-            DataType inputDataType = currentRowDataType;
-            if (dataTypeConversionMap != null) {
-                // Datatype of each row be processed, expected to be consistent to column datatype (first row datatype).
-                inputDataType = dataTypeConversionMap.getOrDefault(currentRowDataType, currentRowDataType);
-            }
-            if (DataType.NULL.equals(inputDataType)) {
-                dataType = DataType.NULL;
-            }
-            // We are setting incompatible datatypes of each row to Null, rather allowing it and exit with error.
-            if (dataTypeConversionMap != null
-                    && inputDataType != dataType
-                    && !datatypeCompatibilityMap
-                            .getOrDefault(dataType, Set.of())
-                            .contains(inputDataType)) {
-                dataType = DataType.NULL;
-            }
-        }
-
-        try {
-            switch (dataType) {
-                case NULL: {
-                    preparedStatement.setNull(index, Types.NULL);
-                    break;
-                }
-                case INTEGER: {
-                    preparedStatement.setInt(index, Integer.parseInt(strNumericValue));
-                    break;
-                }
-                case LONG: {
-                    preparedStatement.setLong(index, Long.parseLong(strNumericValue));
-                    break;
-                }
-                case FLOAT:
-                case DOUBLE: {
-                    preparedStatement.setBigDecimal(index, new BigDecimal(String.valueOf(strNumericValue)));
-                    break;
-                }
-                case BOOLEAN: {
-                    preparedStatement.setBoolean(index, Boolean.parseBoolean(value));
-                    break;
-                }
-                case STRING:
-                default:
-                    preparedStatement.setString(index, value);
-                    break;
-            }
-
-        } catch (SQLException e) {
-            // Alarm! This should never fail since appsmith is the creator of the query and supporter of it. Raise
-            // an alarm and fix quickly!
-            throw new AppsmithPluginException(
-                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
-                    "Error while interacting with value " + value + " : " + e.getMessage());
-        } catch (IllegalArgumentException e) {
-            // The data type recognized does not match the data type of the value being set via Prepared Statement
-            // Add proper handling here.
-            throw new AppsmithPluginException(
-                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
-                    "Error while interacting with value " + value + " : " + e.getMessage()
-                            + ". The data type value was being parsed to was : " + dataType);
-        }
-
-        return preparedStatement;
-    }
-
-    public boolean validConditionList(List<Condition> conditionList, Map<String, DataType> schema) {
-
-        conditionList.stream()
-                .map(condition -> {
-                    if (!Condition.isValid(condition)) {
-                        throw new AppsmithPluginException(
-                                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                                "Condition \" " + condition.getPath() + " "
-                                        + condition.getOperator().toString() + " " + condition.getValue()
-                                        + " \" is incorrect and could not be parsed.");
-                    }
-
-                    String path = condition.getPath();
-
-                    if (!schema.containsKey(path)) {
-                        throw new AppsmithPluginException(
-                                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                                path + " not found in the known column names :" + schema.keySet());
-                    }
-
-                    return condition;
-                })
-                .collect(Collectors.toList());
-
-        // All the conditions were iterated over and checked. In case an error was found, an exception has already been
-        // thrown. If reached here, everything is hunky-dory.
-        return true;
-    }
-
-    public String generateLogicalExpression(
-            List<Condition> conditions,
-            List<PreparedStatementValueDTO> values,
-            Map<String, DataType> schema,
-            ConditionalOperator logicOp) {
-
-        StringBuilder sb = new StringBuilder();
-
-        Boolean firstCondition = true;
-        for (Condition condition : conditions) {
-            String path = condition.getPath();
-            ConditionalOperator operator = condition.getOperator();
-            Object objValue = condition.getValue();
-            if (operator.equals(ConditionalOperator.AND) || operator.equals(ConditionalOperator.OR)) {
-                List<Condition> subConditions = (List<Condition>) objValue;
-                String logicalExpression = generateLogicalExpression(subConditions, values, schema, operator);
-                if (StringUtils.isNotEmpty(logicalExpression)) {
-                    sb.append(" " + logicOp + " ( ");
-                    sb.append(logicalExpression);
-                    sb.append(" ) ");
-                }
-            } else {
-                String value = (String) objValue;
-
-                if (firstCondition) {
-                    firstCondition = false;
-                } else {
-                    // This is not the first valid condition. Append the operator before adding the next condition
-                    sb.append(" " + logicOp);
-                }
-                if (StringUtils.isNotEmpty(path)) {
-                    if (value == null || value.equals(StringUtils.EMPTY)) {
-                        sb.append(" ( ");
-                        sb.append("\"" + path + "\"");
-                        sb.append(" ");
-                        if (Set.of(
-                                        ConditionalOperator.EQ,
-                                        ConditionalOperator.IN,
-                                        ConditionalOperator.CONTAINS,
-                                        ConditionalOperator.LTE,
-                                        ConditionalOperator.LT)
-                                .contains(operator)) {
-                            sb.append("IS NULL ) ");
-                        } else if (Set.of(
-                                        ConditionalOperator.NOT_IN,
-                                        ConditionalOperator.NOT_EQ,
-                                        ConditionalOperator.GTE,
-                                        ConditionalOperator.GT)
-                                .contains(operator)) {
-                            sb.append("IS NOT NULL ) ");
-                        }
-                    } else {
-                        String sqlOp = SQL_OPERATOR_MAP.get(operator);
-                        if (sqlOp == null) {
-                            throw new AppsmithPluginException(
-                                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                                    operator + " is not supported currently for filtering.");
-                        }
-                        sb.append(" ( ");
-                        sb.append("\"" + path + "\"");
-                        sb.append(" ");
-                        sb.append(sqlOp);
-                        sb.append(" ");
-
-                        // These are array operations. Convert value into appropriate format and then append
-                        if (operator == ConditionalOperator.IN || operator == ConditionalOperator.NOT_IN) {
-
-                            StringBuilder valueBuilder = new StringBuilder("(");
-
-                            try {
-                                List<Object> arrayValues = objectMapper.readValue(value, List.class);
-                                List<String> updatedStringValues = arrayValues.stream()
-                                        .map(fieldValue -> {
-                                            values.add(new PreparedStatementValueDTO(
-                                                    String.valueOf(fieldValue), schema.get(path)));
-                                            return "?";
-                                        })
-                                        .collect(Collectors.toList());
-                                String finalValues = String.join(",", updatedStringValues);
-                                valueBuilder.append(finalValues);
-                            } catch (IOException e) {
-                                throw new AppsmithPluginException(
-                                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                                        value + " could not be parsed into an array");
-                            }
-
-                            valueBuilder.append(")");
-                            value = valueBuilder.toString();
-                            sb.append(value);
-
-                        } else if (operator == ConditionalOperator.CONTAINS) {
-                            final String escapedLikeValue = value.replace("!", "!!")
-                                    .replace("%", "!%")
-                                    .replace("_", "!_")
-                                    .replace("[", "![");
-                            sb.append("? ESCAPE '!'");
-                            values.add(new PreparedStatementValueDTO("%" + escapedLikeValue + "%", schema.get(path)));
-                        } else {
-                            // Not an array. Simply add a placeholder
-                            sb.append("?");
-                            values.add(new PreparedStatementValueDTO(value, schema.get(path)));
-                        }
-
-                        sb.append(" ) ");
-                    }
-                }
-            }
-        }
-        return sb.toString();
-    }
-}
+package com.appsmith.external.services.ce;
+
+import com.appsmith.external.constants.ConditionalOperator;
+import com.appsmith.external.constants.DataType;
+import com.appsmith.external.constants.SortType;
+import com.appsmith.external.dtos.PreparedStatementValueDTO;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.bson.types.ObjectId;
+import org.h2.jdbc.JdbcSQLSyntaxErrorException;
+import org.springframework.util.CollectionUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.appsmith.external.helpers.DataTypeStringUtils.stringToKnownDataTypeConverter;
+import static com.appsmith.external.models.Condition.addValueDataType;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+@Slf4j
+public class FilterDataServiceCE implements IFilterDataServiceCE {
+
+    public static final String SORT_BY_COLUMN_NAME_KEY = "column";
+    public static final String SORT_BY_TYPE_KEY = "order";
+    public static final String PAGINATE_LIMIT_KEY = "limit";
+    public static final String PAGINATE_OFFSET_KEY = "offset";
+
+    private final ObjectMapper objectMapper;
+
+    private final ColumnarFilterEngine columnarFilterEngine;
+
+    // All the pooled connections talk to the same in-memory database, which is kept alive even when no connection is
+    // open, so that tables created through one connection are visible to the others.
+    private static final String URL = "jdbc:h2:mem:filterDb;DATABASE_TO_UPPER=FALSE;DB_CLOSE_DELAY=-1";
+
+    // Filtering is CPU bound, so there is no point in running more concurrent filter operations than there are cores.
+    private static final int CONNECTION_POOL_SIZE =
+            Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    private final Semaphore connectionPermits = new Semaphore(CONNECTION_POOL_SIZE, true);
+
+    private final Queue<PooledConnection> idleConnections = new ConcurrentLinkedQueue<>();
+
+    private static final Map<DataType, String> SQL_DATATYPE_MAP = Map.of(
+            DataType.INTEGER, "INT",
+            DataType.LONG, "BIGINT",
+            DataType.FLOAT, "REAL",
+            DataType.DOUBLE, "DOUBLE",
+            DataType.BOOLEAN, "BOOLEAN",
+            DataType.STRING, "VARCHAR",
+            DataType.DATE, "DATE",
+            DataType.TIMESTAMP, "TIMESTAMP");
+
+    static final Map<ConditionalOperator, String> SQL_OPERATOR_MAP = Map.of(
+            ConditionalOperator.LT, "<",
+            ConditionalOperator.LTE, "<=",
+            ConditionalOperator.EQ, "=",
+            ConditionalOperator.NOT_EQ, "<>",
+            ConditionalOperator.GT, ">",
+            ConditionalOperator.GTE, ">=",
+            ConditionalOperator.CONTAINS, "LIKE",
+            ConditionalOperator.IN, "IN",
+            ConditionalOperator.NOT_IN, "NOT IN");
+
+    // Operators that translate to `IS NULL` and `IS NOT NULL` respectively, when the condition has no value.
+    static final Set<ConditionalOperator> IS_NULL_OPERATORS = Set.of(
+            ConditionalOperator.EQ,
+            ConditionalOperator.IN,
+            ConditionalOperator.CONTAINS,
+            ConditionalOperator.LTE,
+            ConditionalOperator.LT);
+
+    static final Set<ConditionalOperator> IS_NOT_NULL_OPERATORS = Set.of(
+            ConditionalOperator.NOT_IN, ConditionalOperator.NOT_EQ, ConditionalOperator.GTE, ConditionalOperator.GT);
+
+    private static final Map<DataType, Set<DataType>> datatypeCompatibilityMap = Map.of(
+            DataType.INTEGER, Set.of(),
+            DataType.LONG, Set.of(DataType.INTEGER),
+            DataType.FLOAT, Set.of(DataType.INTEGER, DataType.LONG),
+            DataType.DOUBLE, Set.of(DataType.INTEGER, DataType.LONG, DataType.FLOAT),
+            DataType.BOOLEAN, Set.of(),
+            DataType.STRING,
+                    Set.of(
+                            DataType.INTEGER,
+                            DataType.LONG,
+                            DataType.FLOAT,
+                            DataType.DOUBLE,
+                            DataType.BOOLEAN,
+                            DataType.DATE,
+                            DataType.TIME,
+                            DataType.TIMESTAMP),
+            DataType.DATE, Set.of(),
+            DataType.TIMESTAMP, Set.of());
+
+    public FilterDataServiceCE() {
+
+        objectMapper = new ObjectMapper();
+        columnarFilterEngine = new ColumnarFilterEngine(objectMapper);
+
+        try {
+            idleConnections.add(new PooledConnection(DriverManager.getConnection(URL)));
+        } catch (SQLException e) {
+            log.error(e.getMessage());
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Failed to connect to the in memory database. Unable to perform filtering : " + e.getMessage());
+        }
+    }
+
+    /**
+     * This filter method is using the new UQI format.
+     *
+     * @param items               - data
+     * @param uqiDataFilterParams - filter conditions to apply on data
+     * @return filtered data
+     */
+    public ArrayNode filterDataNew(ArrayNode items, UQIDataFilterParams uqiDataFilterParams) {
+        return this.filterDataNew(items, uqiDataFilterParams, null);
+    }
+
+    public ArrayNode filterDataNew(
+            ArrayNode items, UQIDataFilterParams uqiDataFilterParams, Map<DataType, DataType> dataTypeConversionMap) {
+        if (items == null || items.size() == 0) {
+            return items;
+        }
+
+        Condition condition = uqiDataFilterParams.getCondition();
+        if (Condition.isValid(condition)) {
+            Condition updatedCondition = addValueDataType(condition);
+            uqiDataFilterParams.setCondition(updatedCondition);
+        }
+
+        final long startTime = System.nanoTime();
+        Map<String, DataType> schema = generateSchema(items, dataTypeConversionMap);
+
+        // Most filters can be evaluated directly over the data, H2 is only needed for the ones that can't be.
+        Optional<List<Map<String, Object>>> results =
+                columnarFilterEngine.filter(items, schema, uqiDataFilterParams, dataTypeConversionMap);
+        if (results.isPresent()) {
+            log.debug(
+                    "{} : Filtered {} rows down to {} in memory in {} ms",
+                    Thread.currentThread().getName(),
+                    items.size(),
+                    results.get().size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+            return objectMapper.valueToTree(results.get());
+        }
+
+        return filterDataUsingH2(items, schema, uqiDataFilterParams, dataTypeConversionMap);
+    }
+
+    /**
+     * Filters the data by loading it into a table in the in memory H2 database and querying it.
+     */
+    ArrayNode filterDataUsingH2(
+            ArrayNode items,
+            Map<String, DataType> schema,
+            UQIDataFilterParams uqiDataFilterParams,
+            Map<DataType, DataType> dataTypeConversionMap) {
+
+        final long startTime = System.nanoTime();
+        PooledConnection pooledConnection = borrowConnection();
+        final long connectionAcquiredTime = System.nanoTime();
+        String tableName = null;
+
+        try {
+            // Tables are reused across calls with the same schema, so that the table does not need to be created and
+            // dropped every time, and the prepared statements over it remain valid.
+            tableName = pooledConnection.getOrCreateTable(schema);
+            final long tableReadyTime = System.nanoTime();
+
+            // insert the data
+            insertAllData(pooledConnection, tableName, items, schema, dataTypeConversionMap);
+            final long insertedTime = System.nanoTime();
+
+            // Filter the data
+            List<Map<String, Object>> finalResults = executeFilterQueryNew(
+                    pooledConnection, tableName, schema, uqiDataFilterParams, dataTypeConversionMap);
+            final long filteredTime = System.nanoTime();
+
+            ArrayNode finalResultsNode = objectMapper.valueToTree(finalResults);
+
+            log.debug(
+                    "{} : Filtered {} rows down to {} on H2 in {} ms (waiting for connection: {} ms, table: {} ms, "
+                            + "insert: {} ms, query: {} ms)",
+                    Thread.currentThread().getName(),
+                    items.size(),
+                    finalResults.size(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime),
+                    TimeUnit.NANOSECONDS.toMillis(connectionAcquiredTime - startTime),
+                    TimeUnit.NANOSECONDS.toMillis(tableReadyTime - connectionAcquiredTime),
+                    TimeUnit.NANOSECONDS.toMillis(insertedTime - tableReadyTime),
+                    TimeUnit.NANOSECONDS.toMillis(filteredTime - insertedTime));
+
+            return finalResultsNode;
+        } finally {
+            // Now that the data has been filtered. Clean Up. Empty the table and return the connection to the pool
+            releaseConnection(pooledConnection, tableName);
+        }
+    }
+
+    private List<Map<String, Object>> executeFilterQueryNew(
+            PooledConnection pooledConnection,
+            String tableName,
+            Map<String, DataType> schema,
+            UQIDataFilterParams uqiDataFilterParams,
+            Map<DataType, DataType> dataTypeConversionMap) {
+
+        Condition condition = uqiDataFilterParams.getCondition();
+        List<String> projectionColumns = uqiDataFilterParams.getProjectionColumns();
+        List<Map<String, String>> sortBy = uqiDataFilterParams.getSortBy();
+        Map<String, String> paginateBy = uqiDataFilterParams.getPaginateBy();
+
+        StringBuilder sb = new StringBuilder();
+
+        // Add projection columns condition otherwise use `select *`
+        addProjectionCondition(sb, projectionColumns, tableName);
+
+        /**
+         * Moving this from a LinkedHashMap to an ArrayList of objects because with LinkedHashMap we were using
+         * the data value as key. Hence, if two identical data values existed then they would overwrite each other. E.g.
+         * if there was where clause like `Name == John` Or `Name != John, (which is a perfectly valid query) then
+         * the prepared statement substitution would fail because instead of two values to substitute it would only
+         * fine one i.e. {"John" -> DataType.String} is the only entry it would find whereas two entries are
+         * actually required {"John" -> DataType.String, "John" -> DataType.String} - one for each condition in the
+         * where clause. JUnit TC `testProjectionSortingAndPaginationTogether` takes care of this case as well.
+         */
+        List<PreparedStatementValueDTO> values = new ArrayList<>();
+
+        if (Condition.isValid(condition)) {
+            ConditionalOperator operator = condition.getOperator();
+            List<Condition> conditions = (List<Condition>) condition.getValue();
+
+            String whereClause = generateLogicalExpression(conditions, values, schema, operator);
+
+            if (StringUtils.isNotEmpty(whereClause)) {
+                sb.append(" WHERE ");
+                sb.append(whereClause);
+            }
+        }
+
+        // Add `order by` condition
+        addSortCondition(sb, sortBy);
+
+        // Add `limit <num> offset <num>` condition
+        addPaginationCondition(sb, paginateBy, values);
+
+        sb.append(";");
+
+        List<Map<String, Object>> rowsList = new ArrayList<>(50);
+
+        String selectQuery = sb.toString();
+        log.debug("{} : Executing Query on H2 : {}", Thread.currentThread().getName(), selectQuery);
+
+        try {
+            // The statement is cached by the pooled connection, hence it must not be closed here.
+            PreparedStatement preparedStatement = pooledConnection.prepareStatement(selectQuery);
+            Iterator<PreparedStatementValueDTO> iterator = values.iterator();
+            for (int i = 0; iterator.hasNext(); i++) {
+                PreparedStatementValueDTO dataInfo = iterator.next();
+                String value = dataInfo.getValue();
+                DataType dataType = dataInfo.getDataType();
+                setValueInStatement(preparedStatement, i + 1, value, dataType, null);
+            }
+
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                ResultSetMetaData metaData = resultSet.getMetaData();
+                int colCount = metaData.getColumnCount();
+
+                while (resultSet.next()) {
+                    Map<String, Object> row = new LinkedHashMap<>(colCount);
+                    for (int i = 1; i <= colCount; i++) {
+                        Object resultValue = resultSet.getObject(i);
+
+                        // Set null values to empty strings
+                        if (null == resultValue) {
+                            resultValue = "";
+                        }
+
+                        row.put(metaData.getColumnName(i), resultValue);
+                    }
+                    rowsList.add(row);
+                }
+            }
+        } catch (SQLException e) {
+            // Getting an SQL Exception here means that our generated query is incorrect. Raise an alarm!
+            log.error(e.getMessage());
+            if (e instanceof JdbcSQLSyntaxErrorException) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                        "Filtering failure seen : " + ((JdbcSQLSyntaxErrorException) e).getOriginalMessage());
+            }
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR, "Filtering failure seen : " + e);
+        }
+
+        return rowsList;
+    }
+
+    /**
+     * This method adds the following clause to the SQL query: `LIMIT <num> OFFSET <num>`
+     *
+     * @param sb         - SQL query builder
+     * @param paginateBy - values for limit and offset
+     * @param values     - list to hold values to be substituted in prepared statement
+     */
+    private void addPaginationCondition(
+            StringBuilder sb, Map<String, String> paginateBy, List<PreparedStatementValueDTO> values) {
+        if (CollectionUtils.isEmpty(paginateBy)) {
+            return;
+        }
+
+        sb.append(" LIMIT ? OFFSET ?");
+
+        // Set limit value and data type for prepared statement substitution
+        String limit = paginateBy.get(PAGINATE_LIMIT_KEY);
+        if (isBlank(limit)) {
+            limit = "20";
+        }
+        values.add(new PreparedStatementValueDTO(limit, DataType.INTEGER));
+
+        // Set offset value and data type for prepared statement substitution
+        String offset = paginateBy.get(PAGINATE_OFFSET_KEY);
+        if (isBlank(offset)) {
+            offset = "0";
+        }
+        values.add(new PreparedStatementValueDTO(offset, DataType.INTEGER));
+    }
+
+    /**
+     * Display only those columns that the user has chosen to display.
+     * E.g. if the projectionColumns is a list that contains ["ID, Name"], then this method will add the following
+     * SQL line: `SELECT ID, Name from tableName`, otherwise it will add: `SELECT * FROM tableName`
+     *
+     * @param sb                - SQL query builder
+     * @param projectionColumns - list of columns that need to be displayed
+     * @param tableName         - table name in database
+     */
+    private void addProjectionCondition(StringBuilder sb, List<String> projectionColumns, String tableName) {
+        if (!CollectionUtils.isEmpty(projectionColumns)) {
+            sb.append("SELECT");
+            projectionColumns.stream().forEach(columnName -> sb.append(" `" + columnName + "`,"));
+
+            sb.setLength(sb.length() - 1);
+            sb.append(" FROM " + tableName);
+        } else {
+            sb.append("SELECT * FROM " + tableName);
+        }
+    }
+
+    /**
+     * This method adds `ORDER BY` clause to the SQL query. E.g. if the sortBy list is
+     * [
+     * {"columnName": "ID", "type": "ASCENDING"},
+     * {"columnName": "Name", "type": "DESCENDING"}
+     * ]
+     * then this method will add the following line to the SQL query: `ORDER BY ID ASC, Name DESC`
+     *
+     * @param sb     - SQL query builder
+     * @param sortBy - list of columns to sort by and sort type (ascending / descending)
+     * @throws AppsmithPluginException
+     */
+    private void addSortCondition(StringBuilder sb, List<Map<String, String>> sortBy) throws AppsmithPluginException {
+
+        /**
+         * Checks if:
+         *  o `sortBy` condition list is null or empty
+         *  o all column names in the sortBy list are empty
+         */
+        if (isSortConditionEmpty(sortBy)) {
+            return;
+        }
+
+        sb.append(" ORDER BY");
+        sortBy.stream()
+                .filter(sortCondition -> !isBlank(sortCondition.get(SORT_BY_COLUMN_NAME_KEY)))
+                .forEachOrdered(sortCondition -> {
+                    String columnName = sortCondition.get(SORT_BY_COLUMN_NAME_KEY);
+                    SortType sortType;
+                    try {
+                        sortType = SortType.valueOf(
+                                sortCondition.get(SORT_BY_TYPE_KEY).toUpperCase());
+                    } catch (IllegalArgumentException e) {
+                        throw new AppsmithPluginException(
+                                AppsmithPluginError.PLUGIN_ERROR,
+                                "Appsmith server failed "
+                                        + "to parse the type of sort condition. Please reach out to Appsmith customer support "
+                                        + "to resolve this.");
+                    }
+                    sb.append(" `" + columnName + "` " + sortType + ",");
+                });
+
+        sb.setLength(sb.length() - 1);
+    }
+
+    /**
+     * Checks if:
+     * o `sortBy` condition list is null or empty
+     * o all column names in the sortBy list are empty
+     */
+    private boolean isSortConditionEmpty(List<Map<String, String>> sortBy) {
+        if (CollectionUtils.isEmpty(sortBy)) {
+            return true;
+        }
+
+        return sortBy.stream().allMatch(sortCondition -> isBlank(sortCondition.get(SORT_BY_COLUMN_NAME_KEY)));
+    }
+
+    /**
+     * Overloaded Method to handle plugin-based DataType conversion.
+     *
+     * @param tableName             - table name in database
+     * @param items                 - Data
+     * @param schema                - The Schema
+     * @param dataTypeConversionMap - A Map to provide custom Datatype against the actual Datatype found.
+     */
+    public void insertAllData(
+            String tableName,
+            ArrayNode items,
+            Map<String, DataType> schema,
+            Map<DataType, DataType> dataTypeConversionMap) {
+
+        PooledConnection pooledConnection = borrowConnection();
+        try {
+            insertAllData(pooledConnection, tableName, items, schema, dataTypeConversionMap);
+        } finally {
+            releaseConnection(pooledConnection, null);
+        }
+    }
+
+    private void insertAllData(
+            PooledConnection pooledConnection,
+            String tableName,
+            ArrayNode items,
+            Map<String, DataType> schema,
+            Map<DataType, DataType> dataTypeConversionMap) {
+
+        List<String> columnNames = schema.keySet().stream().collect(Collectors.toList());
+
+        List<String> quotedColumnNames =
+                columnNames.stream().map(name -> "\"" + name + "\"").collect(Collectors.toList());
+
+        // In order data types of all the columns
+        List<DataType> columnTypes = new ArrayList<>();
+        for (String columnName : columnNames) {
+            columnTypes.add(schema.get(columnName));
+        }
+
+        // A single row insert statement is prepared once and executed in batches for all the rows. Since the
+        // statement only depends on the table, it is reused by subsequent calls over the same table as well.
+        String insertQuery = "INSERT INTO " + tableName + "(" + String.join(", ", quotedColumnNames) + ") VALUES ("
+                + String.join(",", Collections.nCopies(columnNames.size(), "?")) + ");";
+
+        try {
+            PreparedStatement preparedStatement = pooledConnection.prepareStatement(insertQuery);
+
+            int counter = 0;
+            for (JsonNode item : items) {
+                for (int columnIndex = 0; columnIndex < columnNames.size(); columnIndex++) {
+                    JsonNode fieldNode = item.get(columnNames.get(columnIndex));
+                    setValueInStatement(
+                            preparedStatement,
+                            columnIndex + 1,
+                            fieldNode == null ? "" : fieldNode.asText(),
+                            columnTypes.get(columnIndex),
+                            dataTypeConversionMap);
+                }
+                preparedStatement.addBatch();
+                counter++;
+
+                if (counter % INSERT_BATCH_SIZE == 0) {
+                    preparedStatement.executeBatch();
+                }
+            }
+
+            if (counter % INSERT_BATCH_SIZE != 0) {
+                preparedStatement.executeBatch();
+            }
+
+        } catch (SQLException e) {
+            e.printStackTrace();
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Error in ingesting the data : " + e.getMessage());
+        }
+    }
+
+    private static void executeDbQuery(Connection conn, String query) {
+
+        log.debug("{} : Executing Query on H2 : {}", Thread.currentThread().getName(), query);
+
+        try (Statement statement = conn.createStatement()) {
+            statement.execute(query);
+        } catch (SQLException e) {
+            log.error(e.getMessage());
+            // Getting a SQL Exception here means that our generated query is incorrect. Raise an alarm!
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR, e.getMessage());
+        }
+    }
+
+    private void executeDbQuery(String query) {
+        PooledConnection pooledConnection = borrowConnection();
+        try {
+            executeDbQuery(pooledConnection.getConnection(), query);
+        } finally {
+            releaseConnection(pooledConnection, null);
+        }
+    }
+
+    /**
+     * Waits for one of the pooled connections to become available. A new connection is opened if the pool has not
+     * reached its maximum size yet.
+     */
+    private PooledConnection borrowConnection() {
+        try {
+            connectionPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Interrupted while waiting for a connection to the filtering database");
+        }
+
+        try {
+            PooledConnection pooledConnection;
+            while ((pooledConnection = idleConnections.poll()) != null) {
+                if (pooledConnection.isValid()) {
+                    return pooledConnection;
+                }
+                pooledConnection.close();
+            }
+
+            return new PooledConnection(DriverManager.getConnection(URL));
+        } catch (SQLException | RuntimeException e) {
+            connectionPermits.release();
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Failed to connect to the filtering database");
+        }
+    }
+
+    /**
+     * Returns the connection to the pool, after emptying the given table so that it can be reused by the next call
+     * with the same schema.
+     */
+    private void releaseConnection(PooledConnection pooledConnection, String tableName) {
+        try {
+            if (tableName != null) {
+                pooledConnection.truncateTable(tableName);
+            }
+            idleConnections.add(pooledConnection);
+        } catch (RuntimeException e) {
+            log.error("Discarding filtering database connection after failing to clean up table {}", tableName, e);
+            pooledConnection.close();
+        } finally {
+            connectionPermits.release();
+        }
+    }
+
+    public String generateTable(Map<String, DataType> schema) {
+
+        // Generate table name
+        String tableName = generateTableName();
+
+        executeDbQuery(generateCreateTableQuery(tableName, schema));
+
+        return tableName;
+    }
+
+    private static String generateCreateTableQuery(String tableName, Map<String, DataType> schema) {
+
+        StringBuilder sb = new StringBuilder("CREATE TABLE ");
+
+        sb.append(tableName);
+
+        sb.append(" (");
+
+        Boolean columnsAdded = false;
+        for (Map.Entry<String, DataType> entry : schema.entrySet()) {
+
+            if (columnsAdded) {
+                // If columns have been added before, add a separator
+                sb.append(",");
+            }
+
+            String fieldName = entry.getKey();
+            DataType dataType = entry.getValue();
+
+            String sqlDataType = SQL_DATATYPE_MAP.get(dataType);
+            if (sqlDataType == null) {
+                // the data type recognized does not have a native support in appsmith right now
+                // default to String
+                sqlDataType = SQL_DATATYPE_MAP.get(DataType.STRING);
+            }
+            columnsAdded = true;
+            sb.append("\"" + fieldName + "\"");
+            sb.append(" ");
+            sb.append(sqlDataType);
+        }
+
+        sb.append(");");
+
+        return sb.toString();
+    }
+
+    private static String generateTableName() {
+        // Appending tbl_ before the generated unique id since using the string directly was throwing a SQL error
+        // which I couldnt solve. Just appending a string to it though works perfectly.
+        return "tbl_" + new ObjectId().toString().toUpperCase();
+    }
+
+    public void dropTable(String tableName) {
+
+        String dropTableQuery = "DROP TABLE " + tableName + ";";
+
+        executeDbQuery(dropTableQuery);
+    }
+
+    /**
+     * Overloaded Method to handle plugin-based DataType conversion.
+     *
+     * @param items
+     * @param dataTypeConversionMap - A Map to provide custom Datatype against the actual Datatype found.
+     * @return
+     */
+    public Map<String, DataType> generateSchema(ArrayNode items, Map<DataType, DataType> dataTypeConversionMap) {
+
+        JsonNode item = items.get(0);
+
+        Iterator<String> fieldNamesIterator = item.fieldNames();
+
+        Set<String> missingColumnDataTypes = new HashSet<>();
+        /*
+         * For an object of the following type :
+         * {
+         *      "field1" : "stringValue",
+         *      "field2" : "true",
+         *      "field3" : "12"
+         * }
+         *
+         * The schema generated would be a Map as follows :
+         * {
+         *      field1 : DataType.STRING
+         *      field2 : DataType.BOOLEAN
+         *      field3 : DataType.INTEGER
+         * }
+         */
+        Map<String, DataType> schema = Stream.generate(() -> null)
+                .takeWhile(x -> fieldNamesIterator.hasNext())
+                .map(n -> fieldNamesIterator.next())
+                .map(name -> {
+                    if (name.contains("\"") || name.contains("\'")) {
+                        throw new AppsmithPluginException(
+                                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                "\' or \" are unsupported symbols in column names for filtering. Caused by column name : "
+                                        + name);
+                    }
+                    return name;
+                })
+                .collect(Collectors.toMap(
+                        Function.identity(),
+                        name -> {
+                            String value = item.get(name).asText();
+                            if (StringUtils.isEmpty(value)) {
+                                missingColumnDataTypes.add(name);
+                                // Default to string
+                                return DataType.STRING;
+                            } else {
+                                DataType foundDataType = stringToKnownDataTypeConverter(value);
+                                DataType convertedDataType = foundDataType;
+                                if (!"rowIndex".equals(name) && dataTypeConversionMap != null) {
+                                    convertedDataType =
+                                            dataTypeConversionMap.getOrDefault(foundDataType, foundDataType);
+                                }
+                                return convertedDataType;
+                            }
+                        },
+                        (u, v) -> {
+                            // This is not possible.
+                            throw new IllegalStateException(String.format("Duplicate key %s", u));
+                        },
+                        LinkedHashMap::new));
+
+        // Try to find the missing data type which has been initialized to String
+        Set<String> columns = new HashSet();
+        columns.addAll(missingColumnDataTypes);
+
+        for (String columnName : columns) {
+            for (JsonNode entry : items) {
+                String value = entry.get(columnName).asText();
+                if (!StringUtils.isEmpty(value)) {
+                    DataType foundDataType = stringToKnownDataTypeConverter(value);
+                    DataType dataType = foundDataType;
+                    if (dataTypeConversionMap != null) {
+                        dataType = dataTypeConversionMap.getOrDefault(foundDataType, foundDataType);
+                    }
+                    schema.put(columnName, dataType);
+                    missingColumnDataTypes.remove(columnName);
+                }
+            }
+        }
+
+        // We could not assert a data type for a column because no data exists in any of the rows
+        if (!missingColumnDataTypes.isEmpty()) {
+            // TODO : Decide on the interaction expected here. Currently we are defaulting to String and hence no
+            // error would be shown to the user and filtering on other columns should continue as is.
+        }
+
+        return schema;
+    }
+
+    private void setValueInStatement(PreparedStatement preparedStatement, int index, String value, DataType dataType) {
+        setValueInStatement(preparedStatement, index, value, dataType, null);
+    }
+
+    /**
+     * Overloaded Method to handle plugin-based DataType conversion.
+     *
+     * @param preparedStatement
+     * @param index
+     * @param value
+     * @param topRowDataType
+     * @param dataTypeConversionMap - A Map to provide custom Datatype against the actual Datatype found.
+     * @return
+     */
+    private PreparedStatement setValueInStatement(
+            PreparedStatement preparedStatement,
+            int index,
+            String value,
+            DataType topRowDataType,
+            Map<DataType, DataType> dataTypeConversionMap) {
+
+        Object sqlValue = toSqlValue(value, topRowDataType, dataTypeConversionMap);
+
+        try {
+            if (sqlValue == null) {
+                preparedStatement.setNull(index, Types.NULL);
+            } else if (sqlValue instanceof Integer) {
+                preparedStatement.setInt(index, (Integer) sqlValue);
+            } else if (sqlValue instanceof Long) {
+                preparedStatement.setLong(index, (Long) sqlValue);
+            } else if (sqlValue instanceof BigDecimal) {
+                preparedStatement.setBigDecimal(index, (BigDecimal) sqlValue);
+            } else if (sqlValue instanceof Boolean) {
+                preparedStatement.setBoolean(index, (Boolean) sqlValue);
+            } else {
+                preparedStatement.setString(index, (String) sqlValue);
+            }
+
+        } catch (SQLException e) {
+            // Alarm! This should never fail since appsmith is the creator of the query and supporter of it. Raise
+            // an alarm and fix quickly!
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Error while interacting with value " + value + " : " + e.getMessage());
+        }
+
+        return preparedStatement;
+    }
+
+    /**
+     * Converts the string value to the Java object that gets stored for it in a column of the given data type. Returns
+     * null for values that are stored as SQL NULL.
+     *
+     * @param value
+     * @param topRowDataType
+     * @param dataTypeConversionMap - A Map to provide custom Datatype against the actual Datatype found.
+     * @return one of Integer, Long, BigDecimal, Boolean or String, or null
+     */
+    static Object toSqlValue(String value, DataType topRowDataType, Map<DataType, DataType> dataTypeConversionMap) {
+
+        DataType dataType = topRowDataType;
+        if (dataTypeConversionMap != null) {
+            // The input datatype will be converted to custom DatType as per implementing dataTypeConversionMap
+            dataType = dataTypeConversionMap.getOrDefault(topRowDataType, topRowDataType);
+        }
+
+        // Override datatype to null for empty values
+        if (StringUtils.isEmpty(value)) {
+            dataType = DataType.NULL;
+        } else if (dataTypeConversionMap == null) {
+            // Without a conversion map, the data type of the value only matters if it is null. Checking for that is
+            // much cheaper than detecting the data type.
+            if (isNullValue(value)) {
+                dataType = DataType.NULL;
+            }
+        } else {
+            // value is not empty.
+            DataType currentRowDataType = stringToKnownDataTypeConverter(value);
+            // Datatype of each row be processed, expected to be consistent to column datatype (first row datatype).
+            DataType inputDataType = dataTypeConversionMap.getOrDefault(currentRowDataType, currentRowDataType);
+            if (DataType.NULL.equals(inputDataType)) {
+                dataType = DataType.NULL;
+            }
+            // We are setting incompatible datatypes of each row to Null, rather allowing it and exit with error.
+            if (inputDataType != dataType
+                    && !datatypeCompatibilityMap
+                            .getOrDefault(dataType, Set.of())
+                            .contains(inputDataType)) {
+                dataType = DataType.NULL;
+            }
+        }
+
+        try {
+            switch (dataType) {
+                case NULL:
+                    return null;
+                case INTEGER:
+                    return Integer.parseInt(toNumericString(value));
+                case LONG:
+                    return Long.parseLong(toNumericString(value));
+                case FLOAT:
+                case DOUBLE:
+                    return new BigDecimal(toNumericString(value));
+                case BOOLEAN:
+                    return Boolean.parseBoolean(value);
+                case STRING:
+                default:
+                    return value;
+            }
+        } catch (IllegalArgumentException e) {
+            // The data type recognized does not match the data type of the value being set via Prepared Statement
+            // Add proper handling here.
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_IN_MEMORY_FILTERING_ERROR,
+                    "Error while interacting with value " + value + " : " + e.getMessage()
+                            + ". The data type value was being parsed to was : " + dataType);
+        }
+    }
+
+    private static String toNumericString(String value) {
+        // This runs for every numeric cell, hence avoiding the regular expression that replaceAll would compile.
+        return value.trim().replace(",", "");
+    }
+
+    /**
+     * Equivalent to checking whether {@code stringToKnownDataTypeConverter} returns {@link DataType#NULL} for a
+     * non-empty value.
+     */
+    private static boolean isNullValue(String value) {
+        if (value.startsWith("[") && value.endsWith("]")) {
+            return value.substring(1, value.length() - 1).trim().isEmpty();
+        }
+
+        return "null".equals(value.toLowerCase().trim());
+    }
+
+    public boolean validConditionList(List<Condition> conditionList, Map<String, DataType> schema) {
+
+        conditionList.stream()
+                .map(condition -> {
+                    if (!Condition.isValid(condition)) {
+                        throw new AppsmithPluginException(
+                                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                "Condition \" " + condition.getPath() + " "
+                                        + condition.getOperator().toString() + " " + condition.getValue()
+                                        + " \" is incorrect and could not be parsed.");
+                    }
+
+                    String path = condition.getPath();
+
+                    if (!schema.containsKey(path)) {
+                        throw new AppsmithPluginException(
+                                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                path + " not found in the known column names :" + schema.keySet());
+                    }
+
+                    return condition;
+                })
+                .collect(Collectors.toList());
+
+        // All the conditions were iterated over and checked. In case an error was found, an exception has already been
+        // thrown. If reached here, everything is hunky-dory.
+        return true;
+    }
+
+    public String generateLogicalExpression(
+            List<Condition> conditions,
+            List<PreparedStatementValueDTO> values,
+            Map<String, DataType> schema,
+            ConditionalOperator logicOp) {
+
+        StringBuilder sb = new StringBuilder();
+
+        Boolean firstCondition = true;
+        for (Condition condition : conditions) {
+            String path = condition.getPath();
+            ConditionalOperator operator = condition.getOperator();
+            Object objValue = condition.getValue();
+            if (operator.equals(ConditionalOperator.AND) || operator.equals(ConditionalOperator.OR)) {
+                List<Condition> subConditions = (List<Condition>) objValue;
+                String logicalExpression = generateLogicalExpression(subConditions, values, schema, operator);
+                if (StringUtils.isNotEmpty(logicalExpression)) {
+                    sb.append(" " + logicOp + " ( ");
+                    sb.append(logicalExpression);
+                    sb.append(" ) ");
+                }
+            } else {
+                String value = (String) objValue;
+
+                if (firstCondition) {
+                    firstCondition = false;
+                } else {
+                    // This is not the first valid condition. Append the operator before adding the next condition
+                    sb.append(" " + logicOp);
+                }
+                if (StringUtils.isNotEmpty(path)) {
+                    if (value == null || value.equals(StringUtils.EMPTY)) {
+                        sb.append(" ( ");
+                        sb.append("\"" + path + "\"");
+                        sb.append(" ");
+                        if (IS_NULL_OPERATORS.contains(operator)) {
+                            sb.append("IS NULL ) ");
+                        } else if (IS_NOT_NULL_OPERATORS.contains(operator)) {
+                            sb.append("IS NOT NULL ) ");
+                        }
+                    } else {
+                        String sqlOp = SQL_OPERATOR_MAP.get(operator);
+                        if (sqlOp == null) {
+                            throw new AppsmithPluginException(
+                                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                    operator + " is not supported currently for filtering.");
+                        }
+                        sb.append(" ( ");
+                        sb.append("\"" + path + "\"");
+                        sb.append(" ");
+                        sb.append(sqlOp);
+                        sb.append(" ");
+
+                        // These are array operations. Convert value into appropriate format and then append
+                        if (operator == ConditionalOperator.IN || operator == ConditionalOperator.NOT_IN) {
+
+                            StringBuilder valueBuilder = new StringBuilder("(");
+
+                            try {
+                                List<Object> arrayValues = objectMapper.readValue(value, List.class);
+                                List<String> updatedStringValues = arrayValues.stream()
+                                        .map(fieldValue -> {
+                                            values.add(new PreparedStatementValueDTO(
+                                                    String.valueOf(fieldValue), schema.get(path)));
+                                            return "?";
+                                        })
+                                        .collect(Collectors.toList());
+                                String finalValues = String.join(",", updatedStringValues);
+                                valueBuilder.append(finalValues);
+                            } catch (IOException e) {
+                                throw new AppsmithPluginException(
+                                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                        value + " could not be parsed into an array");
+                            }
+
+                            valueBuilder.append(")");
+                            value = valueBuilder.toString();
+                            sb.append(value);
+
+                        } else if (operator == ConditionalOperator.CONTAINS) {
+                            final String escapedLikeValue = value.replace("!", "!!")
+                                    .replace("%", "!%")
+                                    .replace("_", "!_")
+                                    .replace("[", "![");
+                            sb.append("? ESCAPE '!'");
+                            values.add(new PreparedStatementValueDTO("%" + escapedLikeValue + "%", schema.get(path)));
+                        } else {
+                            // Not an array. Simply add a placeholder
+                            sb.append("?");
+                            values.add(new PreparedStatementValueDTO(value, schema.get(path)));
+                        }
+
+                        sb.append(" ) ");
+                    }
+                }
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * A connection to the filtering database, along with the tables and prepared statements that have been created
+     * over it. Only one thread uses a pooled connection at a time, hence none of this needs to be synchronized.
+     */
+    private static class PooledConnection {
+
+        private static final int MAX_CACHED_TABLES = 8;
+
+        private static final int MAX_CACHED_STATEMENTS = 32;
+
+        @Getter
+        private final Connection connection;
+
+        // Table name by the schema it was created for. Tables are only emptied after use, and dropped once evicted.
+        private final LinkedHashMap<String, String> tables = new LinkedHashMap<>(16, 0.75f, true);
+
+        private final LinkedHashMap<String, PreparedStatement> statements = new LinkedHashMap<>(16, 0.75f, true);
+
+        PooledConnection(Connection connection) {
+            this.connection = connection;
+        }
+
+        String getOrCreateTable(Map<String, DataType> schema) {
+            // The schema is a linked map, so its string form captures both the column order and the column types.
+            String schemaKey = schema.toString();
+            String tableName = tables.get(schemaKey);
+            if (tableName != null) {
+                return tableName;
+            }
+
+            tableName = generateTableName();
+            executeDbQuery(connection, generateCreateTableQuery(tableName, schema));
+            tables.put(schemaKey, tableName);
+
+            if (tables.size() > MAX_CACHED_TABLES) {
+                Iterator<Map.Entry<String, String>> iterator = tables.entrySet().iterator();
+                String evictedTableName = iterator.next().getValue();
+                iterator.remove();
+                dropTable(evictedTableName);
+            }
+
+            return tableName;
+        }
+
+        PreparedStatement prepareStatement(String query) throws SQLException {
+            PreparedStatement preparedStatement = statements.get(query);
+            if (preparedStatement != null) {
+                preparedStatement.clearParameters();
+                preparedStatement.clearBatch();
+                return preparedStatement;
+            }
+
+            preparedStatement = connection.prepareStatement(query);
+            statements.put(query, preparedStatement);
+
+            if (statements.size() > MAX_CACHED_STATEMENTS) {
+                Iterator<PreparedStatement> iterator = statements.values().iterator();
+                closeQuietly(iterator.next());
+                iterator.remove();
+            }
+
+            return preparedStatement;
+        }
+
+        void truncateTable(String tableName) {
+            executeDbQuery(connection, "TRUNCATE TABLE " + tableName + ";");
+        }
+
+        boolean isValid() {
+            try {
+                return !connection.isClosed();
+            } catch (SQLException e) {
+                return false;
+            }
+        }
+
+        void close() {
+            // The database outlives this connection, so the tables it owns have to be dropped explicitly.
+            for (String tableName : new ArrayList<>(tables.values())) {
+                try {
+                    dropTable(tableName);
+                } catch (RuntimeException e) {
+                    log.debug("Failed to drop filtering table {}", tableName, e);
+                }
+            }
+            tables.clear();
+            statements.clear();
+
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                log.debug("Failed to close filtering database connection", e);
+            }
+        }
+
+        private void dropTable(String tableName) {
+            Iterator<Map.Entry<String, PreparedStatement>> iterator =
+                    statements.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, PreparedStatement> entry = iterator.next();
+                if (entry.getKey().contains(tableName)) {
+                    closeQuietly(entry.getValue());
+                    iterator.remove();
+                }
+            }
+
+            executeDbQuery(connection, "DROP TABLE IF EXISTS " + tableName + ";");
+        }
+
+        private static void closeQuietly(PreparedStatement preparedStatement) {
+            try {
+                preparedStatement.close();
+            } catch (SQLException e) {
+                log.debug("Failed to close prepared statement", e);
+            }
+        }
+    }
+}
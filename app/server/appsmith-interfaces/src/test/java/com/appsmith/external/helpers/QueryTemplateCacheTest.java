@@ -0,0 +1,57 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.constants.DataType;
+import com.appsmith.external.models.MustacheBindingToken;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class QueryTemplateCacheTest {
+
+    @Test
+    public void get_WithSameQuery_CompilesItOnce() {
+        AtomicInteger compilations = new AtomicInteger();
+        QueryTemplateCache queryTemplateCache = new QueryTemplateCache(10, query -> {
+            compilations.incrementAndGet();
+            List<DataType> castDataTypes = new ArrayList<>();
+            castDataTypes.add(DataType.INTEGER);
+            castDataTypes.add(null);
+            return castDataTypes;
+        });
+        String query = "SELECT * FROM users WHERE id = {{Input1.text}}::int AND name = '{{Input2.text}}'";
+
+        QueryTemplate queryTemplate = queryTemplateCache.get(query);
+
+        assertThat(queryTemplate.query()).isEqualTo("SELECT * FROM users WHERE id = ?::int AND name = ?");
+        assertThat(queryTemplate.mustacheKeysInOrder())
+                .extracting(MustacheBindingToken::getValue)
+                .containsExactly("Input1.text", "Input2.text");
+        assertThat(queryTemplate.explicitCastDataTypes()).containsExactly(DataType.INTEGER, null);
+        assertThat(queryTemplateCache.get(query)).isSameAs(queryTemplate);
+        assertThat(compilations.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void get_WithMoreQueriesThanMaxSize_DropsLeastRecentlyUsed() {
+        QueryTemplateCache queryTemplateCache = new QueryTemplateCache(2);
+
+        QueryTemplate first = queryTemplateCache.get("SELECT {{1}}");
+        queryTemplateCache.get("SELECT {{2}}");
+        queryTemplateCache.get("SELECT {{1}}");
+        queryTemplateCache.get("SELECT {{3}}");
+
+        assertThat(queryTemplateCache.size()).isEqualTo(2);
+        assertThat(queryTemplateCache.get("SELECT {{1}}")).isSameAs(first);
+        assertThat(first.explicitCastDataTypes()).isNull();
+    }
+
+    @Test
+    public void replaceQuestionMarkWithDollarIndex_WithQuestionMarks_NumbersThem() {
+        assertThat(SmartSubstitutionHelper.replaceQuestionMarkWithDollarIndex("SELECT ? FROM t WHERE a = ? AND b = ?"))
+                .isEqualTo("SELECT $1 FROM t WHERE a = $2 AND b = $3");
+    }
+}
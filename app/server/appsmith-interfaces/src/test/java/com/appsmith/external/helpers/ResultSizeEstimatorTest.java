@@ -0,0 +1,75 @@
+package com.appsmith.external.helpers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResultSizeEstimatorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void testEstimateIsCloseToSerializedJsonSize() throws Exception {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", 1);
+        row.put("name", "Appsmith");
+        row.put("price", new BigDecimal("12.50"));
+        row.put("active", true);
+        row.put("tags", new String[] {"a", "b"});
+        row.put("metadata", objectMapper.readTree("{\"key\": [1, 2, 3]}"));
+        row.put("deleted_at", null);
+
+        ResultSizeEstimator estimator = new ResultSizeEstimator(Long.MAX_VALUE);
+        for (int i = 0; i < 1000; i++) {
+            estimator.addRow(row);
+        }
+
+        long actualSize = objectMapper.writeValueAsString(List.of(row)).length() * 1000L;
+        long estimatedSize = estimator.getEstimatedSize();
+
+        assertEquals(1000, estimator.getRowCount());
+        // The estimate is not meant to be exact, but it must be in the same ballpark as the real response size.
+        assertTrue(estimatedSize > actualSize / 2, "Estimate " + estimatedSize + " vs actual " + actualSize);
+        assertTrue(estimatedSize < actualSize * 2, "Estimate " + estimatedSize + " vs actual " + actualSize);
+    }
+
+    @Test
+    public void testAddValueAndAddRowAreEquivalent() {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", 42L);
+        row.put("title", "Some title");
+        row.put("tags", List.of("x", "y", "z"));
+
+        ResultSizeEstimator rowEstimator = new ResultSizeEstimator(Long.MAX_VALUE);
+        rowEstimator.addRow(row);
+
+        ResultSizeEstimator valueEstimator = new ResultSizeEstimator(Long.MAX_VALUE);
+        row.forEach(valueEstimator::addValue);
+        valueEstimator.endRow();
+
+        assertEquals(rowEstimator.getEstimatedSize(), valueEstimator.getEstimatedSize());
+        assertEquals(rowEstimator.getRowCount(), valueEstimator.getRowCount());
+    }
+
+    @Test
+    public void testLimitExceeded() {
+        ResultSizeEstimator estimator = new ResultSizeEstimator(100);
+        assertFalse(estimator.isLimitExceeded());
+
+        estimator.addValue("column", "a".repeat(50));
+        estimator.endRow();
+        assertFalse(estimator.isLimitExceeded());
+
+        estimator.addValue("column", "a".repeat(50));
+        estimator.endRow();
+        assertTrue(estimator.isLimitExceeded());
+    }
+}
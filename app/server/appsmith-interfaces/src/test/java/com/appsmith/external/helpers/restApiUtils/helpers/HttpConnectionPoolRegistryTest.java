@@ -0,0 +1,213 @@
+package com.appsmith.external.helpers.restApiUtils.helpers;
+
+import com.appsmith.external.models.Connection;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.SSLDetails;
+import com.appsmith.external.models.UploadedFile;
+import com.appsmith.util.WebClientUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.Http11SslContextSpec;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class HttpConnectionPoolRegistryTest {
+
+    private static DatasourceConfiguration datasourceConfiguration(String url, SSLDetails.AuthType sslAuthType) {
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setUrl(url);
+        if (sslAuthType != null) {
+            Connection connection = new Connection();
+            SSLDetails sslDetails = new SSLDetails();
+            sslDetails.setAuthType(sslAuthType);
+            connection.setSsl(sslDetails);
+            datasourceConfiguration.setConnection(connection);
+        }
+        return datasourceConfiguration;
+    }
+
+    @Test
+    public void testPoolKeyDependsOnOriginAndSslSettings() {
+        String key = HttpConnectionPoolRegistry.getPoolKey(datasourceConfiguration("https://example.com/api", null));
+
+        assertEquals(
+                key,
+                HttpConnectionPoolRegistry.getPoolKey(datasourceConfiguration("https://Example.com/other/path", null)));
+        assertNotEquals(
+                key, HttpConnectionPoolRegistry.getPoolKey(datasourceConfiguration("https://example.com:8443", null)));
+        assertNotEquals(
+                key,
+                HttpConnectionPoolRegistry.getPoolKey(datasourceConfiguration(
+                        "https://example.com/api", SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE)));
+    }
+
+    @Test
+    public void testConnectionIsReusedAcrossExecutions() throws Exception {
+        // A self-signed certificate for localhost, valid until 2123
+        File certificate = new File(getClass().getResource("/ssl/localhost.crt").toURI());
+        File privateKey = new File(getClass().getResource("/ssl/localhost.key").toURI());
+        AtomicInteger connectionCount = new AtomicInteger();
+        DisposableServer server = HttpServer.create()
+                .host("localhost")
+                .port(0)
+                .secure(spec -> spec.sslContext(Http11SslContextSpec.forServer(certificate, privateKey)))
+                // Called once per connection, unlike doOnConnection which is called for every request
+                .doOnChannelInit((observer, channel, remoteAddress) -> connectionCount.incrementAndGet())
+                .route(routes -> routes.get("/users", (request, response) -> response.sendString(Mono.just("[]"))))
+                .bindNow();
+
+        try {
+            MeterRegistry meterRegistry = new SimpleMeterRegistry();
+            HttpConnectionPoolRegistry registry =
+                    new HttpConnectionPoolRegistry(10, Duration.ofMinutes(10), Clock.systemUTC(), meterRegistry);
+            DatasourceConfiguration datasourceConfiguration = datasourceConfiguration(
+                    "https://localhost:" + server.port(), SSLDetails.AuthType.SELF_SIGNED_CERTIFICATE);
+            datasourceConfiguration
+                    .getConnection()
+                    .getSsl()
+                    .setCertificateFile(new UploadedFile(
+                            "certificate.crt",
+                            Base64.getEncoder().encodeToString(Files.readAllBytes(certificate.toPath()))));
+
+            // Every execution gets the client of the pool, as RestAPIActivateUtils does
+            for (int i = 0; i < 2; i++) {
+                String body = WebClientUtils.builder(registry.getHttpClient(datasourceConfiguration))
+                        .build()
+                        .get()
+                        .uri(datasourceConfiguration.getUrl() + "/users")
+                        .retrieve()
+                        .bodyToMono(String.class)
+                        .block();
+                assertEquals("[]", body);
+                awaitIdleConnection(meterRegistry);
+            }
+
+            assertEquals(1, connectionCount.get());
+            assertEquals(1, registry.size());
+        } finally {
+            server.disposeNow();
+        }
+    }
+
+    /**
+     * Waits for the connection of the last request to be released back to its pool, which happens shortly after the
+     * response is received.
+     */
+    private static void awaitIdleConnection(MeterRegistry meterRegistry) throws InterruptedException {
+        Instant deadline = Instant.now().plusSeconds(5);
+        while (meterRegistry
+                                .get("appsmith.http.connection.pool.connections")
+                                .tag("state", "idle")
+                                .gauge()
+                                .value()
+                        < 1
+                && Instant.now().isBefore(deadline)) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    public void testGaugesAreRegisteredForPoolsInRegistry() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        HttpConnectionPoolRegistry registry =
+                new HttpConnectionPoolRegistry(10, Duration.ofMinutes(10), Clock.systemUTC(), meterRegistry);
+
+        registry.getConnectionProvider("first");
+        registry.getConnectionProvider("second");
+        assertEquals(
+                6,
+                meterRegistry
+                        .find("appsmith.http.connection.pool.connections")
+                        .gauges()
+                        .size());
+        assertEquals(
+                0,
+                meterRegistry
+                        .get("appsmith.http.connection.pool.connections")
+                        .tag("pool", "rest-api-provider-" + Integer.toHexString("first".hashCode()))
+                        .tag("state", "active")
+                        .gauge()
+                        .value());
+
+        // Disposed pools stop being reported
+        registry.evict("first");
+        assertEquals(
+                3,
+                meterRegistry
+                        .find("appsmith.http.connection.pool.connections")
+                        .gauges()
+                        .size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedPoolIsEvictedWhenFull() {
+        HttpConnectionPoolRegistry registry =
+                new HttpConnectionPoolRegistry(2, Duration.ofMinutes(10), Clock.systemUTC(), new SimpleMeterRegistry());
+
+        ConnectionProvider first = registry.getConnectionProvider("first");
+        ConnectionProvider second = registry.getConnectionProvider("second");
+        // Touch the first pool so that the second one becomes the least recently used
+        registry.getConnectionProvider("first");
+        registry.getConnectionProvider("third");
+
+        assertEquals(2, registry.size());
+        assertSame(first, registry.getConnectionProvider("first"));
+        assertNotSame(second, registry.getConnectionProvider("second"));
+    }
+
+    @Test
+    public void testIdlePoolIsEvicted() {
+        MutableClock clock = new MutableClock(Instant.parse("2023-01-01T00:00:00Z"));
+        HttpConnectionPoolRegistry registry =
+                new HttpConnectionPoolRegistry(10, Duration.ofMinutes(10), clock, new SimpleMeterRegistry());
+
+        ConnectionProvider idle = registry.getConnectionProvider("idle");
+        clock.instant = clock.instant.plus(Duration.ofMinutes(5));
+        ConnectionProvider active = registry.getConnectionProvider("active");
+        clock.instant = clock.instant.plus(Duration.ofMinutes(6));
+
+        assertSame(active, registry.getConnectionProvider("active"));
+        assertEquals(1, registry.size());
+        assertNotSame(idle, registry.getConnectionProvider("idle"));
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
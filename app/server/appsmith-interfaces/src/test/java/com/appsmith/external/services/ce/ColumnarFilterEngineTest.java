@@ -0,0 +1,322 @@
+package com.appsmith.external.services.ce;
+
+import com.appsmith.external.constants.ConditionalOperator;
+import com.appsmith.external.constants.DataType;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.models.Condition;
+import com.appsmith.external.models.UQIDataFilterParams;
+import com.appsmith.external.services.FilterDataService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_LIMIT_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.PAGINATE_OFFSET_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_COLUMN_NAME_KEY;
+import static com.appsmith.external.services.ce.FilterDataServiceCE.SORT_BY_TYPE_KEY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ColumnarFilterEngineTest {
+
+    private static final String[][] VALUE_POOLS = {
+        {"1", "2", "-7", "42", "1,000", "2147483647"},
+        {"3000000000", "-3000000000", "12", "3000000001"},
+        {"4.99", "0.1", "19.99", "-2.5", "1.0E3"},
+        {"1.2345678901234567890123", "9.99", "-0.000000000000000000000000000000000000000000001"},
+        {"true", "false", "TRUE", "False"},
+        {"apple", "Apple", "banana", "a_b", "50%", "x!y", "[tag]", "{\"key\": 1}", "12:30:00", "a"}
+    };
+
+    private static final ConditionalOperator[] OPERATORS = {
+        ConditionalOperator.LT,
+        ConditionalOperator.LTE,
+        ConditionalOperator.EQ,
+        ConditionalOperator.NOT_EQ,
+        ConditionalOperator.GT,
+        ConditionalOperator.GTE,
+        ConditionalOperator.IN,
+        ConditionalOperator.NOT_IN,
+        ConditionalOperator.CONTAINS,
+        ConditionalOperator.AND,
+        ConditionalOperator.OR
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final FilterDataServiceCE filterDataService = FilterDataService.getInstance();
+
+    private final ColumnarFilterEngine columnarFilterEngine = new ColumnarFilterEngine(objectMapper);
+
+    @Test
+    public void testFilterSortAndPaginate() throws Exception {
+        ArrayNode items = (ArrayNode) objectMapper.readTree("[" + "{\"id\": 1, \"name\": \"John\", \"score\": 4.5},"
+                + "{\"id\": 2, \"name\": \"jane\", \"score\": \"\"},"
+                + "{\"id\": 3, \"name\": \"Bob\", \"score\": 7.25},"
+                + "{\"id\": 4, \"name\": \"Alice\", \"score\": 4.5}"
+                + "]");
+
+        Condition condition = new Condition(
+                null,
+                ConditionalOperator.OR,
+                List.of(new Condition("score", "GTE", "4.5"), new Condition("name", "CONTAINS", "an")),
+                null);
+        UQIDataFilterParams params = new UQIDataFilterParams(
+                condition,
+                List.of("name", "score"),
+                List.of(Map.of(SORT_BY_COLUMN_NAME_KEY, "score", SORT_BY_TYPE_KEY, "Descending")),
+                Map.of(PAGINATE_LIMIT_KEY, "3", PAGINATE_OFFSET_KEY, "0"));
+
+        Optional<List<Map<String, Object>>> results =
+                columnarFilterEngine.filter(items, filterDataService.generateSchema(items, null), params, null);
+
+        assertTrue(results.isPresent());
+        assertEquals(
+                "[{\"name\":\"Bob\",\"score\":7.25},{\"name\":\"John\",\"score\":4.5},"
+                        + "{\"name\":\"Alice\",\"score\":4.5}]",
+                objectMapper.writeValueAsString(results.get()));
+    }
+
+    @Test
+    public void testUnsupportedFiltersFallBackToH2() throws Exception {
+        ArrayNode items = (ArrayNode)
+                objectMapper.readTree("[{\"id\": 1, \"date\": \"2021-09-01\"}, {\"id\": 2, \"date\": \"2021-09-02\"}]");
+        Map<String, DataType> schema = filterDataService.generateSchema(items, null);
+
+        // Date columns are only supported on H2
+        Condition condition =
+                new Condition(null, ConditionalOperator.AND, List.of(new Condition("id", "EQ", "1")), null);
+        assertFalse(columnarFilterEngine
+                .filter(items, schema, new UQIDataFilterParams(condition, null, null, null), null)
+                .isPresent());
+
+        items = (ArrayNode) objectMapper.readTree("[{\"id\": 1}, {\"id\": 2}]");
+        schema = filterDataService.generateSchema(items, null);
+
+        // Columns that don't exist fail on H2
+        condition = new Condition(null, ConditionalOperator.AND, List.of(new Condition("missing", "EQ", "1")), null);
+        assertFalse(columnarFilterEngine
+                .filter(items, schema, new UQIDataFilterParams(condition, null, null, null), null)
+                .isPresent());
+
+        // As do negative limits
+        assertFalse(columnarFilterEngine
+                .filter(
+                        items,
+                        schema,
+                        new UQIDataFilterParams(null, null, null, Map.of(PAGINATE_LIMIT_KEY, "-1")),
+                        null)
+                .isPresent());
+    }
+
+    /**
+     * Runs random filters over random data on both, this engine and H2, and checks that they agree on the results or on
+     * the error.
+     */
+    @Test
+    public void testResultsMatchH2() throws Exception {
+        Random random = new Random(42);
+        int evaluatedInMemory = 0;
+
+        for (int iteration = 0; iteration < 300; iteration++) {
+            int columnCount = 1 + random.nextInt(4);
+            String[] columnNames = new String[columnCount];
+            int[] columnPools = new int[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                columnNames[i] = "c" + i;
+                columnPools[i] = random.nextInt(VALUE_POOLS.length);
+            }
+            if (random.nextInt(3) == 0) {
+                // Google Sheets data comes with a `rowIndex` column, which is special cased while generating the schema
+                columnNames[0] = "rowIndex";
+            }
+
+            ArrayNode items = objectMapper.createArrayNode();
+            int rowCount = 1 + random.nextInt(40);
+            for (int row = 0; row < rowCount; row++) {
+                ObjectNode item = items.addObject();
+                for (int i = 0; i < columnCount; i++) {
+                    // Leave the first row complete, so that the schema is inferred from the value pools
+                    String value = row == 0 ? randomValue(random, columnPools[i]) : randomCell(random, columnPools[i]);
+                    if (value != null) {
+                        item.put(columnNames[i], value);
+                    }
+                }
+            }
+
+            // The conversion map used by the Google Sheets plugin
+            Map<DataType, DataType> dataTypeConversionMap = random.nextInt(4) == 0
+                    ? Map.of(
+                            DataType.INTEGER, DataType.DOUBLE,
+                            DataType.LONG, DataType.DOUBLE,
+                            DataType.FLOAT, DataType.DOUBLE)
+                    : null;
+
+            List<Map<String, String>> sortBy = randomSortBy(random, columnNames);
+            Map<String, String> paginateBy = randomPagination(random);
+            // H2 picks rows with equal sort keys in no particular order when paginating, only the sort keys of the
+            // results can be compared then, which requires all the columns to be projected.
+            boolean compareSortKeysOnly = !sortBy.isEmpty() && paginateBy != null;
+
+            UQIDataFilterParams params = new UQIDataFilterParams(
+                    new Condition(
+                            null,
+                            random.nextBoolean() ? ConditionalOperator.AND : ConditionalOperator.OR,
+                            randomConditions(random, columnNames, columnPools, 2),
+                            null),
+                    compareSortKeysOnly ? null : randomProjection(random, columnNames),
+                    sortBy,
+                    paginateBy);
+
+            Map<String, DataType> schema = filterDataService.generateSchema(items, dataTypeConversionMap);
+
+            String expected;
+            try {
+                expected = toComparableString(
+                        filterDataService.filterDataUsingH2(items, schema, params, dataTypeConversionMap),
+                        compareSortKeysOnly ? sortBy : null);
+            } catch (AppsmithPluginException e) {
+                expected = "error: " + e.getMessage();
+            }
+
+            String actual;
+            try {
+                Optional<List<Map<String, Object>>> results =
+                        columnarFilterEngine.filter(items, schema, params, dataTypeConversionMap);
+                if (results.isEmpty()) {
+                    continue;
+                }
+                actual = toComparableString(
+                        objectMapper.valueToTree(results.get()), compareSortKeysOnly ? sortBy : null);
+            } catch (AppsmithPluginException e) {
+                actual = "error: " + e.getMessage();
+            }
+
+            evaluatedInMemory++;
+            assertEquals(expected, actual, "Data: " + items + ", filter: " + objectMapper.writeValueAsString(params));
+        }
+
+        // Most of the random filters are expected to be supported
+        assertTrue(evaluatedInMemory > 150, "Only " + evaluatedInMemory + " filters were evaluated in memory");
+    }
+
+    private String toComparableString(ArrayNode results, List<Map<String, String>> sortBy) throws Exception {
+        if (sortBy == null) {
+            return objectMapper.writeValueAsString(results);
+        }
+
+        ArrayNode sortKeys = objectMapper.createArrayNode();
+        for (JsonNode result : results) {
+            ArrayNode sortKey = sortKeys.addArray();
+            for (Map<String, String> sortCondition : sortBy) {
+                sortKey.add(result.get(sortCondition.get(SORT_BY_COLUMN_NAME_KEY)));
+            }
+        }
+        return objectMapper.writeValueAsString(sortKeys);
+    }
+
+    private static String randomValue(Random random, int pool) {
+        String[] values = VALUE_POOLS[pool];
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String randomCell(Random random, int pool) {
+        int choice = random.nextInt(20);
+        if (choice == 0) {
+            return null;
+        } else if (choice == 1) {
+            return "";
+        } else if (choice == 2) {
+            return "null";
+        } else if (choice == 3) {
+            // A value of some other type, which may or may not be compatible with the column
+            return randomValue(random, random.nextInt(VALUE_POOLS.length));
+        }
+        return randomValue(random, pool);
+    }
+
+    private List<Condition> randomConditions(Random random, String[] columnNames, int[] columnPools, int depth)
+            throws Exception {
+        List<Condition> conditions = new ArrayList<>();
+        int count = 1 + random.nextInt(3);
+        for (int i = 0; i < count; i++) {
+            ConditionalOperator operator = OPERATORS[random.nextInt(OPERATORS.length)];
+            if (operator == ConditionalOperator.AND || operator == ConditionalOperator.OR) {
+                if (depth > 0) {
+                    conditions.add(new Condition(
+                            null, operator, randomConditions(random, columnNames, columnPools, depth - 1), null));
+                }
+                continue;
+            }
+
+            int column = random.nextInt(columnPools.length);
+            int pathChoice = random.nextInt(30);
+            String path = pathChoice == 0 ? "unknown" : pathChoice == 1 ? "" : columnNames[column];
+
+            String value;
+            if (random.nextInt(8) == 0) {
+                value = "";
+            } else if (operator == ConditionalOperator.IN || operator == ConditionalOperator.NOT_IN) {
+                List<String> values = new ArrayList<>();
+                int valueCount = random.nextInt(3);
+                for (int j = 0; j < valueCount; j++) {
+                    values.add(randomCell(random, columnPools[column]));
+                }
+                value = objectMapper.writeValueAsString(values);
+            } else if (operator == ConditionalOperator.CONTAINS) {
+                String cell = randomValue(random, columnPools[column]);
+                value = cell.substring(random.nextInt(cell.length()));
+            } else {
+                value = randomValue(random, random.nextInt(5) == 0 ? random.nextInt(VALUE_POOLS.length) : column);
+            }
+            conditions.add(new Condition(path, operator.name(), value));
+        }
+        return conditions;
+    }
+
+    private static List<String> randomProjection(Random random, String[] columnNames) {
+        if (random.nextBoolean()) {
+            return null;
+        }
+        List<String> projection = new ArrayList<>();
+        for (String columnName : columnNames) {
+            if (random.nextBoolean()) {
+                projection.add(columnName);
+            }
+        }
+        return projection;
+    }
+
+    private static List<Map<String, String>> randomSortBy(Random random, String[] columnNames) {
+        List<Map<String, String>> sortBy = new ArrayList<>();
+        int count = random.nextInt(3);
+        for (int i = 0; i < count; i++) {
+            sortBy.add(Map.of(
+                    SORT_BY_COLUMN_NAME_KEY,
+                    columnNames[random.nextInt(columnNames.length)],
+                    SORT_BY_TYPE_KEY,
+                    random.nextBoolean() ? "Ascending" : "Descending"));
+        }
+        return sortBy;
+    }
+
+    private static Map<String, String> randomPagination(Random random) {
+        if (random.nextBoolean()) {
+            return null;
+        }
+        Map<String, String> paginateBy = new HashMap<>();
+        paginateBy.put(PAGINATE_LIMIT_KEY, String.valueOf(random.nextInt(10)));
+        paginateBy.put(PAGINATE_OFFSET_KEY, String.valueOf(random.nextInt(10)));
+        return paginateBy;
+    }
+}
@@ -1,22 +1,22 @@
-package com.external.constants;
-
-public class FieldName {
-
-    public static final String PATH = "path";
-    public static final String BODY = "body";
-    public static final String NEXT = "next";
-    public static final String PREV = "prev";
-
-    public static final String COMMAND = "command";
-    public static final String TIMESTAMP_VALUE_PATH = "timestampValuePath";
-    public static final String DELETE_KEY_PATH = "deleteKeyPath";
-    public static final String LIMIT_DOCUMENTS = "limitDocuments";
-    public static final String ORDER_BY = "orderBy";
-    public static final String START_AFTER = "startAfter";
-    public static final String END_BEFORE = "endBefore";
-    public static final String WHERE = "where";
-    public static final String CHILDREN = "children";
-    public static final String SMART_SUBSTITUTION = "smartSubstitution";
-
-    public static final String WHERE_CHILDREN = WHERE + "." + CHILDREN;
-}
+package com.external.constants;
+
+public class FieldName {
+
+    public static final String PATH = "path";
+    public static final String BODY = "body";
+    public static final String NEXT = "next";
+    public static final String PREV = "prev";
+
+    public static final String COMMAND = "command";
+    public static final String TIMESTAMP_VALUE_PATH = "timestampValuePath";
+    public static final String DELETE_KEY_PATH = "deleteKeyPath";
+    public static final String LIMIT_DOCUMENTS = "limitDocuments";
+    public static final String ORDER_BY = "orderBy";
+    public static final String START_AFTER = "startAfter";
+    public static final String END_BEFORE = "endBefore";
+    public static final String WHERE = "where";
+    public static final String CHILDREN = "children";
+    public static final String SMART_SUBSTITUTION = "smartSubstitution";
+
+    public static final String WHERE_CHILDREN = WHERE + "." + CHILDREN;
+}
@@ -1,58 +1,58 @@
-package com.external.config;
-
-import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
-import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
-import com.external.constants.ErrorMessages;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import org.springframework.http.HttpMethod;
-import org.springframework.web.reactive.function.BodyInserters;
-import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.util.UriComponentsBuilder;
-
-import java.net.URLEncoder;
-import java.nio.charset.StandardCharsets;
-
-/**
- * API reference: https://developers.google.com/sheets/api/reference/rest/v4/spreadsheets.values/clear
- */
-public class ClearMethod implements ExecutionMethod {
-
-    ObjectMapper objectMapper;
-
-    public ClearMethod(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
-    }
-
-    @Override
-    public boolean validateExecutionMethodRequest(MethodConfig methodConfig) {
-        if (methodConfig.getSpreadsheetId() == null
-                || methodConfig.getSpreadsheetId().isBlank()) {
-            throw new AppsmithPluginException(
-                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, ErrorMessages.MISSING_SPREADSHEET_URL_ERROR_MSG);
-        }
-        if (methodConfig.getSpreadsheetRange() == null
-                || methodConfig.getSpreadsheetRange().isBlank()) {
-            throw new AppsmithPluginException(
-                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, ErrorMessages.MISSING_CELL_RANGE_ERROR_MSG);
-        }
-        return true;
-    }
-
-    @Override
-    public WebClient.RequestHeadersSpec<?> getExecutionClient(WebClient webClient, MethodConfig methodConfig) {
-
-        UriComponentsBuilder uriBuilder = getBaseUriBuilder(
-                this.BASE_SHEETS_API_URL,
-                methodConfig.getSpreadsheetId() /* spreadsheet Id */
-                        + "/values/"
-                        + URLEncoder.encode(
-                                methodConfig.getSpreadsheetRange(), StandardCharsets.UTF_8) /* spreadsheet Range */
-                        + ":clear",
-                true);
-
-        return webClient
-                .method(HttpMethod.POST)
-                .uri(uriBuilder.build(true).toUri())
-                .body(BodyInserters.empty());
-    }
-}
+package com.external.config;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.external.constants.ErrorMessages;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * API reference: https://developers.google.com/sheets/api/reference/rest/v4/spreadsheets.values/clear
+ */
+public class ClearMethod implements ExecutionMethod {
+
+    ObjectMapper objectMapper;
+
+    public ClearMethod(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean validateExecutionMethodRequest(MethodConfig methodConfig) {
+        if (methodConfig.getSpreadsheetId() == null
+                || methodConfig.getSpreadsheetId().isBlank()) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, ErrorMessages.MISSING_SPREADSHEET_URL_ERROR_MSG);
+        }
+        if (methodConfig.getSpreadsheetRange() == null
+                || methodConfig.getSpreadsheetRange().isBlank()) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, ErrorMessages.MISSING_CELL_RANGE_ERROR_MSG);
+        }
+        return true;
+    }
+
+    @Override
+    public WebClient.RequestHeadersSpec<?> getExecutionClient(WebClient webClient, MethodConfig methodConfig) {
+
+        UriComponentsBuilder uriBuilder = getBaseUriBuilder(
+                this.BASE_SHEETS_API_URL,
+                methodConfig.getSpreadsheetId() /* spreadsheet Id */
+                        + "/values/"
+                        + URLEncoder.encode(
+                                methodConfig.getSpreadsheetRange(), StandardCharsets.UTF_8) /* spreadsheet Range */
+                        + ":clear",
+                true);
+
+        return webClient
+                .method(HttpMethod.POST)
+                .uri(uriBuilder.build(true).toUri())
+                .body(BodyInserters.empty());
+    }
+}
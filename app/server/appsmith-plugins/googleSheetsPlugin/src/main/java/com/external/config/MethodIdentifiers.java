@@ -1,24 +1,24 @@
-package com.external.config;
-
-public class MethodIdentifiers {
-    public static final String ROWS_FETCH_MANY = "ROWS_FETCH_MANY";
-    public static final String ROWS_INSERT_ONE = "ROWS_INSERT_ONE";
-    public static final String ROWS_INSERT_MANY = "ROWS_INSERT_MANY";
-    public static final String ROWS_UPDATE_ONE = "ROWS_UPDATE_ONE";
-    public static final String ROWS_UPDATE_MANY = "ROWS_UPDATE_MANY";
-    public static final String ROWS_DELETE_ONE = "ROWS_DELETE_ONE";
-    public static final String SPREADSHEET_INSERT_ONE = "SPREADSHEET_INSERT_ONE";
-    public static final String SHEET_DELETE_ONE = "SHEET_DELETE_ONE";
-    public static final String SPREADSHEET_DELETE_ONE = "SPREADSHEET_DELETE_ONE";
-    public static final String SPREADSHEET_FETCH_MANY = "SPREADSHEET_FETCH_MANY";
-    public static final String SPREADSHEET_FETCH_DETAILS = "SPREADSHEET_FETCH_DETAILS";
-
-    public static final String GET_STRUCTURE = "_GET_STRUCTURE";
-    public static final String CLEAR = "CLEAR";
-    public static final String COPY = "COPY";
-
-    public static final String TRIGGER_SPREADSHEET_SELECTOR = "SPREADSHEET_SELECTOR";
-    public static final String TRIGGER_SHEET_SELECTOR = "SHEET_SELECTOR";
-    public static final String TRIGGER_COLUMNS_SELECTOR = "COLUMNS_SELECTOR";
-    public static final String TRIGGER_SHEET_DATA = "SHEET_DATA";
-}
+package com.external.config;
+
+public class MethodIdentifiers {
+    public static final String ROWS_FETCH_MANY = "ROWS_FETCH_MANY";
+    public static final String ROWS_INSERT_ONE = "ROWS_INSERT_ONE";
+    public static final String ROWS_INSERT_MANY = "ROWS_INSERT_MANY";
+    public static final String ROWS_UPDATE_ONE = "ROWS_UPDATE_ONE";
+    public static final String ROWS_UPDATE_MANY = "ROWS_UPDATE_MANY";
+    public static final String ROWS_DELETE_ONE = "ROWS_DELETE_ONE";
+    public static final String SPREADSHEET_INSERT_ONE = "SPREADSHEET_INSERT_ONE";
+    public static final String SHEET_DELETE_ONE = "SHEET_DELETE_ONE";
+    public static final String SPREADSHEET_DELETE_ONE = "SPREADSHEET_DELETE_ONE";
+    public static final String SPREADSHEET_FETCH_MANY = "SPREADSHEET_FETCH_MANY";
+    public static final String SPREADSHEET_FETCH_DETAILS = "SPREADSHEET_FETCH_DETAILS";
+
+    public static final String GET_STRUCTURE = "_GET_STRUCTURE";
+    public static final String CLEAR = "CLEAR";
+    public static final String COPY = "COPY";
+
+    public static final String TRIGGER_SPREADSHEET_SELECTOR = "SPREADSHEET_SELECTOR";
+    public static final String TRIGGER_SHEET_SELECTOR = "SHEET_SELECTOR";
+    public static final String TRIGGER_COLUMNS_SELECTOR = "COLUMNS_SELECTOR";
+    public static final String TRIGGER_SHEET_DATA = "SHEET_DATA";
+}
@@ -1,30 +1,30 @@
-package com.external.constants;
-
-public class FieldName {
-
-    public static final String SMART_SUBSTITUTION = "smartSubstitution";
-
-    public static final String SHEET = "SHEET";
-    public static final String SPREADSHEET = "SPREADSHEET";
-
-    public static final String COMMAND = "command";
-    public static final String ENTITY_TYPE = "entityType";
-    public static final String SHEET_URL = "sheetUrl";
-    public static final String SPREADSHEET_NAME = "spreadsheetName";
-    public static final String SHEET_NAME = "sheetName";
-    public static final String TABLE_HEADER_INDEX = "tableHeaderIndex";
-    public static final String DELETE_FORMAT = "deleteFormat";
-    public static final String QUERY_FORMAT = "queryFormat";
-    public static final String RANGE = "range";
-    public static final String PAGINATION = "pagination";
-    public static final String ROW_OFFSET = "offset";
-    public static final String ROW_LIMIT = "limit";
-    public static final String ROW_INDEX = "rowIndex";
-    public static final String ROW_OBJECT = "rowObject";
-    public static final String ROW_OBJECTS = "rowObjects";
-    public static final String WHERE = "where";
-    public static final String PROJECTION = "projection";
-    public static final String SORT_BY = "sortBy";
-    public static final String EMAIL_ADDRESS = "emailAddress";
-    public static final String GOOGLE_API_BASE_URL = "https://www.googleapis.com";
-}
+package com.external.constants;
+
+public class FieldName {
+
+    public static final String SMART_SUBSTITUTION = "smartSubstitution";
+
+    public static final String SHEET = "SHEET";
+    public static final String SPREADSHEET = "SPREADSHEET";
+
+    public static final String COMMAND = "command";
+    public static final String ENTITY_TYPE = "entityType";
+    public static final String SHEET_URL = "sheetUrl";
+    public static final String SPREADSHEET_NAME = "spreadsheetName";
+    public static final String SHEET_NAME = "sheetName";
+    public static final String TABLE_HEADER_INDEX = "tableHeaderIndex";
+    public static final String DELETE_FORMAT = "deleteFormat";
+    public static final String QUERY_FORMAT = "queryFormat";
+    public static final String RANGE = "range";
+    public static final String PAGINATION = "pagination";
+    public static final String ROW_OFFSET = "offset";
+    public static final String ROW_LIMIT = "limit";
+    public static final String ROW_INDEX = "rowIndex";
+    public static final String ROW_OBJECT = "rowObject";
+    public static final String ROW_OBJECTS = "rowObjects";
+    public static final String WHERE = "where";
+    public static final String PROJECTION = "projection";
+    public static final String SORT_BY = "sortBy";
+    public static final String EMAIL_ADDRESS = "emailAddress";
+    public static final String GOOGLE_API_BASE_URL = "https://www.googleapis.com";
+}
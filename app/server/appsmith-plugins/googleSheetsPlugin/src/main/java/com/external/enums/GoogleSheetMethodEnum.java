@@ -1,7 +1,7 @@
-package com.external.enums;
-
-public enum GoogleSheetMethodEnum {
-    EXECUTE,
-    TRIGGER,
-    TEMPLATE,
-}
+package com.external.enums;
+
+public enum GoogleSheetMethodEnum {
+    EXECUTE,
+    TRIGGER,
+    TEMPLATE,
+}
@@ -35,34 +35,23 @@ import com.external.plugins.exceptions.MongoPluginError;
 import com.external.plugins.exceptions.MongoPluginErrorMessages;
 import com.external.plugins.utils.MongoErrorUtils;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.mongodb.ConnectionString;
-import com.mongodb.DBRefCodecProvider;
 import com.mongodb.MongoClientSettings;
 import com.mongodb.MongoCommandException;
 import com.mongodb.MongoSocketWriteException;
 import com.mongodb.MongoTimeoutException;
-import com.mongodb.client.gridfs.codecs.GridFSFileCodecProvider;
-import com.mongodb.client.model.geojson.codecs.GeoJsonCodecProvider;
 import com.mongodb.connection.ConnectionPoolSettings;
 import com.mongodb.reactivestreams.client.MongoClient;
 import com.mongodb.reactivestreams.client.MongoClients;
 import com.mongodb.reactivestreams.client.MongoDatabase;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
 import org.bson.Document;
-import org.bson.codecs.BsonTypeClassMap;
-import org.bson.codecs.BsonValueCodecProvider;
-import org.bson.codecs.DocumentCodec;
-import org.bson.codecs.DocumentCodecProvider;
-import org.bson.codecs.IterableCodecProvider;
-import org.bson.codecs.MapCodecProvider;
-import org.bson.codecs.ValueCodecProvider;
-import org.bson.codecs.configuration.CodecRegistries;
-import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.RawBsonDocument;
 import org.bson.conversions.Bson;
-import org.json.JSONArray;
-import org.json.JSONObject;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.reactivestreams.Publisher;
@@ -73,14 +62,8 @@ import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
-import java.math.BigDecimal;
-import java.math.BigInteger;
 import java.time.Duration;
-import java.time.Instant;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -110,6 +93,7 @@ import static com.external.plugins.constants.FieldName.FIND_PROJECTION;
 import static com.external.plugins.constants.FieldName.FIND_QUERY;
 import static com.external.plugins.constants.FieldName.FIND_SORT;
 import static com.external.plugins.constants.FieldName.INSERT_DOCUMENT;
+import static com.external.plugins.constants.FieldName.MAX_DOCUMENTS;
 import static com.external.plugins.constants.FieldName.NATIVE_QUERY_PATH_DATA;
 import static com.external.plugins.constants.FieldName.NATIVE_QUERY_PATH_STATUS;
 import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
@@ -117,6 +101,7 @@ import static com.external.plugins.constants.FieldName.SUCCESS;
 import static com.external.plugins.constants.FieldName.UPDATE_OPERATION;
 import static com.external.plugins.constants.FieldName.UPDATE_QUERY;
 import static com.external.plugins.exceptions.MongoPluginErrorMessages.MONGO_CLIENT_NULL_ERROR_MSG;
+import static com.external.plugins.utils.BsonToJsonNodeConverter.readField;
 import static com.external.plugins.utils.DatasourceUtils.KEY_PASSWORD;
 import static com.external.plugins.utils.DatasourceUtils.KEY_URI_DEFAULT_DBNAME;
 import static com.external.plugins.utils.DatasourceUtils.KEY_USERNAME;
@@ -154,6 +139,16 @@ public class MongoPlugin extends BasePlugin {
 
     private static final String VALUES = "values";
 
+    private static final String CURSOR = "cursor";
+
+    private static final String CURSOR_ID = "id";
+
+    private static final String NAMESPACE = "ns";
+
+    private static final String FIRST_BATCH = "firstBatch";
+
+    private static final String NEXT_BATCH = "nextBatch";
+
     private static final int TEST_DATASOURCE_TIMEOUT_SECONDS = 15;
 
     /**
@@ -200,17 +195,8 @@ public class MongoPlugin extends BasePlugin {
 
     private static final MongoErrorUtils mongoErrorUtils = MongoErrorUtils.getInstance();
 
-    private static final CodecRegistry DEFAULT_REGISTRY = CodecRegistries.fromProviders(Arrays.asList(
-            new ValueCodecProvider(),
-            new IterableCodecProvider(),
-            new BsonValueCodecProvider(),
-            new DocumentCodecProvider(),
-            new MapCodecProvider(),
-            new DBRefCodecProvider(),
-            new GeoJsonCodecProvider(),
-            new GridFSFileCodecProvider()));
-
-    private static final BsonTypeClassMap DEFAULT_BSON_TYPE_CLASS_MAP = new org.bson.codecs.BsonTypeClassMap();
+    // Following a cursor stops once the batches fetched so far add up to this many bytes, whatever the document limit
+    private static final long MAX_CURSOR_RESULT_BYTES = 64L * 1024 * 1024;
 
     public MongoPlugin(PluginWrapper wrapper) {
         super(wrapper);
@@ -305,10 +291,11 @@ public class MongoPlugin extends BasePlugin {
                 log.info("Encountered null connection in MongoDB plugin. Reporting back.");
                 throw new StaleConnectionException(MONGO_CLIENT_NULL_ERROR_MSG);
             }
-            Mono<Document> mongoOutputMono;
+            Mono<RawBsonDocument> mongoOutputMono;
             ActionExecutionResult result = new ActionExecutionResult();
             String query;
             List<RequestParamDTO> requestParams;
+            int maxDocuments;
             try {
                 MongoDatabase database = mongoClient.getDatabase(getDatabaseName(datasourceConfiguration));
 
@@ -317,7 +304,8 @@ public class MongoPlugin extends BasePlugin {
                 query = PluginUtils.getDataValueSafelyFromFormData(formData, BODY, STRING_TYPE);
                 Bson command = Document.parse(query);
 
-                mongoOutputMono = Mono.from(database.runCommand(command));
+                maxDocuments = getMaxDocuments(formData);
+                mongoOutputMono = Mono.from(database.runCommand(command, RawBsonDocument.class));
                 requestParams = List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY, query, null, null, null));
             } catch (Exception error) {
                 return Mono.error(new AppsmithPluginException(
@@ -348,100 +336,101 @@ public class MongoPlugin extends BasePlugin {
                     .onErrorMap(
                             MongoSocketWriteException.class, error -> new StaleConnectionException(error.getMessage()))
                     .flatMap(mongoOutput -> {
-                        try {
-                            /*
-                             * Added Custom codec for JSON conversion since MongoDB Reactive API does not support
-                             * processing of DbRef Object.
-                             * https://github.com/spring-projects/spring-data-mongodb/issues/3015 : Mark Paluch commented
-                             */
-                            DocumentCodec documentCodec =
-                                    new DocumentCodec(DEFAULT_REGISTRY, DEFAULT_BSON_TYPE_CLASS_MAP);
-
-                            JSONObject outputJson = new JSONObject(mongoOutput.toJson(documentCodec));
-
-                            // The output json contains the key "ok". This is the status of the command
-                            BigInteger status = outputJson.getBigInteger("ok");
-                            JSONArray headerArray = new JSONArray();
-
-                            if (BigInteger.ONE.equals(status)) {
-                                result.setIsExecutionSuccess(true);
-                                result.setDataTypes(List.of(
-                                        new ParsedDataType(DisplayDataType.JSON),
-                                        new ParsedDataType(DisplayDataType.RAW)));
-
-                                /*
-                                 For the `findAndModify` command, we don't get the count of modifications made. Instead,
-                                 we either get the modified new value or the pre-modified old value (depending on the
-                                 `new` field in the command. Let's return that value to the user.
-                                */
-                                if (outputJson.has(VALUE)) {
-                                    result.setBody(objectMapper.readTree(
-                                            cleanUp(new JSONObject().put(VALUE, outputJson.get(VALUE)))
-                                                    .toString()));
-                                }
+                        /*
+                         The output is read straight from its BSON bytes into Jackson nodes, rather than being rendered
+                         as JSON and parsed back. This also takes care of DBRefs, which the default codecs of the
+                         reactive driver can't render.
+                        */
+                        // The output contains the key "ok". This is the status of the command
+                        int status = mongoOutput.getNumber("ok").intValue();
+                        ArrayNode headerArray = objectMapper.createArrayNode();
+                        BsonDocument cursor = null;
+
+                        if (status == 1) {
+                            result.setIsExecutionSuccess(true);
+                            result.setDataTypes(List.of(
+                                    new ParsedDataType(DisplayDataType.JSON), new ParsedDataType(DisplayDataType.RAW)));
 
-                                /*
-                                 The json contains key "cursor" when find command was issued and there are 1 or more
-                                 results. In case there are no results for find, this key is not present in the result json.
-                                */
-                                if (outputJson.has("cursor")) {
-                                    JSONArray outputResult = (JSONArray) cleanUp(
-                                            outputJson.getJSONObject("cursor").getJSONArray("firstBatch"));
-                                    result.setBody(objectMapper.readTree(outputResult.toString()));
-                                }
+                            /*
+                             For the `findAndModify` command, we don't get the count of modifications made. Instead,
+                             we either get the modified new value or the pre-modified old value (depending on the
+                             `new` field in the command. Let's return that value to the user.
+                            */
+                            if (mongoOutput.containsKey(VALUE)) {
+                                ObjectNode body = objectMapper.createObjectNode();
+                                body.set(VALUE, readField(mongoOutput, VALUE));
+                                result.setBody(body);
+                            }
 
-                                /*
-                                 The json contains key "n" when insert/update command is issued. "n" for update
-                                 signifies the no of documents selected for update. "n" in case of insert signifies the
-                                 number of documents inserted.
-                                */
-                                if (outputJson.has("n")) {
-                                    JSONObject body = new JSONObject().put("n", outputJson.getBigInteger("n"));
-                                    result.setBody(objectMapper.readTree(body.toString()));
-                                    headerArray.put(body);
-                                }
+                            /*
+                             The json contains key "cursor" when find command was issued and there are 1 or more
+                             results. In case there are no results for find, this key is not present in the result json.
+                            */
+                            if (mongoOutput.containsKey(CURSOR)) {
+                                cursor = mongoOutput.getDocument(CURSOR);
+                                result.setBody(readField(cursor, FIRST_BATCH));
+                            }
 
-                                /*
-                                 The json key contains key "nModified" in case of update command. This signifies the no of
-                                 documents updated.
-                                */
-                                if (outputJson.has(N_MODIFIED)) {
-                                    JSONObject body =
-                                            new JSONObject().put(N_MODIFIED, outputJson.getBigInteger(N_MODIFIED));
-                                    result.setBody(objectMapper.readTree(body.toString()));
-                                    headerArray.put(body);
-                                }
+                            /*
+                             The json contains key "n" when insert/update command is issued. "n" for update
+                             signifies the no of documents selected for update. "n" in case of insert signifies the
+                             number of documents inserted.
+                            */
+                            if (mongoOutput.containsKey("n")) {
+                                ObjectNode body = objectMapper.createObjectNode();
+                                body.set("n", readField(mongoOutput, "n"));
+                                result.setBody(body);
+                                headerArray.add(body.deepCopy());
+                            }
 
-                                /*
-                                 The json contains key "values" when distinct command is used.
-                                */
-                                if (outputJson.has(VALUES)) {
-                                    JSONArray outputResult = (JSONArray) cleanUp(outputJson.getJSONArray(VALUES));
+                            /*
+                             The json key contains key "nModified" in case of update command. This signifies the no of
+                             documents updated.
+                            */
+                            if (mongoOutput.containsKey(N_MODIFIED)) {
+                                ObjectNode body = objectMapper.createObjectNode();
+                                body.set(N_MODIFIED, readField(mongoOutput, N_MODIFIED));
+                                result.setBody(body);
+                                headerArray.add(body.deepCopy());
+                            }
 
-                                    ObjectNode resultNode = objectMapper.createObjectNode();
+                            /*
+                             The json contains key "values" when distinct command is used.
+                            */
+                            if (mongoOutput.containsKey(VALUES)) {
+                                // Create a JSON structure with the results stored with a key to abide by the
+                                // Server-Client contract of only sending array of objects in result.
+                                ObjectNode resultNode = objectMapper.createObjectNode();
+                                resultNode.set(VALUES, readField(mongoOutput, VALUES));
+                                result.setBody(resultNode);
+                            }
 
-                                    // Create a JSON structure with the results stored with a key to abide by the
-                                    // Server-Client contract of only sending array of objects in result.
-                                    resultNode.putArray(VALUES).addAll((ArrayNode)
-                                            objectMapper.readTree(outputResult.toString()));
+                            /*
+                            TODO Go through all the possible fields that are returned in the output JSON and add all the fields
+                             that are important to the headerArray.
+                             */
+                        }
 
-                                    result.setBody(objectMapper.readTree(resultNode.toString()));
-                                }
+                        headerArray.add(objectMapper.createObjectNode().put("ok", status));
+                        result.setHeaders(headerArray);
 
-                                /*
-                                TODO Go through all the possible fields that are returned in the output JSON and add all the fields
-                                 that are important to the headerArray.
-                                 */
+                        // Only the first batch of a cursor is returned, unless the user asked for more documents
+                        if (cursor != null && maxDocuments > 0 && result.getBody() instanceof ArrayNode firstBatch) {
+                            // The first batch may already hold more documents than asked for
+                            while (firstBatch.size() > maxDocuments) {
+                                firstBatch.remove(firstBatch.size() - 1);
                             }
-
-                            JSONObject statusJson = new JSONObject().put("ok", status);
-                            headerArray.put(statusJson);
-                            result.setHeaders(objectMapper.readTree(headerArray.toString()));
-                        } catch (JsonProcessingException e) {
-                            return Mono.error(new AppsmithPluginException(
-                                    MongoPluginError.QUERY_EXECUTION_FAILED,
-                                    MongoPluginErrorMessages.QUERY_EXECUTION_FAILED_ERROR_MSG,
-                                    e.getMessage()));
+                            return fetchRemainingBatches(
+                                            mongoClient,
+                                            cursor.getString(NAMESPACE).getValue(),
+                                            cursor.getNumber(CURSOR_ID).longValue(),
+                                            firstBatch,
+                                            mongoOutput.getByteBuffer().remaining(),
+                                            maxDocuments)
+                                    .map(documents -> {
+                                        result.setBody(documents);
+                                        return result;
+                                    });
                         }
 
                         return Mono.just(result);
@@ -477,6 +466,77 @@ public class MongoPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        /**
+         * Returns the number of documents to fetch by following the cursor of a find or aggregate command, or 0 if only
+         * the first batch of the cursor should be returned.
+         */
+        private static int getMaxDocuments(Map<String, Object> formData) {
+            final Object maxDocuments = getDataValueSafelyFromFormData(formData, MAX_DOCUMENTS, OBJECT_TYPE);
+            if (maxDocuments instanceof Number) {
+                return ((Number) maxDocuments).intValue();
+            } else if (maxDocuments instanceof String && StringUtils.hasText((String) maxDocuments)) {
+                try {
+                    return Integer.parseInt(((String) maxDocuments).trim());
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException(
+                            String.format(MongoPluginErrorMessages.INVALID_MAX_DOCUMENTS_ERROR_MSG, maxDocuments));
+                }
+            }
+            return 0;
+        }
+
+        /**
+         * Follows a cursor with getMore commands and appends the documents of every batch to the given ones, until the
+         * cursor is exhausted, or there are as many documents as asked for, or the batches add up to
+         * {@link #MAX_CURSOR_RESULT_BYTES}. A cursor that isn't exhausted by then is killed, so that it doesn't linger on
+         * the server until it times out.
+         */
+        private Mono<ArrayNode> fetchRemainingBatches(
+                MongoClient mongoClient,
+                String namespace,
+                long cursorId,
+                ArrayNode documents,
+                long bytesRead,
+                int maxDocuments) {
+            if (cursorId == 0) {
+                return Mono.just(documents);
+            }
+
+            // The namespace of a cursor is of the form <database>.<collection>, and collection names may contain dots
+            final int separatorIndex = namespace.indexOf('.');
+            final MongoDatabase database = mongoClient.getDatabase(namespace.substring(0, separatorIndex));
+            final String collectionName = namespace.substring(separatorIndex + 1);
+
+            if (documents.size() >= maxDocuments || bytesRead >= MAX_CURSOR_RESULT_BYTES) {
+                Document killCursors = new Document("killCursors", collectionName).append("cursors", List.of(cursorId));
+                return Mono.from(database.runCommand(killCursors))
+                        .onErrorResume(error -> {
+                            log.debug("Failed to kill the Mongo cursor {} on {}", cursorId, namespace, error);
+                            return Mono.empty();
+                        })
+                        .thenReturn(documents);
+            }
+
+            Document getMore = new Document("getMore", cursorId)
+                    .append("collection", collectionName)
+                    .append("batchSize", maxDocuments - documents.size());
+            return Mono.from(database.runCommand(getMore, RawBsonDocument.class))
+                    .flatMap(mongoOutput -> {
+                        BsonDocument cursor = mongoOutput.getDocument(CURSOR);
+                        JsonNode nextBatch = readField(cursor, NEXT_BATCH);
+                        if (nextBatch instanceof ArrayNode) {
+                            documents.addAll((ArrayNode) nextBatch);
+                        }
+                        return fetchRemainingBatches(
+                                mongoClient,
+                                namespace,
+                                cursor.getNumber(CURSOR_ID).longValue(),
+                                documents,
+                                bytesRead + mongoOutput.getByteBuffer().remaining(),
+                                maxDocuments);
+                    });
+        }
+
         /**
          * This method is part of the pre-processing of the replacement value before the final substitution that
          * happens as part of smart substitution process.
@@ -1008,54 +1068,4 @@ public class MongoPlugin extends BasePlugin {
             }
         }
     }
-
-    private static Object cleanUp(Object object) {
-        if (object instanceof JSONObject) {
-            JSONObject jsonObject = (JSONObject) object;
-            final boolean isSingleKey = jsonObject.keySet().size() == 1;
-
-            if (isSingleKey && "$numberLong".equals(jsonObject.keys().next())) {
-                return jsonObject.getBigInteger("$numberLong");
-
-            } else if (isSingleKey && "$oid".equals(jsonObject.keys().next())) {
-                return jsonObject.getString("$oid");
-
-            } else if (isSingleKey && "$date".equals(jsonObject.keys().next())) {
-                JSONObject dateJSON = jsonObject.optJSONObject("$date");
-                /*
-                    For dates before Jan 1, 1970 then the output json from MongoDB driver looks like
-                    "$date": {
-                        "$numberLong": "-493033770000"
-                    }
-                    And for dates on or after Jan 1, 1970 the output json from MongoDB driver is readily available and looks like
-                    "$date": "2022-07-01T10:32:37.318Z"
-                */
-                if (dateJSON != null
-                        && dateJSON.keySet().size() == 1
-                        && "$numberLong".equals(dateJSON.keys().next())) {
-                    return DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochMilli(dateJSON.getLong("$numberLong")));
-                }
-                return DateTimeFormatter.ISO_INSTANT.format(Instant.parse(jsonObject.getString("$date")));
-
-            } else if (isSingleKey && "$numberDecimal".equals(jsonObject.keys().next())) {
-                return new BigDecimal(jsonObject.getString("$numberDecimal"));
-
-            } else {
-                for (String key : new HashSet<>(jsonObject.keySet())) {
-                    jsonObject.put(key, cleanUp(jsonObject.get(key)));
-                }
-            }
-
-        } else if (object instanceof JSONArray) {
-            Collection<Object> cleaned = new ArrayList<>();
-
-            for (Object child : (JSONArray) object) {
-                cleaned.add(cleanUp(child));
-            }
-
-            return new JSONArray(cleaned);
-        }
-
-        return object;
-    }
 }
@@ -1,163 +1,163 @@
-package com.external.plugins.commands;
-
-import com.appsmith.external.helpers.PluginUtils;
-import com.appsmith.external.models.ActionConfiguration;
-import com.appsmith.external.models.DatasourceStructure;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
-import org.bson.Document;
-import org.pf4j.util.StringUtils;
-
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-
-import static com.appsmith.external.helpers.PluginUtils.STRING_TYPE;
-import static com.appsmith.external.helpers.PluginUtils.setDataValueSafelyInFormData;
-import static com.appsmith.external.helpers.PluginUtils.validConfigurationPresentInFormData;
-import static com.external.plugins.constants.FieldName.BODY;
-import static com.external.plugins.constants.FieldName.COLLECTION;
-import static com.external.plugins.constants.FieldName.COMMAND;
-import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
-import static com.external.plugins.constants.FieldName.UPDATE_LIMIT;
-import static com.external.plugins.constants.FieldName.UPDATE_OPERATION;
-import static com.external.plugins.constants.FieldName.UPDATE_QUERY;
-import static com.external.plugins.utils.MongoPluginUtils.parseSafely;
-import static com.external.plugins.utils.MongoPluginUtils.parseSafelyDocumentAndArrayOfDocuments;
-
-@Getter
-@Setter
-@NoArgsConstructor
-public class UpdateMany extends MongoCommand {
-    String query;
-    String update;
-    Boolean multi = Boolean.FALSE;
-
-    public UpdateMany(ActionConfiguration actionConfiguration) {
-        super(actionConfiguration);
-
-        Map<String, Object> formData = actionConfiguration.getFormData();
-
-        if (validConfigurationPresentInFormData(formData, UPDATE_QUERY)) {
-            this.query = PluginUtils.getDataValueSafelyFromFormData(formData, UPDATE_QUERY, STRING_TYPE);
-        }
-
-        if (validConfigurationPresentInFormData(formData, UPDATE_OPERATION)) {
-            this.update = PluginUtils.getDataValueSafelyFromFormData(formData, UPDATE_OPERATION, STRING_TYPE);
-        }
-
-        // Default for this is 1 to indicate updating only one document at a time.
-        if (validConfigurationPresentInFormData(formData, UPDATE_LIMIT)) {
-            String limitOption = PluginUtils.getDataValueSafelyFromFormData(formData, UPDATE_LIMIT, STRING_TYPE);
-            if ("ALL".equals(limitOption)) {
-                this.multi = Boolean.TRUE;
-            }
-        }
-    }
-
-    @Override
-    public Boolean isValid() {
-        if (super.isValid()) {
-            if (!StringUtils.isNullOrEmpty(query) && !StringUtils.isNullOrEmpty(update)) {
-                return Boolean.TRUE;
-            } else {
-                // Not adding smart defaults for query due to data impact
-                if (StringUtils.isNullOrEmpty(query)) {
-                    fieldNamesWithNoConfiguration.add("Query");
-                }
-                // Not adding smart defaults for query due to data impact
-                if (StringUtils.isNullOrEmpty(update)) {
-                    fieldNamesWithNoConfiguration.add("Update");
-                }
-            }
-        }
-        return Boolean.FALSE;
-    }
-
-    @Override
-    public Document parseCommand() {
-        Document document = new Document();
-
-        document.put("update", this.collection);
-
-        Document queryDocument = parseSafely("Query", this.query);
-
-        Object updateDocument = parseSafelyDocumentAndArrayOfDocuments("Update", this.update);
-
-        Document update = new Document();
-        update.put("q", queryDocument);
-        update.put("u", updateDocument);
-        update.put("multi", multi);
-
-        List<Document> updates = new ArrayList<>();
-        updates.add(update);
-
-        document.put("updates", updates);
-
-        return document;
-    }
-
-    @Override
-    public List<DatasourceStructure.Template> generateTemplate(Map<String, Object> templateConfiguration) {
-        String collectionName = (String) templateConfiguration.get("collectionName");
-        String filterFieldName = (String) templateConfiguration.get("filterFieldName");
-
-        Map<String, Object> configMap = new HashMap<>();
-
-        setDataValueSafelyInFormData(configMap, SMART_SUBSTITUTION, Boolean.TRUE);
-        setDataValueSafelyInFormData(configMap, COMMAND, "UPDATE");
-        setDataValueSafelyInFormData(configMap, COLLECTION, collectionName);
-        setDataValueSafelyInFormData(configMap, UPDATE_QUERY, "{ \"_id\": ObjectId(\"id_of_document_to_update\") }");
-        setDataValueSafelyInFormData(
-                configMap, UPDATE_OPERATION, "{ \"$set\": { \"" + filterFieldName + "\": \"new value\" } }");
-        setDataValueSafelyInFormData(configMap, UPDATE_LIMIT, "ALL");
-
-        String rawQuery = "{\n" + "  \"update\": \""
-                + collectionName + "\",\n" + "  \"updates\": [\n"
-                + "    {\n"
-                + "      \"q\": {\n"
-                + "        \"_id\": ObjectId(\"id_of_document_to_update\")\n"
-                + "      },\n"
-                + "      \"u\": { \"$set\": { \""
-                + filterFieldName + "\": \"new value\" } }\n" + "    }\n"
-                + "  ]\n"
-                + "}\n";
-        setDataValueSafelyInFormData(configMap, BODY, rawQuery);
-
-        return Collections.singletonList(new DatasourceStructure.Template("Update", null, configMap));
-    }
-
-    /**
-     * This method coverts Mongo plugin's form inputs to Mongo's native query. Currently, it is meant to help users
-     * switch easily from form based input to raw input mode by providing a readily available translation of the form
-     * data to raw query.
-     * The `parseCommand` method defined in this class could not be used since it tries to parse and validate the form
-     * data and fails if the data is bad or if it contains mustache binding. However, this is not the desired behavior
-     * wrt the use case this method is intended to solve i.e. we should be able to covert the form data to raw query
-     * irrespective of whether the data provided by the user is valid or not since we are not trying to execute it
-     * immediately.
-     * When writing this method the following two alternative implementations were also considered - using JSONObject
-     * and JsonNode. The issue with JSONObject is that it does not maintain the keys in order, which causes the final
-     * query to fail since order of keys is essential - e.g. `find` must be the first key in the native query for
-     * Mongo to recognize it as a valid command. JsonNode could not be used because it would enclose all values
-     * inside double quotes - which is not a true translation of what the user might have fed into the form.
-     * @return : Mongo's native query
-     */
-    @Override
-    public String getRawQuery() {
-        StringBuilder sb = new StringBuilder();
-        sb.append("{\n");
-        sb.append("  \"update\": \"" + this.collection + "\",\n");
-        sb.append("  \"updates\": [{\n");
-        sb.append("    \"q\": " + this.query + ",\n");
-        sb.append("    \"u\": " + this.update + ",\n");
-        sb.append("    \"multi\": " + this.multi + ",\n");
-        sb.append("  }]\n");
-        sb.append("}\n");
-
-        return sb.toString();
-    }
-}
+package com.external.plugins.commands;
+
+import com.appsmith.external.helpers.PluginUtils;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.DatasourceStructure;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.bson.Document;
+import org.pf4j.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.appsmith.external.helpers.PluginUtils.STRING_TYPE;
+import static com.appsmith.external.helpers.PluginUtils.setDataValueSafelyInFormData;
+import static com.appsmith.external.helpers.PluginUtils.validConfigurationPresentInFormData;
+import static com.external.plugins.constants.FieldName.BODY;
+import static com.external.plugins.constants.FieldName.COLLECTION;
+import static com.external.plugins.constants.FieldName.COMMAND;
+import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
+import static com.external.plugins.constants.FieldName.UPDATE_LIMIT;
+import static com.external.plugins.constants.FieldName.UPDATE_OPERATION;
+import static com.external.plugins.constants.FieldName.UPDATE_QUERY;
+import static com.external.plugins.utils.MongoPluginUtils.parseSafely;
+import static com.external.plugins.utils.MongoPluginUtils.parseSafelyDocumentAndArrayOfDocuments;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class UpdateMany extends MongoCommand {
+    String query;
+    String update;
+    Boolean multi = Boolean.FALSE;
+
+    public UpdateMany(ActionConfiguration actionConfiguration) {
+        super(actionConfiguration);
+
+        Map<String, Object> formData = actionConfiguration.getFormData();
+
+        if (validConfigurationPresentInFormData(formData, UPDATE_QUERY)) {
+            this.query = PluginUtils.getDataValueSafelyFromFormData(formData, UPDATE_QUERY, STRING_TYPE);
+        }
+
+        if (validConfigurationPresentInFormData(formData, UPDATE_OPERATION)) {
+            this.update = PluginUtils.getDataValueSafelyFromFormData(formData, UPDATE_OPERATION, STRING_TYPE);
+        }
+
+        // Default for this is 1 to indicate updating only one document at a time.
+        if (validConfigurationPresentInFormData(formData, UPDATE_LIMIT)) {
+            String limitOption = PluginUtils.getDataValueSafelyFromFormData(formData, UPDATE_LIMIT, STRING_TYPE);
+            if ("ALL".equals(limitOption)) {
+                this.multi = Boolean.TRUE;
+            }
+        }
+    }
+
+    @Override
+    public Boolean isValid() {
+        if (super.isValid()) {
+            if (!StringUtils.isNullOrEmpty(query) && !StringUtils.isNullOrEmpty(update)) {
+                return Boolean.TRUE;
+            } else {
+                // Not adding smart defaults for query due to data impact
+                if (StringUtils.isNullOrEmpty(query)) {
+                    fieldNamesWithNoConfiguration.add("Query");
+                }
+                // Not adding smart defaults for query due to data impact
+                if (StringUtils.isNullOrEmpty(update)) {
+                    fieldNamesWithNoConfiguration.add("Update");
+                }
+            }
+        }
+        return Boolean.FALSE;
+    }
+
+    @Override
+    public Document parseCommand() {
+        Document document = new Document();
+
+        document.put("update", this.collection);
+
+        Document queryDocument = parseSafely("Query", this.query);
+
+        Object updateDocument = parseSafelyDocumentAndArrayOfDocuments("Update", this.update);
+
+        Document update = new Document();
+        update.put("q", queryDocument);
+        update.put("u", updateDocument);
+        update.put("multi", multi);
+
+        List<Document> updates = new ArrayList<>();
+        updates.add(update);
+
+        document.put("updates", updates);
+
+        return document;
+    }
+
+    @Override
+    public List<DatasourceStructure.Template> generateTemplate(Map<String, Object> templateConfiguration) {
+        String collectionName = (String) templateConfiguration.get("collectionName");
+        String filterFieldName = (String) templateConfiguration.get("filterFieldName");
+
+        Map<String, Object> configMap = new HashMap<>();
+
+        setDataValueSafelyInFormData(configMap, SMART_SUBSTITUTION, Boolean.TRUE);
+        setDataValueSafelyInFormData(configMap, COMMAND, "UPDATE");
+        setDataValueSafelyInFormData(configMap, COLLECTION, collectionName);
+        setDataValueSafelyInFormData(configMap, UPDATE_QUERY, "{ \"_id\": ObjectId(\"id_of_document_to_update\") }");
+        setDataValueSafelyInFormData(
+                configMap, UPDATE_OPERATION, "{ \"$set\": { \"" + filterFieldName + "\": \"new value\" } }");
+        setDataValueSafelyInFormData(configMap, UPDATE_LIMIT, "ALL");
+
+        String rawQuery = "{\n" + "  \"update\": \""
+                + collectionName + "\",\n" + "  \"updates\": [\n"
+                + "    {\n"
+                + "      \"q\": {\n"
+                + "        \"_id\": ObjectId(\"id_of_document_to_update\")\n"
+                + "      },\n"
+                + "      \"u\": { \"$set\": { \""
+                + filterFieldName + "\": \"new value\" } }\n" + "    }\n"
+                + "  ]\n"
+                + "}\n";
+        setDataValueSafelyInFormData(configMap, BODY, rawQuery);
+
+        return Collections.singletonList(new DatasourceStructure.Template("Update", null, configMap));
+    }
+
+    /**
+     * This method coverts Mongo plugin's form inputs to Mongo's native query. Currently, it is meant to help users
+     * switch easily from form based input to raw input mode by providing a readily available translation of the form
+     * data to raw query.
+     * The `parseCommand` method defined in this class could not be used since it tries to parse and validate the form
+     * data and fails if the data is bad or if it contains mustache binding. However, this is not the desired behavior
+     * wrt the use case this method is intended to solve i.e. we should be able to covert the form data to raw query
+     * irrespective of whether the data provided by the user is valid or not since we are not trying to execute it
+     * immediately.
+     * When writing this method the following two alternative implementations were also considered - using JSONObject
+     * and JsonNode. The issue with JSONObject is that it does not maintain the keys in order, which causes the final
+     * query to fail since order of keys is essential - e.g. `find` must be the first key in the native query for
+     * Mongo to recognize it as a valid command. JsonNode could not be used because it would enclose all values
+     * inside double quotes - which is not a true translation of what the user might have fed into the form.
+     * @return : Mongo's native query
+     */
+    @Override
+    public String getRawQuery() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\n");
+        sb.append("  \"update\": \"" + this.collection + "\",\n");
+        sb.append("  \"updates\": [{\n");
+        sb.append("    \"q\": " + this.query + ",\n");
+        sb.append("    \"u\": " + this.update + ",\n");
+        sb.append("    \"multi\": " + this.multi + ",\n");
+        sb.append("  }]\n");
+        sb.append("}\n");
+
+        return sb.toString();
+    }
+}
@@ -0,0 +1,220 @@
+package com.external.plugins.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.bson.BsonBinary;
+import org.bson.BsonDbPointer;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonReader;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonTimestamp;
+import org.bson.BsonType;
+import org.bson.RawBsonDocument;
+import org.bson.types.Decimal128;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+
+/**
+ * Translates BSON straight into Jackson nodes, while walking it with a {@link BsonReader}. This replaces rendering the
+ * command output as extended JSON, parsing it with org.json, cleaning it up and parsing it again with Jackson.
+ * <p>
+ * The output is the same as the one of that pipeline: ObjectIds are rendered as their hex strings, dates as ISO
+ * instants and Decimal128 values as numbers, while the rest of the types that have no JSON equivalent keep their
+ * relaxed extended JSON form, e.g. `{"$timestamp": {"t": 1, "i": 1}}`. Numbers are rendered the way org.json used to
+ * print them, so integral doubles like `1.0` come out as `1`.
+ */
+public class BsonToJsonNodeConverter {
+
+    private static final JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+
+    private BsonToJsonNodeConverter() {}
+
+    /**
+     * Returns the value of the given top level field of the document, or null if the document has no such field.
+     */
+    public static JsonNode readField(BsonDocument document, String fieldName) {
+        final BsonReader reader = getReader(document);
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            if (fieldName.equals(reader.readName())) {
+                return readValue(reader);
+            }
+            reader.skipValue();
+        }
+        return null;
+    }
+
+    public static ObjectNode toJsonNode(BsonDocument document) {
+        return readDocument(getReader(document));
+    }
+
+    private static BsonReader getReader(BsonDocument document) {
+        // Raw documents are read straight from their bytes, without decoding them into BsonValues first
+        return document instanceof RawBsonDocument rawBsonDocument
+                ? rawBsonDocument.asBsonReader()
+                : new BsonDocumentReader(document);
+    }
+
+    private static ObjectNode readDocument(BsonReader reader) {
+        final ObjectNode objectNode = nodeFactory.objectNode();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            final String name = reader.readName();
+            objectNode.set(name, readValue(reader));
+        }
+        reader.readEndDocument();
+        return objectNode;
+    }
+
+    private static ArrayNode readArray(BsonReader reader) {
+        final ArrayNode arrayNode = nodeFactory.arrayNode();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            arrayNode.add(readValue(reader));
+        }
+        reader.readEndArray();
+        return arrayNode;
+    }
+
+    private static JsonNode readValue(BsonReader reader) {
+        switch (reader.getCurrentBsonType()) {
+            case DOCUMENT:
+                return readDocument(reader);
+            case ARRAY:
+                return readArray(reader);
+            case STRING:
+                return nodeFactory.textNode(reader.readString());
+            case BOOLEAN:
+                return nodeFactory.booleanNode(reader.readBoolean());
+            case NULL:
+                reader.readNull();
+                return nodeFactory.nullNode();
+            case INT32:
+                return nodeFactory.numberNode(reader.readInt32());
+            case INT64:
+                return toNumberNode(Long.toString(reader.readInt64()));
+            case DOUBLE:
+                return toDoubleNode(reader.readDouble());
+            case DECIMAL128:
+                return toDecimalNode(reader.readDecimal128());
+            case OBJECT_ID:
+                return nodeFactory.textNode(reader.readObjectId().toHexString());
+            case DATE_TIME:
+                return nodeFactory.textNode(
+                        DateTimeFormatter.ISO_INSTANT.format(Instant.ofEpochMilli(reader.readDateTime())));
+            case BINARY:
+                final BsonBinary binary = reader.readBinaryData();
+                return wrap(
+                        "$binary",
+                        nodeFactory
+                                .objectNode()
+                                .put("base64", Base64.getEncoder().encodeToString(binary.getData()))
+                                .put("subType", String.format("%02X", binary.getType())));
+            case TIMESTAMP:
+                final BsonTimestamp timestamp = reader.readTimestamp();
+                final ObjectNode timestampNode = nodeFactory.objectNode();
+                timestampNode.set("t", toNumberNode(Integer.toUnsignedString(timestamp.getTime())));
+                timestampNode.set("i", toNumberNode(Integer.toUnsignedString(timestamp.getInc())));
+                return wrap("$timestamp", timestampNode);
+            case REGULAR_EXPRESSION:
+                final BsonRegularExpression regularExpression = reader.readRegularExpression();
+                return wrap(
+                        "$regularExpression",
+                        nodeFactory
+                                .objectNode()
+                                .put("pattern", regularExpression.getPattern())
+                                .put("options", regularExpression.getOptions()));
+            case JAVASCRIPT:
+                return nodeFactory.objectNode().put("$code", reader.readJavaScript());
+            case JAVASCRIPT_WITH_SCOPE:
+                final ObjectNode codeWithScopeNode =
+                        nodeFactory.objectNode().put("$code", reader.readJavaScriptWithScope());
+                codeWithScopeNode.set("$scope", readDocument(reader));
+                return codeWithScopeNode;
+            case SYMBOL:
+                return nodeFactory.objectNode().put("$symbol", reader.readSymbol());
+            case DB_POINTER:
+                final BsonDbPointer dbPointer = reader.readDBPointer();
+                return nodeFactory
+                        .objectNode()
+                        .put("$ref", dbPointer.getNamespace())
+                        .put("$id", dbPointer.getId().toHexString());
+            case MIN_KEY:
+                reader.readMinKey();
+                return nodeFactory.objectNode().put("$minKey", 1);
+            case MAX_KEY:
+                reader.readMaxKey();
+                return nodeFactory.objectNode().put("$maxKey", 1);
+            case UNDEFINED:
+                reader.readUndefined();
+                return nodeFactory.objectNode().put("$undefined", true);
+            default:
+                throw new IllegalStateException("Unsupported BSON type: " + reader.getCurrentBsonType());
+        }
+    }
+
+    private static ObjectNode wrap(String key, JsonNode value) {
+        final ObjectNode objectNode = nodeFactory.objectNode();
+        objectNode.set(key, value);
+        return objectNode;
+    }
+
+    private static JsonNode toDoubleNode(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return nodeFactory.objectNode().put("$numberDouble", Double.toString(value));
+        }
+        return toNumberNode(new BigDecimal(Double.toString(value)));
+    }
+
+    private static JsonNode toDecimalNode(Decimal128 value) {
+        if (value.isNaN() || value.isInfinite()) {
+            return nodeFactory.objectNode().put("$numberDecimal", value.toString());
+        }
+        // Decimal128#bigDecimalValue refuses negative zero, which BigDecimal can parse
+        return toNumberNode(new BigDecimal(value.toString()));
+    }
+
+    /**
+     * org.json parses every decimal into a BigDecimal, and prints it without its trailing zeros, and without the decimal
+     * point if nothing is left after it. So `1.0` is printed as `1`, and `1.0E7` as `1.0E+7`.
+     */
+    private static JsonNode toNumberNode(BigDecimal value) {
+        final String number = value.toString();
+        if (number.indexOf('.') < 0 || number.indexOf('E') >= 0) {
+            return toNumberNode(number);
+        }
+        int end = number.length();
+        while (number.charAt(end - 1) == '0') {
+            end--;
+        }
+        if (number.charAt(end - 1) == '.') {
+            end--;
+        }
+        return toNumberNode(number.substring(0, end));
+    }
+
+    /**
+     * Creates the node that Jackson would create when parsing the given number, i.e. the smallest integral node that
+     * can hold integers, and a double node for everything else.
+     */
+    private static JsonNode toNumberNode(String number) {
+        if (number.indexOf('.') >= 0 || number.indexOf('e') >= 0 || number.indexOf('E') >= 0) {
+            return nodeFactory.numberNode(Double.parseDouble(number));
+        }
+
+        final BigInteger integer = new BigInteger(number);
+        if (integer.bitLength() < Integer.SIZE) {
+            return nodeFactory.numberNode(integer.intValue());
+        } else if (integer.bitLength() < Long.SIZE) {
+            return nodeFactory.numberNode(integer.longValue());
+        }
+        return nodeFactory.numberNode(integer);
+    }
+}
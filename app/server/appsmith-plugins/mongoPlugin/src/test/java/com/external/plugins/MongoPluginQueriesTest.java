@@ -52,6 +52,7 @@ import static com.external.plugins.constants.FieldName.FIND_PROJECTION;
 import static com.external.plugins.constants.FieldName.FIND_QUERY;
 import static com.external.plugins.constants.FieldName.FIND_SORT;
 import static com.external.plugins.constants.FieldName.INSERT_DOCUMENT;
+import static com.external.plugins.constants.FieldName.MAX_DOCUMENTS;
 import static com.external.plugins.constants.FieldName.SMART_SUBSTITUTION;
 import static com.external.plugins.constants.FieldName.UPDATE_OPERATION;
 import static com.external.plugins.constants.FieldName.UPDATE_QUERY;
@@ -202,6 +203,69 @@ public class MongoPluginQueriesTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testExecuteReadQuery_withMaxDocuments_followsCursorPastFirstBatch() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<MongoClient> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, SMART_SUBSTITUTION, Boolean.TRUE);
+        setDataValueSafelyInFormData(configMap, COMMAND, "RAW");
+        setDataValueSafelyInFormData(
+                configMap,
+                BODY,
+                "{\n" + "      find: \"users\",\n" + "      sort: { age: 1 },\n" + "      batchSize: 1,\n" + "    }");
+        setDataValueSafelyInFormData(configMap, MAX_DOCUMENTS, "2");
+        actionConfiguration.setFormData(configMap);
+
+        Mono<Object> executeMono = dsConnectionMono.flatMap(conn ->
+                pluginExecutor.executeParameterized(conn, new ExecuteActionDTO(), dsConfig, actionConfiguration));
+
+        StepVerifier.create(executeMono)
+                .assertNext(obj -> {
+                    ActionExecutionResult result = (ActionExecutionResult) obj;
+                    assertTrue(result.getIsExecutionSuccess());
+                    // The first batch holds a single document, the second one comes from a getMore
+                    ArrayNode documents = (ArrayNode) result.getBody();
+                    assertEquals(2, documents.size());
+                    assertEquals(20, documents.get(0).get("age").asInt());
+                    assertEquals(30, documents.get(1).get("age").asInt());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testExecuteReadQuery_withMaxDocumentsBelowFirstBatch_truncatesFirstBatch() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<MongoClient> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        Map<String, Object> configMap = new HashMap<>();
+        setDataValueSafelyInFormData(configMap, SMART_SUBSTITUTION, Boolean.TRUE);
+        setDataValueSafelyInFormData(configMap, COMMAND, "RAW");
+        setDataValueSafelyInFormData(
+                configMap, BODY, "{\n" + "      find: \"users\",\n" + "      sort: { age: 1 },\n" + "    }");
+        setDataValueSafelyInFormData(configMap, MAX_DOCUMENTS, "1");
+        actionConfiguration.setFormData(configMap);
+
+        Mono<Object> executeMono = dsConnectionMono.flatMap(conn ->
+                pluginExecutor.executeParameterized(conn, new ExecuteActionDTO(), dsConfig, actionConfiguration));
+
+        StepVerifier.create(executeMono)
+                .assertNext(obj -> {
+                    ActionExecutionResult result = (ActionExecutionResult) obj;
+                    assertTrue(result.getIsExecutionSuccess());
+                    // The first batch holds all the users, but only as many as asked for are returned
+                    ArrayNode documents = (ArrayNode) result.getBody();
+                    assertEquals(1, documents.size());
+                    assertEquals(20, documents.get(0).get("age").asInt());
+                })
+                .verifyComplete();
+    }
+
     @Test
     public void testExecuteInvalidReadQuery() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
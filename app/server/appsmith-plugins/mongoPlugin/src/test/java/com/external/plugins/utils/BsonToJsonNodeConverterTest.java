@@ -0,0 +1,122 @@
+package com.external.plugins.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.bson.BsonDbPointer;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonTimestamp;
+import org.bson.BsonUndefined;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.Binary;
+import org.bson.types.Code;
+import org.bson.types.CodeWithScope;
+import org.bson.types.Decimal128;
+import org.bson.types.MaxKey;
+import org.bson.types.MinKey;
+import org.bson.types.ObjectId;
+import org.bson.types.Symbol;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class BsonToJsonNodeConverterTest {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final ObjectId OBJECT_ID = new ObjectId("62bed6b1f0f7e27a1c5a2f5c");
+
+    private static RawBsonDocument toRawBsonDocument(Document document) {
+        return new RawBsonDocument(document, new DocumentCodec());
+    }
+
+    /**
+     * The expected values are what rendering the document as relaxed extended JSON, cleaning it up with org.json and
+     * parsing it with Jackson used to produce. Node types are compared too, e.g. an IntNode doesn't equal a DoubleNode.
+     */
+    @Test
+    public void testToJsonNode_withEveryBsonType_matchesCleanedUpExtendedJson() throws Exception {
+        Document document = new Document()
+                .append("int32", 5)
+                .append("int64", 5L)
+                .append("bigInt64", 1L << 40)
+                .append("integralDouble", 1.0)
+                .append("negativeZero", -0.0)
+                .append("largeIntegralDouble", 12345678.0)
+                .append("double", 5.5)
+                .append("smallDouble", 1e-7)
+                .append("hugeDouble", 1e20)
+                .append("nan", Double.NaN)
+                .append("decimal", new Decimal128(new BigDecimal("1.50")))
+                .append("integralDecimal", new Decimal128(new BigDecimal("10")))
+                .append("scientificDecimal", new Decimal128(new BigDecimal("1E+3")))
+                .append("negativeZeroDecimal", Decimal128.NEGATIVE_ZERO)
+                .append("date", new Date(1656671557318L))
+                .append("dateWithoutMillis", new Date(1656671557000L))
+                .append("dateBeforeEpoch", new Date(-493033770000L))
+                .append("objectId", OBJECT_ID)
+                .append("string", "he\"llo")
+                .append("boolean", true)
+                .append("null", null)
+                .append("binary", new Binary((byte) 0, new byte[] {1, 2, 3}))
+                .append("timestamp", new BsonTimestamp(-5, 7))
+                .append("regex", new BsonRegularExpression("^a", "i"))
+                .append("code", new Code("function(){}"))
+                .append("codeWithScope", new CodeWithScope("x", new Document("a", OBJECT_ID)))
+                .append("symbol", new Symbol("s"))
+                .append("minKey", new MinKey())
+                .append("maxKey", new MaxKey())
+                .append("dbPointer", new BsonDbPointer("db.coll", OBJECT_ID))
+                .append("undefined", new BsonUndefined())
+                .append("array", List.of(1, "a", new Document("x", 2L)))
+                .append("notADate", new Document("$date", "notADate").append("k", 1));
+
+        JsonNode expected = objectMapper.readTree("{"
+                + "\"int32\": 5, \"int64\": 5, \"bigInt64\": 1099511627776, \"integralDouble\": 1, \"negativeZero\": 0,"
+                + "\"largeIntegralDouble\": 12345678, \"double\": 5.5, \"smallDouble\": 1.0E-7, \"hugeDouble\": 1.0E20,"
+                + "\"nan\": {\"$numberDouble\": \"NaN\"}, \"decimal\": 1.5, \"integralDecimal\": 10,"
+                + "\"scientificDecimal\": 1000.0, \"negativeZeroDecimal\": 0,"
+                + "\"date\": \"2022-07-01T10:32:37.318Z\", \"dateWithoutMillis\": \"2022-07-01T10:32:37Z\","
+                + "\"dateBeforeEpoch\": \"1954-05-18T14:10:30Z\", \"objectId\": \"62bed6b1f0f7e27a1c5a2f5c\","
+                + "\"string\": \"he\\\"llo\", \"boolean\": true, \"null\": null,"
+                + "\"binary\": {\"$binary\": {\"base64\": \"AQID\", \"subType\": \"00\"}},"
+                + "\"timestamp\": {\"$timestamp\": {\"t\": 4294967291, \"i\": 7}},"
+                + "\"regex\": {\"$regularExpression\": {\"pattern\": \"^a\", \"options\": \"i\"}},"
+                + "\"code\": {\"$code\": \"function(){}\"},"
+                + "\"codeWithScope\": {\"$code\": \"x\", \"$scope\": {\"a\": \"62bed6b1f0f7e27a1c5a2f5c\"}},"
+                + "\"symbol\": {\"$symbol\": \"s\"}, \"minKey\": {\"$minKey\": 1}, \"maxKey\": {\"$maxKey\": 1},"
+                + "\"dbPointer\": {\"$ref\": \"db.coll\", \"$id\": \"62bed6b1f0f7e27a1c5a2f5c\"},"
+                + "\"undefined\": {\"$undefined\": true}, \"array\": [1, \"a\", {\"x\": 2}],"
+                + "\"notADate\": {\"$date\": \"notADate\", \"k\": 1}"
+                + "}");
+
+        RawBsonDocument rawBsonDocument = toRawBsonDocument(document);
+        assertEquals(expected, BsonToJsonNodeConverter.toJsonNode(rawBsonDocument));
+        // Documents that were already decoded are read the same way
+        assertEquals(expected, BsonToJsonNodeConverter.toJsonNode(rawBsonDocument.decode(new BsonDocumentCodec())));
+    }
+
+    @Test
+    public void testReadField_readsOnlyTheGivenField() throws Exception {
+        RawBsonDocument output = toRawBsonDocument(new Document(
+                        "cursor",
+                        new Document("firstBatch", List.of(new Document("_id", OBJECT_ID)))
+                                .append("id", 0L)
+                                .append("ns", "db.users"))
+                .append("ok", 1.0));
+
+        assertEquals(
+                objectMapper.readTree(
+                        "{\"firstBatch\": [{\"_id\": \"62bed6b1f0f7e27a1c5a2f5c\"}], \"id\": 0, \"ns\": \"db.users\"}"),
+                BsonToJsonNodeConverter.readField(output, "cursor"));
+        assertEquals(objectMapper.readTree("1"), BsonToJsonNodeConverter.readField(output, "ok"));
+        assertNull(BsonToJsonNodeConverter.readField(output, "n"));
+    }
+}
@@ -1,10 +1,10 @@
-package com.external.plugins;
-
-import lombok.extern.slf4j.Slf4j;
-import org.testcontainers.junit.jupiter.Testcontainers;
-
-@Slf4j
-@Testcontainers
-public class OraclePluginTest {
-    // TODO: fill it
-}
+package com.external.plugins;
+
+import lombok.extern.slf4j.Slf4j;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@Slf4j
+@Testcontainers
+public class OraclePluginTest {
+    // TODO: fill it
+}
@@ -0,0 +1,104 @@
+package com.external.plugins.utils;
+
+import com.appsmith.external.helpers.ResultSizeEstimator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.postgresql.util.PGobject;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class PostgresResultSetUtils {
+
+    private static final String DATE_COLUMN_TYPE_NAME = "date";
+
+    private static final String TIMESTAMP_TYPE_NAME = "timestamp";
+
+    private static final String TIMESTAMPTZ_TYPE_NAME = "timestamptz";
+
+    private static final String TIME_TYPE_NAME = "time";
+
+    private static final String TIMETZ_TYPE_NAME = "timetz";
+
+    private static final String INTERVAL_TYPE_NAME = "interval";
+
+    private static final String JSON_TYPE_NAME = "json";
+
+    private static final String JSONB_TYPE_NAME = "jsonb";
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Reads the current row of the result set into a map of column names to values, in the order of the columns, and
+     * accounts for the size of every value in the given estimator.
+     */
+    public static Map<String, Object> readRow(
+            ResultSet resultSet, ResultSetMetaData metaData, ResultSizeEstimator resultSizeEstimator)
+            throws SQLException, IOException {
+        int colCount = metaData.getColumnCount();
+
+        // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
+        Map<String, Object> row = new LinkedHashMap<>(colCount);
+
+        for (int i = 1; i <= colCount; i++) {
+            Object value;
+            final String typeName = metaData.getColumnTypeName(i);
+
+            if (resultSet.getObject(i) == null) {
+                value = null;
+
+            } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                value = DateTimeFormatter.ISO_DATE.format(resultSet.getDate(i).toLocalDate());
+
+            } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                value = DateTimeFormatter.ISO_DATE_TIME.format(LocalDateTime.of(
+                                resultSet.getDate(i).toLocalDate(),
+                                resultSet.getTime(i).toLocalTime()))
+                        + "Z";
+
+            } else if (TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                value = DateTimeFormatter.ISO_DATE_TIME.format(resultSet.getObject(i, OffsetDateTime.class));
+
+            } else if (TIME_TYPE_NAME.equalsIgnoreCase(typeName) || TIMETZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                value = resultSet.getString(i);
+
+            } else if (INTERVAL_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                value = resultSet.getObject(i).toString();
+
+            } else if (typeName.startsWith("_")) {
+                value = resultSet.getArray(i).getArray();
+
+            } else if (JSON_TYPE_NAME.equalsIgnoreCase(typeName) || JSONB_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                value = objectMapper.readTree(resultSet.getString(i));
+            } else {
+                value = resultSet.getObject(i);
+
+                /**
+                 * Any type that JDBC does not understand gets mapped to PGobject. PGobject has
+                 * two attributes: type and value. Hence, when PGobject gets serialized, it gets
+                 * converted into a JSON like {"type":"citext", "value":"someText"}. Since we
+                 * are
+                 * only interested in the value and not the type, it makes sense to extract out
+                 * the value as a string.
+                 * Reference:
+                 * https://jdbc.postgresql.org/documentation/publicapi/org/postgresql/util/PGobject.html
+                 */
+                if (value instanceof PGobject) {
+                    value = ((PGobject) value).getValue();
+                }
+            }
+
+            final String columnName = metaData.getColumnName(i);
+            row.put(columnName, value);
+            resultSizeEstimator.addValue(columnName, value);
+        }
+
+        return row;
+    }
+}
@@ -1,17 +1,17 @@
-package com.appsmith.server;
-
-import org.springframework.boot.Banner;
-import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.boot.builder.SpringApplicationBuilder;
-import org.springframework.scheduling.annotation.EnableScheduling;
-
-@SpringBootApplication
-@EnableScheduling
-public class ServerApplication {
-
-    public static void main(String[] args) {
-        new SpringApplicationBuilder(ServerApplication.class)
-                .bannerMode(Banner.Mode.OFF)
-                .run(args);
-    }
-}
+package com.appsmith.server;
+
+import org.springframework.boot.Banner;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@SpringBootApplication
+@EnableScheduling
+public class ServerApplication {
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(ServerApplication.class)
+                .bannerMode(Banner.Mode.OFF)
+                .run(args);
+    }
+}
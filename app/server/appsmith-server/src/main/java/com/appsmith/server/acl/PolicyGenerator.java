@@ -1,7 +1,7 @@
-package com.appsmith.server.acl;
-
-import com.appsmith.server.acl.ce.PolicyGeneratorCE;
-import org.springframework.stereotype.Component;
-
-@Component
-public class PolicyGenerator extends PolicyGeneratorCE {}
+package com.appsmith.server.acl;
+
+import com.appsmith.server.acl.ce.PolicyGeneratorCE;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PolicyGenerator extends PolicyGeneratorCE {}
@@ -1,7 +1,7 @@
-package com.appsmith.server.acl;
-
-import com.appsmith.server.acl.ce.RoleGraphCE;
-import org.springframework.stereotype.Component;
-
-@Component
-public class RoleGraph extends RoleGraphCE {}
+package com.appsmith.server.acl;
+
+import com.appsmith.server.acl.ce.RoleGraphCE;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RoleGraph extends RoleGraphCE {}
@@ -1,7 +1,7 @@
-package com.appsmith.server.authentication.handlers;
-
-import com.appsmith.server.authentication.handlers.ce.AccessDeniedHandlerCE;
-import org.springframework.stereotype.Component;
-
-@Component
-public class AccessDeniedHandler extends AccessDeniedHandlerCE {}
+package com.appsmith.server.authentication.handlers;
+
+import com.appsmith.server.authentication.handlers.ce.AccessDeniedHandlerCE;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AccessDeniedHandler extends AccessDeniedHandlerCE {}
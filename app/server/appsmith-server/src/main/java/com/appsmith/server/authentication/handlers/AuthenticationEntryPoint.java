@@ -1,7 +1,7 @@
-package com.appsmith.server.authentication.handlers;
-
-import com.appsmith.server.authentication.handlers.ce.AuthenticationEntryPointCE;
-import org.springframework.stereotype.Component;
-
-@Component
-public class AuthenticationEntryPoint extends AuthenticationEntryPointCE {}
+package com.appsmith.server.authentication.handlers;
+
+import com.appsmith.server.authentication.handlers.ce.AuthenticationEntryPointCE;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AuthenticationEntryPoint extends AuthenticationEntryPointCE {}
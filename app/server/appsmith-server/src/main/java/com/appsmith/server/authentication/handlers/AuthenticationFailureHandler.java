@@ -1,9 +1,9 @@
-package com.appsmith.server.authentication.handlers;
-
-import com.appsmith.server.authentication.handlers.ce.AuthenticationFailureHandlerCE;
-import lombok.RequiredArgsConstructor;
-import org.springframework.stereotype.Component;
-
-@Component
-@RequiredArgsConstructor
-public class AuthenticationFailureHandler extends AuthenticationFailureHandlerCE {}
+package com.appsmith.server.authentication.handlers;
+
+import com.appsmith.server.authentication.handlers.ce.AuthenticationFailureHandlerCE;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class AuthenticationFailureHandler extends AuthenticationFailureHandlerCE {}
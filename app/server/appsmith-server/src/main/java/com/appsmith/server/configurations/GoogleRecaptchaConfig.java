@@ -1,18 +1,18 @@
-package com.appsmith.server.configurations;
-
-import lombok.Getter;
-import lombok.Setter;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.context.annotation.Configuration;
-
-@Getter
-@Setter
-@Configuration
-public class GoogleRecaptchaConfig {
-
-    @Value("${google.recaptcha.key.site}")
-    private String siteKey;
-
-    @Value("${google.recaptcha.key.secret}")
-    private String secretKey;
-}
+package com.appsmith.server.configurations;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+public class GoogleRecaptchaConfig {
+
+    @Value("${google.recaptcha.key.site}")
+    private String siteKey;
+
+    @Value("${google.recaptcha.key.secret}")
+    private String secretKey;
+}
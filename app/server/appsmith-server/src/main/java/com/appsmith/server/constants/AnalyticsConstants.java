@@ -1,8 +1,8 @@
-package com.appsmith.server.constants;
-
-import com.appsmith.server.constants.ce.AnalyticsConstantsCE;
-
-/**
- * Class to store instrumentation constants only
- */
-public class AnalyticsConstants extends AnalyticsConstantsCE {}
+package com.appsmith.server.constants;
+
+import com.appsmith.server.constants.ce.AnalyticsConstantsCE;
+
+/**
+ * Class to store instrumentation constants only
+ */
+public class AnalyticsConstants extends AnalyticsConstantsCE {}
@@ -1,6 +1,6 @@
-package com.appsmith.server.constants;
-
-public class ApiConstants {
-    public static final String DATE = "Date";
-    public static final String CLOUD_SERVICES_SIGNATURE = "X-Appsmith-CS-Signature";
-}
+package com.appsmith.server.constants;
+
+public class ApiConstants {
+    public static final String DATE = "Date";
+    public static final String CLOUD_SERVICES_SIGNATURE = "X-Appsmith-CS-Signature";
+}
@@ -1,8 +1,8 @@
-package com.appsmith.server.constants;
-
-public class ApplicationConstants {
-    public static final String[] APP_CARD_COLORS = {
-        "#FFDEDE", "#FFEFDB", "#F3F1C7", "#F4FFDE", "#C7F3F0", "#D9E7FF", "#E3DEFF", "#F1DEFF", "#C7F3E3", "#F5D1D1",
-        "#ECECEC", "#FBF4ED", "#D6D1F2", "#FFEBFB", "#EAEDFB"
-    };
-}
+package com.appsmith.server.constants;
+
+public class ApplicationConstants {
+    public static final String[] APP_CARD_COLORS = {
+        "#FFDEDE", "#FFEFDB", "#F3F1C7", "#F4FFDE", "#C7F3F0", "#D9E7FF", "#E3DEFF", "#F1DEFF", "#C7F3E3", "#F5D1D1",
+        "#ECECEC", "#FBF4ED", "#D6D1F2", "#FFEBFB", "#EAEDFB"
+    };
+}
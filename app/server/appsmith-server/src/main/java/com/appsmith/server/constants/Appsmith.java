@@ -1,9 +1,9 @@
-package com.appsmith.server.constants;
-
-public class Appsmith {
-    public static final String APPSMITH_REGISTERED = "appsmith_registered";
-    public static final String INSTANCE_SCHEMA_VERSION = "schemaVersion";
-    // We default the origin header to the production deployment of the client's URL
-    public static final String DEFAULT_ORIGIN_HEADER = "https://app.appsmith.com";
-    public static final String DEFAULT_INSTANCE_NAME = "Pageplug";
-}
+package com.appsmith.server.constants;
+
+public class Appsmith {
+    public static final String APPSMITH_REGISTERED = "appsmith_registered";
+    public static final String INSTANCE_SCHEMA_VERSION = "schemaVersion";
+    // We default the origin header to the production deployment of the client's URL
+    public static final String DEFAULT_ORIGIN_HEADER = "https://app.appsmith.com";
+    public static final String DEFAULT_INSTANCE_NAME = "Pageplug";
+}
@@ -1,10 +1,10 @@
-package com.appsmith.server.constants;
-
-public class Assets {
-
-    public static final String GENERATE_CRUD_PAGE_SUCCESS_URL_TABULAR =
-            "https://assets.appsmith.com/crud/workflow_sql.svg";
-    public static final String GENERATE_CRUD_PAGE_SUCCESS_URL_S3 = "https://assets.appsmith.com/crud/workflow_s3.svg";
-    public static final String GIT_DEPLOY_KEY_DOC_URL =
-            "https://docs.appsmith.com/core-concepts/version-control-with-git/connecting-to-git-repository#generating-a-deploy-key";
-}
+package com.appsmith.server.constants;
+
+public class Assets {
+
+    public static final String GENERATE_CRUD_PAGE_SUCCESS_URL_TABULAR =
+            "https://assets.appsmith.com/crud/workflow_sql.svg";
+    public static final String GENERATE_CRUD_PAGE_SUCCESS_URL_S3 = "https://assets.appsmith.com/crud/workflow_s3.svg";
+    public static final String GIT_DEPLOY_KEY_DOC_URL =
+            "https://docs.appsmith.com/core-concepts/version-control-with-git/connecting-to-git-repository#generating-a-deploy-key";
+}
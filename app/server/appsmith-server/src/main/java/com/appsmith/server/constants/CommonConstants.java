@@ -1,5 +1,5 @@
-package com.appsmith.server.constants;
-
-import com.appsmith.server.constants.ce.CommonConstantsCE;
-
-public class CommonConstants extends CommonConstantsCE {}
+package com.appsmith.server.constants;
+
+import com.appsmith.server.constants.ce.CommonConstantsCE;
+
+public class CommonConstants extends CommonConstantsCE {}
@@ -1,10 +1,10 @@
-package com.appsmith.server.constants;
-
-/**
- * Names used in config collections.
- */
-public class ConfigNames {
-
-    // Disallow instantiation of this class.
-    private ConfigNames() {}
-}
+package com.appsmith.server.constants;
+
+/**
+ * Names used in config collections.
+ */
+public class ConfigNames {
+
+    // Disallow instantiation of this class.
+    private ConfigNames() {}
+}
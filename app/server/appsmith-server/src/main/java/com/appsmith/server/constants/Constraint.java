@@ -1,9 +1,9 @@
-package com.appsmith.server.constants;
-
-public class Constraint {
-    public static final int WORKSPACE_LOGO_SIZE_KB = 250;
-    public static final int THUMBNAIL_PHOTO_DIMENSION = 128;
-    public static final int MAX_LOGO_SIZE_KB = 1024;
-
-    public static final int MAX_ANALYTICS_SIZE_BYTES = 5 * 1024 * 1024; // 5 MB
-}
+package com.appsmith.server.constants;
+
+public class Constraint {
+    public static final int WORKSPACE_LOGO_SIZE_KB = 250;
+    public static final int THUMBNAIL_PHOTO_DIMENSION = 128;
+    public static final int MAX_LOGO_SIZE_KB = 1024;
+
+    public static final int MAX_ANALYTICS_SIZE_BYTES = 5 * 1024 * 1024; // 5 MB
+}
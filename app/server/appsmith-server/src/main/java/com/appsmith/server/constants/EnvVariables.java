@@ -1,39 +1,39 @@
-package com.appsmith.server.constants;
-
-public enum EnvVariables {
-    APPSMITH_INSTANCE_NAME,
-    APPSMITH_MONGODB_URI,
-    APPSMITH_REDIS_URL,
-    APPSMITH_MAIL_ENABLED,
-    APPSMITH_MAIL_FROM,
-    APPSMITH_REPLY_TO,
-    APPSMITH_MAIL_HOST,
-    APPSMITH_MAIL_PORT,
-    APPSMITH_MAIL_SMTP_AUTH,
-    APPSMITH_MAIL_USERNAME,
-    APPSMITH_MAIL_PASSWORD,
-    APPSMITH_MAIL_SMTP_TLS_ENABLED,
-    APPSMITH_SIGNUP_DISABLED,
-    APPSMITH_SIGNUP_ALLOWED_DOMAINS,
-    APPSMITH_ADMIN_EMAILS,
-    APPSMITH_RECAPTCHA_SITE_KEY,
-    APPSMITH_RECAPTCHA_SECRET_KEY,
-    APPSMITH_DISABLE_TELEMETRY,
-    APPSMITH_OAUTH2_GOOGLE_CLIENT_ID,
-    APPSMITH_OAUTH2_GOOGLE_CLIENT_SECRET,
-    APPSMITH_OAUTH2_GOOGLE_REDIRECT_URL,
-    APPSMITH_OAUTH2_GITHUB_CLIENT_ID,
-    APPSMITH_OAUTH2_GITHUB_CLIENT_SECRET,
-    APPSMITH_OAUTH2_GITHUB_REDIRECT_URL,
-    APPSMITH_CUSTOM_DOMAIN,
-    APPSMITH_FORM_LOGIN_DISABLED,
-    APPSMITH_ALLOWED_FRAME_ANCESTORS,
-    APPSMITH_DISABLE_IFRAME_WIDGET_SANDBOX,
-    CLOUDOS_WECHAT_APPID,
-    CLOUDOS_WECHAT_SECRET,
-    APPSMITH_BMAP_AK,
-
-    APPSMITH_WX_CLIENT_ID,
-    APPSMITH_WX_CLIENT_SECRET,
-    APPSMITH_WX_CLIENT_REDIRECT_URL,
-}
+package com.appsmith.server.constants;
+
+public enum EnvVariables {
+    APPSMITH_INSTANCE_NAME,
+    APPSMITH_MONGODB_URI,
+    APPSMITH_REDIS_URL,
+    APPSMITH_MAIL_ENABLED,
+    APPSMITH_MAIL_FROM,
+    APPSMITH_REPLY_TO,
+    APPSMITH_MAIL_HOST,
+    APPSMITH_MAIL_PORT,
+    APPSMITH_MAIL_SMTP_AUTH,
+    APPSMITH_MAIL_USERNAME,
+    APPSMITH_MAIL_PASSWORD,
+    APPSMITH_MAIL_SMTP_TLS_ENABLED,
+    APPSMITH_SIGNUP_DISABLED,
+    APPSMITH_SIGNUP_ALLOWED_DOMAINS,
+    APPSMITH_ADMIN_EMAILS,
+    APPSMITH_RECAPTCHA_SITE_KEY,
+    APPSMITH_RECAPTCHA_SECRET_KEY,
+    APPSMITH_DISABLE_TELEMETRY,
+    APPSMITH_OAUTH2_GOOGLE_CLIENT_ID,
+    APPSMITH_OAUTH2_GOOGLE_CLIENT_SECRET,
+    APPSMITH_OAUTH2_GOOGLE_REDIRECT_URL,
+    APPSMITH_OAUTH2_GITHUB_CLIENT_ID,
+    APPSMITH_OAUTH2_GITHUB_CLIENT_SECRET,
+    APPSMITH_OAUTH2_GITHUB_REDIRECT_URL,
+    APPSMITH_CUSTOM_DOMAIN,
+    APPSMITH_FORM_LOGIN_DISABLED,
+    APPSMITH_ALLOWED_FRAME_ANCESTORS,
+    APPSMITH_DISABLE_IFRAME_WIDGET_SANDBOX,
+    CLOUDOS_WECHAT_APPID,
+    CLOUDOS_WECHAT_SECRET,
+    APPSMITH_BMAP_AK,
+
+    APPSMITH_WX_CLIENT_ID,
+    APPSMITH_WX_CLIENT_SECRET,
+    APPSMITH_WX_CLIENT_REDIRECT_URL,
+}
@@ -1,5 +1,5 @@
-package com.appsmith.server.constants;
-
-import com.appsmith.server.constants.ce.FieldNameCE;
-
-public class FieldName extends FieldNameCE {}
+package com.appsmith.server.constants;
+
+import com.appsmith.server.constants.ce.FieldNameCE;
+
+public class FieldName extends FieldNameCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.constants;
-
-public enum LicensePlan {
-    FREE
-}
+package com.appsmith.server.constants;
+
+public enum LicensePlan {
+    FREE
+}
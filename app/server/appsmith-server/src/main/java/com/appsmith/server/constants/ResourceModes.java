@@ -1,6 +1,6 @@
-package com.appsmith.server.constants;
-
-public enum ResourceModes {
-    EDIT,
-    VIEW
-}
+package com.appsmith.server.constants;
+
+public enum ResourceModes {
+    EDIT,
+    VIEW
+}
@@ -1,8 +1,8 @@
-package com.appsmith.server.constants;
-
-public interface Security {
-    String USER_ROLE = "USER_ROLE";
-    String QUERY_PARAMETER_STATE = "state";
-    String REFERER_HEADER = "Referer";
-    String STATE_PARAMETER_ORIGIN = "origin-";
-}
+package com.appsmith.server.constants;
+
+public interface Security {
+    String USER_ROLE = "USER_ROLE";
+    String QUERY_PARAMETER_STATE = "state";
+    String REFERER_HEADER = "Referer";
+    String STATE_PARAMETER_ORIGIN = "origin-";
+}
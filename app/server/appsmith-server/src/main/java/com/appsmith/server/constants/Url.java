@@ -1,5 +1,5 @@
-package com.appsmith.server.constants;
-
-import com.appsmith.server.constants.ce.UrlCE;
-
-public class Url extends UrlCE {}
+package com.appsmith.server.constants;
+
+import com.appsmith.server.constants.ce.UrlCE;
+
+public class Url extends UrlCE {}
@@ -1,12 +1,12 @@
-package com.appsmith.server.constants.ce;
-
-public class AnalyticsConstantsCE {
-    public static final String ENVIRONMENT_ID_SHORTNAME = "envId";
-    public static final String ENVIRONMENT_NAME_SHORTNAME = "envName";
-    public static final String ENVIRONMENT_NAME_DEFAULT = "";
-    public static final String DATASOURCE_ID_SHORTNAME = "dsId";
-    public static final String DATASOURCE_NAME_SHORTNAME = "dsName";
-    public static final String DATASOURCE_IS_TEMPLATE_SHORTNAME = "dsIsTemplate";
-    public static final String DATASOURCE_IS_MOCK_SHORTNAME = "dsIsMock";
-    public static final String DATASOURCE_CREATED_AT_SHORTNAME = "dsCreatedAt";
-}
+package com.appsmith.server.constants.ce;
+
+public class AnalyticsConstantsCE {
+    public static final String ENVIRONMENT_ID_SHORTNAME = "envId";
+    public static final String ENVIRONMENT_NAME_SHORTNAME = "envName";
+    public static final String ENVIRONMENT_NAME_DEFAULT = "";
+    public static final String DATASOURCE_ID_SHORTNAME = "dsId";
+    public static final String DATASOURCE_NAME_SHORTNAME = "dsName";
+    public static final String DATASOURCE_IS_TEMPLATE_SHORTNAME = "dsIsTemplate";
+    public static final String DATASOURCE_IS_MOCK_SHORTNAME = "dsIsMock";
+    public static final String DATASOURCE_CREATED_AT_SHORTNAME = "dsCreatedAt";
+}
@@ -1,9 +1,9 @@
-package com.appsmith.server.constants.ce;
-
-public class CommonConstantsCE {
-    public static String DELIMETER_SPACE = " ";
-    public static String COLUMN = ":";
-    public static String FOR = DELIMETER_SPACE + "for" + DELIMETER_SPACE;
-    public static String IN = DELIMETER_SPACE + "in" + DELIMETER_SPACE;
-    public static String DEFAULT = "default";
-}
+package com.appsmith.server.constants.ce;
+
+public class CommonConstantsCE {
+    public static String DELIMETER_SPACE = " ";
+    public static String COLUMN = ":";
+    public static String FOR = DELIMETER_SPACE + "for" + DELIMETER_SPACE;
+    public static String IN = DELIMETER_SPACE + "in" + DELIMETER_SPACE;
+    public static String DEFAULT = "default";
+}
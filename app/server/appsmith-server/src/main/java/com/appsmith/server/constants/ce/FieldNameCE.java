@@ -1,186 +1,186 @@
-package com.appsmith.server.constants.ce;
-
-public class FieldNameCE {
-    public static final String EMAIL = "email";
-    public static final String PASSWORD = "password";
-
-    @Deprecated
-    public static final String ORGANIZATION_ID = "organizationId";
-
-    public static final String WORKSPACE_ID = "workspaceId";
-    public static final String DATASOURCE_ID = "datasourceId";
-    public static final String DELETED = "deleted";
-    public static final String CREATED_AT = "createdAt";
-    public static final String DELETED_AT = "deletedAt";
-    public static final String UPDATED_AT = "updatedAt";
-    public static final String CURL_CODE = "curlCode";
-    public static final String PLUGIN_TYPE = "pluginType";
-    public static final String COLLECTION_ID = "collectionId";
-    public static final String ACTION_ID = "actionId";
-    public static String WORKSPACE = "workspace";
-    public static String ID = "id";
-    public static final String NAME = "name";
-    public static String PAGE_ID = "pageId";
-    public static String LAYOUT_ID = "layoutId";
-    public static final String APPLICATION_ID = "applicationId";
-    public static String SOURCE_APPLICATION_ID = "sourceApplicationId";
-    public static final String DEFAULT_RESOURCES = "defaultResources";
-    public static String PLUGIN_ID = "pluginId";
-    public static String DATASOURCE = "datasource";
-    public static String CONFIG = "config";
-    public static String PLUGIN = "plugin";
-    public static String DEFAULT_PAGE_NAME = "Page1";
-    public static String TYPE = "type";
-    public static final String WIDGET_ID = "widgetId";
-    public static String WIDGET_NAME = "widgetName";
-    public static String DYNAMIC_BINDINGS = "dynamicBindings";
-    public static String DYNAMIC_BINDING_PATH_LIST = "dynamicBindingPathList";
-    public static String KEY = "key";
-    public static String CHILDREN = "children";
-    public static String ORIGIN = "origin";
-    public static String USER = "user";
-    public static String PROVIDER_ID = "providerId";
-    public static String CATEGORY = "category";
-    public static String PAGE = "page";
-    public static String PAGES = "pages";
-    public static String SIZE = "size";
-    public static String ROLE = "role";
-    public static String DEFAULT_WIDGET_NAME = "MainContainer";
-    public static String DEFAULT_PAGE_LAYOUT = "{\n" + "        \"widgetName\": \"MainContainer\",\n"
-            + "        \"backgroundColor\": \"none\",\n"
-            + "        \"rightColumn\": 1224,\n"
-            + "        \"snapColumns\": 16,\n"
-            + "        \"detachFromLayout\": true,\n"
-            + "        \"widgetId\": \"0\",\n"
-            + "        \"topRow\": 0,\n"
-            + "        \"bottomRow\": 1250,\n"
-            + "        \"containerStyle\": \"none\",\n"
-            + "        \"snapRows\": 33,\n"
-            + "        \"parentRowSpace\": 1,\n"
-            + "        \"type\": \"CANVAS_WIDGET\",\n"
-            + "        \"canExtend\": true,\n"
-            + "        \"dynamicBindingPathList\": [],\n"
-            + "        \"dynamicTriggerPathList\": [],\n"
-            + "        \"version\": 4,\n"
-            + "        \"minHeight\": 1292,\n"
-            + "        \"parentColumnSpace\": 1,\n"
-            + "        \"leftColumn\": 0,\n"
-            + "        \"children\": []\n"
-            + "}";
-    public static String ANONYMOUS_USER = "anonymousUser";
-    public static String USERNAMES = "usernames";
-    public static String ACTION = "action";
-    public static String ACTION_COLLECTION = "actionCollection";
-    public static String ACTIONS = "actions";
-    public static String ASSET = "asset";
-    public static String APPLICATION = "application";
-    public static String SOURCE_APPLICATION = "sourceApplication";
-    public static String COMMENT = "comment";
-    public static String COMMENT_THREAD = "commentThread";
-    public static String PUBLISHED_APPLICATION = "deployed application";
-    public static final String TOKEN = "token";
-    public static String WIDGET_TYPE = "type";
-    public static String LIST_WIDGET_TEMPLATE = "template";
-    public static String LIST_WIDGET = "LIST_WIDGET";
-    public static String TABLE_WIDGET = "TABLE_WIDGET";
-    public static String CONTAINER_WIDGET = "CONTAINER_WIDGET";
-    public static String CANVAS_WIDGET = "CANVAS_WIDGET";
-    public static String FORM_WIDGET = "FORM_WIDGET";
-    public static String JSON_FORM_WIDGET = "JSON_FORM_WIDGET";
-    public static String DROP_DOWN_WIDGET = "DROP_DOWN_WIDGET";
-    public static String OPTIONS = "options";
-    public static String DEFAULT_OPTION = "defaultOptionValue";
-    public static String PRIMARY_COLUMNS = "primaryColumns";
-    public static String MONGO_ESCAPE_ID = "appsmith_mongo_escape_id";
-    public static String MONGO_ESCAPE_CLASS = "appsmith_mongo_escape_class";
-    public static String MONGO_UNESCAPED_ID = "_id";
-    public static String MONGO_UNESCAPED_CLASS = "_class";
-    public static String DATASOURCE_STRUCTURE = "datasource structure";
-    public static final String OBJECT_ID = "ObjectId";
-    public static final String PLACEHOLDER_TEXT = "placeholderText";
-    public static final String IS_DISABLED = "isDisabled";
-    public static final String IS_REQUIRED = "isRequired";
-    public static final String UNUSED_DATASOURCE = "UNUSED_DATASOURCE";
-    public static final String BRANCH_NAME = "branchName";
-    public static final String SOURCE_BRANCH = "sourceBranch";
-    public static final String DESTINATION_BRANCH = "destinationBranch";
-    public static final String DEFAULT = "default";
-    public static final String GIT_SYNC_ID = "gitSyncId";
-    public static final String DYNAMIC_TRIGGER_PATH_LIST = "dynamicTriggerPathList";
-    public static final String REQUEST_TYPE = "requestType";
-    public static final String DISPLAY_TYPE = "displayType";
-    public static final String PARAMETERS = "parameters";
-    public static final String EXPORTED_APPLICATION = "exportedApplication";
-    public static final String DATASOURCE_LIST = "datasourceList";
-    public static final String CUSTOM_JS_LIB_LIST = "customJSLibList";
-    public static final String PAGE_LIST = "pageList";
-    public static final String ACTION_LIST = "actionList";
-    public static final String ACTION_COLLECTION_LIST = "actionCollectionList";
-    public static final String DECRYPTED_FIELDS = "decryptedFields";
-    public static final String THEME = "theme";
-    public static final String EDIT_MODE_THEME = "editModeTheme";
-    public static final String FLOW_NAME = "flowName";
-    public static final String ADMINISTRATOR = "管理员";
-    public static final String WORKSPACE_ADMINISTRATOR_DESCRIPTION = "可以修改所有工作区设置，包括编辑应用程序、邀请其他用户加入工作区以及从工作区导出应用程序。";
-    public static final String DEVELOPER = "开发人员";
-    public static String WORKSPACE_DEVELOPER_DESCRIPTION = "可以编辑和查看应用程序，还可以邀请其他用户加入工作区。";
-    public static final String VIEWER = "访问人员";
-    public static final String WORKSPACE_VIEWER_DESCRIPTION = "可以查看应用程序，并邀请其他用户查看应用程序。";
-    public static final String USER_GROUP = "userGroup";
-    public static final Object GROUP_ID = "groupId";
-    public static final Object USERNAME = "username";
-    public static final Object NEW_GROUP_ID = "newGroupId";
-    public static final String PERMISSION_GROUP_ID = "permissionGroupId";
-    public static final String INSTANCE_CONFIG = "instanceConfig";
-    public static final String INSTANCE_ADMIN_ROLE = "Instance Administrator Role";
-    public static final String DEFAULT_PERMISSION_GROUP = "defaultPermissionGroup";
-    public static final String PUBLIC_PERMISSION_GROUP = "publicPermissionGroup";
-    public static final String EVENT_DATA = "eventData";
-    public static final String CLOUD_HOSTED_EXTRA_PROPS = "cloudHostedExtraProps";
-    public static final String MODE_OF_LOGIN = "modeOfLogin";
-    public static final String FORM_LOGIN = "FormLogin";
-    public static final String APP_MODE = "appMode";
-    public static final String PAGE_ORDER = "order";
-    public static final String ACTION_EXECUTION_REQUEST_PARAMS = "actionExecutionRequestParams";
-    public static final String ACTION_EXECUTION_REQUEST_PARAMS_SIZE = "totalReadableBytesCount";
-    public static final String ACTION_EXECUTION_REQUEST_PARAMS_COUNT = "actionExecutionRequestParamsCount";
-    public static final String ACTION_EXECUTION_RESULT = "actionExecutionResult";
-    public static final String ACTION_EXECUTION_TIME = "actionExecutionTime";
-    public static final String WEBSITE = "website";
-    public static final String TEMPLATE_APPLICATION_NAME = "templateAppName";
-    public static final String IS_SUPPORTED_FOR_AIR_GAP = "isSupportedForAirGap";
-
-    // this key will present in the analytics as a diff b/w server and user invoked flows
-    public static final String IS_DATASOURCE_UPDATE_USER_INVOKED_KEY = "isDatasourceUpdateUserInvoked";
-    public static final String UPDATED_INSTANCE_SETTINGS = "updatedInstanceSettings";
-    public static final String ACTION_EXECUTION_QUERY = "actionExecutionQuery";
-    public static final String ENVIRONMENT_ID = "environmentId";
-
-    public static final String IS_FORCE_INSTALL = "forceInstall";
-    public static final String IS_FORCE_REMOVE = "forceRemove";
-    public static final String UNPUBLISHED_JS_LIBS_IDENTIFIER_IN_APPLICATION_CLASS = "unpublishedCustomJSLibs";
-    public static final String PUBLISHED_JS_LIBS_IDENTIFIER_IN_APPLICATION_CLASS = "publishedCustomJSLibs";
-    public static final String ANONYMOUS_USER_ID = "anonymousUserId";
-    public static final String VIEW_MODE = "viewMode";
-    public static final String USER_EMAILS = "userEmails";
-    public static final String NUMBER_OF_USERS_INVITED = "numberOfUsersInvited";
-
-    public static final String ASSIGNED_USERS_TO_PERMISSION_GROUPS = "assigned_users";
-    public static final String UNASSIGNED_USERS_FROM_PERMISSION_GROUPS = "unassigned_users";
-    public static final String NUMBER_OF_ASSIGNED_USERS = "numberOfAssignedUsers";
-    public static final String NUMBER_OF_UNASSIGNED_USERS = "numberOfUnassignedUsers";
-
-    public static final String ENVIRONMENT = "environment";
-    public static final String UNUSED_ENVIRONMENT_ID = "unused_env";
-
-    public static final String TENANT = "tenant";
-
-    public static final String SUFFIX_USER_MANAGEMENT_ROLE = " User Management";
-
-    public static final String REPO_URL = "repoUrl";
-    public static final String GIT_HOSTING_PROVIDER = "gitHostingProvider";
-
-    public static final String IS_MERGEABLE = "isMergeable";
-
-    public static final String FILE_LOCK_DURATION = "fileLockDuration";
-}
+package com.appsmith.server.constants.ce;
+
+public class FieldNameCE {
+    public static final String EMAIL = "email";
+    public static final String PASSWORD = "password";
+
+    @Deprecated
+    public static final String ORGANIZATION_ID = "organizationId";
+
+    public static final String WORKSPACE_ID = "workspaceId";
+    public static final String DATASOURCE_ID = "datasourceId";
+    public static final String DELETED = "deleted";
+    public static final String CREATED_AT = "createdAt";
+    public static final String DELETED_AT = "deletedAt";
+    public static final String UPDATED_AT = "updatedAt";
+    public static final String CURL_CODE = "curlCode";
+    public static final String PLUGIN_TYPE = "pluginType";
+    public static final String COLLECTION_ID = "collectionId";
+    public static final String ACTION_ID = "actionId";
+    public static String WORKSPACE = "workspace";
+    public static String ID = "id";
+    public static final String NAME = "name";
+    public static String PAGE_ID = "pageId";
+    public static String LAYOUT_ID = "layoutId";
+    public static final String APPLICATION_ID = "applicationId";
+    public static String SOURCE_APPLICATION_ID = "sourceApplicationId";
+    public static final String DEFAULT_RESOURCES = "defaultResources";
+    public static String PLUGIN_ID = "pluginId";
+    public static String DATASOURCE = "datasource";
+    public static String CONFIG = "config";
+    public static String PLUGIN = "plugin";
+    public static String DEFAULT_PAGE_NAME = "Page1";
+    public static String TYPE = "type";
+    public static final String WIDGET_ID = "widgetId";
+    public static String WIDGET_NAME = "widgetName";
+    public static String DYNAMIC_BINDINGS = "dynamicBindings";
+    public static String DYNAMIC_BINDING_PATH_LIST = "dynamicBindingPathList";
+    public static String KEY = "key";
+    public static String CHILDREN = "children";
+    public static String ORIGIN = "origin";
+    public static String USER = "user";
+    public static String PROVIDER_ID = "providerId";
+    public static String CATEGORY = "category";
+    public static String PAGE = "page";
+    public static String PAGES = "pages";
+    public static String SIZE = "size";
+    public static String ROLE = "role";
+    public static String DEFAULT_WIDGET_NAME = "MainContainer";
+    public static String DEFAULT_PAGE_LAYOUT = "{\n" + "        \"widgetName\": \"MainContainer\",\n"
+            + "        \"backgroundColor\": \"none\",\n"
+            + "        \"rightColumn\": 1224,\n"
+            + "        \"snapColumns\": 16,\n"
+            + "        \"detachFromLayout\": true,\n"
+            + "        \"widgetId\": \"0\",\n"
+            + "        \"topRow\": 0,\n"
+            + "        \"bottomRow\": 1250,\n"
+            + "        \"containerStyle\": \"none\",\n"
+            + "        \"snapRows\": 33,\n"
+            + "        \"parentRowSpace\": 1,\n"
+            + "        \"type\": \"CANVAS_WIDGET\",\n"
+            + "        \"canExtend\": true,\n"
+            + "        \"dynamicBindingPathList\": [],\n"
+            + "        \"dynamicTriggerPathList\": [],\n"
+            + "        \"version\": 4,\n"
+            + "        \"minHeight\": 1292,\n"
+            + "        \"parentColumnSpace\": 1,\n"
+            + "        \"leftColumn\": 0,\n"
+            + "        \"children\": []\n"
+            + "}";
+    public static String ANONYMOUS_USER = "anonymousUser";
+    public static String USERNAMES = "usernames";
+    public static String ACTION = "action";
+    public static String ACTION_COLLECTION = "actionCollection";
+    public static String ACTIONS = "actions";
+    public static String ASSET = "asset";
+    public static String APPLICATION = "application";
+    public static String SOURCE_APPLICATION = "sourceApplication";
+    public static String COMMENT = "comment";
+    public static String COMMENT_THREAD = "commentThread";
+    public static String PUBLISHED_APPLICATION = "deployed application";
+    public static final String TOKEN = "token";
+    public static String WIDGET_TYPE = "type";
+    public static String LIST_WIDGET_TEMPLATE = "template";
+    public static String LIST_WIDGET = "LIST_WIDGET";
+    public static String TABLE_WIDGET = "TABLE_WIDGET";
+    public static String CONTAINER_WIDGET = "CONTAINER_WIDGET";
+    public static String CANVAS_WIDGET = "CANVAS_WIDGET";
+    public static String FORM_WIDGET = "FORM_WIDGET";
+    public static String JSON_FORM_WIDGET = "JSON_FORM_WIDGET";
+    public static String DROP_DOWN_WIDGET = "DROP_DOWN_WIDGET";
+    public static String OPTIONS = "options";
+    public static String DEFAULT_OPTION = "defaultOptionValue";
+    public static String PRIMARY_COLUMNS = "primaryColumns";
+    public static String MONGO_ESCAPE_ID = "appsmith_mongo_escape_id";
+    public static String MONGO_ESCAPE_CLASS = "appsmith_mongo_escape_class";
+    public static String MONGO_UNESCAPED_ID = "_id";
+    public static String MONGO_UNESCAPED_CLASS = "_class";
+    public static String DATASOURCE_STRUCTURE = "datasource structure";
+    public static final String OBJECT_ID = "ObjectId";
+    public static final String PLACEHOLDER_TEXT = "placeholderText";
+    public static final String IS_DISABLED = "isDisabled";
+    public static final String IS_REQUIRED = "isRequired";
+    public static final String UNUSED_DATASOURCE = "UNUSED_DATASOURCE";
+    public static final String BRANCH_NAME = "branchName";
+    public static final String SOURCE_BRANCH = "sourceBranch";
+    public static final String DESTINATION_BRANCH = "destinationBranch";
+    public static final String DEFAULT = "default";
+    public static final String GIT_SYNC_ID = "gitSyncId";
+    public static final String DYNAMIC_TRIGGER_PATH_LIST = "dynamicTriggerPathList";
+    public static final String REQUEST_TYPE = "requestType";
+    public static final String DISPLAY_TYPE = "displayType";
+    public static final String PARAMETERS = "parameters";
+    public static final String EXPORTED_APPLICATION = "exportedApplication";
+    public static final String DATASOURCE_LIST = "datasourceList";
+    public static final String CUSTOM_JS_LIB_LIST = "customJSLibList";
+    public static final String PAGE_LIST = "pageList";
+    public static final String ACTION_LIST = "actionList";
+    public static final String ACTION_COLLECTION_LIST = "actionCollectionList";
+    public static final String DECRYPTED_FIELDS = "decryptedFields";
+    public static final String THEME = "theme";
+    public static final String EDIT_MODE_THEME = "editModeTheme";
+    public static final String FLOW_NAME = "flowName";
+    public static final String ADMINISTRATOR = "管理员";
+    public static final String WORKSPACE_ADMINISTRATOR_DESCRIPTION = "可以修改所有工作区设置，包括编辑应用程序、邀请其他用户加入工作区以及从工作区导出应用程序。";
+    public static final String DEVELOPER = "开发人员";
+    public static String WORKSPACE_DEVELOPER_DESCRIPTION = "可以编辑和查看应用程序，还可以邀请其他用户加入工作区。";
+    public static final String VIEWER = "访问人员";
+    public static final String WORKSPACE_VIEWER_DESCRIPTION = "可以查看应用程序，并邀请其他用户查看应用程序。";
+    public static final String USER_GROUP = "userGroup";
+    public static final Object GROUP_ID = "groupId";
+    public static final Object USERNAME = "username";
+    public static final Object NEW_GROUP_ID = "newGroupId";
+    public static final String PERMISSION_GROUP_ID = "permissionGroupId";
+    public static final String INSTANCE_CONFIG = "instanceConfig";
+    public static final String INSTANCE_ADMIN_ROLE = "Instance Administrator Role";
+    public static final String DEFAULT_PERMISSION_GROUP = "defaultPermissionGroup";
+    public static final String PUBLIC_PERMISSION_GROUP = "publicPermissionGroup";
+    public static final String EVENT_DATA = "eventData";
+    public static final String CLOUD_HOSTED_EXTRA_PROPS = "cloudHostedExtraProps";
+    public static final String MODE_OF_LOGIN = "modeOfLogin";
+    public static final String FORM_LOGIN = "FormLogin";
+    public static final String APP_MODE = "appMode";
+    public static final String PAGE_ORDER = "order";
+    public static final String ACTION_EXECUTION_REQUEST_PARAMS = "actionExecutionRequestParams";
+    public static final String ACTION_EXECUTION_REQUEST_PARAMS_SIZE = "totalReadableBytesCount";
+    public static final String ACTION_EXECUTION_REQUEST_PARAMS_COUNT = "actionExecutionRequestParamsCount";
+    public static final String ACTION_EXECUTION_RESULT = "actionExecutionResult";
+    public static final String ACTION_EXECUTION_TIME = "actionExecutionTime";
+    public static final String WEBSITE = "website";
+    public static final String TEMPLATE_APPLICATION_NAME = "templateAppName";
+    public static final String IS_SUPPORTED_FOR_AIR_GAP = "isSupportedForAirGap";
+
+    // this key will present in the analytics as a diff b/w server and user invoked flows
+    public static final String IS_DATASOURCE_UPDATE_USER_INVOKED_KEY = "isDatasourceUpdateUserInvoked";
+    public static final String UPDATED_INSTANCE_SETTINGS = "updatedInstanceSettings";
+    public static final String ACTION_EXECUTION_QUERY = "actionExecutionQuery";
+    public static final String ENVIRONMENT_ID = "environmentId";
+
+    public static final String IS_FORCE_INSTALL = "forceInstall";
+    public static final String IS_FORCE_REMOVE = "forceRemove";
+    public static final String UNPUBLISHED_JS_LIBS_IDENTIFIER_IN_APPLICATION_CLASS = "unpublishedCustomJSLibs";
+    public static final String PUBLISHED_JS_LIBS_IDENTIFIER_IN_APPLICATION_CLASS = "publishedCustomJSLibs";
+    public static final String ANONYMOUS_USER_ID = "anonymousUserId";
+    public static final String VIEW_MODE = "viewMode";
+    public static final String USER_EMAILS = "userEmails";
+    public static final String NUMBER_OF_USERS_INVITED = "numberOfUsersInvited";
+
+    public static final String ASSIGNED_USERS_TO_PERMISSION_GROUPS = "assigned_users";
+    public static final String UNASSIGNED_USERS_FROM_PERMISSION_GROUPS = "unassigned_users";
+    public static final String NUMBER_OF_ASSIGNED_USERS = "numberOfAssignedUsers";
+    public static final String NUMBER_OF_UNASSIGNED_USERS = "numberOfUnassignedUsers";
+
+    public static final String ENVIRONMENT = "environment";
+    public static final String UNUSED_ENVIRONMENT_ID = "unused_env";
+
+    public static final String TENANT = "tenant";
+
+    public static final String SUFFIX_USER_MANAGEMENT_ROLE = " User Management";
+
+    public static final String REPO_URL = "repoUrl";
+    public static final String GIT_HOSTING_PROVIDER = "gitHostingProvider";
+
+    public static final String IS_MERGEABLE = "isMergeable";
+
+    public static final String FILE_LOCK_DURATION = "fileLockDuration";
+}
@@ -1,27 +1,27 @@
-package com.appsmith.server.controllers.ce;
-
-import com.appsmith.external.views.Views;
-import com.appsmith.server.constants.Url;
-import com.appsmith.server.services.AssetService;
-import com.fasterxml.jackson.annotation.JsonView;
-import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpHeaders;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.server.ServerWebExchange;
-import reactor.core.publisher.Mono;
-
-@RequiredArgsConstructor
-@RequestMapping(Url.ASSET_URL)
-public class AssetControllerCE {
-
-    private final AssetService service;
-
-    @JsonView(Views.Public.class)
-    @GetMapping("/{id}")
-    public Mono<Void> getById(@PathVariable String id, ServerWebExchange exchange) {
-        exchange.getResponse().getHeaders().set(HttpHeaders.CACHE_CONTROL, "public, max-age=7776000, immutable");
-        return service.makeImageResponse(exchange, id);
-    }
-}
+package com.appsmith.server.controllers.ce;
+
+import com.appsmith.external.views.Views;
+import com.appsmith.server.constants.Url;
+import com.appsmith.server.services.AssetService;
+import com.fasterxml.jackson.annotation.JsonView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+@RequiredArgsConstructor
+@RequestMapping(Url.ASSET_URL)
+public class AssetControllerCE {
+
+    private final AssetService service;
+
+    @JsonView(Views.Public.class)
+    @GetMapping("/{id}")
+    public Mono<Void> getById(@PathVariable String id, ServerWebExchange exchange) {
+        exchange.getResponse().getHeaders().set(HttpHeaders.CACHE_CONTROL, "public, max-age=7776000, immutable");
+        return service.makeImageResponse(exchange, id);
+    }
+}
@@ -1,6 +1,6 @@
-package com.appsmith.server.domains;
-
-public enum ApplicationMode {
-    EDIT,
-    PUBLISHED
-}
+package com.appsmith.server.domains;
+
+public enum ApplicationMode {
+    EDIT,
+    PUBLISHED
+}
@@ -1,10 +1,13 @@
 package com.appsmith.server.domains;
 
+import com.appsmith.external.plugins.PluginExecutor;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 
 import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Getter
 @Setter
@@ -14,7 +17,56 @@ public class DatasourceContext<T> {
 
     Instant creationTime;
 
+    // Last time this context was handed out for use, contexts that stay idle for too long are evicted
+    Instant lastAccessedAt;
+
+    // Plugin executor that created the connection, and that is used to destroy it when the context is evicted
+    @ToString.Exclude
+    PluginExecutor<Object> pluginExecutor;
+
+    // Number of executions currently using the connection, or EVICTED once the context has been evicted. A context is
+    // never evicted while it is in use, and can't be used anymore once it has been evicted.
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    AtomicInteger activeExecutions = new AtomicInteger(0);
+
+    private static final int EVICTED = Integer.MIN_VALUE;
+
     public DatasourceContext() {
         creationTime = Instant.now();
+        lastAccessedAt = creationTime;
+    }
+
+    public boolean isInUse() {
+        return activeExecutions.get() > 0;
+    }
+
+    /**
+     * Marks the context as used by one more execution, unless it has been evicted.
+     *
+     * @return whether the context was pinned
+     */
+    public boolean pin() {
+        int executions;
+        do {
+            executions = activeExecutions.get();
+            if (executions == EVICTED) {
+                return false;
+            }
+        } while (!activeExecutions.compareAndSet(executions, executions + 1));
+        return true;
+    }
+
+    public void unpin() {
+        activeExecutions.decrementAndGet();
+    }
+
+    /**
+     * Marks the context as evicted, unless it is in use. An evicted context can't be pinned anymore.
+     *
+     * @return whether the context was marked as evicted
+     */
+    public boolean markEvicted() {
+        return activeExecutions.compareAndSet(0, EVICTED);
     }
 }
@@ -1,22 +1,22 @@
-package com.appsmith.server.domains;
-
-import com.appsmith.external.models.AppsmithDomain;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
-import lombok.ToString;
-import org.springframework.data.mongodb.core.mapping.Document;
-
-@Getter
-@Setter
-@ToString
-@NoArgsConstructor
-@AllArgsConstructor
-@Document
-public class GitConfig implements AppsmithDomain {
-
-    String authorName;
-
-    String authorEmail;
-}
+package com.appsmith.server.domains;
+
+import com.appsmith.external.models.AppsmithDomain;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Document
+public class GitConfig implements AppsmithDomain {
+
+    String authorName;
+
+    String authorEmail;
+}
@@ -1,11 +1,11 @@
-package com.appsmith.server.domains;
-
-import com.appsmith.external.models.BaseDomain;
-import lombok.Data;
-
-@Data
-public class GitDeployKeys extends BaseDomain {
-    String email;
-
-    GitAuth gitAuth;
-}
+package com.appsmith.server.domains;
+
+import com.appsmith.external.models.BaseDomain;
+import lombok.Data;
+
+@Data
+public class GitDeployKeys extends BaseDomain {
+    String email;
+
+    GitAuth gitAuth;
+}
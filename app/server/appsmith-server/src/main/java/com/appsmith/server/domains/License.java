@@ -1,7 +1,7 @@
-package com.appsmith.server.domains;
-
-import com.appsmith.server.domains.ce.LicenseCE;
-import lombok.Data;
-
-@Data
-public class License extends LicenseCE {}
+package com.appsmith.server.domains;
+
+import com.appsmith.server.domains.ce.LicenseCE;
+import lombok.Data;
+
+@Data
+public class License extends LicenseCE {}
@@ -1,38 +1,47 @@
-package com.appsmith.server.domains;
-
-import com.appsmith.external.models.BranchAwareDomain;
-import com.appsmith.external.views.Views;
-import com.appsmith.server.dtos.PageDTO;
-import com.fasterxml.jackson.annotation.JsonView;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
-import org.springframework.data.mongodb.core.mapping.Document;
-
-@Getter
-@Setter
-@NoArgsConstructor
-@Document
-public class NewPage extends BranchAwareDomain {
-    @JsonView(Views.Public.class)
-    String applicationId;
-
-    @JsonView(Views.Public.class)
-    PageDTO unpublishedPage;
-
-    @JsonView(Views.Public.class)
-    PageDTO publishedPage;
-
-    @Override
-    public void sanitiseToExportDBObject() {
-        this.setApplicationId(null);
-        this.setId(null);
-        if (this.getUnpublishedPage() != null) {
-            this.getUnpublishedPage().sanitiseToExportDBObject();
-        }
-        if (this.getPublishedPage() != null) {
-            this.getPublishedPage().sanitiseToExportDBObject();
-        }
-        super.sanitiseToExportDBObject();
-    }
-}
+package com.appsmith.server.domains;
+
+import com.appsmith.external.models.BranchAwareDomain;
+import com.appsmith.external.views.Views;
+import com.appsmith.server.dtos.PageDTO;
+import com.fasterxml.jackson.annotation.JsonView;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Document
+public class NewPage extends BranchAwareDomain {
+    @JsonView(Views.Public.class)
+    String applicationId;
+
+    @JsonView(Views.Public.class)
+    PageDTO unpublishedPage;
+
+    @JsonView(Views.Public.class)
+    PageDTO publishedPage;
+
+    // When the published page was last replaced, either by publishing the page or by importing it. Unlike the update
+    // time, it isn't changed by the edits to the unpublished page, and is the version of the published page that its
+    // cached responses are keyed by, see PublishedPageCache.
+    @JsonView(Views.Internal.class)
+    Instant lastPublishedAt;
+
+    @Override
+    public void sanitiseToExportDBObject() {
+        this.setApplicationId(null);
+        this.setId(null);
+        this.setLastPublishedAt(null);
+        if (this.getUnpublishedPage() != null) {
+            this.getUnpublishedPage().sanitiseToExportDBObject();
+        }
+        if (this.getPublishedPage() != null) {
+            this.getPublishedPage().sanitiseToExportDBObject();
+        }
+        super.sanitiseToExportDBObject();
+    }
+}
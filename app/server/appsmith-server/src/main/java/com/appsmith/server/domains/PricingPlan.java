@@ -1,12 +1,12 @@
-package com.appsmith.server.domains;
-
-/**
- * Deprecated since we use plans based on the license and this information is stored inside license tenant pricingPlan is no longer used
- */
-@Deprecated
-public enum PricingPlan {
-    FREE,
-    STARTUP,
-    BUSINESS,
-    ENTERPRISE
-}
+package com.appsmith.server.domains;
+
+/**
+ * Deprecated since we use plans based on the license and this information is stored inside license tenant pricingPlan is no longer used
+ */
+@Deprecated
+public enum PricingPlan {
+    FREE,
+    STARTUP,
+    BUSINESS,
+    ENTERPRISE
+}
@@ -1,6 +1,6 @@
-package com.appsmith.server.domains;
-
-public enum ScreenType {
-    DESKTOP,
-    MOBILE
-}
+package com.appsmith.server.domains;
+
+public enum ScreenType {
+    DESKTOP,
+    MOBILE
+}
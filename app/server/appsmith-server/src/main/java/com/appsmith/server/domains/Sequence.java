@@ -1,13 +1,13 @@
-package com.appsmith.server.domains;
-
-import lombok.Getter;
-import lombok.Setter;
-
-@Getter
-@Setter
-public class Sequence {
-
-    private String name;
-
-    private Long nextNumber;
-}
+package com.appsmith.server.domains;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class Sequence {
+
+    private String name;
+
+    private Long nextNumber;
+}
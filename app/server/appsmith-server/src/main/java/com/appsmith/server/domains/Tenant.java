@@ -1,31 +1,31 @@
-package com.appsmith.server.domains;
-
-import com.appsmith.external.models.BaseDomain;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
-import lombok.ToString;
-import org.checkerframework.common.aliasing.qual.Unique;
-import org.springframework.data.annotation.Transient;
-import org.springframework.data.mongodb.core.mapping.Document;
-
-@Getter
-@Setter
-@ToString
-@NoArgsConstructor
-@Document
-public class Tenant extends BaseDomain {
-
-    @Unique String slug;
-
-    String displayName;
-
-    @Transient
-    String instanceId;
-
-    PricingPlan pricingPlan;
-
-    TenantConfiguration tenantConfiguration;
-
-    // TODO add SSO and other configurations here after migrating from environment variables to database configuration
-}
+package com.appsmith.server.domains;
+
+import com.appsmith.external.models.BaseDomain;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.checkerframework.common.aliasing.qual.Unique;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@Document
+public class Tenant extends BaseDomain {
+
+    @Unique String slug;
+
+    String displayName;
+
+    @Transient
+    String instanceId;
+
+    PricingPlan pricingPlan;
+
+    TenantConfiguration tenantConfiguration;
+
+    // TODO add SSO and other configurations here after migrating from environment variables to database configuration
+}
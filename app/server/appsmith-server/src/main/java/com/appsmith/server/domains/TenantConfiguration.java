@@ -1,7 +1,7 @@
-package com.appsmith.server.domains;
-
-import com.appsmith.server.domains.ce.TenantConfigurationCE;
-import lombok.Data;
-
-@Data
-public class TenantConfiguration extends TenantConfigurationCE {}
+package com.appsmith.server.domains;
+
+import com.appsmith.server.domains.ce.TenantConfigurationCE;
+import lombok.Data;
+
+@Data
+public class TenantConfiguration extends TenantConfigurationCE {}
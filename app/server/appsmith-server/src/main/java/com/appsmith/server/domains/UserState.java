@@ -1,7 +1,7 @@
-package com.appsmith.server.domains;
-
-public enum UserState {
-    NEW,
-    INVITED,
-    ACTIVATED
-}
+package com.appsmith.server.domains;
+
+public enum UserState {
+    NEW,
+    INVITED,
+    ACTIVATED
+}
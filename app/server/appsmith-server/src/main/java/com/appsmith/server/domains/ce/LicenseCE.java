@@ -1,9 +1,9 @@
-package com.appsmith.server.domains.ce;
-
-import com.appsmith.server.constants.LicensePlan;
-import lombok.Data;
-
-@Data
-public class LicenseCE {
-    LicensePlan plan;
-}
+package com.appsmith.server.domains.ce;
+
+import com.appsmith.server.constants.LicensePlan;
+import lombok.Data;
+
+@Data
+public class LicenseCE {
+    LicensePlan plan;
+}
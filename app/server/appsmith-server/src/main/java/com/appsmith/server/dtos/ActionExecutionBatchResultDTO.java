@@ -0,0 +1,23 @@
+package com.appsmith.server.dtos;
+
+import com.appsmith.external.models.ActionExecutionResult;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * The result of one of the actions executed in a batch, along with the id of the action as it was sent in the request,
+ * since the results are sent back in the order the actions complete.
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActionExecutionBatchResultDTO {
+    String actionId;
+
+    ActionExecutionResult result;
+}
@@ -1,14 +1,14 @@
-package com.appsmith.server.dtos;
-
-import jakarta.validation.constraints.NotNull;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
-
-@Getter
-@Setter
-@NoArgsConstructor
-public class ApplicationAccessDTO {
-
-    @NotNull Boolean publicAccess;
-}
+package com.appsmith.server.dtos;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class ApplicationAccessDTO {
+
+    @NotNull Boolean publicAccess;
+}
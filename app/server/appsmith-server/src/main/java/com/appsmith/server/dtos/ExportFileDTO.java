@@ -1,10 +1,10 @@
-package com.appsmith.server.dtos;
-
-import lombok.Data;
-import org.springframework.http.HttpHeaders;
-
-@Data
-public class ExportFileDTO {
-    HttpHeaders httpHeaders;
-    Object applicationResource;
-}
+package com.appsmith.server.dtos;
+
+import lombok.Data;
+import org.springframework.http.HttpHeaders;
+
+@Data
+public class ExportFileDTO {
+    HttpHeaders httpHeaders;
+    Object applicationResource;
+}
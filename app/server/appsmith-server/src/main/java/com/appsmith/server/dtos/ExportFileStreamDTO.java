@@ -0,0 +1,12 @@
+package com.appsmith.server.dtos;
+
+import lombok.Data;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import reactor.core.publisher.Flux;
+
+@Data
+public class ExportFileStreamDTO {
+    HttpHeaders httpHeaders;
+    Flux<DataBuffer> applicationResource;
+}
@@ -1,9 +1,9 @@
-package com.appsmith.server.dtos;
-
-import lombok.Data;
-
-@Data
-public class GitCheckoutBranchDTO {
-
-    Boolean isRemote;
-}
+package com.appsmith.server.dtos;
+
+import lombok.Data;
+
+@Data
+public class GitCheckoutBranchDTO {
+
+    Boolean isRemote;
+}
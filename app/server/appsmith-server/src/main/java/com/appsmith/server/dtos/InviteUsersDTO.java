@@ -1,11 +1,11 @@
-package com.appsmith.server.dtos;
-
-import com.appsmith.server.dtos.ce.InviteUsersCE_DTO;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
-
-@Getter
-@Setter
-@NoArgsConstructor
-public class InviteUsersDTO extends InviteUsersCE_DTO {}
+package com.appsmith.server.dtos;
+
+import com.appsmith.server.dtos.ce.InviteUsersCE_DTO;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class InviteUsersDTO extends InviteUsersCE_DTO {}
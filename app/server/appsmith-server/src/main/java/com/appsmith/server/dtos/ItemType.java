@@ -1,6 +1,6 @@
-package com.appsmith.server.dtos;
-
-public enum ItemType {
-    TEMPLATE,
-    ACTION
-}
+package com.appsmith.server.dtos;
+
+public enum ItemType {
+    TEMPLATE,
+    ACTION
+}
@@ -1,17 +1,17 @@
-package com.appsmith.server.dtos;
-
-import lombok.Getter;
-import lombok.Setter;
-
-@Getter
-@Setter
-public class MockDataSource {
-
-    String name;
-
-    String workspaceId;
-
-    String pluginId;
-
-    String packageName;
-}
+package com.appsmith.server.dtos;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class MockDataSource {
+
+    String name;
+
+    String workspaceId;
+
+    String pluginId;
+
+    String packageName;
+}
@@ -1,16 +1,16 @@
-package com.appsmith.server.dtos;
-
-import com.appsmith.server.domains.User;
-import jakarta.validation.constraints.NotEmpty;
-import lombok.Getter;
-import lombok.Setter;
-
-@Getter
-@Setter
-public class ResetUserPasswordDTO extends User {
-
-    String baseUrl;
-
-    @NotEmpty
-    String token;
-}
+package com.appsmith.server.dtos;
+
+import com.appsmith.server.domains.User;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ResetUserPasswordDTO extends User {
+
+    String baseUrl;
+
+    @NotEmpty
+    String token;
+}
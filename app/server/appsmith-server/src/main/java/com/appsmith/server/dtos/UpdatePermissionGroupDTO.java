@@ -1,9 +1,9 @@
-package com.appsmith.server.dtos;
-
-import com.appsmith.server.dtos.ce.UpdatePermissionGroupCE_DTO;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
-@Data
-@NoArgsConstructor
-public class UpdatePermissionGroupDTO extends UpdatePermissionGroupCE_DTO {}
+package com.appsmith.server.dtos;
+
+import com.appsmith.server.dtos.ce.UpdatePermissionGroupCE_DTO;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class UpdatePermissionGroupDTO extends UpdatePermissionGroupCE_DTO {}
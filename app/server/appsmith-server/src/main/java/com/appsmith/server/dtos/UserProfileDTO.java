@@ -1,7 +1,7 @@
-package com.appsmith.server.dtos;
-
-import com.appsmith.server.dtos.ce.UserProfileCE_DTO;
-import lombok.Data;
-
-@Data
-public class UserProfileDTO extends UserProfileCE_DTO {}
+package com.appsmith.server.dtos;
+
+import com.appsmith.server.dtos.ce.UserProfileCE_DTO;
+import lombok.Data;
+
+@Data
+public class UserProfileDTO extends UserProfileCE_DTO {}
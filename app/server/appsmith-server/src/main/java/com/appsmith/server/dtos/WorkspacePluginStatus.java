@@ -1,7 +1,7 @@
-package com.appsmith.server.dtos;
-
-public enum WorkspacePluginStatus {
-    FREE,
-    TRIAL,
-    ACTIVATED
-}
+package com.appsmith.server.dtos;
+
+public enum WorkspacePluginStatus {
+    FREE,
+    TRIAL,
+    ACTIVATED
+}
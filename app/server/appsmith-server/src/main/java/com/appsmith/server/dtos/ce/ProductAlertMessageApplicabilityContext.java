@@ -1,6 +1,6 @@
-package com.appsmith.server.dtos.ce;
-
-public enum ProductAlertMessageApplicabilityContext {
-    COMMON_CONFIG,
-    STATIC;
-}
+package com.appsmith.server.dtos.ce;
+
+public enum ProductAlertMessageApplicabilityContext {
+    COMMON_CONFIG,
+    STATIC;
+}
@@ -1,10 +1,10 @@
-package com.appsmith.server.events;
-
-import com.appsmith.server.domains.User;
-import lombok.Data;
-
-@Data
-public class UserChangedEvent {
-
-    private final User user;
-}
+package com.appsmith.server.events;
+
+import com.appsmith.server.domains.User;
+import lombok.Data;
+
+@Data
+public class UserChangedEvent {
+
+    private final User user;
+}
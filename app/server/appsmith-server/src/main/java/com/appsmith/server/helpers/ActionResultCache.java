@@ -0,0 +1,264 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.caching.components.LocalCache;
+import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.external.models.ActionExecutionRequest;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ActionResultCacheInfo;
+import com.appsmith.external.models.DatasourceStorage;
+import com.appsmith.external.models.PluginType;
+import com.appsmith.server.domains.Plugin;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Caches the results of the read-only actions that opt into it, by setting
+ * {@link ActionConfiguration#getResultCacheTimeToLiveInSeconds()}, so that the viewers of a published app running the
+ * same query with the same parameters don't all reach the datasource.
+ * <p>
+ * A result is cached under the action, the datasource storage it ran against and a hash of its parameters and of the
+ * configuration of the action, so that editing and publishing the action doesn't serve results of its previous
+ * version. Only successful results are cached, serialized, so that every execution gets a copy of its own. The results
+ * may also be shared between servers through Redis, in which case a result is read from Redis on a local miss.
+ * <p>
+ * Only the queries that can't modify anything are cached: SQL queries made of a single SELECT, and GET requests.
+ */
+@Slf4j
+@Component
+public class ActionResultCache {
+
+    private static final String REDIS_KEY_PREFIX = "appsmith:action-result:";
+
+    private static final Duration MAX_TIME_TO_LIVE = Duration.ofHours(1);
+
+    // Larger results are executed every time, so that a few of them don't take up the memory of the whole cache
+    private static final int MAX_CACHED_RESULT_BYTES = 1024 * 1024;
+
+    private static final Pattern SQL_COMMENTS = Pattern.compile("--[^\\n]*|/\\*.*?\\*/", Pattern.DOTALL);
+
+    private static final Pattern READ_ONLY_SQL = Pattern.compile("^(select|with)\\b.*", Pattern.DOTALL);
+
+    // Words that make a SELECT write, lock or call something that may, e.g. SELECT ... INTO, or FOR UPDATE
+    private static final Pattern MUTATING_SQL = Pattern.compile(
+            "\\b(insert|update|delete|merge|upsert|create|alter|drop|truncate|grant|revoke|call|exec|execute"
+                    + "|into|lock|share|nextval|setval)\\b");
+
+    private final ObjectMapper objectMapper;
+
+    private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
+
+    private final boolean isRedisEnabled;
+
+    private final LocalCache results;
+
+    // The hits and misses of the actions executed within the last hour, as their results can't be cached for longer
+    private final LocalCache statsByActionId;
+
+    public ActionResultCache(
+            ObjectMapper objectMapper,
+            ReactiveRedisOperations<String, String> reactiveRedisOperations,
+            @Value("${appsmith.action.result-cache.max-size:1000}") int maxCachedResults,
+            @Value("${appsmith.action.result-cache.redis.enabled:false}") boolean isRedisEnabled) {
+        this.objectMapper = objectMapper;
+        this.reactiveRedisOperations = reactiveRedisOperations;
+        this.isRedisEnabled = isRedisEnabled;
+        this.results = new LocalCache(maxCachedResults, MAX_TIME_TO_LIVE, Clock.systemUTC());
+        this.statsByActionId = new LocalCache(maxCachedResults, MAX_TIME_TO_LIVE, Clock.systemUTC());
+    }
+
+    private static class ActionStats {
+        final LongAdder hits = new LongAdder();
+        final LongAdder misses = new LongAdder();
+    }
+
+    /**
+     * Whether the results of the action are to be cached, i.e. it opted into it and it doesn't modify anything.
+     */
+    public static boolean isCacheable(ActionDTO action, Plugin plugin) {
+        ActionConfiguration actionConfiguration = action.getActionConfiguration();
+        if (actionConfiguration == null
+                || actionConfiguration.getResultCacheTimeToLiveInSeconds() == null
+                || actionConfiguration.getResultCacheTimeToLiveInSeconds() <= 0) {
+            return false;
+        }
+
+        if (plugin.getType() == PluginType.API) {
+            return HttpMethod.GET.equals(actionConfiguration.getHttpMethod());
+        }
+        if (plugin.getType() == PluginType.DB) {
+            return isReadOnlySql(actionConfiguration.getBody());
+        }
+        return false;
+    }
+
+    static boolean isReadOnlySql(String body) {
+        if (body == null) {
+            return false;
+        }
+
+        String sql = SQL_COMMENTS.matcher(body).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+        if (sql.endsWith(";")) {
+            sql = sql.substring(0, sql.length() - 1);
+        }
+        // More than one statement
+        if (sql.contains(";")) {
+            return false;
+        }
+        return READ_ONLY_SQL.matcher(sql).matches()
+                && !MUTATING_SQL.matcher(sql).find();
+    }
+
+    /**
+     * The key the result of the execution is cached under, or null if the parameters of the execution can't be
+     * serialized, in which case the result isn't cached.
+     */
+    public String getKey(ExecuteActionDTO executeActionDTO, ActionDTO action, DatasourceStorage datasourceStorage) {
+        ByteArrayOutputStream parameters = new ByteArrayOutputStream();
+        try {
+            parameters.write(objectMapper.writeValueAsBytes(executeActionDTO.getParams()));
+            parameters.write(objectMapper.writeValueAsBytes(executeActionDTO.getPaginationField()));
+            parameters.write(objectMapper.writeValueAsBytes(action.getActionConfiguration()));
+        } catch (IOException e) {
+            log.debug("Not caching the result of action {}, as its parameters can't be serialized", action.getId(), e);
+            return null;
+        }
+
+        return action.getId() + ":" + datasourceStorage.getDatasourceId() + ":" + datasourceStorage.getEnvironmentId()
+                + ":" + DigestUtils.sha256Hex(parameters.toByteArray());
+    }
+
+    /**
+     * A copy of the result cached under the given key, if any, read from Redis on a local miss if it's shared.
+     */
+    public Mono<ActionExecutionResult> get(String actionId, String key) {
+        byte[] cachedResult = (byte[]) results.get(key);
+        Mono<byte[]> cachedResultMono =
+                cachedResult != null ? Mono.just(cachedResult) : isRedisEnabled ? getFromRedis(key) : Mono.empty();
+
+        return cachedResultMono.flatMap(resultBytes -> {
+            ActionExecutionResult result;
+            try {
+                result = objectMapper.readValue(resultBytes, ActionExecutionResult.class);
+            } catch (IOException e) {
+                log.warn("Error reading the cached result of action {}, executing it", actionId, e);
+                results.invalidate(key);
+                return Mono.empty();
+            }
+
+            ActionExecutionRequest request = new ActionExecutionRequest();
+            request.setActionId(actionId);
+            request.setRequestedAt(Instant.now());
+            result.setRequest(request);
+            result.setResultCacheInfo(recordExecution(actionId, true));
+            return Mono.just(result);
+        });
+    }
+
+    /**
+     * Caches the result of an action executed for a miss, if it succeeded and isn't too large, and tells it was
+     * missed in its cache info.
+     */
+    public Mono<ActionExecutionResult> put(ActionDTO action, String key, ActionExecutionResult result) {
+        result.setResultCacheInfo(recordExecution(action.getId(), false));
+        if (!Boolean.TRUE.equals(result.getIsExecutionSuccess())) {
+            return Mono.just(result);
+        }
+
+        // The request is specific to the execution, and the data types and widgets are added to every result anyway
+        ActionExecutionResult cachedResult = new ActionExecutionResult();
+        cachedResult.setStatusCode(result.getStatusCode());
+        cachedResult.setTitle(result.getTitle());
+        cachedResult.setHeaders(result.getHeaders());
+        cachedResult.setBody(result.getBody());
+        cachedResult.setMessages(result.getMessages());
+        cachedResult.setIsExecutionSuccess(result.getIsExecutionSuccess());
+
+        byte[] resultBytes;
+        try {
+            resultBytes = objectMapper.writeValueAsBytes(cachedResult);
+        } catch (IOException e) {
+            log.debug("Not caching the result of action {}, as it can't be serialized", action.getId(), e);
+            return Mono.just(result);
+        }
+        if (resultBytes.length > MAX_CACHED_RESULT_BYTES) {
+            return Mono.just(result);
+        }
+
+        Duration timeToLive = getTimeToLive(action);
+        results.put(key, resultBytes, timeToLive);
+        if (!isRedisEnabled) {
+            return Mono.just(result);
+        }
+
+        // The time the result expires at is stored along with it, for the servers that read it later to expire it then
+        String value =
+                Instant.now().plus(timeToLive).toEpochMilli() + ":" + new String(resultBytes, StandardCharsets.UTF_8);
+        return reactiveRedisOperations
+                .opsForValue()
+                .set(REDIS_KEY_PREFIX + key, value, timeToLive)
+                .onErrorResume(error -> {
+                    log.warn("Error sharing the result of action {} through Redis", action.getId(), error);
+                    return Mono.just(false);
+                })
+                .thenReturn(result);
+    }
+
+    private Mono<byte[]> getFromRedis(String key) {
+        return reactiveRedisOperations
+                .opsForValue()
+                .get(REDIS_KEY_PREFIX + key)
+                .flatMap(value -> {
+                    int separatorIndex = value.indexOf(':');
+                    Duration timeToLive = Duration.ofMillis(Long.parseLong(value.substring(0, separatorIndex))
+                            - Instant.now().toEpochMilli());
+                    if (timeToLive.isNegative() || timeToLive.isZero()) {
+                        return Mono.empty();
+                    }
+
+                    byte[] resultBytes = value.substring(separatorIndex + 1).getBytes(StandardCharsets.UTF_8);
+                    results.put(key, resultBytes, timeToLive);
+                    return Mono.just(resultBytes);
+                })
+                .onErrorResume(error -> {
+                    log.warn("Error reading a cached action result from Redis", error);
+                    return Mono.empty();
+                });
+    }
+
+    private static Duration getTimeToLive(ActionDTO action) {
+        Duration timeToLive = Duration.ofSeconds(action.getActionConfiguration().getResultCacheTimeToLiveInSeconds());
+        return timeToLive.compareTo(MAX_TIME_TO_LIVE) > 0 ? MAX_TIME_TO_LIVE : timeToLive;
+    }
+
+    private ActionResultCacheInfo recordExecution(String actionId, boolean isHit) {
+        ActionStats stats;
+        synchronized (statsByActionId) {
+            stats = statsByActionId.get(actionId) instanceof ActionStats cachedStats ? cachedStats : new ActionStats();
+            // Put back on every execution, so that only the stats of the actions that stopped being executed expire
+            statsByActionId.put(actionId, stats);
+        }
+        (isHit ? stats.hits : stats.misses).increment();
+
+        long hitCount = stats.hits.sum();
+        long missCount = stats.misses.sum();
+        return new ActionResultCacheInfo(isHit, hitCount, missCount, (double) hitCount / (hitCount + missCount));
+    }
+}
@@ -1,5 +1,5 @@
-package com.appsmith.server.helpers;
-
-import com.appsmith.server.helpers.ce.AppsmithComparatorsCE;
-
-public class AppsmithComparators extends AppsmithComparatorsCE {}
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.helpers.ce.AppsmithComparatorsCE;
+
+public class AppsmithComparators extends AppsmithComparatorsCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.helpers;
-
-import com.appsmith.server.helpers.ce.InstanceConfigHelperCE;
-
-public interface InstanceConfigHelper extends InstanceConfigHelperCE {}
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.helpers.ce.InstanceConfigHelperCE;
+
+public interface InstanceConfigHelper extends InstanceConfigHelperCE {}
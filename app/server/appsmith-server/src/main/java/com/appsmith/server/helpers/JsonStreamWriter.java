@@ -0,0 +1,105 @@
+package com.appsmith.server.helpers;
+
+import com.google.gson.Gson;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes a JSON object as a stream of chunks, one value at a time, so that a large object is never held in memory as a
+ * whole. Only the value being written, e.g. one element of an array, is serialized at a time.
+ * <p>
+ * The fields are written in the order they are given, and each of them is only assembled once the fields before it are
+ * written, so that a field can depend on what was collected while writing the previous ones.
+ */
+public class JsonStreamWriter {
+
+    private final Gson gson;
+
+    public JsonStreamWriter(Gson gson) {
+        this.gson = gson;
+    }
+
+    /**
+     * A JSON object made of the given fields, as returned by {@link #field} and {@link #arrayField}.
+     */
+    public Flux<byte[]> object(List<Flux<byte[]>> fields) {
+        List<Flux<byte[]>> chunks = new ArrayList<>();
+        chunks.add(Flux.just(bytes("{")));
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                chunks.add(Flux.just(bytes(",")));
+            }
+            chunks.add(fields.get(i));
+        }
+        chunks.add(Flux.just(bytes("}")));
+        return Flux.concat(chunks);
+    }
+
+    public Flux<byte[]> field(String name, Mono<?> valueMono) {
+        return valueMono
+                .map(value -> bytes(gson.toJson(name) + ":" + gson.toJson(value)))
+                .defaultIfEmpty(bytes(gson.toJson(name) + ":null"))
+                .flux();
+    }
+
+    public Flux<byte[]> arrayField(String name, Flux<?> values) {
+        return Flux.concat(
+                Flux.just(bytes(gson.toJson(name) + ":[")),
+                values.index().map(value -> bytes((value.getT1() == 0 ? "" : ",") + gson.toJson(value.getT2()))),
+                Flux.just(bytes("]")));
+    }
+
+    /**
+     * Turns the chunks into buffers to be written to a response, compressing them with gzip if asked to.
+     */
+    public static Flux<DataBuffer> toDataBuffers(Flux<byte[]> chunks, boolean gzip) {
+        Flux<byte[]> encodedChunks = gzip ? gzip(chunks) : chunks;
+        return encodedChunks.map(DefaultDataBufferFactory.sharedInstance::wrap);
+    }
+
+    private static Flux<byte[]> gzip(Flux<byte[]> chunks) {
+        return Flux.defer(() -> {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            GZIPOutputStream gzipStream;
+            try {
+                gzipStream = new GZIPOutputStream(compressed);
+            } catch (IOException e) {
+                return Flux.error(e);
+            }
+
+            return chunks.<byte[]>handle((chunk, sink) -> {
+                        try {
+                            gzipStream.write(chunk);
+                            sink.next(drain(compressed));
+                        } catch (IOException e) {
+                            sink.error(e);
+                        }
+                    })
+                    .concatWith(Mono.fromCallable(() -> {
+                        gzipStream.finish();
+                        return drain(compressed);
+                    }))
+                    // The compressor holds on to its input until it has enough of it to compress
+                    .filter(bytes -> bytes.length > 0);
+        });
+    }
+
+    private static byte[] drain(ByteArrayOutputStream outputStream) {
+        byte[] bytes = outputStream.toByteArray();
+        outputStream.reset();
+        return bytes;
+    }
+
+    private static byte[] bytes(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
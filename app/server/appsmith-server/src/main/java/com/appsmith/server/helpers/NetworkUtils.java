@@ -1,7 +1,7 @@
-package com.appsmith.server.helpers;
-
-import com.appsmith.server.helpers.ce.NetworkUtilsCE;
-import org.springframework.stereotype.Component;
-
-@Component
-public class NetworkUtils extends NetworkUtilsCE {}
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.helpers.ce.NetworkUtilsCE;
+import org.springframework.stereotype.Component;
+
+@Component
+public class NetworkUtils extends NetworkUtilsCE {}
@@ -1,44 +1,67 @@
-package com.appsmith.server.helpers;
-
-import com.appsmith.external.plugins.PluginExecutor;
-import com.appsmith.server.domains.Plugin;
-import com.appsmith.server.exceptions.AppsmithError;
-import com.appsmith.server.exceptions.AppsmithException;
-import org.pf4j.PluginManager;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.stereotype.Component;
-import reactor.core.publisher.Mono;
-
-import java.util.List;
-
-@Component
-public class PluginExecutorHelper {
-
-    private final PluginManager pluginManager;
-
-    @Autowired
-    public PluginExecutorHelper(PluginManager pluginManager) {
-        this.pluginManager = pluginManager;
-    }
-
-    public Mono<PluginExecutor> getPluginExecutor(Mono<Plugin> pluginMono) {
-        return pluginMono.flatMap(plugin -> {
-            List<PluginExecutor> executorList =
-                    pluginManager.getExtensions(PluginExecutor.class, plugin.getPackageName());
-            if (executorList.isEmpty()) {
-                return Mono.error(
-                        new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, "plugin", plugin.getPackageName()));
-            }
-            return Mono.just(executorList.get(0));
-        });
-    }
-
-    public Mono<PluginExecutor> getPluginExecutorFromPackageName(String packageName) {
-
-        List<PluginExecutor> executorList = pluginManager.getExtensions(PluginExecutor.class, packageName);
-        if (executorList.isEmpty()) {
-            return Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, "plugin", packageName));
-        }
-        return Mono.just(executorList.get(0));
-    }
-}
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.pf4j.PluginManager;
+import org.pf4j.PluginWrapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Component
+public class PluginExecutorHelper {
+
+    private final PluginManager pluginManager;
+
+    /*
+     * The executors of all the started plugins, by package name. PF4J walks its extension index and creates a new
+     * executor on every lookup, so they are looked up once, when the plugins are started. This map is never modified,
+     * it's replaced as a whole whenever plugins are started or stopped, e.g. when a plugin is installed.
+     */
+    private volatile Map<String, PluginExecutor> pluginExecutors = Map.of();
+
+    @Autowired
+    public PluginExecutorHelper(PluginManager pluginManager) {
+        this.pluginManager = pluginManager;
+    }
+
+    @PostConstruct
+    public void init() {
+        refreshPluginExecutors();
+        pluginManager.addPluginStateListener(event -> refreshPluginExecutors());
+    }
+
+    public synchronized void refreshPluginExecutors() {
+        Map<String, PluginExecutor> startedPluginExecutors = new HashMap<>();
+        for (PluginWrapper pluginWrapper : pluginManager.getStartedPlugins()) {
+            List<PluginExecutor> executorList =
+                    pluginManager.getExtensions(PluginExecutor.class, pluginWrapper.getPluginId());
+            if (!executorList.isEmpty()) {
+                startedPluginExecutors.put(pluginWrapper.getPluginId(), executorList.get(0));
+            }
+        }
+        pluginExecutors = Map.copyOf(startedPluginExecutors);
+        log.debug("Resolved the executors of {} started plugins", pluginExecutors.size());
+    }
+
+    public Mono<PluginExecutor> getPluginExecutor(Mono<Plugin> pluginMono) {
+        return pluginMono.flatMap(plugin -> getPluginExecutorFromPackageName(plugin.getPackageName()));
+    }
+
+    public Mono<PluginExecutor> getPluginExecutorFromPackageName(String packageName) {
+        PluginExecutor pluginExecutor = packageName == null ? null : pluginExecutors.get(packageName);
+        if (pluginExecutor == null) {
+            return Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, "plugin", packageName));
+        }
+        return Mono.just(pluginExecutor);
+    }
+}
@@ -1,5 +1,5 @@
-package com.appsmith.server.helpers;
-
-import com.appsmith.server.helpers.ce.PluginScheduledTaskUtilsCE;
-
-public interface PluginScheduledTaskUtils extends PluginScheduledTaskUtilsCE {}
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.helpers.ce.PluginScheduledTaskUtilsCE;
+
+public interface PluginScheduledTaskUtils extends PluginScheduledTaskUtilsCE {}
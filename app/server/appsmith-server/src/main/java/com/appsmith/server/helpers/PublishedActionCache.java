@@ -0,0 +1,195 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.caching.components.LocalCache;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.helpers.ce.PolicyUtil;
+import com.appsmith.server.repositories.PermissionGroupRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Caches the published actions executed in view mode, along with their plugin, so that executing a published action
+ * again doesn't read the action and its plugin from the database. A published action only changes when its application
+ * is published, or imported from git, so the actions of an application are evicted then, as well as when an action or
+ * the datasource it uses is updated, and when the policies of the actions of an application change, e.g. when it is
+ * made private.
+ * <p>
+ * Evictions are broadcast over Redis pub/sub so that every server drops its copy. A server that misses a broadcast, say
+ * while it is reconnecting to Redis, executes the previous version of the action for at most the time to live.
+ * <p>
+ * The permission of the user to execute the action is checked against the policies of the cached action on every
+ * read. The datasource of the action isn't cached, as its credentials may be refreshed while it is being executed.
+ */
+@Slf4j
+@Component
+public class PublishedActionCache {
+
+    public static final String INVALIDATION_CHANNEL = "appsmith:published-action-invalidation";
+
+    private static final String INVALIDATE_APPLICATION_PREFIX = "application:";
+
+    private static final String INVALIDATE_ACTION_PREFIX = "action:";
+
+    private static final String INVALIDATE_DATASOURCE_PREFIX = "datasource:";
+
+    private static final int MAX_CACHED_ACTIONS = 5000;
+
+    private static final Duration CACHED_ACTION_TIME_TO_LIVE = Duration.ofMinutes(10);
+
+    private final MongoConverter mongoConverter;
+
+    private final PermissionGroupRepository permissionGroupRepository;
+
+    private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
+
+    private final LocalCache actions =
+            new LocalCache(MAX_CACHED_ACTIONS, CACHED_ACTION_TIME_TO_LIVE, Clock.systemUTC());
+
+    private Disposable invalidationSubscription;
+
+    public PublishedActionCache(
+            MongoConverter mongoConverter,
+            PermissionGroupRepository permissionGroupRepository,
+            ReactiveRedisOperations<String, String> reactiveRedisOperations) {
+        this.mongoConverter = mongoConverter;
+        this.permissionGroupRepository = permissionGroupRepository;
+        this.reactiveRedisOperations = reactiveRedisOperations;
+    }
+
+    /**
+     * A published action, ready to be executed, and its plugin. Neither of them is modified once cached, the plugins
+     * are given a copy of the action to execute.
+     */
+    public record CachedAction(ActionDTO action, Plugin plugin) {}
+
+    /**
+     * Listens to evictions made by other servers, so that they are applied to this one as well.
+     */
+    @PostConstruct
+    public void subscribeToInvalidations() {
+        invalidationSubscription = reactiveRedisOperations
+                .listenToChannel(INVALIDATION_CHANNEL)
+                .doOnNext(message -> applyInvalidation(message.getMessage()))
+                .doOnError(error -> {
+                    // Evictions may be missed until we subscribe again, so nothing cached so far can be trusted
+                    log.warn("Error listening to published action invalidations, clearing the cache", error);
+                    actions.clear();
+                })
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void unsubscribeFromInvalidations() {
+        if (invalidationSubscription != null) {
+            invalidationSubscription.dispose();
+        }
+    }
+
+    private void applyInvalidation(String message) {
+        if (message.startsWith(INVALIDATE_APPLICATION_PREFIX)) {
+            String applicationId = message.substring(INVALIDATE_APPLICATION_PREFIX.length());
+            actions.invalidateValues(value ->
+                    applicationId.equals(((CachedAction) value).action().getApplicationId()));
+        } else if (message.startsWith(INVALIDATE_ACTION_PREFIX)) {
+            actions.invalidate(message.substring(INVALIDATE_ACTION_PREFIX.length()));
+        } else if (message.startsWith(INVALIDATE_DATASOURCE_PREFIX)) {
+            String datasourceId = message.substring(INVALIDATE_DATASOURCE_PREFIX.length());
+            actions.invalidateValues(value -> datasourceId.equals(
+                    ((CachedAction) value).action().getDatasource().getId()));
+        } else {
+            log.warn("Ignoring unknown published action invalidation message {}", message);
+        }
+    }
+
+    public long getGeneration() {
+        return actions.getGeneration();
+    }
+
+    /**
+     * Returns a copy of the cached action, and its plugin, if the current user has the given permission on it.
+     * Empty if the action isn't cached, or if the user doesn't have the permission, so that the action is then read
+     * from the database, which fails the way it would without the cache.
+     */
+    public Mono<CachedAction> get(String actionId, AclPermission permission) {
+        CachedAction cachedAction = (CachedAction) actions.get(actionId);
+        if (cachedAction == null) {
+            return Mono.empty();
+        }
+
+        return permissionGroupRepository
+                .getCurrentUserPermissionGroups()
+                .filter(permissionGroups -> PolicyUtil.isPermissionPresentInPolicies(
+                        permission.getValue(), cachedAction.action().getPolicies(), permissionGroups))
+                .map(permissionGroups -> new CachedAction(copy(cachedAction.action()), cachedAction.plugin()));
+    }
+
+    /**
+     * Caches a copy of the action and its plugin, unless an eviction happened since the given generation was read.
+     * Only the actions with a datasource of their own are cached, as the datasources embedded in actions are modified
+     * when they are executed.
+     */
+    public void put(ActionDTO action, Plugin plugin, long generation) {
+        if (action.getDatasource() == null || action.getDatasource().getId() == null) {
+            return;
+        }
+        actions.putIfGeneration(action.getId(), new CachedAction(copy(action), plugin), null, generation);
+    }
+
+    public Mono<Void> invalidateApplication(String applicationId) {
+        return publishInvalidation(INVALIDATE_APPLICATION_PREFIX + applicationId);
+    }
+
+    public Mono<Void> invalidateAction(String actionId) {
+        return publishInvalidation(INVALIDATE_ACTION_PREFIX + actionId);
+    }
+
+    public Mono<Void> invalidateDatasource(String datasourceId) {
+        return publishInvalidation(INVALIDATE_DATASOURCE_PREFIX + datasourceId);
+    }
+
+    /**
+     * Tells every server, including this one, to drop the given actions. They are dropped from this one right away,
+     * in case the broadcast doesn't go through.
+     */
+    private Mono<Void> publishInvalidation(String message) {
+        applyInvalidation(message);
+        return reactiveRedisOperations
+                .convertAndSend(INVALIDATION_CHANNEL, message)
+                .onErrorResume(error -> {
+                    log.error("Error publishing published action invalidation {}", message, error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * Copies the action, with a copy of its configuration, which the plugins render the parameters of the execution
+     * into. The configuration is copied the way it's stored, so the copy is the same as one read from the database.
+     */
+    private ActionDTO copy(ActionDTO action) {
+        ActionDTO copy = new ActionDTO();
+        BeanUtils.copyProperties(action, copy);
+        if (action.getActionConfiguration() != null) {
+            Document document = new Document();
+            mongoConverter.write(action.getActionConfiguration(), document);
+            copy.setActionConfiguration(mongoConverter.read(ActionConfiguration.class, document));
+        }
+        return copy;
+    }
+}
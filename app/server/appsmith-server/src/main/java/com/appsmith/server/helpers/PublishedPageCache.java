@@ -0,0 +1,132 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.caching.components.LocalCache;
+import com.appsmith.external.views.Views;
+import com.appsmith.server.domains.NewPage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Caches the responses of the pages fetched in view mode, serialized and compressed, so that navigating through a
+ * published app doesn't read the DSL of every page from the database and serialize it again on every request.
+ * <p>
+ * A response is cached under the version of the page it was built from, i.e. the time the page was last published, along
+ * with the permissions of the user on the page, since those are a part of the response. Editing the page doesn't change
+ * its published version, so the cached response is kept while the page is being edited, and is only replaced once the
+ * page is published again. The pages of an application are evicted when it is published as well, as the older versions
+ * of its pages won't be asked for anymore.
+ */
+@Component
+public class PublishedPageCache {
+
+    private static final int MAX_CACHED_PAGES = 200;
+
+    private static final Duration CACHED_PAGE_TIME_TO_LIVE = Duration.ofHours(1);
+
+    // The clients revalidate the page on every navigation, since it changes whenever the app is published
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    private final ObjectMapper objectMapper;
+
+    private final LocalCache pages = new LocalCache(MAX_CACHED_PAGES, CACHED_PAGE_TIME_TO_LIVE, Clock.systemUTC());
+
+    public PublishedPageCache(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * A response serialized with the public view, compressed with gzip, along with its strong ETag.
+     */
+    public record CachedPage(byte[] gzippedBody, String eTag) {
+
+        /**
+         * Responds with the page, or with a 304 if the client already has this version of it. The compressed body is
+         * sent as is to the clients that accept gzip.
+         */
+        public ResponseEntity<byte[]> toResponseEntity(HttpHeaders requestHeaders) throws IOException {
+            List<String> ifNoneMatch = requestHeaders.getIfNoneMatch();
+            if (ifNoneMatch.contains("*") || ifNoneMatch.contains(eTag) || ifNoneMatch.contains("W/" + eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(eTag)
+                        .cacheControl(CACHE_CONTROL)
+                        .build();
+            }
+
+            ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.ok()
+                    .eTag(eTag)
+                    .cacheControl(CACHE_CONTROL)
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .contentType(MediaType.APPLICATION_JSON);
+            if (acceptsGzip(requestHeaders)) {
+                return responseBuilder
+                        .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                        .body(gzippedBody);
+            }
+            try (GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(gzippedBody))) {
+                return responseBuilder.body(gzipInputStream.readAllBytes());
+            }
+        }
+
+        private static boolean acceptsGzip(HttpHeaders requestHeaders) {
+            return requestHeaders.getOrEmpty(HttpHeaders.ACCEPT_ENCODING).stream()
+                    .flatMap(value -> List.of(value.split(",")).stream())
+                    .map(encoding -> encoding.split(";")[0].trim())
+                    .anyMatch("gzip"::equalsIgnoreCase);
+        }
+    }
+
+    /**
+     * The key the response for the given page is cached under. Only the id, the application id, the publish time and
+     * the user permissions of the page are used, so the page may be read without its layouts.
+     */
+    public static String getKey(NewPage newPage) {
+        String userPermissions = newPage.getUserPermissions() == null
+                ? ""
+                : String.join(",", new TreeSet<>(newPage.getUserPermissions()));
+        long version = newPage.getLastPublishedAt() == null
+                ? 0
+                : newPage.getLastPublishedAt().toEpochMilli();
+        return newPage.getApplicationId() + ":" + newPage.getId() + ":" + version + ":"
+                + DigestUtils.sha256Hex(userPermissions);
+    }
+
+    public CachedPage get(String key) {
+        return (CachedPage) pages.get(key);
+    }
+
+    /**
+     * Serializes the response, the way the controllers would with the public view, and caches it under the given key.
+     */
+    public CachedPage put(String key, Object response) throws IOException {
+        byte[] body = objectMapper.writerWithView(Views.Public.class).writeValueAsBytes(response);
+
+        ByteArrayOutputStream gzippedBody = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(gzippedBody)) {
+            gzipOutputStream.write(body);
+        }
+
+        CachedPage cachedPage = new CachedPage(gzippedBody.toByteArray(), "\"" + DigestUtils.sha256Hex(body) + "\"");
+        pages.put(key, cachedPage);
+        return cachedPage;
+    }
+
+    public void invalidateApplication(String applicationId) {
+        pages.invalidateAll(applicationId + ":");
+    }
+}
@@ -1,33 +1,85 @@
-package com.appsmith.server.helpers;
-
-import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.ReactiveRedisOperations;
-import org.springframework.stereotype.Component;
-import reactor.core.publisher.Mono;
-
-import java.time.Duration;
-
-@Component
-@RequiredArgsConstructor
-public class RedisUtils {
-    private final ReactiveRedisOperations<String, String> redisOperations;
-
-    private static final String REDIS_FILE_LOCK_VALUE = "inUse";
-
-    private static final Duration FILE_LOCK_TIME_LIMIT = Duration.ofSeconds(20);
-
-    public Mono<Boolean> addFileLock(String key) {
-        // TODO Remove this once we are sure that the file lock is working as expected.
-        return Mono.just(true);
-        /*return redisOperations.hasKey(key).flatMap(isKeyPresent -> {
-            if (Boolean.TRUE.equals(isKeyPresent)) {
-                return Mono.error(new AppsmithException(AppsmithError.GIT_FILE_IN_USE));
-            }
-            return redisOperations.opsForValue().set(key, REDIS_FILE_LOCK_VALUE, FILE_LOCK_TIME_LIMIT);
-        });*/
-    }
-
-    public Mono<Boolean> releaseFileLock(String key) {
-        return redisOperations.opsForValue().delete(key);
-    }
-}
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.DefaultResources;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisUtils {
+    private final ReactiveRedisOperations<String, String> redisOperations;
+
+    private static final String REDIS_FILE_LOCK_VALUE = "inUse";
+
+    private static final Duration FILE_LOCK_TIME_LIMIT = Duration.ofSeconds(20);
+
+    private static final String GIT_EDIT_VERSION_KEY_PREFIX = "gitEditVersion:";
+
+    public Mono<Boolean> addFileLock(String key) {
+        // TODO Remove this once we are sure that the file lock is working as expected.
+        return Mono.just(true);
+        /*return redisOperations.hasKey(key).flatMap(isKeyPresent -> {
+            if (Boolean.TRUE.equals(isKeyPresent)) {
+                return Mono.error(new AppsmithException(AppsmithError.GIT_FILE_IN_USE));
+            }
+            return redisOperations.opsForValue().set(key, REDIS_FILE_LOCK_VALUE, FILE_LOCK_TIME_LIMIT);
+        });*/
+    }
+
+    public Mono<Boolean> releaseFileLock(String key) {
+        return redisOperations.opsForValue().delete(key);
+    }
+
+    /**
+     * Counts the edits made to a branch of a git connected application, so that the git status of the branch can be
+     * reused for as long as nothing is edited. Applications which aren't connected to git have no branch, and nothing
+     * is counted for them.
+     * A failure to count is logged and swallowed, so that it never fails the edit itself.
+     */
+    public Mono<Long> incrementGitEditVersion(String defaultApplicationId, String branchName) {
+        if (!StringUtils.hasLength(defaultApplicationId) || !StringUtils.hasLength(branchName)) {
+            return Mono.empty();
+        }
+        final String key = getGitEditVersionKey(defaultApplicationId, branchName);
+        return initializeGitEditVersion(key)
+                .then(redisOperations.opsForValue().increment(key))
+                .onErrorResume(error -> {
+                    log.warn("Failed to increment the edit version {}", key, error);
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Counts an edit made to a resource of a git connected application, e.g. a page or an action, on its branch.
+     */
+    public Mono<Long> incrementGitEditVersion(DefaultResources defaultResources) {
+        if (defaultResources == null) {
+            return Mono.empty();
+        }
+        return incrementGitEditVersion(defaultResources.getApplicationId(), defaultResources.getBranchName());
+    }
+
+    public Mono<Long> getGitEditVersion(String defaultApplicationId, String branchName) {
+        final String key = getGitEditVersionKey(defaultApplicationId, branchName);
+        return initializeGitEditVersion(key)
+                .then(redisOperations.opsForValue().get(key))
+                .map(Long::valueOf);
+    }
+
+    // Versions start from the current time rather than from zero, so that when a version is lost along with the data
+    // in Redis, it starts over from a number that wasn't handed out before
+    private Mono<Boolean> initializeGitEditVersion(String key) {
+        return redisOperations.opsForValue().setIfAbsent(key, String.valueOf(System.currentTimeMillis()));
+    }
+
+    private static String getGitEditVersionKey(String defaultApplicationId, String branchName) {
+        return GIT_EDIT_VERSION_KEY_PREFIX + defaultApplicationId + ":" + branchName;
+    }
+}
@@ -1,5 +1,5 @@
-package com.appsmith.server.helpers;
-
-import com.appsmith.server.helpers.ce.ReleaseNotesUtilsCE;
-
-public interface ReleaseNotesUtils extends ReleaseNotesUtilsCE {}
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.helpers.ce.ReleaseNotesUtilsCE;
+
+public interface ReleaseNotesUtils extends ReleaseNotesUtilsCE {}
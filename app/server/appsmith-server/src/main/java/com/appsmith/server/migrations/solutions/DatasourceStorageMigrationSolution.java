@@ -1,7 +1,7 @@
-package com.appsmith.server.migrations.solutions;
-
-import com.appsmith.server.migrations.solutions.ce.DatasourceStorageMigrationSolutionCE;
-import lombok.NoArgsConstructor;
-
-@NoArgsConstructor
-public class DatasourceStorageMigrationSolution extends DatasourceStorageMigrationSolutionCE {}
+package com.appsmith.server.migrations.solutions;
+
+import com.appsmith.server.migrations.solutions.ce.DatasourceStorageMigrationSolutionCE;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+public class DatasourceStorageMigrationSolution extends DatasourceStorageMigrationSolutionCE {}
@@ -1,7 +1,7 @@
-package com.appsmith.server.migrations.solutions;
-
-import com.appsmith.server.migrations.solutions.ce.UpdateSuperUserMigrationHelperCE;
-import lombok.NoArgsConstructor;
-
-@NoArgsConstructor
-public class UpdateSuperUserMigrationHelper extends UpdateSuperUserMigrationHelperCE {}
+package com.appsmith.server.migrations.solutions;
+
+import com.appsmith.server.migrations.solutions.ce.UpdateSuperUserMigrationHelperCE;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+public class UpdateSuperUserMigrationHelper extends UpdateSuperUserMigrationHelperCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.ApiTemplateRepositoryCE;
-
-public interface ApiTemplateRepository extends ApiTemplateRepositoryCE, CustomApiTemplateRepository {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.ApiTemplateRepositoryCE;
+
+public interface ApiTemplateRepository extends ApiTemplateRepositoryCE, CustomApiTemplateRepository {}
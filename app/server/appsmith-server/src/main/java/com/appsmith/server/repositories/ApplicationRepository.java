@@ -1,7 +1,7 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.ApplicationRepositoryCE;
-import org.springframework.stereotype.Repository;
-
-@Repository
-public interface ApplicationRepository extends ApplicationRepositoryCE, CustomApplicationRepository {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.ApplicationRepositoryCE;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ApplicationRepository extends ApplicationRepositoryCE, CustomApplicationRepository {}
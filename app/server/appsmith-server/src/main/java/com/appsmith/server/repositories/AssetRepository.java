@@ -1,7 +1,7 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.AssetRepositoryCE;
-import org.springframework.stereotype.Repository;
-
-@Repository
-public interface AssetRepository extends AssetRepositoryCE {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.AssetRepositoryCE;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AssetRepository extends AssetRepositoryCE {}
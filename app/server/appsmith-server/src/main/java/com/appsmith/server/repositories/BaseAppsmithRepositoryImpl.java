@@ -1,19 +1,19 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.external.models.BaseDomain;
-import com.appsmith.server.repositories.ce.BaseAppsmithRepositoryCEImpl;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.mongodb.core.ReactiveMongoOperations;
-import org.springframework.data.mongodb.core.convert.MongoConverter;
-
-@Slf4j
-public abstract class BaseAppsmithRepositoryImpl<T extends BaseDomain> extends BaseAppsmithRepositoryCEImpl<T> {
-
-    public BaseAppsmithRepositoryImpl(
-            ReactiveMongoOperations mongoOperations,
-            MongoConverter mongoConverter,
-            CacheableRepositoryHelper cacheableRepositoryHelper) {
-
-        super(mongoOperations, mongoConverter, cacheableRepositoryHelper);
-    }
-}
+package com.appsmith.server.repositories;
+
+import com.appsmith.external.models.BaseDomain;
+import com.appsmith.server.repositories.ce.BaseAppsmithRepositoryCEImpl;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+@Slf4j
+public abstract class BaseAppsmithRepositoryImpl<T extends BaseDomain> extends BaseAppsmithRepositoryCEImpl<T> {
+
+    public BaseAppsmithRepositoryImpl(
+            ReactiveMongoOperations mongoOperations,
+            MongoConverter mongoConverter,
+            CacheableRepositoryHelper cacheableRepositoryHelper) {
+
+        super(mongoOperations, mongoConverter, cacheableRepositoryHelper);
+    }
+}
@@ -1,5 +1,5 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.CacheableRepositoryHelperCE;
-
-public interface CacheableRepositoryHelper extends CacheableRepositoryHelperCE {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.CacheableRepositoryHelperCE;
+
+public interface CacheableRepositoryHelper extends CacheableRepositoryHelperCE {}
@@ -1,7 +1,7 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.ConfigRepositoryCE;
-import org.springframework.stereotype.Repository;
-
-@Repository
-public interface ConfigRepository extends ConfigRepositoryCE, CustomConfigRepository {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.ConfigRepositoryCE;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ConfigRepository extends ConfigRepositoryCE, CustomConfigRepository {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.CustomActionCollectionRepositoryCE;
-
-public interface CustomActionCollectionRepository extends CustomActionCollectionRepositoryCE {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.CustomActionCollectionRepositoryCE;
+
+public interface CustomActionCollectionRepository extends CustomActionCollectionRepositoryCE {}
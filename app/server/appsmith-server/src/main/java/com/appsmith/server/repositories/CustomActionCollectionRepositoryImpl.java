@@ -1,18 +1,18 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.CustomActionCollectionRepositoryCEImpl;
-import org.springframework.data.mongodb.core.ReactiveMongoOperations;
-import org.springframework.data.mongodb.core.convert.MongoConverter;
-import org.springframework.stereotype.Component;
-
-@Component
-public class CustomActionCollectionRepositoryImpl extends CustomActionCollectionRepositoryCEImpl
-        implements CustomActionCollectionRepository {
-
-    public CustomActionCollectionRepositoryImpl(
-            ReactiveMongoOperations mongoOperations,
-            MongoConverter mongoConverter,
-            CacheableRepositoryHelper cacheableRepositoryHelper) {
-        super(mongoOperations, mongoConverter, cacheableRepositoryHelper);
-    }
-}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.CustomActionCollectionRepositoryCEImpl;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CustomActionCollectionRepositoryImpl extends CustomActionCollectionRepositoryCEImpl
+        implements CustomActionCollectionRepository {
+
+    public CustomActionCollectionRepositoryImpl(
+            ReactiveMongoOperations mongoOperations,
+            MongoConverter mongoConverter,
+            CacheableRepositoryHelper cacheableRepositoryHelper) {
+        super(mongoOperations, mongoConverter, cacheableRepositoryHelper);
+    }
+}
@@ -1,5 +1,5 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.CustomActionRepositoryCE;
-
-public interface CustomActionRepository extends CustomActionRepositoryCE {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.CustomActionRepositoryCE;
+
+public interface CustomActionRepository extends CustomActionRepositoryCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.CustomApiTemplateRepositoryCE;
-
-public interface CustomApiTemplateRepository extends CustomApiTemplateRepositoryCE {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.CustomApiTemplateRepositoryCE;
+
+public interface CustomApiTemplateRepository extends CustomApiTemplateRepositoryCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.CustomApplicationRepositoryCE;
-
-public interface CustomApplicationRepository extends CustomApplicationRepositoryCE {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.CustomApplicationRepositoryCE;
+
+public interface CustomApplicationRepository extends CustomApplicationRepositoryCE {}
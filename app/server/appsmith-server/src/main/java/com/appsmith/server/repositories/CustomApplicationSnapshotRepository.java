@@ -1,5 +1,5 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.CustomApplicationSnapshotRepositoryCE;
-
-public interface CustomApplicationSnapshotRepository extends CustomApplicationSnapshotRepositoryCE {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.CustomApplicationSnapshotRepositoryCE;
+
+public interface CustomApplicationSnapshotRepository extends CustomApplicationSnapshotRepositoryCE {}
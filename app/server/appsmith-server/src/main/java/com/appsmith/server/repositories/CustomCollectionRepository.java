@@ -1,5 +1,5 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.CustomCollectionRepositoryCE;
-
-public interface CustomCollectionRepository extends CustomCollectionRepositoryCE {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.CustomCollectionRepositoryCE;
+
+public interface CustomCollectionRepository extends CustomCollectionRepositoryCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.CustomConfigRepositoryCE;
-
-public interface CustomConfigRepository extends CustomConfigRepositoryCE {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.CustomConfigRepositoryCE;
+
+public interface CustomConfigRepository extends CustomConfigRepositoryCE {}
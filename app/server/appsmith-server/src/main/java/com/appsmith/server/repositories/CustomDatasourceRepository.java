@@ -1,5 +1,5 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.CustomDatasourceRepositoryCE;
-
-public interface CustomDatasourceRepository extends CustomDatasourceRepositoryCE {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.CustomDatasourceRepositoryCE;
+
+public interface CustomDatasourceRepository extends CustomDatasourceRepositoryCE {}
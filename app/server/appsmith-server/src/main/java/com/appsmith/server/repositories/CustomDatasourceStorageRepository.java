@@ -1,5 +1,5 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.CustomDatasourceStorageRepositoryCE;
-
-public interface CustomDatasourceStorageRepository extends CustomDatasourceStorageRepositoryCE {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.CustomDatasourceStorageRepositoryCE;
+
+public interface CustomDatasourceStorageRepository extends CustomDatasourceStorageRepositoryCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.CustomDatasourceStructureRepositoryCE;
-
-public interface CustomDatasourceStructureRepository extends CustomDatasourceStructureRepositoryCE {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.CustomDatasourceStructureRepositoryCE;
+
+public interface CustomDatasourceStructureRepository extends CustomDatasourceStructureRepositoryCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.CustomGroupRepositoryCE;
-
-public interface CustomGroupRepository extends CustomGroupRepositoryCE {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.CustomGroupRepositoryCE;
+
+public interface CustomGroupRepository extends CustomGroupRepositoryCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.CustomNewActionRepositoryCE;
-
-public interface CustomNewActionRepository extends CustomNewActionRepositoryCE {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.CustomNewActionRepositoryCE;
+
+public interface CustomNewActionRepository extends CustomNewActionRepositoryCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.CustomNewPageRepositoryCE;
-
-public interface CustomNewPageRepository extends CustomNewPageRepositoryCE {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.CustomNewPageRepositoryCE;
+
+public interface CustomNewPageRepository extends CustomNewPageRepositoryCE {}
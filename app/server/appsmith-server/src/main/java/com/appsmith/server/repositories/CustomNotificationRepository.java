@@ -1,5 +1,5 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.CustomNotificationRepositoryCE;
-
-public interface CustomNotificationRepository extends CustomNotificationRepositoryCE {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.CustomNotificationRepositoryCE;
+
+public interface CustomNotificationRepository extends CustomNotificationRepositoryCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.CustomPageRepositoryCE;
-
-public interface CustomPageRepository extends CustomPageRepositoryCE {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.CustomPageRepositoryCE;
+
+public interface CustomPageRepository extends CustomPageRepositoryCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.CustomPermissionGroupRepositoryCE;
-
-public interface CustomPermissionGroupRepository extends CustomPermissionGroupRepositoryCE {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.CustomPermissionGroupRepositoryCE;
+
+public interface CustomPermissionGroupRepository extends CustomPermissionGroupRepositoryCE {}
@@ -1,18 +1,18 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.CustomPermissionGroupRepositoryCEImpl;
-import org.springframework.data.mongodb.core.ReactiveMongoOperations;
-import org.springframework.data.mongodb.core.convert.MongoConverter;
-import org.springframework.stereotype.Component;
-
-@Component
-public class CustomPermissionGroupRepositoryImpl extends CustomPermissionGroupRepositoryCEImpl
-        implements CustomPermissionGroupRepository {
-
-    public CustomPermissionGroupRepositoryImpl(
-            ReactiveMongoOperations mongoOperations,
-            MongoConverter mongoConverter,
-            CacheableRepositoryHelper cacheableRepositoryHelper) {
-        super(mongoOperations, mongoConverter, cacheableRepositoryHelper);
-    }
-}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.CustomPermissionGroupRepositoryCEImpl;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CustomPermissionGroupRepositoryImpl extends CustomPermissionGroupRepositoryCEImpl
+        implements CustomPermissionGroupRepository {
+
+    public CustomPermissionGroupRepositoryImpl(
+            ReactiveMongoOperations mongoOperations,
+            MongoConverter mongoConverter,
+            CacheableRepositoryHelper cacheableRepositoryHelper) {
+        super(mongoOperations, mongoConverter, cacheableRepositoryHelper);
+    }
+}
@@ -1,5 +1,5 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.CustomPluginRepositoryCE;
-
-public interface CustomPluginRepository extends CustomPluginRepositoryCE {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.CustomPluginRepositoryCE;
+
+public interface CustomPluginRepository extends CustomPluginRepositoryCE {}
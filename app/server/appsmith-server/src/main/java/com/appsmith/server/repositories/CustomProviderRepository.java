@@ -1,5 +1,5 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.CustomProviderRepositoryCE;
-
-public interface CustomProviderRepository extends CustomProviderRepositoryCE {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.CustomProviderRepositoryCE;
+
+public interface CustomProviderRepository extends CustomProviderRepositoryCE {}
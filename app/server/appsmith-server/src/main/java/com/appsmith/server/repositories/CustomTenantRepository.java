@@ -1,5 +1,5 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.CustomTenantRepositoryCE;
-
-public interface CustomTenantRepository extends CustomTenantRepositoryCE {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.CustomTenantRepositoryCE;
+
+public interface CustomTenantRepository extends CustomTenantRepositoryCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.CustomThemeRepositoryCE;
-
-public interface CustomThemeRepository extends CustomThemeRepositoryCE {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.CustomThemeRepositoryCE;
+
+public interface CustomThemeRepository extends CustomThemeRepositoryCE {}
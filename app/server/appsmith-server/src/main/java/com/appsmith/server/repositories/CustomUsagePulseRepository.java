@@ -1,5 +1,5 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.CustomUsagePulseRepositoryCE;
-
-public interface CustomUsagePulseRepository extends CustomUsagePulseRepositoryCE {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.CustomUsagePulseRepositoryCE;
+
+public interface CustomUsagePulseRepository extends CustomUsagePulseRepositoryCE {}
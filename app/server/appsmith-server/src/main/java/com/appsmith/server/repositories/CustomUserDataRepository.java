@@ -1,5 +1,5 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.CustomUserDataRepositoryCE;
-
-public interface CustomUserDataRepository extends CustomUserDataRepositoryCE {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.CustomUserDataRepositoryCE;
+
+public interface CustomUserDataRepository extends CustomUserDataRepositoryCE {}
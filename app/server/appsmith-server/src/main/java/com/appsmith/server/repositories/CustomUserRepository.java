@@ -1,5 +1,5 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.CustomUserRepositoryCE;
-
-public interface CustomUserRepository extends CustomUserRepositoryCE {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.CustomUserRepositoryCE;
+
+public interface CustomUserRepository extends CustomUserRepositoryCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.CustomWorkspaceRepositoryCE;
-
-public interface CustomWorkspaceRepository extends CustomWorkspaceRepositoryCE {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.CustomWorkspaceRepositoryCE;
+
+public interface CustomWorkspaceRepository extends CustomWorkspaceRepositoryCE {}
@@ -1,7 +1,7 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.DatasourceRepositoryCE;
-import org.springframework.stereotype.Repository;
-
-@Repository
-public interface DatasourceRepository extends DatasourceRepositoryCE, CustomDatasourceRepository {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.DatasourceRepositoryCE;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DatasourceRepository extends DatasourceRepositoryCE, CustomDatasourceRepository {}
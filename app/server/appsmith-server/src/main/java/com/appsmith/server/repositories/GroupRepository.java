@@ -1,7 +1,7 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.GroupRepositoryCE;
-import org.springframework.stereotype.Repository;
-
-@Repository
-public interface GroupRepository extends GroupRepositoryCE, CustomGroupRepository {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.GroupRepositoryCE;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface GroupRepository extends GroupRepositoryCE, CustomGroupRepository {}
@@ -1,7 +1,7 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.InviteUserRepositoryCE;
-import org.springframework.stereotype.Repository;
-
-@Repository
-public interface InviteUserRepository extends InviteUserRepositoryCE {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.InviteUserRepositoryCE;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface InviteUserRepository extends InviteUserRepositoryCE {}
@@ -1,7 +1,7 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.LayoutRepositoryCE;
-import org.springframework.stereotype.Repository;
-
-@Repository
-public interface LayoutRepository extends LayoutRepositoryCE {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.LayoutRepositoryCE;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LayoutRepository extends LayoutRepositoryCE {}
@@ -1,7 +1,7 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.NotificationRepositoryCE;
-import org.springframework.stereotype.Repository;
-
-@Repository
-public interface NotificationRepository extends NotificationRepositoryCE, CustomNotificationRepository {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.NotificationRepositoryCE;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NotificationRepository extends NotificationRepositoryCE, CustomNotificationRepository {}
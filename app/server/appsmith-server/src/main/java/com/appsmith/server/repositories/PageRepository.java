@@ -1,7 +1,7 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.PageRepositoryCE;
-import org.springframework.stereotype.Repository;
-
-@Repository
-public interface PageRepository extends PageRepositoryCE, CustomPageRepository {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.PageRepositoryCE;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PageRepository extends PageRepositoryCE, CustomPageRepository {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.PasswordResetTokenRepositoryCE;
-
-public interface PasswordResetTokenRepository extends PasswordResetTokenRepositoryCE {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.PasswordResetTokenRepositoryCE;
+
+public interface PasswordResetTokenRepository extends PasswordResetTokenRepositoryCE {}
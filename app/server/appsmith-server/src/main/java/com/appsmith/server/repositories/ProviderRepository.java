@@ -1,5 +1,5 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.ProviderRepositoryCE;
-
-public interface ProviderRepository extends ProviderRepositoryCE, CustomProviderRepository {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.ProviderRepositoryCE;
+
+public interface ProviderRepository extends ProviderRepositoryCE, CustomProviderRepository {}
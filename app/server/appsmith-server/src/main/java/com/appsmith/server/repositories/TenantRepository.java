@@ -1,7 +1,7 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.TenantRepositoryCE;
-import org.springframework.stereotype.Repository;
-
-@Repository
-public interface TenantRepository extends TenantRepositoryCE, CustomTenantRepository {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.TenantRepositoryCE;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TenantRepository extends TenantRepositoryCE, CustomTenantRepository {}
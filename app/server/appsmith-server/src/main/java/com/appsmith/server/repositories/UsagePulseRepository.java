@@ -1,7 +1,7 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.UsagePulseRepositoryCE;
-import org.springframework.stereotype.Repository;
-
-@Repository
-public interface UsagePulseRepository extends UsagePulseRepositoryCE, CustomUsagePulseRepository {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.UsagePulseRepositoryCE;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UsagePulseRepository extends UsagePulseRepositoryCE, CustomUsagePulseRepository {}
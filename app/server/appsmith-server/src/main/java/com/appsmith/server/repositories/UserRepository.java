@@ -1,7 +1,7 @@
-package com.appsmith.server.repositories;
-
-import com.appsmith.server.repositories.ce.UserRepositoryCE;
-import org.springframework.stereotype.Repository;
-
-@Repository
-public interface UserRepository extends UserRepositoryCE, CustomUserRepository {}
+package com.appsmith.server.repositories;
+
+import com.appsmith.server.repositories.ce.UserRepositoryCE;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserRepository extends UserRepositoryCE, CustomUserRepository {}
@@ -1,6 +1,6 @@
-package com.appsmith.server.repositories.ce;
-
-import com.appsmith.server.domains.Asset;
-import com.appsmith.server.repositories.BaseRepository;
-
-public interface AssetRepositoryCE extends BaseRepository<Asset, String> {}
+package com.appsmith.server.repositories.ce;
+
+import com.appsmith.server.domains.Asset;
+import com.appsmith.server.repositories.BaseRepository;
+
+public interface AssetRepositoryCE extends BaseRepository<Asset, String> {}
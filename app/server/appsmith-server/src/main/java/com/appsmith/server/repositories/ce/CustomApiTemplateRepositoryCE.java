@@ -1,6 +1,6 @@
-package com.appsmith.server.repositories.ce;
-
-import com.appsmith.external.models.ApiTemplate;
-import com.appsmith.server.repositories.AppsmithRepository;
-
-public interface CustomApiTemplateRepositoryCE extends AppsmithRepository<ApiTemplate> {}
+package com.appsmith.server.repositories.ce;
+
+import com.appsmith.external.models.ApiTemplate;
+import com.appsmith.server.repositories.AppsmithRepository;
+
+public interface CustomApiTemplateRepositoryCE extends AppsmithRepository<ApiTemplate> {}
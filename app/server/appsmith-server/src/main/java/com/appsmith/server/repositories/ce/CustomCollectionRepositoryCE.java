@@ -1,6 +1,6 @@
-package com.appsmith.server.repositories.ce;
-
-import com.appsmith.server.domains.Collection;
-import com.appsmith.server.repositories.AppsmithRepository;
-
-public interface CustomCollectionRepositoryCE extends AppsmithRepository<Collection> {}
+package com.appsmith.server.repositories.ce;
+
+import com.appsmith.server.domains.Collection;
+import com.appsmith.server.repositories.AppsmithRepository;
+
+public interface CustomCollectionRepositoryCE extends AppsmithRepository<Collection> {}
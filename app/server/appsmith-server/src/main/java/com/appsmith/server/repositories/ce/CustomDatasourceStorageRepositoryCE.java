@@ -1,6 +1,6 @@
-package com.appsmith.server.repositories.ce;
-
-import com.appsmith.external.models.DatasourceStorage;
-import com.appsmith.server.repositories.AppsmithRepository;
-
-public interface CustomDatasourceStorageRepositoryCE extends AppsmithRepository<DatasourceStorage> {}
+package com.appsmith.server.repositories.ce;
+
+import com.appsmith.external.models.DatasourceStorage;
+import com.appsmith.server.repositories.AppsmithRepository;
+
+public interface CustomDatasourceStorageRepositoryCE extends AppsmithRepository<DatasourceStorage> {}
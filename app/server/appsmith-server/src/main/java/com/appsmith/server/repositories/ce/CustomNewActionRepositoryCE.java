@@ -1,88 +1,91 @@
-package com.appsmith.server.repositories.ce;
-
-import com.appsmith.external.models.Datasource;
-import com.appsmith.server.acl.AclPermission;
-import com.appsmith.server.domains.NewAction;
-import com.appsmith.server.dtos.PluginTypeAndCountDTO;
-import com.appsmith.server.repositories.AppsmithRepository;
-import com.mongodb.bulk.BulkWriteResult;
-import com.mongodb.client.result.InsertManyResult;
-import com.mongodb.client.result.UpdateResult;
-import org.springframework.data.domain.Sort;
-import reactor.core.publisher.Flux;
-import reactor.core.publisher.Mono;
-
-import java.util.List;
-import java.util.Optional;
-import java.util.Set;
-
-public interface CustomNewActionRepositoryCE extends AppsmithRepository<NewAction> {
-
-    Flux<NewAction> findByApplicationId(String applicationId, AclPermission aclPermission);
-
-    Mono<NewAction> findByUnpublishedNameAndPageId(String name, String pageId, AclPermission aclPermission);
-
-    Flux<NewAction> findByPageId(String pageId, AclPermission aclPermission);
-
-    Flux<NewAction> findByPageId(String pageId, Optional<AclPermission> aclPermission);
-
-    Flux<NewAction> findByPageId(String pageId);
-
-    Flux<NewAction> findByPageIdAndViewMode(String pageId, Boolean viewMode, AclPermission aclPermission);
-
-    Flux<NewAction> findUnpublishedActionsByNameInAndPageId(Set<String> names, String pageId, AclPermission permission);
-
-    Flux<NewAction> findUnpublishedActionsByPageIdAndExecuteOnLoadSetByUserTrue(
-            String pageId, AclPermission permission);
-
-    Flux<NewAction> findUnpublishedActionsForRestApiOnLoad(
-            Set<String> names, String pageId, String httpMethod, Boolean userSetOnLoad, AclPermission aclPermission);
-
-    Flux<NewAction> findAllActionsByNameAndPageIdsAndViewMode(
-            String name, List<String> pageIds, Boolean viewMode, AclPermission aclPermission, Sort sort);
-
-    Flux<NewAction> findUnpublishedActionsByNameInAndPageIdAndExecuteOnLoadTrue(
-            Set<String> names, String pageId, AclPermission permission);
-
-    Flux<NewAction> findByApplicationId(String applicationId, AclPermission aclPermission, Sort sort);
-
-    Flux<NewAction> findByApplicationId(
-            String applicationId, Optional<AclPermission> aclPermission, Optional<Sort> sort);
-
-    Flux<NewAction> findByApplicationIdAndViewMode(String applicationId, Boolean viewMode, AclPermission aclPermission);
-
-    Mono<Long> countByDatasourceId(String datasourceId);
-
-    Mono<NewAction> findByBranchNameAndDefaultActionId(
-            String branchName, String defaultActionId, AclPermission permission);
-
-    Mono<NewAction> findByGitSyncIdAndDefaultApplicationId(
-            String defaultApplicationId, String gitSyncId, AclPermission permission);
-
-    Flux<NewAction> findByDefaultApplicationId(String defaultApplicationId, Optional<AclPermission> permission);
-
-    Mono<NewAction> findByGitSyncIdAndDefaultApplicationId(
-            String defaultApplicationId, String gitSyncId, Optional<AclPermission> permission);
-
-    Flux<NewAction> findByListOfPageIds(List<String> pageIds, AclPermission permission);
-
-    Flux<NewAction> findByListOfPageIds(List<String> pageIds, Optional<AclPermission> permission);
-
-    Flux<NewAction> findNonJsActionsByApplicationIdAndViewMode(
-            String applicationId, Boolean viewMode, AclPermission aclPermission);
-
-    Flux<NewAction> findAllNonJsActionsByNameAndPageIdsAndViewMode(
-            String name, List<String> pageIds, Boolean viewMode, AclPermission aclPermission, Sort sort);
-
-    Mono<List<InsertManyResult>> bulkInsert(List<NewAction> newActions);
-
-    Mono<List<BulkWriteResult>> bulkUpdate(List<NewAction> newActions);
-
-    Mono<UpdateResult> publishActions(String applicationId, AclPermission permission);
-
-    Mono<UpdateResult> archiveDeletedUnpublishedActions(String applicationId, AclPermission permission);
-
-    Mono<UpdateResult> updateDatasourceNameInActions(Datasource datasource);
-
-    Flux<PluginTypeAndCountDTO> countActionsByPluginType(String applicationId);
-}
+package com.appsmith.server.repositories.ce;
+
+import com.appsmith.external.models.Datasource;
+import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.dtos.PluginTypeAndCountDTO;
+import com.appsmith.server.repositories.AppsmithRepository;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.result.InsertManyResult;
+import com.mongodb.client.result.UpdateResult;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+public interface CustomNewActionRepositoryCE extends AppsmithRepository<NewAction> {
+
+    Flux<NewAction> findByApplicationId(String applicationId, AclPermission aclPermission);
+
+    Mono<NewAction> findByUnpublishedNameAndPageId(String name, String pageId, AclPermission aclPermission);
+
+    Flux<NewAction> findByPageId(String pageId, AclPermission aclPermission);
+
+    Flux<NewAction> findByPageId(String pageId, Optional<AclPermission> aclPermission);
+
+    Flux<NewAction> findByPageId(String pageId);
+
+    Flux<NewAction> findByPageIdAndViewMode(String pageId, Boolean viewMode, AclPermission aclPermission);
+
+    Flux<NewAction> findUnpublishedActionsReferencingName(
+            String pageId, String referencedName, String actionName, AclPermission aclPermission);
+
+    Flux<NewAction> findUnpublishedActionsByNameInAndPageId(Set<String> names, String pageId, AclPermission permission);
+
+    Flux<NewAction> findUnpublishedActionsByPageIdAndExecuteOnLoadSetByUserTrue(
+            String pageId, AclPermission permission);
+
+    Flux<NewAction> findUnpublishedActionsForRestApiOnLoad(
+            Set<String> names, String pageId, String httpMethod, Boolean userSetOnLoad, AclPermission aclPermission);
+
+    Flux<NewAction> findAllActionsByNameAndPageIdsAndViewMode(
+            String name, List<String> pageIds, Boolean viewMode, AclPermission aclPermission, Sort sort);
+
+    Flux<NewAction> findUnpublishedActionsByNameInAndPageIdAndExecuteOnLoadTrue(
+            Set<String> names, String pageId, AclPermission permission);
+
+    Flux<NewAction> findByApplicationId(String applicationId, AclPermission aclPermission, Sort sort);
+
+    Flux<NewAction> findByApplicationId(
+            String applicationId, Optional<AclPermission> aclPermission, Optional<Sort> sort);
+
+    Flux<NewAction> findByApplicationIdAndViewMode(String applicationId, Boolean viewMode, AclPermission aclPermission);
+
+    Mono<Long> countByDatasourceId(String datasourceId);
+
+    Mono<NewAction> findByBranchNameAndDefaultActionId(
+            String branchName, String defaultActionId, AclPermission permission);
+
+    Mono<NewAction> findByGitSyncIdAndDefaultApplicationId(
+            String defaultApplicationId, String gitSyncId, AclPermission permission);
+
+    Flux<NewAction> findByDefaultApplicationId(String defaultApplicationId, Optional<AclPermission> permission);
+
+    Mono<NewAction> findByGitSyncIdAndDefaultApplicationId(
+            String defaultApplicationId, String gitSyncId, Optional<AclPermission> permission);
+
+    Flux<NewAction> findByListOfPageIds(List<String> pageIds, AclPermission permission);
+
+    Flux<NewAction> findByListOfPageIds(List<String> pageIds, Optional<AclPermission> permission);
+
+    Flux<NewAction> findNonJsActionsByApplicationIdAndViewMode(
+            String applicationId, Boolean viewMode, AclPermission aclPermission);
+
+    Flux<NewAction> findAllNonJsActionsByNameAndPageIdsAndViewMode(
+            String name, List<String> pageIds, Boolean viewMode, AclPermission aclPermission, Sort sort);
+
+    Mono<List<InsertManyResult>> bulkInsert(List<NewAction> newActions);
+
+    Mono<List<BulkWriteResult>> bulkUpdate(List<NewAction> newActions);
+
+    Mono<UpdateResult> publishActions(String applicationId, AclPermission permission);
+
+    Mono<UpdateResult> archiveDeletedUnpublishedActions(String applicationId, AclPermission permission);
+
+    Mono<UpdateResult> updateDatasourceNameInActions(Datasource datasource);
+
+    Flux<PluginTypeAndCountDTO> countActionsByPluginType(String applicationId);
+}
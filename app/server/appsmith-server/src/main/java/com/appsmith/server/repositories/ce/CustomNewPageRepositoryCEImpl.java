@@ -1,264 +1,365 @@
-package com.appsmith.server.repositories.ce;
-
-import com.appsmith.external.models.QBranchAwareDomain;
-import com.appsmith.server.acl.AclPermission;
-import com.appsmith.server.constants.FieldName;
-import com.appsmith.server.domains.NewPage;
-import com.appsmith.server.domains.QLayout;
-import com.appsmith.server.domains.QNewPage;
-import com.appsmith.server.dtos.PageDTO;
-import com.appsmith.server.repositories.BaseAppsmithRepositoryImpl;
-import com.appsmith.server.repositories.CacheableRepositoryHelper;
-import com.mongodb.client.result.UpdateResult;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.mongodb.core.ReactiveMongoOperations;
-import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
-import org.springframework.data.mongodb.core.convert.MongoConverter;
-import org.springframework.data.mongodb.core.query.Criteria;
-import org.springframework.data.mongodb.core.query.Query;
-import reactor.core.publisher.Flux;
-import reactor.core.publisher.Mono;
-
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
-import java.util.Optional;
-
-import static org.springframework.data.mongodb.core.query.Criteria.where;
-
-@Slf4j
-public class CustomNewPageRepositoryCEImpl extends BaseAppsmithRepositoryImpl<NewPage>
-        implements CustomNewPageRepositoryCE {
-
-    public CustomNewPageRepositoryCEImpl(
-            ReactiveMongoOperations mongoOperations,
-            MongoConverter mongoConverter,
-            CacheableRepositoryHelper cacheableRepositoryHelper) {
-        super(mongoOperations, mongoConverter, cacheableRepositoryHelper);
-    }
-
-    @Override
-    public Flux<NewPage> findByApplicationId(String applicationId, AclPermission aclPermission) {
-        Criteria applicationIdCriteria =
-                where(fieldName(QNewPage.newPage.applicationId)).is(applicationId);
-        return queryAll(List.of(applicationIdCriteria), aclPermission);
-    }
-
-    @Override
-    public Flux<NewPage> findByApplicationId(String applicationId, Optional<AclPermission> permission) {
-        Criteria applicationIdCriteria =
-                where(fieldName(QNewPage.newPage.applicationId)).is(applicationId);
-        return queryAll(List.of(applicationIdCriteria), permission);
-    }
-
-    @Override
-    public Flux<NewPage> findByApplicationIdAndNonDeletedEditMode(String applicationId, AclPermission aclPermission) {
-        Criteria applicationIdCriteria =
-                where(fieldName(QNewPage.newPage.applicationId)).is(applicationId);
-        // In case a page has been deleted in edit mode, but still exists in deployed mode, NewPage object would exist.
-        // To handle this, only fetch non-deleted pages
-        Criteria activeEditModeCriteria = where(fieldName(QNewPage.newPage.unpublishedPage) + "."
-                        + fieldName(QNewPage.newPage.unpublishedPage.deletedAt))
-                .is(null);
-        return queryAll(List.of(applicationIdCriteria, activeEditModeCriteria), aclPermission);
-    }
-
-    @Override
-    public Mono<NewPage> findByIdAndLayoutsIdAndViewMode(
-            String id, String layoutId, AclPermission aclPermission, Boolean viewMode) {
-        String layoutsIdKey;
-        String layoutsKey;
-
-        List<Criteria> criteria = new ArrayList<>();
-        Criteria idCriterion = getIdCriteria(id);
-        criteria.add(idCriterion);
-
-        if (Boolean.TRUE.equals(viewMode)) {
-            layoutsKey =
-                    fieldName(QNewPage.newPage.publishedPage) + "." + fieldName(QNewPage.newPage.publishedPage.layouts);
-        } else {
-            layoutsKey = fieldName(QNewPage.newPage.unpublishedPage) + "."
-                    + fieldName(QNewPage.newPage.unpublishedPage.layouts);
-
-            // In case a page has been deleted in edit mode, but still exists in deployed mode, NewPage object would
-            // exist. To handle this, only fetch non-deleted pages
-            Criteria deletedCriterion = where(fieldName(QNewPage.newPage.unpublishedPage) + "."
-                            + fieldName(QNewPage.newPage.unpublishedPage.deletedAt))
-                    .is(null);
-            criteria.add(deletedCriterion);
-        }
-        layoutsIdKey = layoutsKey + "." + fieldName(QLayout.layout.id);
-
-        Criteria layoutCriterion = where(layoutsIdKey).is(layoutId);
-        criteria.add(layoutCriterion);
-
-        return queryOne(criteria, aclPermission);
-    }
-
-    @Override
-    public Mono<NewPage> findByNameAndViewMode(String name, AclPermission aclPermission, Boolean viewMode) {
-
-        List<Criteria> criteria = new ArrayList<>();
-
-        Criteria nameCriterion = getNameCriterion(name, viewMode);
-        criteria.add(nameCriterion);
-
-        if (Boolean.FALSE.equals(viewMode)) {
-            // In case a page has been deleted in edit mode, but still exists in deployed mode, NewPage object would
-            // exist. To handle this, only fetch non-deleted pages
-            Criteria deletedCriterion = where(fieldName(QNewPage.newPage.unpublishedPage) + "."
-                            + fieldName(QNewPage.newPage.unpublishedPage.deletedAt))
-                    .is(null);
-            criteria.add(deletedCriterion);
-        }
-
-        return queryOne(criteria, aclPermission);
-    }
-
-    @Override
-    public Mono<NewPage> findByNameAndApplicationIdAndViewMode(
-            String name, String applicationId, AclPermission aclPermission, Boolean viewMode) {
-
-        List<Criteria> criteria = new ArrayList<>();
-
-        Criteria nameCriterion = getNameCriterion(name, viewMode);
-        criteria.add(nameCriterion);
-
-        Criteria applicationIdCriterion =
-                where(fieldName(QNewPage.newPage.applicationId)).is(applicationId);
-        criteria.add(applicationIdCriterion);
-
-        if (Boolean.FALSE.equals(viewMode)) {
-            // In case a page has been deleted in edit mode, but still exists in deployed mode, NewPage object would
-            // exist. To handle this, only fetch non-deleted pages
-            Criteria deletedCriteria = where(fieldName(QNewPage.newPage.unpublishedPage) + "."
-                            + fieldName(QNewPage.newPage.unpublishedPage.deletedAt))
-                    .is(null);
-            criteria.add(deletedCriteria);
-        }
-
-        return queryOne(criteria, aclPermission);
-    }
-
-    @Override
-    public Flux<NewPage> findAllPageDTOsByIds(List<String> ids, AclPermission aclPermission) {
-        ArrayList<String> includedFields = new ArrayList<>(List.of(
-                FieldName.APPLICATION_ID,
-                FieldName.DEFAULT_RESOURCES,
-                fieldName(QNewPage.newPage.policies),
-                (fieldName(QNewPage.newPage.unpublishedPage) + "." + fieldName(QNewPage.newPage.unpublishedPage.name)),
-                (fieldName(QNewPage.newPage.unpublishedPage) + "." + fieldName(QNewPage.newPage.unpublishedPage.icon)),
-                (fieldName(QNewPage.newPage.unpublishedPage) + "."
-                        + fieldName(QNewPage.newPage.unpublishedPage.isHidden)),
-                (fieldName(QNewPage.newPage.unpublishedPage) + "." + fieldName(QNewPage.newPage.unpublishedPage.slug)),
-                (fieldName(QNewPage.newPage.unpublishedPage) + "."
-                        + fieldName(QNewPage.newPage.unpublishedPage.customSlug)),
-                (fieldName(QNewPage.newPage.publishedPage) + "." + fieldName(QNewPage.newPage.unpublishedPage.name)),
-                (fieldName(QNewPage.newPage.publishedPage) + "." + fieldName(QNewPage.newPage.unpublishedPage.icon)),
-                (fieldName(QNewPage.newPage.publishedPage) + "."
-                        + fieldName(QNewPage.newPage.unpublishedPage.isHidden)),
-                (fieldName(QNewPage.newPage.publishedPage) + "." + fieldName(QNewPage.newPage.unpublishedPage.slug)),
-                (fieldName(QNewPage.newPage.publishedPage) + "."
-                        + fieldName(QNewPage.newPage.unpublishedPage.customSlug))));
-
-        Criteria idsCriterion = where("id").in(ids);
-
-        return this.queryAll(new ArrayList<>(List.of(idsCriterion)), includedFields, aclPermission, null);
-    }
-
-    private Criteria getNameCriterion(String name, Boolean viewMode) {
-        String nameKey;
-
-        if (Boolean.TRUE.equals(viewMode)) {
-            nameKey = fieldName(QNewPage.newPage.publishedPage) + "." + fieldName(QNewPage.newPage.publishedPage.name);
-        } else {
-            nameKey = fieldName(QNewPage.newPage.unpublishedPage) + "."
-                    + fieldName(QNewPage.newPage.unpublishedPage.name);
-        }
-        return where(nameKey).is(name);
-    }
-
-    @Override
-    public Mono<String> getNameByPageId(String pageId, boolean isPublishedName) {
-        return mongoOperations
-                .query(NewPage.class)
-                .matching(Query.query(
-                        Criteria.where(fieldName(QNewPage.newPage.id)).is(pageId)))
-                .one()
-                .map(p -> {
-                    PageDTO page = (isPublishedName ? p.getPublishedPage() : p.getUnpublishedPage());
-                    if (page != null) {
-                        return page.getName();
-                    }
-                    // If the page hasn't been published, just send the unpublished page name
-                    return p.getUnpublishedPage().getName();
-                });
-    }
-
-    @Override
-    public Mono<NewPage> findPageByBranchNameAndDefaultPageId(
-            String branchName, String defaultPageId, AclPermission permission) {
-        final String defaultResources = fieldName(QNewPage.newPage.defaultResources);
-        Criteria defaultPageIdCriteria =
-                where(defaultResources + "." + FieldName.PAGE_ID).is(defaultPageId);
-        Criteria branchCriteria =
-                where(defaultResources + "." + FieldName.BRANCH_NAME).is(branchName);
-        return queryOne(List.of(defaultPageIdCriteria, branchCriteria), permission);
-    }
-
-    @Override
-    public Flux<NewPage> findSlugsByApplicationIds(List<String> applicationIds, AclPermission aclPermission) {
-        Criteria applicationIdCriteria =
-                where(fieldName(QNewPage.newPage.applicationId)).in(applicationIds);
-        String unpublishedSlugFieldPath = String.format(
-                "%s.%s", fieldName(QNewPage.newPage.unpublishedPage), fieldName(QNewPage.newPage.unpublishedPage.slug));
-        String unpublishedCustomSlugFieldPath = String.format(
-                "%s.%s",
-                fieldName(QNewPage.newPage.unpublishedPage), fieldName(QNewPage.newPage.unpublishedPage.customSlug));
-        String publishedSlugFieldPath = String.format(
-                "%s.%s", fieldName(QNewPage.newPage.publishedPage), fieldName(QNewPage.newPage.publishedPage.slug));
-        String publishedCustomSlugFieldPath = String.format(
-                "%s.%s",
-                fieldName(QNewPage.newPage.publishedPage), fieldName(QNewPage.newPage.publishedPage.customSlug));
-        String applicationIdFieldPath = fieldName(QNewPage.newPage.applicationId);
-
-        return queryAll(
-                List.of(applicationIdCriteria),
-                List.of(
-                        unpublishedSlugFieldPath,
-                        unpublishedCustomSlugFieldPath,
-                        publishedSlugFieldPath,
-                        publishedCustomSlugFieldPath,
-                        applicationIdFieldPath),
-                aclPermission,
-                null);
-    }
-
-    @Override
-    public Mono<NewPage> findByGitSyncIdAndDefaultApplicationId(
-            String defaultApplicationId, String gitSyncId, AclPermission permission) {
-        return findByGitSyncIdAndDefaultApplicationId(defaultApplicationId, gitSyncId, Optional.ofNullable(permission));
-    }
-
-    @Override
-    public Mono<NewPage> findByGitSyncIdAndDefaultApplicationId(
-            String defaultApplicationId, String gitSyncId, Optional<AclPermission> permission) {
-        final String defaultResources = fieldName(QBranchAwareDomain.branchAwareDomain.defaultResources);
-        Criteria defaultAppIdCriteria =
-                where(defaultResources + "." + FieldName.APPLICATION_ID).is(defaultApplicationId);
-        Criteria gitSyncIdCriteria = where(FieldName.GIT_SYNC_ID).is(gitSyncId);
-        return queryFirst(List.of(defaultAppIdCriteria, gitSyncIdCriteria), permission);
-    }
-
-    @Override
-    public Mono<UpdateResult> publishPages(Collection<String> pageIds, AclPermission permission) {
-        Criteria applicationIdCriteria = where(fieldName(QNewPage.newPage.id)).in(pageIds);
-        // using aggregation update instead of regular update here
-        // it's required to set a field to a value of another field from the same domain
-        AggregationUpdate aggregationUpdate = AggregationUpdate.update()
-                .set(fieldName(QNewPage.newPage.publishedPage))
-                .toValue("$" + fieldName(QNewPage.newPage.unpublishedPage));
-
-        return updateByCriteria(List.of(applicationIdCriteria), aggregationUpdate, permission);
-    }
-}
+package com.appsmith.server.repositories.ce;
+
+import com.appsmith.external.models.QBranchAwareDomain;
+import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.domains.QLayout;
+import com.appsmith.server.domains.QNewPage;
+import com.appsmith.server.dtos.PageDTO;
+import com.appsmith.server.repositories.BaseAppsmithRepositoryImpl;
+import com.appsmith.server.repositories.CacheableRepositoryHelper;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.client.result.InsertManyResult;
+import com.mongodb.client.result.UpdateResult;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.util.CollectionUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@Slf4j
+public class CustomNewPageRepositoryCEImpl extends BaseAppsmithRepositoryImpl<NewPage>
+        implements CustomNewPageRepositoryCE {
+
+    public CustomNewPageRepositoryCEImpl(
+            ReactiveMongoOperations mongoOperations,
+            MongoConverter mongoConverter,
+            CacheableRepositoryHelper cacheableRepositoryHelper) {
+        super(mongoOperations, mongoConverter, cacheableRepositoryHelper);
+    }
+
+    @Override
+    public Flux<NewPage> findByApplicationId(String applicationId, AclPermission aclPermission) {
+        Criteria applicationIdCriteria =
+                where(fieldName(QNewPage.newPage.applicationId)).is(applicationId);
+        return queryAll(List.of(applicationIdCriteria), aclPermission);
+    }
+
+    @Override
+    public Flux<NewPage> findByApplicationId(String applicationId, Optional<AclPermission> permission) {
+        Criteria applicationIdCriteria =
+                where(fieldName(QNewPage.newPage.applicationId)).is(applicationId);
+        return queryAll(List.of(applicationIdCriteria), permission);
+    }
+
+    @Override
+    public Flux<NewPage> findByApplicationIdAndNonDeletedEditMode(String applicationId, AclPermission aclPermission) {
+        Criteria applicationIdCriteria =
+                where(fieldName(QNewPage.newPage.applicationId)).is(applicationId);
+        // In case a page has been deleted in edit mode, but still exists in deployed mode, NewPage object would exist.
+        // To handle this, only fetch non-deleted pages
+        Criteria activeEditModeCriteria = where(fieldName(QNewPage.newPage.unpublishedPage) + "."
+                        + fieldName(QNewPage.newPage.unpublishedPage.deletedAt))
+                .is(null);
+        return queryAll(List.of(applicationIdCriteria, activeEditModeCriteria), aclPermission);
+    }
+
+    @Override
+    public Mono<NewPage> findByIdAndLayoutsIdAndViewMode(
+            String id, String layoutId, AclPermission aclPermission, Boolean viewMode) {
+        String layoutsIdKey;
+        String layoutsKey;
+
+        List<Criteria> criteria = new ArrayList<>();
+        Criteria idCriterion = getIdCriteria(id);
+        criteria.add(idCriterion);
+
+        if (Boolean.TRUE.equals(viewMode)) {
+            layoutsKey =
+                    fieldName(QNewPage.newPage.publishedPage) + "." + fieldName(QNewPage.newPage.publishedPage.layouts);
+        } else {
+            layoutsKey = fieldName(QNewPage.newPage.unpublishedPage) + "."
+                    + fieldName(QNewPage.newPage.unpublishedPage.layouts);
+
+            // In case a page has been deleted in edit mode, but still exists in deployed mode, NewPage object would
+            // exist. To handle this, only fetch non-deleted pages
+            Criteria deletedCriterion = where(fieldName(QNewPage.newPage.unpublishedPage) + "."
+                            + fieldName(QNewPage.newPage.unpublishedPage.deletedAt))
+                    .is(null);
+            criteria.add(deletedCriterion);
+        }
+        layoutsIdKey = layoutsKey + "." + fieldName(QLayout.layout.id);
+
+        Criteria layoutCriterion = where(layoutsIdKey).is(layoutId);
+        criteria.add(layoutCriterion);
+
+        return queryOne(criteria, aclPermission);
+    }
+
+    @Override
+    public Mono<NewPage> findByNameAndViewMode(String name, AclPermission aclPermission, Boolean viewMode) {
+
+        List<Criteria> criteria = new ArrayList<>();
+
+        Criteria nameCriterion = getNameCriterion(name, viewMode);
+        criteria.add(nameCriterion);
+
+        if (Boolean.FALSE.equals(viewMode)) {
+            // In case a page has been deleted in edit mode, but still exists in deployed mode, NewPage object would
+            // exist. To handle this, only fetch non-deleted pages
+            Criteria deletedCriterion = where(fieldName(QNewPage.newPage.unpublishedPage) + "."
+                            + fieldName(QNewPage.newPage.unpublishedPage.deletedAt))
+                    .is(null);
+            criteria.add(deletedCriterion);
+        }
+
+        return queryOne(criteria, aclPermission);
+    }
+
+    @Override
+    public Mono<NewPage> findByNameAndApplicationIdAndViewMode(
+            String name, String applicationId, AclPermission aclPermission, Boolean viewMode) {
+
+        List<Criteria> criteria = new ArrayList<>();
+
+        Criteria nameCriterion = getNameCriterion(name, viewMode);
+        criteria.add(nameCriterion);
+
+        Criteria applicationIdCriterion =
+                where(fieldName(QNewPage.newPage.applicationId)).is(applicationId);
+        criteria.add(applicationIdCriterion);
+
+        if (Boolean.FALSE.equals(viewMode)) {
+            // In case a page has been deleted in edit mode, but still exists in deployed mode, NewPage object would
+            // exist. To handle this, only fetch non-deleted pages
+            Criteria deletedCriteria = where(fieldName(QNewPage.newPage.unpublishedPage) + "."
+                            + fieldName(QNewPage.newPage.unpublishedPage.deletedAt))
+                    .is(null);
+            criteria.add(deletedCriteria);
+        }
+
+        return queryOne(criteria, aclPermission);
+    }
+
+    @Override
+    public Flux<NewPage> findAllPageDTOsByIds(List<String> ids, AclPermission aclPermission) {
+        ArrayList<String> includedFields = new ArrayList<>(List.of(
+                FieldName.APPLICATION_ID,
+                FieldName.DEFAULT_RESOURCES,
+                fieldName(QNewPage.newPage.policies),
+                (fieldName(QNewPage.newPage.unpublishedPage) + "." + fieldName(QNewPage.newPage.unpublishedPage.name)),
+                (fieldName(QNewPage.newPage.unpublishedPage) + "." + fieldName(QNewPage.newPage.unpublishedPage.icon)),
+                (fieldName(QNewPage.newPage.unpublishedPage) + "."
+                        + fieldName(QNewPage.newPage.unpublishedPage.isHidden)),
+                (fieldName(QNewPage.newPage.unpublishedPage) + "." + fieldName(QNewPage.newPage.unpublishedPage.slug)),
+                (fieldName(QNewPage.newPage.unpublishedPage) + "."
+                        + fieldName(QNewPage.newPage.unpublishedPage.customSlug)),
+                (fieldName(QNewPage.newPage.publishedPage) + "." + fieldName(QNewPage.newPage.unpublishedPage.name)),
+                (fieldName(QNewPage.newPage.publishedPage) + "." + fieldName(QNewPage.newPage.unpublishedPage.icon)),
+                (fieldName(QNewPage.newPage.publishedPage) + "."
+                        + fieldName(QNewPage.newPage.unpublishedPage.isHidden)),
+                (fieldName(QNewPage.newPage.publishedPage) + "." + fieldName(QNewPage.newPage.unpublishedPage.slug)),
+                (fieldName(QNewPage.newPage.publishedPage) + "."
+                        + fieldName(QNewPage.newPage.unpublishedPage.customSlug))));
+
+        Criteria idsCriterion = where("id").in(ids);
+
+        return this.queryAll(new ArrayList<>(List.of(idsCriterion)), includedFields, aclPermission, null);
+    }
+
+    private Criteria getNameCriterion(String name, Boolean viewMode) {
+        String nameKey;
+
+        if (Boolean.TRUE.equals(viewMode)) {
+            nameKey = fieldName(QNewPage.newPage.publishedPage) + "." + fieldName(QNewPage.newPage.publishedPage.name);
+        } else {
+            nameKey = fieldName(QNewPage.newPage.unpublishedPage) + "."
+                    + fieldName(QNewPage.newPage.unpublishedPage.name);
+        }
+        return where(nameKey).is(name);
+    }
+
+    @Override
+    public Mono<String> getNameByPageId(String pageId, boolean isPublishedName) {
+        return mongoOperations
+                .query(NewPage.class)
+                .matching(Query.query(
+                        Criteria.where(fieldName(QNewPage.newPage.id)).is(pageId)))
+                .one()
+                .map(p -> {
+                    PageDTO page = (isPublishedName ? p.getPublishedPage() : p.getUnpublishedPage());
+                    if (page != null) {
+                        return page.getName();
+                    }
+                    // If the page hasn't been published, just send the unpublished page name
+                    return p.getUnpublishedPage().getName();
+                });
+    }
+
+    @Override
+    public Mono<NewPage> findPageByBranchNameAndDefaultPageId(
+            String branchName, String defaultPageId, AclPermission permission) {
+        return findPageByBranchNameAndDefaultPageId(branchName, defaultPageId, null, permission);
+    }
+
+    @Override
+    public Mono<NewPage> findPageByBranchNameAndDefaultPageId(
+            String branchName, String defaultPageId, List<String> projectionFieldNames, AclPermission permission) {
+        final String defaultResources = fieldName(QNewPage.newPage.defaultResources);
+        Criteria defaultPageIdCriteria =
+                where(defaultResources + "." + FieldName.PAGE_ID).is(defaultPageId);
+        Criteria branchCriteria =
+                where(defaultResources + "." + FieldName.BRANCH_NAME).is(branchName);
+        return queryOne(List.of(defaultPageIdCriteria, branchCriteria), projectionFieldNames, permission);
+    }
+
+    @Override
+    public Flux<NewPage> findSlugsByApplicationIds(List<String> applicationIds, AclPermission aclPermission) {
+        Criteria applicationIdCriteria =
+                where(fieldName(QNewPage.newPage.applicationId)).in(applicationIds);
+        String unpublishedSlugFieldPath = String.format(
+                "%s.%s", fieldName(QNewPage.newPage.unpublishedPage), fieldName(QNewPage.newPage.unpublishedPage.slug));
+        String unpublishedCustomSlugFieldPath = String.format(
+                "%s.%s",
+                fieldName(QNewPage.newPage.unpublishedPage), fieldName(QNewPage.newPage.unpublishedPage.customSlug));
+        String publishedSlugFieldPath = String.format(
+                "%s.%s", fieldName(QNewPage.newPage.publishedPage), fieldName(QNewPage.newPage.publishedPage.slug));
+        String publishedCustomSlugFieldPath = String.format(
+                "%s.%s",
+                fieldName(QNewPage.newPage.publishedPage), fieldName(QNewPage.newPage.publishedPage.customSlug));
+        String applicationIdFieldPath = fieldName(QNewPage.newPage.applicationId);
+
+        return queryAll(
+                List.of(applicationIdCriteria),
+                List.of(
+                        unpublishedSlugFieldPath,
+                        unpublishedCustomSlugFieldPath,
+                        publishedSlugFieldPath,
+                        publishedCustomSlugFieldPath,
+                        applicationIdFieldPath),
+                aclPermission,
+                null);
+    }
+
+    @Override
+    public Flux<NewPage> findNamesByApplicationId(String applicationId, Optional<AclPermission> permission) {
+        Criteria applicationIdCriteria =
+                where(fieldName(QNewPage.newPage.applicationId)).is(applicationId);
+        String unpublishedNameFieldPath = String.format(
+                "%s.%s", fieldName(QNewPage.newPage.unpublishedPage), fieldName(QNewPage.newPage.unpublishedPage.name));
+        String publishedNameFieldPath = String.format(
+                "%s.%s", fieldName(QNewPage.newPage.publishedPage), fieldName(QNewPage.newPage.publishedPage.name));
+
+        return queryAll(
+                List.of(applicationIdCriteria),
+                Optional.of(List.of(unpublishedNameFieldPath, publishedNameFieldPath)),
+                permission,
+                Optional.empty());
+    }
+
+    @Override
+    public Mono<NewPage> findByGitSyncIdAndDefaultApplicationId(
+            String defaultApplicationId, String gitSyncId, AclPermission permission) {
+        return findByGitSyncIdAndDefaultApplicationId(defaultApplicationId, gitSyncId, Optional.ofNullable(permission));
+    }
+
+    @Override
+    public Mono<NewPage> findByGitSyncIdAndDefaultApplicationId(
+            String defaultApplicationId, String gitSyncId, Optional<AclPermission> permission) {
+        final String defaultResources = fieldName(QBranchAwareDomain.branchAwareDomain.defaultResources);
+        Criteria defaultAppIdCriteria =
+                where(defaultResources + "." + FieldName.APPLICATION_ID).is(defaultApplicationId);
+        Criteria gitSyncIdCriteria = where(FieldName.GIT_SYNC_ID).is(gitSyncId);
+        return queryFirst(List.of(defaultAppIdCriteria, gitSyncIdCriteria), permission);
+    }
+
+    @Override
+    public Mono<UpdateResult> publishPages(Collection<String> pageIds, AclPermission permission) {
+        Criteria applicationIdCriteria = where(fieldName(QNewPage.newPage.id)).in(pageIds);
+        // using aggregation update instead of regular update here
+        // it's required to set a field to a value of another field from the same domain
+        // The publish time is the version of the published page, see PublishedPageCache
+        AggregationUpdate aggregationUpdate = AggregationUpdate.update()
+                .set(fieldName(QNewPage.newPage.publishedPage))
+                .toValue("$" + fieldName(QNewPage.newPage.unpublishedPage))
+                .set(fieldName(QNewPage.newPage.lastPublishedAt))
+                .toValue(Instant.now());
+
+        return updateByCriteria(List.of(applicationIdCriteria), aggregationUpdate, permission);
+    }
+
+    @Override
+    public Flux<NewPage> findByDefaultApplicationId(String defaultApplicationId, Optional<AclPermission> permission) {
+        return findByDefaultApplicationId(defaultApplicationId, null, permission);
+    }
+
+    @Override
+    public Flux<NewPage> findByDefaultApplicationId(
+            String defaultApplicationId, List<String> projectionFieldNames, Optional<AclPermission> permission) {
+        final String defaultResources = fieldName(QBranchAwareDomain.branchAwareDomain.defaultResources);
+        Criteria defaultAppIdCriteria =
+                where(defaultResources + "." + FieldName.APPLICATION_ID).is(defaultApplicationId);
+        return queryAll(
+                List.of(defaultAppIdCriteria), Optional.ofNullable(projectionFieldNames), permission, Optional.empty());
+    }
+
+    /**
+     * Inserts the pages in a single DB operation. Like for the bulk insert of actions, the ids and the auto generated
+     * fields e.g. createdAt, updatedAt should be set by the caller, and no constraint validation is performed.
+     * @param newPages List of pages that'll be saved in bulk
+     * @return List of results of the insert operations
+     */
+    @Override
+    public Mono<List<InsertManyResult>> bulkInsert(List<NewPage> newPages) {
+        if (CollectionUtils.isEmpty(newPages)) {
+            return Mono.just(Collections.emptyList());
+        }
+        List<Document> dbObjects = newPages.stream()
+                .map(newPage -> {
+                    Document document = new Document();
+                    mongoOperations.getConverter().write(newPage, document);
+                    return document;
+                })
+                .toList();
+
+        return mongoOperations
+                .getCollection(mongoOperations.getCollectionName(NewPage.class))
+                .flatMapMany(documentMongoCollection -> documentMongoCollection.insertMany(dbObjects))
+                .collectList();
+    }
+
+    /**
+     * Replaces the pages in a single DB operation. The whole documents are replaced, the way saving a page does, so that
+     * the fields cleared on the pages, e.g. deletedAt when a page is restored, are cleared in the database as well.
+     * @param newPages List of pages, with their ids, that'll be replaced in bulk
+     * @return List of results of the bulk write operations
+     */
+    @Override
+    public Mono<List<BulkWriteResult>> bulkUpdate(List<NewPage> newPages) {
+        if (CollectionUtils.isEmpty(newPages)) {
+            return Mono.just(Collections.emptyList());
+        }
+        List<WriteModel<Document>> dbObjects = newPages.stream()
+                .map(newPage -> {
+                    assert newPage.getId() != null;
+                    Document document = new Document();
+                    mongoOperations.getConverter().write(newPage, document);
+                    return (WriteModel<Document>)
+                            new ReplaceOneModel<>(new Document("_id", new ObjectId(newPage.getId())), document);
+                })
+                .toList();
+
+        return mongoOperations
+                .getCollection(mongoOperations.getCollectionName(NewPage.class))
+                .flatMapMany(documentMongoCollection -> documentMongoCollection.bulkWrite(dbObjects))
+                .collectList();
+    }
+}
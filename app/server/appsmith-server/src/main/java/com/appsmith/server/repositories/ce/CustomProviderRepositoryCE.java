@@ -1,6 +1,6 @@
-package com.appsmith.server.repositories.ce;
-
-import com.appsmith.external.models.Provider;
-import com.appsmith.server.repositories.AppsmithRepository;
-
-public interface CustomProviderRepositoryCE extends AppsmithRepository<Provider> {}
+package com.appsmith.server.repositories.ce;
+
+import com.appsmith.external.models.Provider;
+import com.appsmith.server.repositories.AppsmithRepository;
+
+public interface CustomProviderRepositoryCE extends AppsmithRepository<Provider> {}
@@ -1,6 +1,6 @@
-package com.appsmith.server.repositories.ce;
-
-import com.appsmith.server.domains.Tenant;
-import com.appsmith.server.repositories.AppsmithRepository;
-
-public interface CustomTenantRepositoryCE extends AppsmithRepository<Tenant> {}
+package com.appsmith.server.repositories.ce;
+
+import com.appsmith.server.domains.Tenant;
+import com.appsmith.server.repositories.AppsmithRepository;
+
+public interface CustomTenantRepositoryCE extends AppsmithRepository<Tenant> {}
@@ -1,20 +1,20 @@
-package com.appsmith.server.repositories.ce;
-
-import com.appsmith.server.domains.Tenant;
-import com.appsmith.server.repositories.BaseAppsmithRepositoryImpl;
-import com.appsmith.server.repositories.CacheableRepositoryHelper;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.mongodb.core.ReactiveMongoOperations;
-import org.springframework.data.mongodb.core.convert.MongoConverter;
-
-@Slf4j
-public class CustomTenantRepositoryCEImpl extends BaseAppsmithRepositoryImpl<Tenant>
-        implements CustomTenantRepositoryCE {
-
-    public CustomTenantRepositoryCEImpl(
-            ReactiveMongoOperations mongoOperations,
-            MongoConverter mongoConverter,
-            CacheableRepositoryHelper cacheableRepositoryHelper) {
-        super(mongoOperations, mongoConverter, cacheableRepositoryHelper);
-    }
-}
+package com.appsmith.server.repositories.ce;
+
+import com.appsmith.server.domains.Tenant;
+import com.appsmith.server.repositories.BaseAppsmithRepositoryImpl;
+import com.appsmith.server.repositories.CacheableRepositoryHelper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+@Slf4j
+public class CustomTenantRepositoryCEImpl extends BaseAppsmithRepositoryImpl<Tenant>
+        implements CustomTenantRepositoryCE {
+
+    public CustomTenantRepositoryCEImpl(
+            ReactiveMongoOperations mongoOperations,
+            MongoConverter mongoConverter,
+            CacheableRepositoryHelper cacheableRepositoryHelper) {
+        super(mongoOperations, mongoConverter, cacheableRepositoryHelper);
+    }
+}
@@ -1,3 +1,3 @@
-package com.appsmith.server.repositories.ce;
-
-public interface CustomUsagePulseRepositoryCE {}
+package com.appsmith.server.repositories.ce;
+
+public interface CustomUsagePulseRepositoryCE {}
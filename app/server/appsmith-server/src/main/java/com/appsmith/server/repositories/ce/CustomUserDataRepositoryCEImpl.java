@@ -1,81 +1,152 @@
-package com.appsmith.server.repositories.ce;
-
-import com.appsmith.server.domains.QUserData;
-import com.appsmith.server.domains.UserData;
-import com.appsmith.server.repositories.BaseAppsmithRepositoryImpl;
-import com.appsmith.server.repositories.CacheableRepositoryHelper;
-import com.google.common.collect.Lists;
-import com.mongodb.client.result.UpdateResult;
-import org.springframework.data.mongodb.core.ReactiveMongoOperations;
-import org.springframework.data.mongodb.core.convert.MongoConverter;
-import org.springframework.data.mongodb.core.query.Criteria;
-import org.springframework.data.mongodb.core.query.Query;
-import org.springframework.data.mongodb.core.query.Update;
-import org.springframework.util.CollectionUtils;
-import reactor.core.publisher.Flux;
-import reactor.core.publisher.Mono;
-
-import java.util.List;
-import java.util.Optional;
-
-import static org.springframework.data.mongodb.core.query.Criteria.where;
-import static org.springframework.data.mongodb.core.query.Query.query;
-
-public class CustomUserDataRepositoryCEImpl extends BaseAppsmithRepositoryImpl<UserData>
-        implements CustomUserDataRepositoryCE {
-
-    public CustomUserDataRepositoryCEImpl(
-            ReactiveMongoOperations mongoOperations,
-            MongoConverter mongoConverter,
-            CacheableRepositoryHelper cacheableRepositoryHelper) {
-        super(mongoOperations, mongoConverter, cacheableRepositoryHelper);
-    }
-
-    @Override
-    public Mono<UpdateResult> saveReleaseNotesViewedVersion(String userId, String version) {
-        return mongoOperations.upsert(
-                query(where(fieldName(QUserData.userData.userId)).is(userId)),
-                Update.update(fieldName(QUserData.userData.releaseNotesViewedVersion), version)
-                        .setOnInsert(fieldName(QUserData.userData.userId), userId),
-                UserData.class);
-    }
-
-    @Override
-    public Mono<UpdateResult> removeIdFromRecentlyUsedList(
-            String userId, String workspaceId, List<String> applicationIds) {
-        Update update = new Update().pull(fieldName(QUserData.userData.recentlyUsedWorkspaceIds), workspaceId);
-        if (!CollectionUtils.isEmpty(applicationIds)) {
-            update = update.pullAll(fieldName(QUserData.userData.recentlyUsedAppIds), applicationIds.toArray());
-        }
-        return mongoOperations.updateFirst(
-                query(where(fieldName(QUserData.userData.userId)).is(userId)), update, UserData.class);
-    }
-
-    /**
-     * Fetches a list of UserData objects from DB where userId matches with the provided a list of userId.
-     * The returned UserData objects will have only the userId and photoAssetId fields.
-     *
-     * @param userId List of userId as a list
-     * @return Flux of UserData with only the photoAssetId and userId fields
-     */
-    @Override
-    public Flux<UserData> findPhotoAssetsByUserIds(Iterable<String> userId) {
-        // need to convert from Iterable to ArrayList because the "in" method of criteria takes a collection as input
-        Criteria criteria = where(fieldName(QUserData.userData.userId)).in(Lists.newArrayList(userId));
-        List<String> fieldsToInclude =
-                List.of(fieldName(QUserData.userData.profilePhotoAssetId), fieldName(QUserData.userData.userId));
-        return queryAll(List.of(criteria), Optional.of(fieldsToInclude), Optional.empty(), Optional.empty());
-    }
-
-    @Override
-    public Mono<String> fetchMostRecentlyUsedWorkspaceId(String userId) {
-        final Query query = query(where(fieldName(QUserData.userData.userId)).is(userId));
-
-        query.fields().include(fieldName(QUserData.userData.recentlyUsedWorkspaceIds));
-
-        return mongoOperations.findOne(query, UserData.class).map(userData -> {
-            final List<String> recentlyUsedWorkspaceIds = userData.getRecentlyUsedWorkspaceIds();
-            return CollectionUtils.isEmpty(recentlyUsedWorkspaceIds) ? "" : recentlyUsedWorkspaceIds.get(0);
-        });
-    }
-}
+package com.appsmith.server.repositories.ce;
+
+import com.appsmith.server.domains.QUserData;
+import com.appsmith.server.domains.UserData;
+import com.appsmith.server.repositories.BaseAppsmithRepositoryImpl;
+import com.appsmith.server.repositories.CacheableRepositoryHelper;
+import com.google.common.collect.Lists;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.util.CollectionUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+public class CustomUserDataRepositoryCEImpl extends BaseAppsmithRepositoryImpl<UserData>
+        implements CustomUserDataRepositoryCE {
+
+    public CustomUserDataRepositoryCEImpl(
+            ReactiveMongoOperations mongoOperations,
+            MongoConverter mongoConverter,
+            CacheableRepositoryHelper cacheableRepositoryHelper) {
+        super(mongoOperations, mongoConverter, cacheableRepositoryHelper);
+    }
+
+    @Override
+    public Mono<UpdateResult> saveReleaseNotesViewedVersion(String userId, String version) {
+        return mongoOperations.upsert(
+                query(where(fieldName(QUserData.userData.userId)).is(userId)),
+                Update.update(fieldName(QUserData.userData.releaseNotesViewedVersion), version)
+                        .setOnInsert(fieldName(QUserData.userData.userId), userId),
+                UserData.class);
+    }
+
+    @Override
+    public Mono<UpdateResult> removeIdFromRecentlyUsedList(
+            String userId, String workspaceId, List<String> applicationIds) {
+        Update update = new Update().pull(fieldName(QUserData.userData.recentlyUsedWorkspaceIds), workspaceId);
+        if (!CollectionUtils.isEmpty(applicationIds)) {
+            update = update.pullAll(fieldName(QUserData.userData.recentlyUsedAppIds), applicationIds.toArray());
+        }
+        return mongoOperations.updateFirst(
+                query(where(fieldName(QUserData.userData.userId)).is(userId)), update, UserData.class);
+    }
+
+    /**
+     * Fetches a list of UserData objects from DB where userId matches with the provided a list of userId.
+     * The returned UserData objects will have only the userId and photoAssetId fields.
+     *
+     * @param userId List of userId as a list
+     * @return Flux of UserData with only the photoAssetId and userId fields
+     */
+    @Override
+    public Flux<UserData> findPhotoAssetsByUserIds(Iterable<String> userId) {
+        // need to convert from Iterable to ArrayList because the "in" method of criteria takes a collection as input
+        Criteria criteria = where(fieldName(QUserData.userData.userId)).in(Lists.newArrayList(userId));
+        List<String> fieldsToInclude =
+                List.of(fieldName(QUserData.userData.profilePhotoAssetId), fieldName(QUserData.userData.userId));
+        return queryAll(List.of(criteria), Optional.of(fieldsToInclude), Optional.empty(), Optional.empty());
+    }
+
+    /**
+     * Puts the given ids at the start of the recently used workspace and application ids of every given user, in a
+     * single DB operation. The ids are moved to the start if they are in the lists already, and the lists are truncated
+     * to the given sizes. Each user is updated with a pipeline, so the lists needn't be read first.
+     *
+     * @param workspaceIdsByUserId    Workspace ids for every user, most recently used first
+     * @param applicationIdsByUserId  Application ids for every user, most recently used first
+     * @return Result of the bulk write operation
+     */
+    @Override
+    public Mono<BulkWriteResult> addIdsToRecentlyUsedLists(
+            Map<String, List<String>> workspaceIdsByUserId,
+            Map<String, List<String>> applicationIdsByUserId,
+            int maxWorkspaceIds,
+            int maxApplicationIds) {
+        final String userIdFieldName = fieldName(QUserData.userData.userId);
+        final String workspaceIdsFieldName = fieldName(QUserData.userData.recentlyUsedWorkspaceIds);
+        final String applicationIdsFieldName = fieldName(QUserData.userData.recentlyUsedAppIds);
+
+        Set<String> userIds = new HashSet<>(workspaceIdsByUserId.keySet());
+        userIds.addAll(applicationIdsByUserId.keySet());
+        if (userIds.isEmpty()) {
+            return Mono.empty();
+        }
+
+        List<WriteModel<Document>> updates = userIds.stream()
+                .map(userId -> {
+                    Document set = new Document();
+                    List<String> workspaceIds = workspaceIdsByUserId.get(userId);
+                    if (!CollectionUtils.isEmpty(workspaceIds)) {
+                        set.append(
+                                workspaceIdsFieldName,
+                                prependToRecentlyUsedList(workspaceIdsFieldName, workspaceIds, maxWorkspaceIds));
+                    }
+                    List<String> applicationIds = applicationIdsByUserId.get(userId);
+                    if (!CollectionUtils.isEmpty(applicationIds)) {
+                        set.append(
+                                applicationIdsFieldName,
+                                prependToRecentlyUsedList(applicationIdsFieldName, applicationIds, maxApplicationIds));
+                    }
+                    return (WriteModel<Document>) new UpdateOneModel<Document>(
+                            new Document(userIdFieldName, userId),
+                            List.of(new Document("$set", set)),
+                            new UpdateOptions().upsert(true));
+                })
+                .toList();
+
+        return mongoOperations
+                .getCollection(mongoOperations.getCollectionName(UserData.class))
+                .flatMap(documentMongoCollection -> Mono.from(documentMongoCollection.bulkWrite(updates)));
+    }
+
+    /**
+     * The expression for the given ids, followed by the ids in the list that aren't among them, truncated to the max size.
+     */
+    private static Document prependToRecentlyUsedList(String fieldName, List<String> ids, int maxSize) {
+        Document otherIds = new Document(
+                "$filter",
+                new Document("input", new Document("$ifNull", List.of("$" + fieldName, List.of())))
+                        .append("cond", new Document("$not", List.of(new Document("$in", List.of("$$this", ids))))));
+        return new Document("$slice", List.of(new Document("$concatArrays", List.of(ids, otherIds)), maxSize));
+    }
+
+    @Override
+    public Mono<String> fetchMostRecentlyUsedWorkspaceId(String userId) {
+        final Query query = query(where(fieldName(QUserData.userData.userId)).is(userId));
+
+        query.fields().include(fieldName(QUserData.userData.recentlyUsedWorkspaceIds));
+
+        return mongoOperations.findOne(query, UserData.class).map(userData -> {
+            final List<String> recentlyUsedWorkspaceIds = userData.getRecentlyUsedWorkspaceIds();
+            return CollectionUtils.isEmpty(recentlyUsedWorkspaceIds) ? "" : recentlyUsedWorkspaceIds.get(0);
+        });
+    }
+}
@@ -1,6 +1,6 @@
-package com.appsmith.server.repositories.ce;
-
-import com.appsmith.server.domains.Layout;
-import com.appsmith.server.repositories.BaseRepository;
-
-public interface LayoutRepositoryCE extends BaseRepository<Layout, String> {}
+package com.appsmith.server.repositories.ce;
+
+import com.appsmith.server.domains.Layout;
+import com.appsmith.server.repositories.BaseRepository;
+
+public interface LayoutRepositoryCE extends BaseRepository<Layout, String> {}
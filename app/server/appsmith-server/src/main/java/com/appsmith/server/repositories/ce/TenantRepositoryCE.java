@@ -1,10 +1,10 @@
-package com.appsmith.server.repositories.ce;
-
-import com.appsmith.server.domains.Tenant;
-import com.appsmith.server.repositories.BaseRepository;
-import reactor.core.publisher.Mono;
-
-public interface TenantRepositoryCE extends BaseRepository<Tenant, String>, CustomTenantRepositoryCE {
-
-    Mono<Tenant> findBySlug(String slug);
-}
+package com.appsmith.server.repositories.ce;
+
+import com.appsmith.server.domains.Tenant;
+import com.appsmith.server.repositories.BaseRepository;
+import reactor.core.publisher.Mono;
+
+public interface TenantRepositoryCE extends BaseRepository<Tenant, String>, CustomTenantRepositoryCE {
+
+    Mono<Tenant> findBySlug(String slug);
+}
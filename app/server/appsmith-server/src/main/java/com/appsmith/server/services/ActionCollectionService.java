@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.ActionCollectionServiceCE;
-
-public interface ActionCollectionService extends ActionCollectionServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.ActionCollectionServiceCE;
+
+public interface ActionCollectionService extends ActionCollectionServiceCE {}
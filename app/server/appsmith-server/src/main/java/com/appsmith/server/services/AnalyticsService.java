@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.AnalyticsServiceCE;
-
-public interface AnalyticsService extends AnalyticsServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.AnalyticsServiceCE;
+
+public interface AnalyticsService extends AnalyticsServiceCE {}
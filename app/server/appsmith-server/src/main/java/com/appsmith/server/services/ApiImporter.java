@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.ApiImporterCE;
-
-public interface ApiImporter extends ApiImporterCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.ApiImporterCE;
+
+public interface ApiImporter extends ApiImporterCE {}
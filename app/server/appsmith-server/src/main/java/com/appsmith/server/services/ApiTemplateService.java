@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.ApiTemplateServiceCE;
-
-public interface ApiTemplateService extends ApiTemplateServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.ApiTemplateServiceCE;
+
+public interface ApiTemplateService extends ApiTemplateServiceCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.ApplicationPageServiceCE;
-
-public interface ApplicationPageService extends ApplicationPageServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.ApplicationPageServiceCE;
+
+public interface ApplicationPageService extends ApplicationPageServiceCE {}
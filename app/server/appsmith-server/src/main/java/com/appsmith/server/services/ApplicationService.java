@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.ApplicationServiceCE;
-
-public interface ApplicationService extends ApplicationServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.ApplicationServiceCE;
+
+public interface ApplicationService extends ApplicationServiceCE {}
@@ -1,53 +1,56 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.helpers.ResponseUtils;
-import com.appsmith.server.repositories.ApplicationRepository;
-import com.appsmith.server.repositories.NewActionRepository;
-import com.appsmith.server.services.ce.ApplicationServiceCEImpl;
-import com.appsmith.server.solutions.ApplicationPermission;
-import com.appsmith.server.solutions.DatasourcePermission;
-import com.appsmith.server.solutions.PolicySolution;
-import jakarta.validation.Validator;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
-import org.springframework.data.mongodb.core.convert.MongoConverter;
-import org.springframework.stereotype.Service;
-import reactor.core.scheduler.Scheduler;
-
-@Slf4j
-@Service
-public class ApplicationServiceImpl extends ApplicationServiceCEImpl implements ApplicationService {
-
-    public ApplicationServiceImpl(
-            Scheduler scheduler,
-            Validator validator,
-            MongoConverter mongoConverter,
-            ReactiveMongoTemplate reactiveMongoTemplate,
-            ApplicationRepository repository,
-            AnalyticsService analyticsService,
-            PolicySolution policySolution,
-            ConfigService configService,
-            ResponseUtils responseUtils,
-            PermissionGroupService permissionGroupService,
-            NewActionRepository newActionRepository,
-            AssetService assetService,
-            DatasourcePermission datasourcePermission,
-            ApplicationPermission applicationPermission) {
-
-        super(
-                scheduler,
-                validator,
-                mongoConverter,
-                reactiveMongoTemplate,
-                repository,
-                analyticsService,
-                policySolution,
-                configService,
-                responseUtils,
-                permissionGroupService,
-                newActionRepository,
-                assetService,
-                datasourcePermission,
-                applicationPermission);
-    }
-}
+package com.appsmith.server.services;
+
+import com.appsmith.server.helpers.RedisUtils;
+import com.appsmith.server.helpers.ResponseUtils;
+import com.appsmith.server.repositories.ApplicationRepository;
+import com.appsmith.server.repositories.NewActionRepository;
+import com.appsmith.server.services.ce.ApplicationServiceCEImpl;
+import com.appsmith.server.solutions.ApplicationPermission;
+import com.appsmith.server.solutions.DatasourcePermission;
+import com.appsmith.server.solutions.PolicySolution;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Service;
+import reactor.core.scheduler.Scheduler;
+
+@Slf4j
+@Service
+public class ApplicationServiceImpl extends ApplicationServiceCEImpl implements ApplicationService {
+
+    public ApplicationServiceImpl(
+            Scheduler scheduler,
+            Validator validator,
+            MongoConverter mongoConverter,
+            ReactiveMongoTemplate reactiveMongoTemplate,
+            ApplicationRepository repository,
+            AnalyticsService analyticsService,
+            PolicySolution policySolution,
+            ConfigService configService,
+            ResponseUtils responseUtils,
+            PermissionGroupService permissionGroupService,
+            NewActionRepository newActionRepository,
+            AssetService assetService,
+            DatasourcePermission datasourcePermission,
+            ApplicationPermission applicationPermission,
+            RedisUtils redisUtils) {
+
+        super(
+                scheduler,
+                validator,
+                mongoConverter,
+                reactiveMongoTemplate,
+                repository,
+                analyticsService,
+                policySolution,
+                configService,
+                responseUtils,
+                permissionGroupService,
+                newActionRepository,
+                assetService,
+                datasourcePermission,
+                applicationPermission,
+                redisUtils);
+    }
+}
@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.ApplicationSnapshotServiceCE;
-
-public interface ApplicationSnapshotService extends ApplicationSnapshotServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.ApplicationSnapshotServiceCE;
+
+public interface ApplicationSnapshotService extends ApplicationSnapshotServiceCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.ApplicationTemplateServiceCE;
-
-public interface ApplicationTemplateService extends ApplicationTemplateServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.ApplicationTemplateServiceCE;
+
+public interface ApplicationTemplateService extends ApplicationTemplateServiceCE {}
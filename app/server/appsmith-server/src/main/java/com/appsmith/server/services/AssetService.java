@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.AssetServiceCE;
-
-public interface AssetService extends AssetServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.AssetServiceCE;
+
+public interface AssetService extends AssetServiceCE {}
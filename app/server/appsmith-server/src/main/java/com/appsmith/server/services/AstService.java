@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.AstServiceCE;
-
-public interface AstService extends AstServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.AstServiceCE;
+
+public interface AstService extends AstServiceCE {}
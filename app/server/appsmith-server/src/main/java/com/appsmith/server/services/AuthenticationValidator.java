@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.AuthenticationValidatorCE;
-
-public interface AuthenticationValidator extends AuthenticationValidatorCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.AuthenticationValidatorCE;
+
+public interface AuthenticationValidator extends AuthenticationValidatorCE {}
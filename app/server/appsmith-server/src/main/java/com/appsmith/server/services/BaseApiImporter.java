@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.BaseApiImporterCE;
-
-public abstract class BaseApiImporter extends BaseApiImporterCE implements ApiImporter {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.BaseApiImporterCE;
+
+public abstract class BaseApiImporter extends BaseApiImporterCE implements ApiImporter {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.CacheableFeatureFlagHelperCE;
-
-public interface CacheableFeatureFlagHelper extends CacheableFeatureFlagHelperCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.CacheableFeatureFlagHelperCE;
+
+public interface CacheableFeatureFlagHelper extends CacheableFeatureFlagHelperCE {}
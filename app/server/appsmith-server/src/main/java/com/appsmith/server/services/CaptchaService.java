@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.CaptchaServiceCE;
-
-public interface CaptchaService extends CaptchaServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.CaptchaServiceCE;
+
+public interface CaptchaService extends CaptchaServiceCE {}
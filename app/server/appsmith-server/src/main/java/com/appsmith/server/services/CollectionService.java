@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.CollectionServiceCE;
-
-public interface CollectionService extends CollectionServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.CollectionServiceCE;
+
+public interface CollectionService extends CollectionServiceCE {}
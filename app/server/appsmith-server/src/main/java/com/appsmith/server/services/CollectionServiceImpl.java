@@ -1,26 +1,26 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.repositories.CollectionRepository;
-import com.appsmith.server.services.ce.CollectionServiceCEImpl;
-import jakarta.validation.Validator;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
-import org.springframework.data.mongodb.core.convert.MongoConverter;
-import org.springframework.stereotype.Service;
-import reactor.core.scheduler.Scheduler;
-
-@Slf4j
-@Service
-public class CollectionServiceImpl extends CollectionServiceCEImpl implements CollectionService {
-
-    public CollectionServiceImpl(
-            Scheduler scheduler,
-            Validator validator,
-            MongoConverter mongoConverter,
-            ReactiveMongoTemplate reactiveMongoTemplate,
-            CollectionRepository repository,
-            AnalyticsService analyticsService) {
-
-        super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, analyticsService);
-    }
-}
+package com.appsmith.server.services;
+
+import com.appsmith.server.repositories.CollectionRepository;
+import com.appsmith.server.services.ce.CollectionServiceCEImpl;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Service;
+import reactor.core.scheduler.Scheduler;
+
+@Slf4j
+@Service
+public class CollectionServiceImpl extends CollectionServiceCEImpl implements CollectionService {
+
+    public CollectionServiceImpl(
+            Scheduler scheduler,
+            Validator validator,
+            MongoConverter mongoConverter,
+            ReactiveMongoTemplate reactiveMongoTemplate,
+            CollectionRepository repository,
+            AnalyticsService analyticsService) {
+
+        super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, analyticsService);
+    }
+}
@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.ConfigServiceCE;
-
-public interface ConfigService extends ConfigServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.ConfigServiceCE;
+
+public interface ConfigService extends ConfigServiceCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.CurlImporterServiceCE;
-
-public interface CurlImporterService extends CurlImporterServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.CurlImporterServiceCE;
+
+public interface CurlImporterService extends CurlImporterServiceCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.CustomJSLibServiceCE;
-
-public interface CustomJSLibService extends CustomJSLibServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.CustomJSLibServiceCE;
+
+public interface CustomJSLibService extends CustomJSLibServiceCE {}
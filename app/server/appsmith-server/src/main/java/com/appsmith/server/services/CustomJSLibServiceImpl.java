@@ -1,33 +1,33 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.repositories.CustomJSLibRepository;
-import com.appsmith.server.services.ce.CustomJSLibServiceCEImpl;
-import jakarta.validation.Validator;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
-import org.springframework.data.mongodb.core.convert.MongoConverter;
-import org.springframework.stereotype.Service;
-import reactor.core.scheduler.Scheduler;
-
-@Service
-@Slf4j
-public class CustomJSLibServiceImpl extends CustomJSLibServiceCEImpl implements CustomJSLibService {
-
-    public CustomJSLibServiceImpl(
-            Scheduler scheduler,
-            Validator validator,
-            MongoConverter mongoConverter,
-            ReactiveMongoTemplate reactiveMongoTemplate,
-            CustomJSLibRepository repository,
-            ApplicationService applicationService,
-            AnalyticsService analyticsService) {
-        super(
-                scheduler,
-                validator,
-                mongoConverter,
-                reactiveMongoTemplate,
-                repository,
-                applicationService,
-                analyticsService);
-    }
-}
+package com.appsmith.server.services;
+
+import com.appsmith.server.repositories.CustomJSLibRepository;
+import com.appsmith.server.services.ce.CustomJSLibServiceCEImpl;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Service;
+import reactor.core.scheduler.Scheduler;
+
+@Service
+@Slf4j
+public class CustomJSLibServiceImpl extends CustomJSLibServiceCEImpl implements CustomJSLibService {
+
+    public CustomJSLibServiceImpl(
+            Scheduler scheduler,
+            Validator validator,
+            MongoConverter mongoConverter,
+            ReactiveMongoTemplate reactiveMongoTemplate,
+            CustomJSLibRepository repository,
+            ApplicationService applicationService,
+            AnalyticsService analyticsService) {
+        super(
+                scheduler,
+                validator,
+                mongoConverter,
+                reactiveMongoTemplate,
+                repository,
+                applicationService,
+                analyticsService);
+    }
+}
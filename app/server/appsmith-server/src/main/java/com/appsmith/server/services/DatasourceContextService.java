@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.DatasourceContextServiceCE;
-
-public interface DatasourceContextService extends DatasourceContextServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.DatasourceContextServiceCE;
+
+public interface DatasourceContextService extends DatasourceContextServiceCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.DatasourceServiceCE;
-
-public interface DatasourceService extends DatasourceServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.DatasourceServiceCE;
+
+public interface DatasourceService extends DatasourceServiceCE {}
@@ -1,50 +1,53 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.acl.PolicyGenerator;
-import com.appsmith.server.helpers.PluginExecutorHelper;
-import com.appsmith.server.repositories.DatasourceRepository;
-import com.appsmith.server.repositories.NewActionRepository;
-import com.appsmith.server.services.ce.DatasourceServiceCEImpl;
-import com.appsmith.server.solutions.DatasourcePermission;
-import com.appsmith.server.solutions.EnvironmentPermission;
-import com.appsmith.server.solutions.WorkspacePermission;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.stereotype.Service;
-
-@Slf4j
-@Service
-public class DatasourceServiceImpl extends DatasourceServiceCEImpl implements DatasourceService {
-
-    public DatasourceServiceImpl(
-            DatasourceRepository repository,
-            WorkspaceService workspaceService,
-            AnalyticsService analyticsService,
-            SessionUserService sessionUserService,
-            PluginService pluginService,
-            PluginExecutorHelper pluginExecutorHelper,
-            PolicyGenerator policyGenerator,
-            SequenceService sequenceService,
-            NewActionRepository newActionRepository,
-            DatasourceContextService datasourceContextService,
-            DatasourcePermission datasourcePermission,
-            WorkspacePermission workspacePermission,
-            DatasourceStorageService datasourceStorageService,
-            EnvironmentPermission environmentPermission) {
-
-        super(
-                repository,
-                workspaceService,
-                analyticsService,
-                sessionUserService,
-                pluginService,
-                pluginExecutorHelper,
-                policyGenerator,
-                sequenceService,
-                newActionRepository,
-                datasourceContextService,
-                datasourcePermission,
-                workspacePermission,
-                datasourceStorageService,
-                environmentPermission);
-    }
-}
+package com.appsmith.server.services;
+
+import com.appsmith.server.acl.PolicyGenerator;
+import com.appsmith.server.helpers.PluginExecutorHelper;
+import com.appsmith.server.helpers.PublishedActionCache;
+import com.appsmith.server.repositories.DatasourceRepository;
+import com.appsmith.server.repositories.NewActionRepository;
+import com.appsmith.server.services.ce.DatasourceServiceCEImpl;
+import com.appsmith.server.solutions.DatasourcePermission;
+import com.appsmith.server.solutions.EnvironmentPermission;
+import com.appsmith.server.solutions.WorkspacePermission;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+public class DatasourceServiceImpl extends DatasourceServiceCEImpl implements DatasourceService {
+
+    public DatasourceServiceImpl(
+            DatasourceRepository repository,
+            WorkspaceService workspaceService,
+            AnalyticsService analyticsService,
+            SessionUserService sessionUserService,
+            PluginService pluginService,
+            PluginExecutorHelper pluginExecutorHelper,
+            PolicyGenerator policyGenerator,
+            SequenceService sequenceService,
+            NewActionRepository newActionRepository,
+            DatasourceContextService datasourceContextService,
+            DatasourcePermission datasourcePermission,
+            WorkspacePermission workspacePermission,
+            DatasourceStorageService datasourceStorageService,
+            EnvironmentPermission environmentPermission,
+            PublishedActionCache publishedActionCache) {
+
+        super(
+                repository,
+                workspaceService,
+                analyticsService,
+                sessionUserService,
+                pluginService,
+                pluginExecutorHelper,
+                policyGenerator,
+                sequenceService,
+                newActionRepository,
+                datasourceContextService,
+                datasourcePermission,
+                workspacePermission,
+                datasourceStorageService,
+                environmentPermission,
+                publishedActionCache);
+    }
+}
@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.DatasourceStorageServiceCE;
-
-public interface DatasourceStorageService extends DatasourceStorageServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.DatasourceStorageServiceCE;
+
+public interface DatasourceStorageService extends DatasourceStorageServiceCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.DatasourceStructureServiceCE;
-
-public interface DatasourceStructureService extends DatasourceStructureServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.DatasourceStructureServiceCE;
+
+public interface DatasourceStructureService extends DatasourceStructureServiceCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.FeatureFlagServiceCE;
-
-public interface FeatureFlagService extends FeatureFlagServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.FeatureFlagServiceCE;
+
+public interface FeatureFlagService extends FeatureFlagServiceCE {}
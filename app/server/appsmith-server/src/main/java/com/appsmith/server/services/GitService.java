@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.GitServiceCE;
-
-public interface GitService extends GitServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.GitServiceCE;
+
+public interface GitService extends GitServiceCE {}
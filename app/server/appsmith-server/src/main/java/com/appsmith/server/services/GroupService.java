@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.GroupServiceCE;
-
-public interface GroupService extends GroupServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.GroupServiceCE;
+
+public interface GroupService extends GroupServiceCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.HealthCheckServiceCE;
-
-public interface HealthCheckService extends HealthCheckServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.HealthCheckServiceCE;
+
+public interface HealthCheckService extends HealthCheckServiceCE {}
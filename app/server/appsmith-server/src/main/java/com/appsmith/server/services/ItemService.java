@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.ItemServiceCE;
-
-public interface ItemService extends ItemServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.ItemServiceCE;
+
+public interface ItemService extends ItemServiceCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.LayoutActionServiceCE;
-
-public interface LayoutActionService extends LayoutActionServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.LayoutActionServiceCE;
+
+public interface LayoutActionService extends LayoutActionServiceCE {}
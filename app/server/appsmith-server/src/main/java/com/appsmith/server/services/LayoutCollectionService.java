@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.LayoutCollectionServiceCE;
-
-public interface LayoutCollectionService extends LayoutCollectionServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.LayoutCollectionServiceCE;
+
+public interface LayoutCollectionService extends LayoutCollectionServiceCE {}
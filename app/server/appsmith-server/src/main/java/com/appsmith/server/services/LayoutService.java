@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.LayoutServiceCE;
-
-public interface LayoutService extends LayoutServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.LayoutServiceCE;
+
+public interface LayoutService extends LayoutServiceCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.MarketplaceServiceCE;
-
-public interface MarketplaceService extends MarketplaceServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.MarketplaceServiceCE;
+
+public interface MarketplaceService extends MarketplaceServiceCE {}
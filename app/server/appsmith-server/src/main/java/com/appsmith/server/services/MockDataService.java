@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.MockDataServiceCE;
-
-public interface MockDataService extends MockDataServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.MockDataServiceCE;
+
+public interface MockDataService extends MockDataServiceCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.NewActionServiceCE;
-
-public interface NewActionService extends NewActionServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.NewActionServiceCE;
+
+public interface NewActionService extends NewActionServiceCE {}
@@ -1,73 +1,79 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.acl.PolicyGenerator;
-import com.appsmith.server.helpers.PluginExecutorHelper;
-import com.appsmith.server.helpers.ResponseUtils;
-import com.appsmith.server.repositories.NewActionRepository;
-import com.appsmith.server.services.ce.NewActionServiceCEImpl;
-import com.appsmith.server.solutions.ActionPermission;
-import com.appsmith.server.solutions.ApplicationPermission;
-import com.appsmith.server.solutions.DatasourcePermission;
-import com.appsmith.server.solutions.PagePermission;
-import com.appsmith.server.solutions.PolicySolution;
-import io.micrometer.observation.ObservationRegistry;
-import jakarta.validation.Validator;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
-import org.springframework.data.mongodb.core.convert.MongoConverter;
-import org.springframework.stereotype.Service;
-import reactor.core.scheduler.Scheduler;
-
-@Service
-@Slf4j
-public class NewActionServiceImpl extends NewActionServiceCEImpl implements NewActionService {
-
-    public NewActionServiceImpl(
-            Scheduler scheduler,
-            Validator validator,
-            MongoConverter mongoConverter,
-            ReactiveMongoTemplate reactiveMongoTemplate,
-            NewActionRepository repository,
-            AnalyticsService analyticsService,
-            DatasourceService datasourceService,
-            PluginService pluginService,
-            PluginExecutorHelper pluginExecutorHelper,
-            MarketplaceService marketplaceService,
-            PolicyGenerator policyGenerator,
-            NewPageService newPageService,
-            ApplicationService applicationService,
-            PolicySolution policySolution,
-            ConfigService configService,
-            ResponseUtils responseUtils,
-            PermissionGroupService permissionGroupService,
-            DatasourcePermission datasourcePermission,
-            ApplicationPermission applicationPermission,
-            PagePermission pagePermission,
-            ActionPermission actionPermission,
-            ObservationRegistry observationRegistry) {
-
-        super(
-                scheduler,
-                validator,
-                mongoConverter,
-                reactiveMongoTemplate,
-                repository,
-                analyticsService,
-                datasourceService,
-                pluginService,
-                pluginExecutorHelper,
-                marketplaceService,
-                policyGenerator,
-                newPageService,
-                applicationService,
-                policySolution,
-                configService,
-                responseUtils,
-                permissionGroupService,
-                datasourcePermission,
-                applicationPermission,
-                pagePermission,
-                actionPermission,
-                observationRegistry);
-    }
-}
+package com.appsmith.server.services;
+
+import com.appsmith.server.acl.PolicyGenerator;
+import com.appsmith.server.helpers.PluginExecutorHelper;
+import com.appsmith.server.helpers.PublishedActionCache;
+import com.appsmith.server.helpers.RedisUtils;
+import com.appsmith.server.helpers.ResponseUtils;
+import com.appsmith.server.repositories.NewActionRepository;
+import com.appsmith.server.services.ce.NewActionServiceCEImpl;
+import com.appsmith.server.solutions.ActionPermission;
+import com.appsmith.server.solutions.ApplicationPermission;
+import com.appsmith.server.solutions.DatasourcePermission;
+import com.appsmith.server.solutions.PagePermission;
+import com.appsmith.server.solutions.PolicySolution;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Service;
+import reactor.core.scheduler.Scheduler;
+
+@Service
+@Slf4j
+public class NewActionServiceImpl extends NewActionServiceCEImpl implements NewActionService {
+
+    public NewActionServiceImpl(
+            Scheduler scheduler,
+            Validator validator,
+            MongoConverter mongoConverter,
+            ReactiveMongoTemplate reactiveMongoTemplate,
+            NewActionRepository repository,
+            AnalyticsService analyticsService,
+            DatasourceService datasourceService,
+            PluginService pluginService,
+            PluginExecutorHelper pluginExecutorHelper,
+            MarketplaceService marketplaceService,
+            PolicyGenerator policyGenerator,
+            NewPageService newPageService,
+            ApplicationService applicationService,
+            PolicySolution policySolution,
+            ConfigService configService,
+            ResponseUtils responseUtils,
+            PermissionGroupService permissionGroupService,
+            DatasourcePermission datasourcePermission,
+            ApplicationPermission applicationPermission,
+            PagePermission pagePermission,
+            ActionPermission actionPermission,
+            ObservationRegistry observationRegistry,
+            RedisUtils redisUtils,
+            PublishedActionCache publishedActionCache) {
+
+        super(
+                scheduler,
+                validator,
+                mongoConverter,
+                reactiveMongoTemplate,
+                repository,
+                analyticsService,
+                datasourceService,
+                pluginService,
+                pluginExecutorHelper,
+                marketplaceService,
+                policyGenerator,
+                newPageService,
+                applicationService,
+                policySolution,
+                configService,
+                responseUtils,
+                permissionGroupService,
+                datasourcePermission,
+                applicationPermission,
+                pagePermission,
+                actionPermission,
+                observationRegistry,
+                redisUtils,
+                publishedActionCache);
+    }
+}
@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.NewPageServiceCE;
-
-public interface NewPageService extends NewPageServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.NewPageServiceCE;
+
+public interface NewPageService extends NewPageServiceCE {}
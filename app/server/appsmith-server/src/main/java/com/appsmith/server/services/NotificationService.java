@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.NotificationServiceCE;
-
-public interface NotificationService extends NotificationServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.NotificationServiceCE;
+
+public interface NotificationService extends NotificationServiceCE {}
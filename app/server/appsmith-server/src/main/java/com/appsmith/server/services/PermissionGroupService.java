@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.PermissionGroupServiceCE;
-
-public interface PermissionGroupService extends PermissionGroupServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.PermissionGroupServiceCE;
+
+public interface PermissionGroupService extends PermissionGroupServiceCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.PluginServiceCE;
-
-public interface PluginService extends PluginServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.PluginServiceCE;
+
+public interface PluginService extends PluginServiceCE {}
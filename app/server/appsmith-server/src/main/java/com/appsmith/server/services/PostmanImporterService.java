@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.PostmanImporterServiceCE;
-
-public interface PostmanImporterService extends PostmanImporterServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.PostmanImporterServiceCE;
+
+public interface PostmanImporterService extends PostmanImporterServiceCE {}
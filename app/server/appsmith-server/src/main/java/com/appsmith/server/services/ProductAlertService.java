@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.ProductAlertServiceCE;
-
-public interface ProductAlertService extends ProductAlertServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.ProductAlertServiceCE;
+
+public interface ProductAlertService extends ProductAlertServiceCE {}
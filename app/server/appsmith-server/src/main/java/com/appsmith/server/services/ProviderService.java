@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.ProviderServiceCE;
-
-public interface ProviderService extends ProviderServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.ProviderServiceCE;
+
+public interface ProviderService extends ProviderServiceCE {}
@@ -1,25 +1,25 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.repositories.ProviderRepository;
-import com.appsmith.server.services.ce.ProviderServiceCEImpl;
-import jakarta.validation.Validator;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
-import org.springframework.data.mongodb.core.convert.MongoConverter;
-import org.springframework.stereotype.Service;
-import reactor.core.scheduler.Scheduler;
-
-@Service
-@Slf4j
-public class ProviderServiceImpl extends ProviderServiceCEImpl implements ProviderService {
-
-    public ProviderServiceImpl(
-            Scheduler scheduler,
-            Validator validator,
-            MongoConverter mongoConverter,
-            ReactiveMongoTemplate reactiveMongoTemplate,
-            ProviderRepository repository,
-            AnalyticsService analyticsService) {
-        super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, analyticsService);
-    }
-}
+package com.appsmith.server.services;
+
+import com.appsmith.server.repositories.ProviderRepository;
+import com.appsmith.server.services.ce.ProviderServiceCEImpl;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Service;
+import reactor.core.scheduler.Scheduler;
+
+@Service
+@Slf4j
+public class ProviderServiceImpl extends ProviderServiceCEImpl implements ProviderService {
+
+    public ProviderServiceImpl(
+            Scheduler scheduler,
+            Validator validator,
+            MongoConverter mongoConverter,
+            ReactiveMongoTemplate reactiveMongoTemplate,
+            ProviderRepository repository,
+            AnalyticsService analyticsService) {
+        super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, analyticsService);
+    }
+}
@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.SequenceServiceCE;
-
-public interface SequenceService extends SequenceServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.SequenceServiceCE;
+
+public interface SequenceService extends SequenceServiceCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.SessionUserServiceCE;
-
-public interface SessionUserService extends SessionUserServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.SessionUserServiceCE;
+
+public interface SessionUserService extends SessionUserServiceCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.TenantServiceCE;
-
-public interface TenantService extends TenantServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.TenantServiceCE;
+
+public interface TenantService extends TenantServiceCE {}
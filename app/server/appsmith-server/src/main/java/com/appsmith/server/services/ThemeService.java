@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.ThemeServiceCE;
-
-public interface ThemeService extends ThemeServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.ThemeServiceCE;
+
+public interface ThemeService extends ThemeServiceCE {}
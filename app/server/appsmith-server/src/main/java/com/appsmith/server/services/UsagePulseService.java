@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.UsagePulseServiceCE;
-
-public interface UsagePulseService extends UsagePulseServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.UsagePulseServiceCE;
+
+public interface UsagePulseService extends UsagePulseServiceCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.UserDataServiceCE;
-
-public interface UserDataService extends UserDataServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.UserDataServiceCE;
+
+public interface UserDataService extends UserDataServiceCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.UserIdentifierServiceCE;
-
-public interface UserIdentifierService extends UserIdentifierServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.UserIdentifierServiceCE;
+
+public interface UserIdentifierService extends UserIdentifierServiceCE {}
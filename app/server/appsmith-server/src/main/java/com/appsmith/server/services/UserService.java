@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.UserServiceCE;
-
-public interface UserService extends UserServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.UserServiceCE;
+
+public interface UserService extends UserServiceCE {}
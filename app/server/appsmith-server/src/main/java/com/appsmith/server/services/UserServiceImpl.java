@@ -1,72 +1,72 @@
-package com.appsmith.server.services;
-
-import com.appsmith.external.services.EncryptionService;
-import com.appsmith.server.configurations.CommonConfig;
-import com.appsmith.server.configurations.EmailConfig;
-import com.appsmith.server.helpers.UserUtils;
-import com.appsmith.server.notifications.EmailSender;
-import com.appsmith.server.repositories.ApplicationRepository;
-import com.appsmith.server.repositories.PasswordResetTokenRepository;
-import com.appsmith.server.repositories.UserRepository;
-import com.appsmith.server.services.ce.UserServiceCEImpl;
-import com.appsmith.server.solutions.PolicySolution;
-import com.appsmith.server.solutions.UserChangedHandler;
-import jakarta.validation.Validator;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
-import org.springframework.data.mongodb.core.convert.MongoConverter;
-import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.stereotype.Service;
-import reactor.core.scheduler.Scheduler;
-
-@Slf4j
-@Service
-public class UserServiceImpl extends UserServiceCEImpl implements UserService {
-
-    public UserServiceImpl(
-            Scheduler scheduler,
-            Validator validator,
-            MongoConverter mongoConverter,
-            ReactiveMongoTemplate reactiveMongoTemplate,
-            UserRepository repository,
-            WorkspaceService workspaceService,
-            AnalyticsService analyticsService,
-            SessionUserService sessionUserService,
-            PasswordResetTokenRepository passwordResetTokenRepository,
-            PasswordEncoder passwordEncoder,
-            EmailSender emailSender,
-            ApplicationRepository applicationRepository,
-            PolicySolution policySolution,
-            CommonConfig commonConfig,
-            EmailConfig emailConfig,
-            UserChangedHandler userChangedHandler,
-            EncryptionService encryptionService,
-            UserDataService userDataService,
-            TenantService tenantService,
-            PermissionGroupService permissionGroupService,
-            UserUtils userUtils) {
-
-        super(
-                scheduler,
-                validator,
-                mongoConverter,
-                reactiveMongoTemplate,
-                repository,
-                workspaceService,
-                analyticsService,
-                sessionUserService,
-                passwordResetTokenRepository,
-                passwordEncoder,
-                emailSender,
-                applicationRepository,
-                policySolution,
-                commonConfig,
-                emailConfig,
-                userChangedHandler,
-                encryptionService,
-                userDataService,
-                tenantService,
-                permissionGroupService,
-                userUtils);
-    }
-}
+package com.appsmith.server.services;
+
+import com.appsmith.external.services.EncryptionService;
+import com.appsmith.server.configurations.CommonConfig;
+import com.appsmith.server.configurations.EmailConfig;
+import com.appsmith.server.helpers.UserUtils;
+import com.appsmith.server.notifications.EmailSender;
+import com.appsmith.server.repositories.ApplicationRepository;
+import com.appsmith.server.repositories.PasswordResetTokenRepository;
+import com.appsmith.server.repositories.UserRepository;
+import com.appsmith.server.services.ce.UserServiceCEImpl;
+import com.appsmith.server.solutions.PolicySolution;
+import com.appsmith.server.solutions.UserChangedHandler;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import reactor.core.scheduler.Scheduler;
+
+@Slf4j
+@Service
+public class UserServiceImpl extends UserServiceCEImpl implements UserService {
+
+    public UserServiceImpl(
+            Scheduler scheduler,
+            Validator validator,
+            MongoConverter mongoConverter,
+            ReactiveMongoTemplate reactiveMongoTemplate,
+            UserRepository repository,
+            WorkspaceService workspaceService,
+            AnalyticsService analyticsService,
+            SessionUserService sessionUserService,
+            PasswordResetTokenRepository passwordResetTokenRepository,
+            PasswordEncoder passwordEncoder,
+            EmailSender emailSender,
+            ApplicationRepository applicationRepository,
+            PolicySolution policySolution,
+            CommonConfig commonConfig,
+            EmailConfig emailConfig,
+            UserChangedHandler userChangedHandler,
+            EncryptionService encryptionService,
+            UserDataService userDataService,
+            TenantService tenantService,
+            PermissionGroupService permissionGroupService,
+            UserUtils userUtils) {
+
+        super(
+                scheduler,
+                validator,
+                mongoConverter,
+                reactiveMongoTemplate,
+                repository,
+                workspaceService,
+                analyticsService,
+                sessionUserService,
+                passwordResetTokenRepository,
+                passwordEncoder,
+                emailSender,
+                applicationRepository,
+                policySolution,
+                commonConfig,
+                emailConfig,
+                userChangedHandler,
+                encryptionService,
+                userDataService,
+                tenantService,
+                permissionGroupService,
+                userUtils);
+    }
+}
@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.UserWorkspaceServiceCE;
-
-public interface UserWorkspaceService extends UserWorkspaceServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.UserWorkspaceServiceCE;
+
+public interface UserWorkspaceService extends UserWorkspaceServiceCE {}
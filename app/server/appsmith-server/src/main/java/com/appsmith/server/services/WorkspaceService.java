@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.WorkspaceServiceCE;
-
-public interface WorkspaceService extends WorkspaceServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.WorkspaceServiceCE;
+
+public interface WorkspaceService extends WorkspaceServiceCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.services;
-
-import com.appsmith.server.services.ce.WxLoginServiceCE;
-
-public interface WxLoginService extends WxLoginServiceCE {}
+package com.appsmith.server.services;
+
+import com.appsmith.server.services.ce.WxLoginServiceCE;
+
+public interface WxLoginService extends WxLoginServiceCE {}
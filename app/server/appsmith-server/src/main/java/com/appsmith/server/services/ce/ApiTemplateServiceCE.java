@@ -1,6 +1,6 @@
-package com.appsmith.server.services.ce;
-
-import com.appsmith.external.models.ApiTemplate;
-import com.appsmith.server.services.CrudService;
-
-public interface ApiTemplateServiceCE extends CrudService<ApiTemplate, String> {}
+package com.appsmith.server.services.ce;
+
+import com.appsmith.external.models.ApiTemplate;
+import com.appsmith.server.services.CrudService;
+
+public interface ApiTemplateServiceCE extends CrudService<ApiTemplate, String> {}
@@ -1,234 +1,294 @@
-package com.appsmith.server.services.ce;
-
-import com.appsmith.external.helpers.MustacheHelper;
-import com.appsmith.external.models.MustacheBindingToken;
-import com.appsmith.server.configurations.CommonConfig;
-import com.appsmith.server.configurations.InstanceConfig;
-import com.appsmith.server.exceptions.AppsmithError;
-import com.appsmith.server.exceptions.AppsmithException;
-import com.appsmith.util.WebClientUtils;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.RequiredArgsConstructor;
-import lombok.Setter;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
-import org.springframework.web.reactive.function.BodyInserters;
-import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Flux;
-import reactor.core.publisher.Mono;
-import reactor.netty.resources.ConnectionProvider;
-import reactor.util.function.Tuple2;
-import reactor.util.function.Tuples;
-import reactor.util.retry.Retry;
-
-import java.time.Duration;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.Set;
-import java.util.stream.Collectors;
-
-@Slf4j
-@RequiredArgsConstructor
-public class AstServiceCEImpl implements AstServiceCE {
-
-    private final CommonConfig commonConfig;
-
-    private final InstanceConfig instanceConfig;
-
-    private final WebClient webClient = WebClientUtils.create(ConnectionProvider.builder("rts-provider")
-            .maxConnections(100)
-            .maxIdleTime(Duration.ofSeconds(30))
-            .maxLifeTime(Duration.ofSeconds(40))
-            .pendingAcquireTimeout(Duration.ofSeconds(10))
-            .pendingAcquireMaxCount(-1)
-            .build());
-
-    private static final long MAX_API_RESPONSE_TIME_IN_MS = 50;
-
-    @Override
-    public Flux<Tuple2<String, Set<String>>> getPossibleReferencesFromDynamicBinding(
-            List<String> bindingValues, int evalVersion) {
-        if (bindingValues == null || bindingValues.isEmpty()) {
-            return Flux.empty();
-        }
-        /*
-           For the binding value which starts with "appsmith.theme" can be directly served
-           without calling the AST API or the calling the method for non-AST implementation
-        */
-        if (bindingValues.size() == 1 && bindingValues.get(0).startsWith("appsmith.theme.")) {
-            return Flux.just(Tuples.of(bindingValues.get(0), new HashSet<>(bindingValues)));
-        }
-
-        // If RTS server is not accessible for this instance, it means that this is a slim container set up
-        // Proceed with assuming that all words need to be processed as possible entity references
-        if (Boolean.FALSE.equals(instanceConfig.getIsRtsAccessible())) {
-            return Flux.fromIterable(bindingValues).flatMap(bindingValue -> {
-                return Mono.zip(
-                        Mono.just(bindingValue),
-                        Mono.just(new HashSet<>(MustacheHelper.getPossibleParentsOld(bindingValue))));
-            });
-        }
-        return webClient
-                .post()
-                .uri(commonConfig.getRtsBaseUrl() + "/rts-api/v1/ast/multiple-script-data")
-                .contentType(MediaType.APPLICATION_JSON)
-                .body(BodyInserters.fromValue(new GetIdentifiersRequestBulk(bindingValues, evalVersion)))
-                .retrieve()
-                .bodyToMono(GetIdentifiersResponseBulk.class)
-                .retryWhen(Retry.max(3))
-                .flatMapIterable(getIdentifiersResponse -> getIdentifiersResponse.data)
-                .index()
-                .flatMap(tuple2 -> {
-                    long currentIndex = tuple2.getT1();
-                    Set<String> references = tuple2.getT2().getReferences();
-                    return Mono.zip(Mono.just(bindingValues.get((int) currentIndex)), Mono.just(references));
-                });
-        // TODO: add error handling scenario for when RTS is not accessible in fat container
-    }
-
-    @Override
-    public Mono<Map<MustacheBindingToken, String>> refactorNameInDynamicBindings(
-            Set<MustacheBindingToken> bindingValues,
-            String oldName,
-            String newName,
-            int evalVersion,
-            boolean isJSObject) {
-        if (bindingValues == null || bindingValues.isEmpty()) {
-            return Mono.empty();
-        }
-
-        return Flux.fromIterable(bindingValues)
-                .flatMap(bindingValue -> {
-                    EntityRefactorRequest entityRefactorRequest = new EntityRefactorRequest(
-                            bindingValue.getValue(), oldName, newName, evalVersion, isJSObject);
-                    return webClient
-                            .post()
-                            .uri(commonConfig.getRtsBaseUrl() + "/rts-api/v1/ast/entity-refactor")
-                            .contentType(MediaType.APPLICATION_JSON)
-                            .body(BodyInserters.fromValue(entityRefactorRequest))
-                            .retrieve()
-                            .toEntity(EntityRefactorResponse.class)
-                            .flatMap(entityRefactorResponseResponseEntity -> {
-                                if (HttpStatus.OK.equals(entityRefactorResponseResponseEntity.getStatusCode())) {
-                                    return Mono.just(
-                                            Objects.requireNonNull(entityRefactorResponseResponseEntity.getBody()));
-                                }
-                                return Mono.error(new AppsmithException(
-                                        AppsmithError.RTS_SERVER_ERROR,
-                                        entityRefactorResponseResponseEntity.getStatusCodeValue()));
-                            })
-                            .elapsed()
-                            .map(tuple -> {
-                                log.debug("Time elapsed since AST refactor call: {} ms", tuple.getT1());
-                                if (tuple.getT1() > MAX_API_RESPONSE_TIME_IN_MS) {
-                                    log.debug("This call took longer than expected. The binding was: {}", bindingValue);
-                                }
-                                return tuple.getT2();
-                            })
-                            .map(EntityRefactorResponse::getData)
-                            .filter(details -> details.refactorCount > 0)
-                            .flatMap(response -> Mono.just(bindingValue).zipWith(Mono.just(response.script)))
-                            .onErrorResume(error -> {
-                                var temp = bindingValue;
-                                // If there is a problem with parsing and refactoring this binding, we just ignore it
-                                // and move ahead
-                                // The expectation is that this binding would error out during eval anyway
-                                return Mono.empty();
-                            });
-                })
-                .collect(Collectors.toMap(Tuple2::getT1, Tuple2::getT2));
-    }
-
-    @NoArgsConstructor
-    @AllArgsConstructor
-    @Getter
-    static class GetIdentifiersRequest {
-        String script;
-        int evalVersion;
-    }
-
-    @NoArgsConstructor
-    @AllArgsConstructor
-    @Getter
-    static class GetIdentifiersRequestBulk {
-        List<String> scripts;
-        int evalVersion;
-    }
-
-    @NoArgsConstructor
-    @AllArgsConstructor
-    @Getter
-    @Setter
-    static class GetIdentifiersResponse {
-        GetIdentifiersResponseDetails data;
-    }
-
-    @NoArgsConstructor
-    @AllArgsConstructor
-    @Getter
-    @Setter
-    static class GetIdentifiersResponseBulk {
-        List<GetIdentifiersResponseDetails> data;
-    }
-
-    /**
-     * Consider the following binding:
-     * ( function(ignoredAction1) {
-     * let a = ignoredAction1.data
-     * let ignoredAction2 = { data: "nothing" }
-     * let b = ignoredAction2.data
-     * let c = "ignoredAction3.data"
-     * // ignoredAction4.data
-     * return aPostAction.data
-     * } )(anotherPostAction.data)
-     * <p/>
-     * The values in the returned instance of GetIdentifiersResponseDetails will be:
-     * {
-     * references: ["aPostAction.data", "anotherPostAction.data"],
-     * functionalParams: ["ignoredAction1"],
-     * variables: ["ignoredAction2", "a", "b", "c"]
-     */
-    @NoArgsConstructor
-    @AllArgsConstructor
-    @Getter
-    @Setter
-    static class GetIdentifiersResponseDetails {
-        Set<String> references;
-        Set<String> functionalParams;
-        Set<String> variables;
-    }
-
-    @NoArgsConstructor
-    @AllArgsConstructor
-    @Getter
-    static class EntityRefactorRequest {
-        String script;
-        String oldName;
-        String newName;
-        int evalVersion;
-        Boolean isJSObject;
-    }
-
-    @NoArgsConstructor
-    @AllArgsConstructor
-    @Getter
-    @Setter
-    static class EntityRefactorResponse {
-        EntityRefactorResponseDetails data;
-    }
-
-    @NoArgsConstructor
-    @AllArgsConstructor
-    @Getter
-    @Setter
-    static class EntityRefactorResponseDetails {
-        String script;
-        int referenceCount;
-        int refactorCount;
-    }
-}
+package com.appsmith.server.services.ce;
+
+import com.appsmith.caching.components.LocalCache;
+import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.models.MustacheBindingToken;
+import com.appsmith.server.configurations.CommonConfig;
+import com.appsmith.server.configurations.InstanceConfig;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.util.WebClientUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+import reactor.util.retry.Retry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@RequiredArgsConstructor
+public class AstServiceCEImpl implements AstServiceCE {
+
+    private final CommonConfig commonConfig;
+
+    private final InstanceConfig instanceConfig;
+
+    private final WebClient webClient = WebClientUtils.create(ConnectionProvider.builder("rts-provider")
+            .maxConnections(100)
+            .maxIdleTime(Duration.ofSeconds(30))
+            .maxLifeTime(Duration.ofSeconds(40))
+            .pendingAcquireTimeout(Duration.ofSeconds(10))
+            .pendingAcquireMaxCount(-1)
+            .build());
+
+    private static final long MAX_API_RESPONSE_TIME_IN_MS = 50;
+
+    private static final int MAX_CACHED_BINDINGS = 10000;
+
+    // The references in a binding only depend on its script and the eval version, so entries never go stale. They
+    // expire only so that an upgraded RTS gets to parse the bindings again.
+    private static final Duration CACHED_BINDING_TIME_TO_LIVE = Duration.ofHours(1);
+
+    private final LocalCache referencesCache =
+            new LocalCache(MAX_CACHED_BINDINGS, CACHED_BINDING_TIME_TO_LIVE, Clock.systemUTC());
+
+    private final Counter referencesCacheHits = Counter.builder("appsmith.ast.references.cache")
+            .description("Number of bindings whose references were found in the cache, or had to be fetched from RTS")
+            .tag("result", "hit")
+            .register(Metrics.globalRegistry);
+
+    private final Counter referencesCacheMisses = Counter.builder("appsmith.ast.references.cache")
+            .description("Number of bindings whose references were found in the cache, or had to be fetched from RTS")
+            .tag("result", "miss")
+            .register(Metrics.globalRegistry);
+
+    @Override
+    public Flux<Tuple2<String, Set<String>>> getPossibleReferencesFromDynamicBinding(
+            List<String> bindingValues, int evalVersion) {
+        if (bindingValues == null || bindingValues.isEmpty()) {
+            return Flux.empty();
+        }
+        /*
+           For the binding value which starts with "appsmith.theme" can be directly served
+           without calling the AST API or the calling the method for non-AST implementation
+        */
+        if (bindingValues.size() == 1 && bindingValues.get(0).startsWith("appsmith.theme.")) {
+            return Flux.just(Tuples.of(bindingValues.get(0), new HashSet<>(bindingValues)));
+        }
+
+        // If RTS server is not accessible for this instance, it means that this is a slim container set up
+        // Proceed with assuming that all words need to be processed as possible entity references
+        if (Boolean.FALSE.equals(instanceConfig.getIsRtsAccessible())) {
+            return Flux.fromIterable(bindingValues).flatMap(bindingValue -> {
+                return Mono.zip(
+                        Mono.just(bindingValue),
+                        Mono.just(new HashSet<>(MustacheHelper.getPossibleParentsOld(bindingValue))));
+            });
+        }
+        // Only the bindings that haven't been parsed before are sent to RTS
+        final List<Tuple2<String, Set<String>>> cachedReferences = new ArrayList<>();
+        final List<String> uncachedBindingValues = new ArrayList<>();
+        for (String bindingValue : bindingValues) {
+            @SuppressWarnings("unchecked")
+            Set<String> references =
+                    (Set<String>) referencesCache.get(getReferencesCacheKey(bindingValue, evalVersion));
+            if (references == null) {
+                uncachedBindingValues.add(bindingValue);
+            } else {
+                cachedReferences.add(Tuples.of(bindingValue, references));
+            }
+        }
+        referencesCacheHits.increment(cachedReferences.size());
+        referencesCacheMisses.increment(uncachedBindingValues.size());
+
+        if (uncachedBindingValues.isEmpty()) {
+            return Flux.fromIterable(cachedReferences);
+        }
+
+        return Flux.fromIterable(cachedReferences)
+                .concatWith(webClient
+                        .post()
+                        .uri(commonConfig.getRtsBaseUrl() + "/rts-api/v1/ast/multiple-script-data")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(BodyInserters.fromValue(
+                                new GetIdentifiersRequestBulk(uncachedBindingValues, evalVersion)))
+                        .retrieve()
+                        .bodyToMono(GetIdentifiersResponseBulk.class)
+                        .retryWhen(Retry.max(3))
+                        .flatMapIterable(getIdentifiersResponse -> getIdentifiersResponse.data)
+                        .index()
+                        .flatMap(tuple2 -> {
+                            long currentIndex = tuple2.getT1();
+                            String bindingValue = uncachedBindingValues.get((int) currentIndex);
+                            Set<String> references = tuple2.getT2().getReferences();
+                            if (references != null) {
+                                // Cached values are shared between callers, so they are kept unmodifiable
+                                references = Set.copyOf(references);
+                                referencesCache.put(getReferencesCacheKey(bindingValue, evalVersion), references);
+                            }
+                            return Mono.zip(Mono.just(bindingValue), Mono.just(references));
+                        }));
+        // TODO: add error handling scenario for when RTS is not accessible in fat container
+    }
+
+    /**
+     * Bindings are keyed by a hash of their script, so that large scripts don't bloat the cache.
+     */
+    private static String getReferencesCacheKey(String bindingValue, int evalVersion) {
+        return evalVersion + ":" + DigestUtils.sha256Hex(bindingValue);
+    }
+
+    @Override
+    public Mono<Map<MustacheBindingToken, String>> refactorNameInDynamicBindings(
+            Set<MustacheBindingToken> bindingValues,
+            String oldName,
+            String newName,
+            int evalVersion,
+            boolean isJSObject) {
+        if (bindingValues == null || bindingValues.isEmpty()) {
+            return Mono.empty();
+        }
+
+        return Flux.fromIterable(bindingValues)
+                .flatMap(bindingValue -> {
+                    EntityRefactorRequest entityRefactorRequest = new EntityRefactorRequest(
+                            bindingValue.getValue(), oldName, newName, evalVersion, isJSObject);
+                    return webClient
+                            .post()
+                            .uri(commonConfig.getRtsBaseUrl() + "/rts-api/v1/ast/entity-refactor")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .body(BodyInserters.fromValue(entityRefactorRequest))
+                            .retrieve()
+                            .toEntity(EntityRefactorResponse.class)
+                            .flatMap(entityRefactorResponseResponseEntity -> {
+                                if (HttpStatus.OK.equals(entityRefactorResponseResponseEntity.getStatusCode())) {
+                                    return Mono.just(
+                                            Objects.requireNonNull(entityRefactorResponseResponseEntity.getBody()));
+                                }
+                                return Mono.error(new AppsmithException(
+                                        AppsmithError.RTS_SERVER_ERROR,
+                                        entityRefactorResponseResponseEntity.getStatusCodeValue()));
+                            })
+                            .elapsed()
+                            .map(tuple -> {
+                                log.debug("Time elapsed since AST refactor call: {} ms", tuple.getT1());
+                                if (tuple.getT1() > MAX_API_RESPONSE_TIME_IN_MS) {
+                                    log.debug("This call took longer than expected. The binding was: {}", bindingValue);
+                                }
+                                return tuple.getT2();
+                            })
+                            .map(EntityRefactorResponse::getData)
+                            .filter(details -> details.refactorCount > 0)
+                            .flatMap(response -> Mono.just(bindingValue).zipWith(Mono.just(response.script)))
+                            .onErrorResume(error -> {
+                                var temp = bindingValue;
+                                // If there is a problem with parsing and refactoring this binding, we just ignore it
+                                // and move ahead
+                                // The expectation is that this binding would error out during eval anyway
+                                return Mono.empty();
+                            });
+                })
+                .collect(Collectors.toMap(Tuple2::getT1, Tuple2::getT2));
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    static class GetIdentifiersRequest {
+        String script;
+        int evalVersion;
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    static class GetIdentifiersRequestBulk {
+        List<String> scripts;
+        int evalVersion;
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @Setter
+    static class GetIdentifiersResponse {
+        GetIdentifiersResponseDetails data;
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @Setter
+    static class GetIdentifiersResponseBulk {
+        List<GetIdentifiersResponseDetails> data;
+    }
+
+    /**
+     * Consider the following binding:
+     * ( function(ignoredAction1) {
+     * let a = ignoredAction1.data
+     * let ignoredAction2 = { data: "nothing" }
+     * let b = ignoredAction2.data
+     * let c = "ignoredAction3.data"
+     * // ignoredAction4.data
+     * return aPostAction.data
+     * } )(anotherPostAction.data)
+     * <p/>
+     * The values in the returned instance of GetIdentifiersResponseDetails will be:
+     * {
+     * references: ["aPostAction.data", "anotherPostAction.data"],
+     * functionalParams: ["ignoredAction1"],
+     * variables: ["ignoredAction2", "a", "b", "c"]
+     */
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @Setter
+    static class GetIdentifiersResponseDetails {
+        Set<String> references;
+        Set<String> functionalParams;
+        Set<String> variables;
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    static class EntityRefactorRequest {
+        String script;
+        String oldName;
+        String newName;
+        int evalVersion;
+        Boolean isJSObject;
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @Setter
+    static class EntityRefactorResponse {
+        EntityRefactorResponseDetails data;
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @Setter
+    static class EntityRefactorResponseDetails {
+        String script;
+        int referenceCount;
+        int refactorCount;
+    }
+}
@@ -1,8 +1,8 @@
-package com.appsmith.server.services.ce;
-
-import reactor.core.publisher.Mono;
-
-public interface CaptchaServiceCE {
-
-    Mono<Boolean> verify(String recaptchaResponse);
-}
+package com.appsmith.server.services.ce;
+
+import reactor.core.publisher.Mono;
+
+public interface CaptchaServiceCE {
+
+    Mono<Boolean> verify(String recaptchaResponse);
+}
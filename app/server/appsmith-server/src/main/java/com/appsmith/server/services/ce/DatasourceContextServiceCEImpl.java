@@ -1,335 +1,514 @@
-package com.appsmith.server.services.ce;
-
-import com.appsmith.external.dtos.ExecutePluginDTO;
-import com.appsmith.external.dtos.RemoteDatasourceDTO;
-import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
-import com.appsmith.external.models.DatasourceStorage;
-import com.appsmith.external.models.UpdatableConnection;
-import com.appsmith.external.plugins.PluginExecutor;
-import com.appsmith.server.constants.FieldName;
-import com.appsmith.server.domains.DatasourceContext;
-import com.appsmith.server.domains.DatasourceContextIdentifier;
-import com.appsmith.server.domains.Plugin;
-import com.appsmith.server.helpers.PluginExecutorHelper;
-import com.appsmith.server.services.ConfigService;
-import com.appsmith.server.services.DatasourceService;
-import com.appsmith.server.services.DatasourceStorageService;
-import com.appsmith.server.services.PluginService;
-import com.appsmith.server.solutions.DatasourcePermission;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.Lazy;
-import reactor.core.publisher.Mono;
-
-import java.time.Instant;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
-
-@Slf4j
-public class DatasourceContextServiceCEImpl implements DatasourceContextServiceCE {
-
-    // DatasourceContextIdentifier contains datasourceId & environmentId which is mapped to DatasourceContext
-    protected final Map<DatasourceContextIdentifier, Mono<? extends DatasourceContext<?>>> datasourceContextMonoMap;
-    protected final Map<DatasourceContextIdentifier, Object> datasourceContextSynchronizationMonitorMap;
-    protected final Map<DatasourceContextIdentifier, DatasourceContext<?>> datasourceContextMap;
-    private final DatasourceService datasourceService;
-    private final DatasourceStorageService datasourceStorageService;
-    private final PluginService pluginService;
-    private final PluginExecutorHelper pluginExecutorHelper;
-    private final ConfigService configService;
-    private final DatasourcePermission datasourcePermission;
-
-    @Autowired
-    public DatasourceContextServiceCEImpl(
-            @Lazy DatasourceService datasourceService,
-            DatasourceStorageService datasourceStorageService,
-            PluginService pluginService,
-            PluginExecutorHelper pluginExecutorHelper,
-            ConfigService configService,
-            DatasourcePermission datasourcePermission) {
-        this.datasourceService = datasourceService;
-        this.datasourceStorageService = datasourceStorageService;
-        this.pluginService = pluginService;
-        this.pluginExecutorHelper = pluginExecutorHelper;
-        this.datasourceContextMap = new ConcurrentHashMap<>();
-        this.datasourceContextMonoMap = new ConcurrentHashMap<>();
-        this.datasourceContextSynchronizationMonitorMap = new ConcurrentHashMap<>();
-        this.configService = configService;
-        this.datasourcePermission = datasourcePermission;
-    }
-
-    /**
-     * This method defines a critical section that can be executed only by one thread at a time per datasource id - i
-     * .e. if two threads want to create datasource for different datasource ids then they would not be synchronized.
-     * Earlier multiple threads could subscribe to a publisher that created connection to a datasource - which
-     * resulted in a data race condition resulting in multiple orphan connections.
-     * Ref: https://github.com/appsmithorg/appsmith/issues/14117
-     * This method caches the result from the source publisher and forces concurrent subscriptions to re-use the cached
-     * value. Hence, even if multiple threads subscribe to the same source publisher they get the pre-computed cached
-     * value instead of creating a new connection for each subscription of the source publisher.
-     *
-     * @param datasourceStorage           - datasource storage for which a new datasource context / connection needs to be created
-     * @param pluginExecutor              - plugin executor associated with the datasource's plugin
-     * @param monitor                     - unique monitor object per datasource id. Lock is acquired on this monitor object.
-     * @param datasourceContextIdentifier - key for the datasourceContextMaps.
-     * @return a cached source publisher which upon subscription produces / returns the latest datasource context /
-     * connection.
-     */
-    public Mono<? extends DatasourceContext<?>> getCachedDatasourceContextMono(
-            DatasourceStorage datasourceStorage,
-            PluginExecutor<Object> pluginExecutor,
-            Object monitor,
-            DatasourceContextIdentifier datasourceContextIdentifier) {
-        synchronized (monitor) {
-            /* Destroy any connection that is stale or in error state to free up resource */
-            final boolean isStale = getIsStale(datasourceStorage, datasourceContextIdentifier);
-            final boolean isInErrorState = getIsInErrorState(datasourceContextIdentifier);
-
-            if (isStale || isInErrorState) {
-                final Object connection =
-                        datasourceContextMap.get(datasourceContextIdentifier).getConnection();
-                if (connection != null) {
-                    try {
-                        // Basically remove entry from both cache maps
-                        pluginExecutor.datasourceDestroy(connection);
-                    } catch (Exception e) {
-                        log.info("Error destroying stale datasource connection", e);
-                    }
-                }
-                datasourceContextMonoMap.remove(datasourceContextIdentifier);
-                datasourceContextMap.remove(datasourceContextIdentifier);
-            }
-
-            /*
-             * If a publisher with cached value already exists then return it. Please note that even if this publisher is
-             * evaluated multiple times the actual datasource creation will only happen once and get cached and the same
-             * value would directly be returned to further evaluations / subscriptions.
-             */
-            if (datasourceContextIdentifier.getDatasourceId() != null
-                    && datasourceContextMonoMap.get(datasourceContextIdentifier) != null) {
-                log.debug("Cached resource context mono exists. Returning the same.");
-                return datasourceContextMonoMap.get(datasourceContextIdentifier);
-            }
-
-            /* Create a fresh datasource context */
-            DatasourceContext<Object> datasourceContext = new DatasourceContext<>();
-            if (datasourceContextIdentifier.isKeyValid()) {
-                /* For this datasource, either the context doesn't exist, or the context is stale. Replace (or add) with
-                the new connection in the context map. */
-                datasourceContextMap.put(datasourceContextIdentifier, datasourceContext);
-            }
-
-            Mono<Object> connectionMonoCache = pluginExecutor
-                    .datasourceCreate(datasourceStorage.getDatasourceConfiguration())
-                    .cache();
-
-            Mono<DatasourceContext<Object>> datasourceContextMonoCache = connectionMonoCache
-                    .flatMap(connection -> updateDatasourceAndSetAuthentication(connection, datasourceStorage))
-                    .map(connection -> {
-                        /* When a connection object exists and makes sense for the plugin, we put it in the
-                        context. Example, DB plugins. */
-                        datasourceContext.setConnection(connection);
-                        return datasourceContext;
-                    })
-                    .defaultIfEmpty(
-                            /* When a connection object doesn't make sense for the plugin, we get an empty mono
-                            and we just return the context object as is. */
-                            datasourceContext)
-                    .cache(); /* Cache the value so that further evaluations don't result in new connections */
-
-            if (datasourceContextIdentifier.isKeyValid()) {
-                datasourceContextMonoMap.put(datasourceContextIdentifier, datasourceContextMonoCache);
-            }
-            return datasourceContextMonoCache;
-        }
-    }
-
-    public Mono<Object> updateDatasourceAndSetAuthentication(Object connection, DatasourceStorage datasourceStorage) {
-        Mono<DatasourceStorage> datasourceStorageMono = Mono.just(datasourceStorage);
-        if (connection instanceof UpdatableConnection updatableConnection) {
-            datasourceStorage.setUpdatedAt(Instant.now());
-            datasourceStorage
-                    .getDatasourceConfiguration()
-                    .setAuthentication(updatableConnection.getAuthenticationDTO(
-                            datasourceStorage.getDatasourceConfiguration().getAuthentication()));
-            datasourceStorageMono = datasourceStorageService.updateDatasourceStorage(
-                    datasourceStorage, datasourceStorage.getEnvironmentId(), Boolean.FALSE);
-        }
-        return datasourceStorageMono.thenReturn(connection);
-    }
-
-    protected Mono<DatasourceContext<?>> createNewDatasourceContext(
-            DatasourceStorage datasourceStorage, DatasourceContextIdentifier datasourceContextIdentifier) {
-        log.debug("Datasource context doesn't exist. Creating connection.");
-        Mono<Plugin> pluginMono = pluginService.findById(datasourceStorage.getPluginId());
-
-        return pluginExecutorHelper.getPluginExecutor(pluginMono).flatMap(pluginExecutor -> {
-
-            /**
-             * Keep one monitor object against each datasource id. The synchronized method
-             * `getCachedDatasourceContextMono` would then acquire lock on the monitor object which is unique
-             * for each datasourceId hence ensuring that if competing threads want to create datasource context
-             * on different datasource id then they are not blocked on each other and can run concurrently.
-             * Only threads that want to create a new datasource context on the same datasource id would be
-             * synchronized.
-             */
-            Object monitor = new Object();
-            if (datasourceContextIdentifier.isKeyValid()) {
-                if (datasourceContextSynchronizationMonitorMap.get(datasourceContextIdentifier) == null) {
-                    synchronized (this) {
-                        datasourceContextSynchronizationMonitorMap.computeIfAbsent(
-                                datasourceContextIdentifier, k -> new Object());
-                    }
-                }
-
-                monitor = datasourceContextSynchronizationMonitorMap.get(datasourceContextIdentifier);
-            }
-
-            return getCachedDatasourceContextMono(
-                    datasourceStorage, pluginExecutor, monitor, datasourceContextIdentifier);
-        });
-    }
-
-    public boolean getIsStale(
-            DatasourceStorage datasourceStorage, DatasourceContextIdentifier datasourceContextIdentifier) {
-        String datasourceId = datasourceStorage.getDatasourceId();
-        return datasourceId != null
-                && datasourceContextMap.get(datasourceContextIdentifier) != null
-                && datasourceStorage.getUpdatedAt() != null
-                && datasourceStorage
-                        .getUpdatedAt()
-                        .isAfter(datasourceContextMap
-                                .get(datasourceContextIdentifier)
-                                .getCreationTime());
-    }
-
-    /**
-     * This function checks if the cached datasource context mono is in error state
-     *
-     * @param datasourceContextIdentifier
-     * @return boolean
-     */
-    private boolean getIsInErrorState(DatasourceContextIdentifier datasourceContextIdentifier) {
-        return datasourceContextMonoMap.get(datasourceContextIdentifier) != null
-                && datasourceContextMonoMap
-                        .get(datasourceContextIdentifier)
-                        .toFuture()
-                        .isCompletedExceptionally();
-    }
-
-    public boolean isValidDatasourceContextAvailable(
-            DatasourceStorage datasourceStorage, DatasourceContextIdentifier datasourceContextIdentifier) {
-        boolean isStale = getIsStale(datasourceStorage, datasourceContextIdentifier);
-        boolean isInErrorState = getIsInErrorState(datasourceContextIdentifier);
-        return datasourceContextMap.get(datasourceContextIdentifier) != null
-                // The following condition happens when there's a timeout in the middle of destroying a connection and
-                // the reactive flow interrupts, resulting in the destroy operation not completing.
-                && datasourceContextMap.get(datasourceContextIdentifier).getConnection() != null
-                && !isStale
-                && !isInErrorState;
-    }
-
-    @Override
-    public Mono<DatasourceContext<?>> getDatasourceContext(DatasourceStorage datasourceStorage) {
-        final String datasourceId = datasourceStorage.getDatasourceId();
-        DatasourceContextIdentifier datasourceContextIdentifier =
-                this.initializeDatasourceContextIdentifier(datasourceStorage);
-        if (datasourceId == null) {
-            log.debug(
-                    "This is a dry run or an embedded datasourceStorage. The datasourceStorage context would not exist in this "
-                            + "scenario");
-        } else {
-            if (isValidDatasourceContextAvailable(datasourceStorage, datasourceContextIdentifier)) {
-                log.debug("Resource context exists. Returning the same.");
-                return Mono.just(datasourceContextMap.get(datasourceContextIdentifier));
-            }
-        }
-        return createNewDatasourceContext(datasourceStorage, datasourceContextIdentifier);
-    }
-
-    @Override
-    public <T> Mono<T> retryOnce(DatasourceStorage datasourceStorage, Function<DatasourceContext<?>, Mono<T>> task) {
-
-        final Mono<T> taskRunnerMono = Mono.justOrEmpty(datasourceStorage)
-                .flatMap(this::getDatasourceContext)
-                // Now that we have the context (connection details), call the task.
-                .flatMap(task);
-
-        return taskRunnerMono.onErrorResume(StaleConnectionException.class, error -> {
-            log.info("Looks like the connection is stale. Retrying with a fresh context.");
-            return deleteDatasourceContext(datasourceStorage).then(taskRunnerMono);
-        });
-    }
-
-    @Override
-    public Mono<DatasourceContext<?>> deleteDatasourceContext(DatasourceStorage datasourceStorage) {
-
-        DatasourceContextIdentifier datasourceContextIdentifier =
-                initializeDatasourceContextIdentifier(datasourceStorage);
-        if (!datasourceContextIdentifier.isKeyValid()) {
-            return Mono.empty();
-        }
-
-        DatasourceContext<?> datasourceContext = datasourceContextMap.get(datasourceContextIdentifier);
-        if (datasourceContext == null) {
-            // No resource context exists for this resource. Return void.
-            return Mono.empty();
-        }
-        return pluginExecutorHelper
-                .getPluginExecutor(pluginService.findById(datasourceStorage.getPluginId()))
-                .map(pluginExecutor -> {
-                    log.info("Clearing datasource context for datasource storage ID {}.", datasourceStorage.getId());
-                    pluginExecutor.datasourceDestroy(datasourceContext.getConnection());
-                    datasourceContextMonoMap.remove(datasourceContextIdentifier);
-                    return datasourceContextMap.remove(datasourceContextIdentifier);
-                });
-    }
-
-    /**
-     * Provides datasource context for execution
-     *
-     * @param datasourceStorage
-     * @param plugin
-     * @return datasourceContextMono
-     */
-    @Override
-    public Mono<DatasourceContext<?>> getDatasourceContext(DatasourceStorage datasourceStorage, Plugin plugin) {
-        if (plugin.isRemotePlugin()) {
-            return this.getRemoteDatasourceContext(plugin, datasourceStorage);
-        }
-        return this.getDatasourceContext(datasourceStorage);
-    }
-
-    // We can afford to make this call all the time since we already have all the info we need in context
-    @Override
-    public Mono<DatasourceContext<?>> getRemoteDatasourceContext(Plugin plugin, DatasourceStorage datasourceStorage) {
-        final DatasourceContext<ExecutePluginDTO> datasourceContext = new DatasourceContext<>();
-
-        return configService.getInstanceId().map(instanceId -> {
-            ExecutePluginDTO executePluginDTO = new ExecutePluginDTO();
-            executePluginDTO.setInstallationKey(instanceId);
-            executePluginDTO.setPluginName(plugin.getPluginName());
-            executePluginDTO.setPluginVersion(plugin.getVersion());
-            executePluginDTO.setDatasource(new RemoteDatasourceDTO(
-                    datasourceStorage.getDatasourceId(), datasourceStorage.getDatasourceConfiguration()));
-            datasourceContext.setConnection(executePluginDTO);
-
-            return datasourceContext;
-        });
-    }
-
-    /**
-     * Generates the custom key that is used in:
-     * datasourceContextMap
-     * datasourceContextMonoMap
-     * datasourceContextSynchronizationMonitorMap
-     *
-     * @param datasourceStorage
-     * @return an DatasourceContextIdentifier object
-     */
-    @Override
-    public DatasourceContextIdentifier initializeDatasourceContextIdentifier(DatasourceStorage datasourceStorage) {
-        return new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), FieldName.UNUSED_ENVIRONMENT_ID);
-    }
-}
+package com.appsmith.server.services.ce;
+
+import com.appsmith.external.dtos.ExecutePluginDTO;
+import com.appsmith.external.dtos.RemoteDatasourceDTO;
+import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.models.DatasourceStorage;
+import com.appsmith.external.models.UpdatableConnection;
+import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.server.constants.FieldName;
+import com.appsmith.server.domains.DatasourceContext;
+import com.appsmith.server.domains.DatasourceContextIdentifier;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.helpers.PluginExecutorHelper;
+import com.appsmith.server.services.ConfigService;
+import com.appsmith.server.services.DatasourceService;
+import com.appsmith.server.services.DatasourceStorageService;
+import com.appsmith.server.services.PluginService;
+import com.appsmith.server.solutions.DatasourcePermission;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ClassUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+@Slf4j
+public class DatasourceContextServiceCEImpl implements DatasourceContextServiceCE {
+
+    // DatasourceContextIdentifier contains datasourceId & environmentId which is mapped to DatasourceContext
+    protected final Map<DatasourceContextIdentifier, Mono<? extends DatasourceContext<?>>> datasourceContextMonoMap;
+    protected final Map<DatasourceContextIdentifier, Object> datasourceContextSynchronizationMonitorMap;
+    protected final Map<DatasourceContextIdentifier, DatasourceContext<?>> datasourceContextMap;
+    private final DatasourceService datasourceService;
+    private final DatasourceStorageService datasourceStorageService;
+    private final PluginService pluginService;
+    private final PluginExecutorHelper pluginExecutorHelper;
+    private final ConfigService configService;
+    private final DatasourcePermission datasourcePermission;
+
+    // Maximum number of datasource contexts, and hence open connections, to keep. The least recently used ones are
+    // evicted when there are more.
+    @Value("${appsmith.datasource.context.max-size:1000}")
+    protected int maxDatasourceContexts = 1000;
+
+    // Contexts that haven't been used for this many seconds are evicted and their connections are destroyed
+    @Value("${appsmith.datasource.context.max-idle-time:1800}")
+    protected long maxIdleTimeInSeconds = 1800;
+
+    private final MultiGauge openDatasourceContextsGauge = MultiGauge.builder("appsmith.datasource.contexts.open")
+            .description("Number of datasource contexts with an open connection, per plugin")
+            .register(Metrics.globalRegistry);
+
+    @Autowired
+    public DatasourceContextServiceCEImpl(
+            @Lazy DatasourceService datasourceService,
+            DatasourceStorageService datasourceStorageService,
+            PluginService pluginService,
+            PluginExecutorHelper pluginExecutorHelper,
+            ConfigService configService,
+            DatasourcePermission datasourcePermission) {
+        this.datasourceService = datasourceService;
+        this.datasourceStorageService = datasourceStorageService;
+        this.pluginService = pluginService;
+        this.pluginExecutorHelper = pluginExecutorHelper;
+        this.datasourceContextMap = new ConcurrentHashMap<>();
+        this.datasourceContextMonoMap = new ConcurrentHashMap<>();
+        this.datasourceContextSynchronizationMonitorMap = new ConcurrentHashMap<>();
+        this.configService = configService;
+        this.datasourcePermission = datasourcePermission;
+    }
+
+    /**
+     * This method defines a critical section that can be executed only by one thread at a time per datasource id - i
+     * .e. if two threads want to create datasource for different datasource ids then they would not be synchronized.
+     * Earlier multiple threads could subscribe to a publisher that created connection to a datasource - which
+     * resulted in a data race condition resulting in multiple orphan connections.
+     * Ref: https://github.com/appsmithorg/appsmith/issues/14117
+     * This method caches the result from the source publisher and forces concurrent subscriptions to re-use the cached
+     * value. Hence, even if multiple threads subscribe to the same source publisher they get the pre-computed cached
+     * value instead of creating a new connection for each subscription of the source publisher.
+     *
+     * @param datasourceStorage           - datasource storage for which a new datasource context / connection needs to be created
+     * @param pluginExecutor              - plugin executor associated with the datasource's plugin
+     * @param monitor                     - unique monitor object per datasource id. Lock is acquired on this monitor object.
+     * @param datasourceContextIdentifier - key for the datasourceContextMaps.
+     * @return a cached source publisher which upon subscription produces / returns the latest datasource context /
+     * connection.
+     */
+    public Mono<? extends DatasourceContext<?>> getCachedDatasourceContextMono(
+            DatasourceStorage datasourceStorage,
+            PluginExecutor<Object> pluginExecutor,
+            Object monitor,
+            DatasourceContextIdentifier datasourceContextIdentifier) {
+        synchronized (monitor) {
+            /* Destroy any connection that is stale or in error state to free up resource */
+            final boolean isStale = getIsStale(datasourceStorage, datasourceContextIdentifier);
+            final boolean isInErrorState = getIsInErrorState(datasourceContextIdentifier);
+
+            if (isStale || isInErrorState) {
+                final Object connection =
+                        datasourceContextMap.get(datasourceContextIdentifier).getConnection();
+                if (connection != null) {
+                    try {
+                        // Basically remove entry from both cache maps
+                        pluginExecutor.datasourceDestroy(connection);
+                    } catch (Exception e) {
+                        log.info("Error destroying stale datasource connection", e);
+                    }
+                }
+                datasourceContextMonoMap.remove(datasourceContextIdentifier);
+                datasourceContextMap.remove(datasourceContextIdentifier);
+            }
+
+            /*
+             * If a publisher with cached value already exists then return it. Please note that even if this publisher is
+             * evaluated multiple times the actual datasource creation will only happen once and get cached and the same
+             * value would directly be returned to further evaluations / subscriptions.
+             */
+            if (datasourceContextIdentifier.getDatasourceId() != null
+                    && datasourceContextMonoMap.get(datasourceContextIdentifier) != null) {
+                log.debug("Cached resource context mono exists. Returning the same.");
+                final DatasourceContext<?> cachedDatasourceContext =
+                        datasourceContextMap.get(datasourceContextIdentifier);
+                if (cachedDatasourceContext != null) {
+                    cachedDatasourceContext.setLastAccessedAt(Instant.now());
+                }
+                return datasourceContextMonoMap.get(datasourceContextIdentifier);
+            }
+
+            /* Create a fresh datasource context */
+            DatasourceContext<Object> datasourceContext = new DatasourceContext<>();
+            datasourceContext.setPluginExecutor(pluginExecutor);
+            if (datasourceContextIdentifier.isKeyValid()) {
+                /* For this datasource, either the context doesn't exist, or the context is stale. Replace (or add) with
+                the new connection in the context map. */
+                datasourceContextMap.put(datasourceContextIdentifier, datasourceContext);
+            }
+
+            Mono<Object> connectionMonoCache = pluginExecutor
+                    .datasourceCreate(datasourceStorage.getDatasourceConfiguration())
+                    .cache();
+
+            Mono<DatasourceContext<Object>> datasourceContextMonoCache = connectionMonoCache
+                    .flatMap(connection -> updateDatasourceAndSetAuthentication(connection, datasourceStorage))
+                    .map(connection -> {
+                        /* When a connection object exists and makes sense for the plugin, we put it in the
+                        context. Example, DB plugins. */
+                        datasourceContext.setConnection(connection);
+                        return datasourceContext;
+                    })
+                    .defaultIfEmpty(
+                            /* When a connection object doesn't make sense for the plugin, we get an empty mono
+                            and we just return the context object as is. */
+                            datasourceContext)
+                    .cache(); /* Cache the value so that further evaluations don't result in new connections */
+
+            if (datasourceContextIdentifier.isKeyValid()) {
+                datasourceContextMonoMap.put(datasourceContextIdentifier, datasourceContextMonoCache);
+                if (datasourceContextMap.size() > maxDatasourceContexts) {
+                    // Evicting takes the monitors of other datasources, so it can't be done while holding this one
+                    Schedulers.boundedElastic().schedule(this::evictLeastRecentlyUsedDatasourceContexts);
+                }
+            }
+            return datasourceContextMonoCache;
+        }
+    }
+
+    /**
+     * Removes the datasource context from the cache and destroys its connection. Nothing is done if the context has
+     * been replaced in the meantime, if it is being used by an execution, or if it is no longer evictable, e.g. because
+     * it has been handed out since it was chosen for eviction.
+     *
+     * @param datasourceContextIdentifier
+     * @param datasourceContext           - the context that is expected to be cached against the identifier
+     * @param isEvictable                 - checked again while holding the monitor of the datasource
+     * @param reason                      - why the context is being evicted, for logging
+     * @return whether the context was evicted
+     */
+    protected boolean evictDatasourceContext(
+            DatasourceContextIdentifier datasourceContextIdentifier,
+            DatasourceContext<?> datasourceContext,
+            Predicate<DatasourceContext<?>> isEvictable,
+            String reason) {
+        final Object monitor = datasourceContextSynchronizationMonitorMap.computeIfAbsent(
+                datasourceContextIdentifier, k -> new Object());
+        synchronized (monitor) {
+            // Marking the context as evicted fails if it's in use, and keeps executions from pinning it from now on
+            if (datasourceContextMap.get(datasourceContextIdentifier) != datasourceContext
+                    || !isEvictable.test(datasourceContext)
+                    || !datasourceContext.markEvicted()) {
+                return false;
+            }
+            datasourceContextMonoMap.remove(datasourceContextIdentifier);
+            datasourceContextMap.remove(datasourceContextIdentifier);
+        }
+
+        log.debug(
+                "Evicting datasource context for datasource ID {} as {}",
+                datasourceContextIdentifier.getDatasourceId(),
+                reason);
+        final PluginExecutor<Object> pluginExecutor = datasourceContext.getPluginExecutor();
+        final Object connection = datasourceContext.getConnection();
+        if (pluginExecutor != null && connection != null) {
+            try {
+                pluginExecutor.datasourceDestroy(connection);
+            } catch (Exception e) {
+                log.info("Error destroying evicted datasource connection", e);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Evicts the contexts of datasources that haven't been used for longer than the max idle time, and refreshes the
+     * metrics of open contexts.
+     */
+    @Scheduled(initialDelay = 60 * 1000 /* one minute */, fixedRate = 60 * 1000 /* one minute */)
+    public void evictIdleDatasourceContexts() {
+        final Instant idleSince = Instant.now().minusSeconds(maxIdleTimeInSeconds);
+        datasourceContextMap.forEach((datasourceContextIdentifier, datasourceContext) -> {
+            if (!datasourceContext.isInUse()
+                    && datasourceContext.getLastAccessedAt().isBefore(idleSince)) {
+                evictDatasourceContext(
+                        datasourceContextIdentifier,
+                        datasourceContext,
+                        context -> context.getLastAccessedAt().isBefore(idleSince),
+                        "it is idle");
+            }
+        });
+
+        updateOpenDatasourceContextsMetrics();
+    }
+
+    /**
+     * Evicts the least recently used contexts until there are no more than the max number of contexts, or until only
+     * the contexts that are in use are left.
+     */
+    protected void evictLeastRecentlyUsedDatasourceContexts() {
+        final int excess = datasourceContextMap.size() - maxDatasourceContexts;
+        if (excess <= 0) {
+            return;
+        }
+
+        datasourceContextMap.entrySet().stream()
+                // Contexts without a connection are either still connecting, or hold nothing that needs to be freed
+                .filter(entry -> entry.getValue().getConnection() != null
+                        && !entry.getValue().isInUse())
+                .map(entry -> new EvictionCandidate(
+                        entry.getKey(), entry.getValue(), entry.getValue().getLastAccessedAt()))
+                .sorted(Comparator.comparing(EvictionCandidate::lastAccessedAt))
+                .limit(excess)
+                .toList()
+                // Contexts that have been handed out since they were sorted aren't the least recently used anymore
+                .forEach(candidate -> evictDatasourceContext(
+                        candidate.datasourceContextIdentifier(),
+                        candidate.datasourceContext(),
+                        context -> context.getLastAccessedAt().equals(candidate.lastAccessedAt()),
+                        "the cache is full"));
+    }
+
+    private record EvictionCandidate(
+            DatasourceContextIdentifier datasourceContextIdentifier,
+            DatasourceContext<?> datasourceContext,
+            Instant lastAccessedAt) {}
+
+    protected void updateOpenDatasourceContextsMetrics() {
+        final Map<String, Long> countsByPlugin = datasourceContextMap.values().stream()
+                .filter(datasourceContext -> datasourceContext.getConnection() != null)
+                .collect(Collectors.groupingBy(
+                        datasourceContext -> datasourceContext.getPluginExecutor() == null
+                                ? "unknown"
+                                : ClassUtils.getUserClass(datasourceContext.getPluginExecutor())
+                                        .getSimpleName(),
+                        Collectors.counting()));
+
+        openDatasourceContextsGauge.register(
+                countsByPlugin.entrySet().stream()
+                        .<MultiGauge.Row<?>>map(
+                                entry -> MultiGauge.Row.of(Tags.of("plugin", entry.getKey()), entry.getValue()))
+                        .toList(),
+                true);
+    }
+
+    public Mono<Object> updateDatasourceAndSetAuthentication(Object connection, DatasourceStorage datasourceStorage) {
+        Mono<DatasourceStorage> datasourceStorageMono = Mono.just(datasourceStorage);
+        if (connection instanceof UpdatableConnection updatableConnection) {
+            datasourceStorage.setUpdatedAt(Instant.now());
+            datasourceStorage
+                    .getDatasourceConfiguration()
+                    .setAuthentication(updatableConnection.getAuthenticationDTO(
+                            datasourceStorage.getDatasourceConfiguration().getAuthentication()));
+            datasourceStorageMono = datasourceStorageService.updateDatasourceStorage(
+                    datasourceStorage, datasourceStorage.getEnvironmentId(), Boolean.FALSE);
+        }
+        return datasourceStorageMono.thenReturn(connection);
+    }
+
+    protected Mono<DatasourceContext<?>> createNewDatasourceContext(
+            DatasourceStorage datasourceStorage, DatasourceContextIdentifier datasourceContextIdentifier) {
+        log.debug("Datasource context doesn't exist. Creating connection.");
+        Mono<Plugin> pluginMono = pluginService.findById(datasourceStorage.getPluginId());
+
+        return pluginExecutorHelper.getPluginExecutor(pluginMono).flatMap(pluginExecutor -> {
+
+            /**
+             * Keep one monitor object against each datasource id. The synchronized method
+             * `getCachedDatasourceContextMono` would then acquire lock on the monitor object which is unique
+             * for each datasourceId hence ensuring that if competing threads want to create datasource context
+             * on different datasource id then they are not blocked on each other and can run concurrently.
+             * Only threads that want to create a new datasource context on the same datasource id would be
+             * synchronized.
+             */
+            Object monitor = new Object();
+            if (datasourceContextIdentifier.isKeyValid()) {
+                if (datasourceContextSynchronizationMonitorMap.get(datasourceContextIdentifier) == null) {
+                    synchronized (this) {
+                        datasourceContextSynchronizationMonitorMap.computeIfAbsent(
+                                datasourceContextIdentifier, k -> new Object());
+                    }
+                }
+
+                monitor = datasourceContextSynchronizationMonitorMap.get(datasourceContextIdentifier);
+            }
+
+            return getCachedDatasourceContextMono(
+                    datasourceStorage, pluginExecutor, monitor, datasourceContextIdentifier);
+        });
+    }
+
+    public boolean getIsStale(
+            DatasourceStorage datasourceStorage, DatasourceContextIdentifier datasourceContextIdentifier) {
+        String datasourceId = datasourceStorage.getDatasourceId();
+        return datasourceId != null
+                && datasourceContextMap.get(datasourceContextIdentifier) != null
+                && datasourceStorage.getUpdatedAt() != null
+                && datasourceStorage
+                        .getUpdatedAt()
+                        .isAfter(datasourceContextMap
+                                .get(datasourceContextIdentifier)
+                                .getCreationTime());
+    }
+
+    /**
+     * This function checks if the cached datasource context mono is in error state
+     *
+     * @param datasourceContextIdentifier
+     * @return boolean
+     */
+    private boolean getIsInErrorState(DatasourceContextIdentifier datasourceContextIdentifier) {
+        return datasourceContextMonoMap.get(datasourceContextIdentifier) != null
+                && datasourceContextMonoMap
+                        .get(datasourceContextIdentifier)
+                        .toFuture()
+                        .isCompletedExceptionally();
+    }
+
+    public boolean isValidDatasourceContextAvailable(
+            DatasourceStorage datasourceStorage, DatasourceContextIdentifier datasourceContextIdentifier) {
+        boolean isStale = getIsStale(datasourceStorage, datasourceContextIdentifier);
+        boolean isInErrorState = getIsInErrorState(datasourceContextIdentifier);
+        return datasourceContextMap.get(datasourceContextIdentifier) != null
+                // The following condition happens when there's a timeout in the middle of destroying a connection and
+                // the reactive flow interrupts, resulting in the destroy operation not completing.
+                && datasourceContextMap.get(datasourceContextIdentifier).getConnection() != null
+                && !isStale
+                && !isInErrorState;
+    }
+
+    @Override
+    public Mono<DatasourceContext<?>> getDatasourceContext(DatasourceStorage datasourceStorage) {
+        final String datasourceId = datasourceStorage.getDatasourceId();
+        DatasourceContextIdentifier datasourceContextIdentifier =
+                this.initializeDatasourceContextIdentifier(datasourceStorage);
+        if (datasourceId == null) {
+            log.debug(
+                    "This is a dry run or an embedded datasourceStorage. The datasourceStorage context would not exist in this "
+                            + "scenario");
+        } else {
+            final Object monitor = datasourceContextSynchronizationMonitorMap.computeIfAbsent(
+                    datasourceContextIdentifier, k -> new Object());
+            synchronized (monitor) {
+                // Updated while holding the monitor, so that the context isn't evicted as idle once it's handed out
+                if (isValidDatasourceContextAvailable(datasourceStorage, datasourceContextIdentifier)) {
+                    log.debug("Resource context exists. Returning the same.");
+                    final DatasourceContext<?> datasourceContext =
+                            datasourceContextMap.get(datasourceContextIdentifier);
+                    datasourceContext.setLastAccessedAt(Instant.now());
+                    return Mono.just(datasourceContext);
+                }
+            }
+        }
+        return createNewDatasourceContext(datasourceStorage, datasourceContextIdentifier);
+    }
+
+    @Override
+    public <T> Mono<T> retryOnce(DatasourceStorage datasourceStorage, Function<DatasourceContext<?>, Mono<T>> task) {
+
+        final Mono<T> taskRunnerMono = Mono.justOrEmpty(datasourceStorage)
+                .flatMap(this::getDatasourceContext)
+                // Now that we have the context (connection details), call the task.
+                .flatMap(datasourceContext -> withPinnedContext(datasourceContext, task));
+
+        return taskRunnerMono.onErrorResume(StaleConnectionException.class, error -> {
+            log.info("Looks like the connection is stale. Retrying with a fresh context.");
+            return deleteDatasourceContext(datasourceStorage).then(taskRunnerMono);
+        });
+    }
+
+    @Override
+    public <T> Mono<T> withPinnedContext(
+            DatasourceContext<?> datasourceContext, Function<DatasourceContext<?>, Mono<T>> task) {
+        final Mono<DatasourceContext<?>> pinnedContextMono = Mono.defer(() -> {
+            // The context may have been evicted, and its connection destroyed, since it was handed out. The callers
+            // then retry with a fresh context, as they do for any other stale connection.
+            if (!datasourceContext.pin()) {
+                return Mono.error(new StaleConnectionException("The datasource context was evicted before its use"));
+            }
+            datasourceContext.setLastAccessedAt(Instant.now());
+            return Mono.just(datasourceContext);
+        });
+
+        return Mono.usingWhen(
+                pinnedContextMono,
+                task,
+                pinnedContext -> Mono.fromRunnable(() -> {
+                    pinnedContext.setLastAccessedAt(Instant.now());
+                    pinnedContext.unpin();
+                }));
+    }
+
+    @Override
+    public Mono<DatasourceContext<?>> deleteDatasourceContext(DatasourceStorage datasourceStorage) {
+
+        DatasourceContextIdentifier datasourceContextIdentifier =
+                initializeDatasourceContextIdentifier(datasourceStorage);
+        if (!datasourceContextIdentifier.isKeyValid()) {
+            return Mono.empty();
+        }
+
+        DatasourceContext<?> datasourceContext = datasourceContextMap.get(datasourceContextIdentifier);
+        if (datasourceContext == null) {
+            // No resource context exists for this resource. Return void.
+            return Mono.empty();
+        }
+        return pluginExecutorHelper
+                .getPluginExecutor(pluginService.findById(datasourceStorage.getPluginId()))
+                .map(pluginExecutor -> {
+                    log.info("Clearing datasource context for datasource storage ID {}.", datasourceStorage.getId());
+                    pluginExecutor.datasourceDestroy(datasourceContext.getConnection());
+                    datasourceContextMonoMap.remove(datasourceContextIdentifier);
+                    return datasourceContextMap.remove(datasourceContextIdentifier);
+                });
+    }
+
+    /**
+     * Provides datasource context for execution
+     *
+     * @param datasourceStorage
+     * @param plugin
+     * @return datasourceContextMono
+     */
+    @Override
+    public Mono<DatasourceContext<?>> getDatasourceContext(DatasourceStorage datasourceStorage, Plugin plugin) {
+        if (plugin.isRemotePlugin()) {
+            return this.getRemoteDatasourceContext(plugin, datasourceStorage);
+        }
+        return this.getDatasourceContext(datasourceStorage);
+    }
+
+    // We can afford to make this call all the time since we already have all the info we need in context
+    @Override
+    public Mono<DatasourceContext<?>> getRemoteDatasourceContext(Plugin plugin, DatasourceStorage datasourceStorage) {
+        final DatasourceContext<ExecutePluginDTO> datasourceContext = new DatasourceContext<>();
+
+        return configService.getInstanceId().map(instanceId -> {
+            ExecutePluginDTO executePluginDTO = new ExecutePluginDTO();
+            executePluginDTO.setInstallationKey(instanceId);
+            executePluginDTO.setPluginName(plugin.getPluginName());
+            executePluginDTO.setPluginVersion(plugin.getVersion());
+            executePluginDTO.setDatasource(new RemoteDatasourceDTO(
+                    datasourceStorage.getDatasourceId(), datasourceStorage.getDatasourceConfiguration()));
+            datasourceContext.setConnection(executePluginDTO);
+
+            return datasourceContext;
+        });
+    }
+
+    /**
+     * Generates the custom key that is used in:
+     * datasourceContextMap
+     * datasourceContextMonoMap
+     * datasourceContextSynchronizationMonitorMap
+     *
+     * @param datasourceStorage
+     * @return an DatasourceContextIdentifier object
+     */
+    @Override
+    public DatasourceContextIdentifier initializeDatasourceContextIdentifier(DatasourceStorage datasourceStorage) {
+        return new DatasourceContextIdentifier(datasourceStorage.getDatasourceId(), FieldName.UNUSED_ENVIRONMENT_ID);
+    }
+}
@@ -1,10 +1,10 @@
-package com.appsmith.server.services.ce;
-
-import com.appsmith.server.dtos.ce.ProductAlertResponseDTO;
-import reactor.core.publisher.Mono;
-
-import java.util.List;
-
-public interface ProductAlertServiceCE {
-    Mono<List<ProductAlertResponseDTO>> getSingleApplicableMessage();
-}
+package com.appsmith.server.services.ce;
+
+import com.appsmith.server.dtos.ce.ProductAlertResponseDTO;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface ProductAlertServiceCE {
+    Mono<List<ProductAlertResponseDTO>> getSingleApplicableMessage();
+}
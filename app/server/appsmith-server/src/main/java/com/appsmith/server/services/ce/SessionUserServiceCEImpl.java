@@ -1,116 +1,243 @@
-package com.appsmith.server.services.ce;
-
-import com.appsmith.server.domains.User;
-import com.appsmith.server.exceptions.AppsmithError;
-import com.appsmith.server.exceptions.AppsmithException;
-import com.appsmith.server.helpers.CollectionUtils;
-import com.appsmith.server.repositories.UserRepository;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
-import org.springframework.data.redis.core.ReactiveRedisOperations;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.ReactiveSecurityContextHolder;
-import org.springframework.security.core.context.SecurityContext;
-import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
-import org.springframework.web.server.ServerWebExchange;
-import org.springframework.web.server.WebSession;
-import reactor.core.publisher.Mono;
-import reactor.util.function.Tuple2;
-
-import java.util.List;
-
-import static org.springframework.security.web.server.context.WebSessionServerSecurityContextRepository.DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME;
-
-@Slf4j
-@RequiredArgsConstructor
-public class SessionUserServiceCEImpl implements SessionUserServiceCE {
-
-    private final UserRepository userRepository;
-    private final ReactiveRedisOperations<String, Object> redisOperations;
-
-    public static final String SPRING_SESSION_PATTERN = "spring:session:sessions:*";
-    private static final String SESSION_ATTRIBUTE = "sessionAttr:";
-
-    @Override
-    public Mono<User> getCurrentUser() {
-        return ReactiveSecurityContextHolder.getContext()
-                .map(SecurityContext::getAuthentication)
-                .map(auth -> (User) auth.getPrincipal());
-    }
-
-    @Override
-    public Mono<User> refreshCurrentUser(ServerWebExchange exchange) {
-        return Mono.zip(
-                        getCurrentUser().map(User::getEmail).flatMap(userRepository::findByEmail),
-                        ReactiveSecurityContextHolder.getContext(),
-                        exchange.getSession())
-                .flatMap(tuple -> {
-                    final User user = tuple.getT1();
-                    final SecurityContext context = tuple.getT2();
-                    final WebSession session = tuple.getT3();
-                    final Authentication currentToken = context.getAuthentication();
-                    final Authentication newToken;
-                    if (currentToken instanceof UsernamePasswordAuthenticationToken) {
-                        newToken = new UsernamePasswordAuthenticationToken(user, null, currentToken.getAuthorities());
-                    } else if (currentToken instanceof OAuth2AuthenticationToken) {
-                        newToken = new OAuth2AuthenticationToken(
-                                user,
-                                currentToken.getAuthorities(),
-                                ((OAuth2AuthenticationToken) currentToken).getAuthorizedClientRegistrationId());
-                    } else {
-                        log.error(
-                                "Unrecognized session token type when updating user in session: {}.",
-                                currentToken.getClass());
-                        return Mono.error(new AppsmithException(AppsmithError.FAIL_UPDATE_USER_IN_SESSION));
-                    }
-                    context.setAuthentication(newToken);
-                    session.getAttributes().put(DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME, context);
-                    return Mono.just(user);
-                });
-    }
-
-    @Override
-    public Mono<Void> logoutAllSessions(String email) {
-        return getSessionKeysByUserEmail(email)
-                .flatMap(this::deleteSessionsByKeys)
-                .then();
-    }
-
-    @Override
-    public Mono<List<String>> getSessionKeysByUserEmail(String email) {
-        // This pattern string comes from calling `ReactiveRedisSessionRepository.getSessionKey("*")` private method.
-        return redisOperations
-                .keys(SPRING_SESSION_PATTERN)
-                .flatMap(key -> Mono.zip(
-                        Mono.just(key),
-                        // The values are maps, containing various pieces of session related information.
-                        // One of them, holds the serialized User object. We want just that.
-                        redisOperations
-                                .opsForHash()
-                                .entries(key)
-                                .filter(e -> e.getValue() != null
-                                        && (SESSION_ATTRIBUTE + DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME)
-                                                .equals(e.getKey()))
-                                .map(e -> (User) ((SecurityContext) e.getValue())
-                                        .getAuthentication()
-                                        .getPrincipal())
-                                .next()))
-                // Now we have tuples of session keys, and the corresponding user objects.
-                // Filter the ones we need to clear out.
-                .filter(tuple ->
-                        StringUtils.equalsIgnoreCase(email, tuple.getT2().getEmail()))
-                .map(Tuple2::getT1)
-                .collectList();
-    }
-
-    @Override
-    public Mono<Long> deleteSessionsByKeys(List<String> keys) {
-        return CollectionUtils.isNullOrEmpty(keys)
-                ? Mono.just(0L)
-                : redisOperations
-                        .delete(keys.toArray(String[]::new))
-                        .doOnError(error -> log.error("Error clearing user sessions", error));
-    }
-}
+package com.appsmith.server.services.ce;
+
+import com.appsmith.server.domains.User;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.CollectionUtils;
+import com.appsmith.server.repositories.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebSession;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.springframework.security.web.server.context.WebSessionServerSecurityContextRepository.DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME;
+
+@Slf4j
+@RequiredArgsConstructor
+public class SessionUserServiceCEImpl implements SessionUserServiceCE {
+
+    private final UserRepository userRepository;
+    private final ReactiveRedisOperations<String, Object> redisOperations;
+    private final ReactiveRedisOperations<String, String> stringRedisOperations;
+
+    public static final String SPRING_SESSION_PATTERN = "spring:session:sessions:*";
+    private static final String SPRING_SESSION_KEY_PREFIX = "spring:session:sessions:";
+    private static final String SESSION_ATTRIBUTE = "sessionAttr:";
+
+    // For every user, a set of the keys of their sessions, so that the sessions of a user can be found without going
+    // through all the sessions. A session is added to the set of its user when they log in, and removed from it once
+    // it's found to be gone. The sets don't expire, as the sessions in them live on for as long as they are used.
+    private static final String USER_SESSIONS_KEY_PREFIX = "appsmith:user-sessions:";
+
+    // Set once all the sessions created before the sets of the users were maintained have been added to them. Until
+    // then, the sessions of a user are found by going through all the sessions.
+    private static final String USER_SESSIONS_BACKFILLED_KEY = "appsmith:user-sessions-backfilled";
+
+    private static final long SCAN_COUNT = 1000;
+
+    private final AtomicBoolean isBackfillingUserSessions = new AtomicBoolean();
+
+    @Override
+    public Mono<User> getCurrentUser() {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .map(auth -> (User) auth.getPrincipal());
+    }
+
+    @Override
+    public Mono<User> refreshCurrentUser(ServerWebExchange exchange) {
+        return Mono.zip(
+                        getCurrentUser().map(User::getEmail).flatMap(userRepository::findByEmail),
+                        ReactiveSecurityContextHolder.getContext(),
+                        exchange.getSession())
+                .flatMap(tuple -> {
+                    final User user = tuple.getT1();
+                    final SecurityContext context = tuple.getT2();
+                    final WebSession session = tuple.getT3();
+                    final Authentication currentToken = context.getAuthentication();
+                    final Authentication newToken;
+                    if (currentToken instanceof UsernamePasswordAuthenticationToken) {
+                        newToken = new UsernamePasswordAuthenticationToken(user, null, currentToken.getAuthorities());
+                    } else if (currentToken instanceof OAuth2AuthenticationToken) {
+                        newToken = new OAuth2AuthenticationToken(
+                                user,
+                                currentToken.getAuthorities(),
+                                ((OAuth2AuthenticationToken) currentToken).getAuthorizedClientRegistrationId());
+                    } else {
+                        log.error(
+                                "Unrecognized session token type when updating user in session: {}.",
+                                currentToken.getClass());
+                        return Mono.error(new AppsmithException(AppsmithError.FAIL_UPDATE_USER_IN_SESSION));
+                    }
+                    context.setAuthentication(newToken);
+                    session.getAttributes().put(DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME, context);
+                    return Mono.just(user);
+                });
+    }
+
+    @Override
+    public Mono<Void> logoutAllSessions(String email) {
+        return getSessionKeysByUserEmail(email)
+                .filter(keys -> !CollectionUtils.isNullOrEmpty(keys))
+                .flatMap(keys -> deleteSessionsByKeys(keys)
+                        .then(stringRedisOperations.opsForSet().remove(getUserSessionsKey(email), keys.toArray())))
+                .then();
+    }
+
+    @Override
+    public Mono<Void> addUserSession(String email, String sessionId) {
+        if (StringUtils.isEmpty(email) || StringUtils.isEmpty(sessionId)) {
+            return Mono.empty();
+        }
+        return stringRedisOperations
+                .opsForSet()
+                .add(getUserSessionsKey(email), SPRING_SESSION_KEY_PREFIX + sessionId)
+                .then();
+    }
+
+    @Override
+    public Mono<List<String>> getSessionKeysByUserEmail(String email) {
+        return stringRedisOperations
+                .hasKey(USER_SESSIONS_BACKFILLED_KEY)
+                .flatMap(isBackfilled -> Boolean.TRUE.equals(isBackfilled)
+                        ? getIndexedSessionKeysByUserEmail(email)
+                        : scanSessionKeysByUserEmail(email));
+    }
+
+    private Mono<List<String>> getIndexedSessionKeysByUserEmail(String email) {
+        final String userSessionsKey = getUserSessionsKey(email);
+        return stringRedisOperations
+                .opsForSet()
+                .members(userSessionsKey)
+                .flatMap(key -> getUserOfSession(key)
+                        .filter(user -> StringUtils.equalsIgnoreCase(email, user.getEmail()))
+                        .map(user -> key)
+                        // The session has expired, or has been logged out of, since it was added to the set
+                        .switchIfEmpty(Mono.defer(() -> stringRedisOperations
+                                .opsForSet()
+                                .remove(userSessionsKey, key)
+                                .then(Mono.empty()))))
+                .collectList();
+    }
+
+    /**
+     * Finds the sessions of the user by going through all the sessions, with SCAN so that Redis isn't blocked.
+     */
+    private Mono<List<String>> scanSessionKeysByUserEmail(String email) {
+        return scanSessionKeys()
+                .flatMap(key -> getUserOfSession(key)
+                        .filter(user -> StringUtils.equalsIgnoreCase(email, user.getEmail()))
+                        .map(user -> key))
+                .collectList();
+    }
+
+    /**
+     * Removes the sessions that don't exist anymore from the sets of sessions of the users. The sets are gone through
+     * with SCAN, so that Redis isn't blocked while doing so, however many sessions there are. A set is deleted by Redis
+     * once its last session is removed from it.
+     */
+    @Scheduled(initialDelay = 5 * 60 * 1000 /* five minutes */, fixedRate = 6 * 60 * 60 * 1000 /* six hours */)
+    public void removeStaleUserSessions() {
+        removeStaleUserSessionsMono()
+                .elapsed()
+                .doOnNext(tuple -> log.debug("Removed {} stale user sessions in {} ms", tuple.getT2(), tuple.getT1()))
+                .doOnError(error -> log.error("Error removing stale user sessions", error))
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe();
+    }
+
+    Mono<Long> removeStaleUserSessionsMono() {
+        return stringRedisOperations
+                .scan(ScanOptions.scanOptions()
+                        .match(USER_SESSIONS_KEY_PREFIX + "*")
+                        .count(SCAN_COUNT)
+                        .build())
+                .concatMap(userSessionsKey -> stringRedisOperations
+                        .opsForSet()
+                        .scan(userSessionsKey)
+                        .concatMap(key -> redisOperations
+                                .hasKey(key)
+                                .filter(exists -> !exists)
+                                .flatMap(exists ->
+                                        stringRedisOperations.opsForSet().remove(userSessionsKey, key))))
+                .reduce(0L, Long::sum);
+    }
+
+    /**
+     * Adds the sessions created before the sets of sessions of the users were maintained to them, on startup. The
+     * marker is only set once all the sessions have been added, so that a backfill that fails, or whose server stops
+     * half way, is run again, by this server or another one, until it completes.
+     */
+    @Scheduled(initialDelay = 0, fixedDelay = 10 * 60 * 1000 /* ten minutes */)
+    public void backfillUserSessions() {
+        if (!isBackfillingUserSessions.compareAndSet(false, true)) {
+            return;
+        }
+        backfillUserSessionsMono()
+                .elapsed()
+                .doOnNext(tuple -> log.debug("Backfilled user sessions in {} ms", tuple.getT1()))
+                .doOnError(error -> log.error("Error backfilling user sessions, will retry", error))
+                .doFinally(signalType -> isBackfillingUserSessions.set(false))
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe();
+    }
+
+    Mono<Boolean> backfillUserSessionsMono() {
+        return stringRedisOperations
+                .hasKey(USER_SESSIONS_BACKFILLED_KEY)
+                .filter(isBackfilled -> !Boolean.TRUE.equals(isBackfilled))
+                .flatMap(isBackfilled -> scanSessionKeys()
+                        .concatMap(key -> getUserOfSession(key)
+                                .flatMap(user -> addUserSession(
+                                        user.getEmail(), key.substring(SPRING_SESSION_KEY_PREFIX.length()))))
+                        .then(stringRedisOperations
+                                .opsForValue()
+                                .set(USER_SESSIONS_BACKFILLED_KEY, Instant.now().toString())));
+    }
+
+    private Flux<String> scanSessionKeys() {
+        return stringRedisOperations.scan(ScanOptions.scanOptions()
+                .match(SPRING_SESSION_PATTERN)
+                .count(SCAN_COUNT)
+                .build());
+    }
+
+    private Mono<User> getUserOfSession(String key) {
+        // The values are maps, containing various pieces of session related information.
+        // One of them, holds the serialized User object. We want just that.
+        return redisOperations
+                .opsForHash()
+                .get(key, SESSION_ATTRIBUTE + DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME)
+                .map(context ->
+                        (User) ((SecurityContext) context).getAuthentication().getPrincipal());
+    }
+
+    private static String getUserSessionsKey(String email) {
+        return USER_SESSIONS_KEY_PREFIX + email.toLowerCase();
+    }
+
+    @Override
+    public Mono<Long> deleteSessionsByKeys(List<String> keys) {
+        return CollectionUtils.isNullOrEmpty(keys)
+                ? Mono.just(0L)
+                : redisOperations
+                        .delete(keys.toArray(String[]::new))
+                        .doOnError(error -> log.error("Error clearing user sessions", error));
+    }
+}
@@ -1,5 +1,5 @@
-package com.appsmith.server.solutions;
-
-import com.appsmith.server.solutions.ce.ActionExecutionSolutionCE;
-
-public interface ActionExecutionSolution extends ActionExecutionSolutionCE {}
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.solutions.ce.ActionExecutionSolutionCE;
+
+public interface ActionExecutionSolution extends ActionExecutionSolutionCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.solutions;
-
-import com.appsmith.server.solutions.ce.ActionPermissionCE;
-
-public interface ActionPermission extends ActionPermissionCE, DomainPermission {}
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.solutions.ce.ActionPermissionCE;
+
+public interface ActionPermission extends ActionPermissionCE, DomainPermission {}
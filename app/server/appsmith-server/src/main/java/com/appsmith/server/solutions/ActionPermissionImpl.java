@@ -1,7 +1,7 @@
-package com.appsmith.server.solutions;
-
-import com.appsmith.server.solutions.ce.ActionPermissionCEImpl;
-import org.springframework.stereotype.Component;
-
-@Component
-public class ActionPermissionImpl extends ActionPermissionCEImpl implements ActionPermission {}
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.solutions.ce.ActionPermissionCEImpl;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ActionPermissionImpl extends ActionPermissionCEImpl implements ActionPermission {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.solutions;
-
-import com.appsmith.server.solutions.ce.ApplicationFetcherCE;
-
-public interface ApplicationFetcher extends ApplicationFetcherCE {}
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.solutions.ce.ApplicationFetcherCE;
+
+public interface ApplicationFetcher extends ApplicationFetcherCE {}
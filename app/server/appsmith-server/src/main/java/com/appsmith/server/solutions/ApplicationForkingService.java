@@ -1,5 +1,5 @@
-package com.appsmith.server.solutions;
-
-import com.appsmith.server.solutions.ce.ApplicationForkingServiceCE;
-
-public interface ApplicationForkingService extends ApplicationForkingServiceCE {}
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.solutions.ce.ApplicationForkingServiceCE;
+
+public interface ApplicationForkingService extends ApplicationForkingServiceCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.solutions;
-
-import com.appsmith.server.solutions.ce.ApplicationPermissionCE;
-
-public interface ApplicationPermission extends ApplicationPermissionCE, DomainPermission {}
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.solutions.ce.ApplicationPermissionCE;
+
+public interface ApplicationPermission extends ApplicationPermissionCE, DomainPermission {}
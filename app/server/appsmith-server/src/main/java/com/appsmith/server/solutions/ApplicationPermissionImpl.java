@@ -1,7 +1,7 @@
-package com.appsmith.server.solutions;
-
-import com.appsmith.server.solutions.ce.ApplicationPermissionCEImpl;
-import org.springframework.stereotype.Component;
-
-@Component
-public class ApplicationPermissionImpl extends ApplicationPermissionCEImpl implements ApplicationPermission {}
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.solutions.ce.ApplicationPermissionCEImpl;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ApplicationPermissionImpl extends ApplicationPermissionCEImpl implements ApplicationPermission {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.solutions;
-
-import com.appsmith.server.solutions.ce.AuthenticationServiceCE;
-
-public interface AuthenticationService extends AuthenticationServiceCE {}
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.solutions.ce.AuthenticationServiceCE;
+
+public interface AuthenticationService extends AuthenticationServiceCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.solutions;
-
-import com.appsmith.server.solutions.ce.CreateDBTablePageSolutionCE;
-
-public interface CreateDBTablePageSolution extends CreateDBTablePageSolutionCE {}
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.solutions.ce.CreateDBTablePageSolutionCE;
+
+public interface CreateDBTablePageSolution extends CreateDBTablePageSolutionCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.solutions;
-
-import com.appsmith.server.solutions.ce.DatasourcePermissionCE;
-
-public interface DatasourcePermission extends DatasourcePermissionCE, DomainPermission {}
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.solutions.ce.DatasourcePermissionCE;
+
+public interface DatasourcePermission extends DatasourcePermissionCE, DomainPermission {}
@@ -1,7 +1,7 @@
-package com.appsmith.server.solutions;
-
-import com.appsmith.server.solutions.ce.DatasourcePermissionCEImpl;
-import org.springframework.stereotype.Component;
-
-@Component
-public class DatasourcePermissionImpl extends DatasourcePermissionCEImpl implements DatasourcePermission {}
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.solutions.ce.DatasourcePermissionCEImpl;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DatasourcePermissionImpl extends DatasourcePermissionCEImpl implements DatasourcePermission {}
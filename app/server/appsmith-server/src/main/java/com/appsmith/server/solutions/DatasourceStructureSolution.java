@@ -1,5 +1,5 @@
-package com.appsmith.server.solutions;
-
-import com.appsmith.server.solutions.ce.DatasourceStructureSolutionCE;
-
-public interface DatasourceStructureSolution extends DatasourceStructureSolutionCE {}
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.solutions.ce.DatasourceStructureSolutionCE;
+
+public interface DatasourceStructureSolution extends DatasourceStructureSolutionCE {}
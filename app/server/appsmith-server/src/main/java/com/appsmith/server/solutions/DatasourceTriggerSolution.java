@@ -1,5 +1,5 @@
-package com.appsmith.server.solutions;
-
-import com.appsmith.server.solutions.ce.DatasourceTriggerSolutionCE;
-
-public interface DatasourceTriggerSolution extends DatasourceTriggerSolutionCE {}
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.solutions.ce.DatasourceTriggerSolutionCE;
+
+public interface DatasourceTriggerSolution extends DatasourceTriggerSolutionCE {}
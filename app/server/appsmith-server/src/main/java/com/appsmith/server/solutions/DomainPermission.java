@@ -1,5 +1,5 @@
-package com.appsmith.server.solutions;
-
-import com.appsmith.server.solutions.ce.DomainPermissionCE;
-
-public interface DomainPermission extends DomainPermissionCE {}
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.solutions.ce.DomainPermissionCE;
+
+public interface DomainPermission extends DomainPermissionCE {}
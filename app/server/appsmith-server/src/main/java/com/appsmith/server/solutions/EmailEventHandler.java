@@ -1,3 +1,3 @@
-package com.appsmith.server.solutions;
-
-public interface EmailEventHandler {}
+package com.appsmith.server.solutions;
+
+public interface EmailEventHandler {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.solutions;
-
-import com.appsmith.server.solutions.ce.EnvManagerCE;
-
-public interface EnvManager extends EnvManagerCE {}
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.solutions.ce.EnvManagerCE;
+
+public interface EnvManager extends EnvManagerCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.solutions;
-
-import com.appsmith.server.solutions.ce.EnvironmentPermissionCE;
-
-public interface EnvironmentPermission extends EnvironmentPermissionCE {}
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.solutions.ce.EnvironmentPermissionCE;
+
+public interface EnvironmentPermission extends EnvironmentPermissionCE {}
@@ -1,7 +1,7 @@
-package com.appsmith.server.solutions;
-
-import com.appsmith.server.solutions.ce.EnvironmentPermissionCEImpl;
-import org.springframework.stereotype.Component;
-
-@Component
-public class EnvironmentPermissionImpl extends EnvironmentPermissionCEImpl implements EnvironmentPermission {}
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.solutions.ce.EnvironmentPermissionCEImpl;
+import org.springframework.stereotype.Component;
+
+@Component
+public class EnvironmentPermissionImpl extends EnvironmentPermissionCEImpl implements EnvironmentPermission {}
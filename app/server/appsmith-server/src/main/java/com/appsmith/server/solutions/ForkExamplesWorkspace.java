@@ -1,5 +1,5 @@
-package com.appsmith.server.solutions;
-
-import com.appsmith.server.solutions.ce.ForkExamplesWorkspaceCE;
-
-public interface ForkExamplesWorkspace extends ForkExamplesWorkspaceCE {}
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.solutions.ce.ForkExamplesWorkspaceCE;
+
+public interface ForkExamplesWorkspace extends ForkExamplesWorkspaceCE {}
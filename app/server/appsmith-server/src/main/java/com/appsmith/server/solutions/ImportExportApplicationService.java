@@ -1,5 +1,5 @@
-package com.appsmith.server.solutions;
-
-import com.appsmith.server.solutions.ce.ImportExportApplicationServiceCE;
-
-public interface ImportExportApplicationService extends ImportExportApplicationServiceCE {}
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.solutions.ce.ImportExportApplicationServiceCE;
+
+public interface ImportExportApplicationService extends ImportExportApplicationServiceCE {}
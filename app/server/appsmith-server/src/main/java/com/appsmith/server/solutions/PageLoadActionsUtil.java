@@ -1,5 +1,5 @@
-package com.appsmith.server.solutions;
-
-import com.appsmith.server.solutions.ce.PageLoadActionsUtilCE;
-
-public interface PageLoadActionsUtil extends PageLoadActionsUtilCE {}
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.solutions.ce.PageLoadActionsUtilCE;
+
+public interface PageLoadActionsUtil extends PageLoadActionsUtilCE {}
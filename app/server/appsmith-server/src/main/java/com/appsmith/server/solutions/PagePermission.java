@@ -1,5 +1,5 @@
-package com.appsmith.server.solutions;
-
-import com.appsmith.server.solutions.ce.PagePermissionCE;
-
-public interface PagePermission extends PagePermissionCE, DomainPermission {}
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.solutions.ce.PagePermissionCE;
+
+public interface PagePermission extends PagePermissionCE, DomainPermission {}
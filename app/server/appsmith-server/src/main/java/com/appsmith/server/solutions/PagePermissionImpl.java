@@ -1,7 +1,7 @@
-package com.appsmith.server.solutions;
-
-import com.appsmith.server.solutions.ce.PagePermissionCEImpl;
-import org.springframework.stereotype.Component;
-
-@Component
-public class PagePermissionImpl extends PagePermissionCEImpl implements PagePermission {}
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.solutions.ce.PagePermissionCEImpl;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PagePermissionImpl extends PagePermissionCEImpl implements PagePermission {}
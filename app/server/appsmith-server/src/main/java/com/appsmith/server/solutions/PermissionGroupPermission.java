@@ -1,5 +1,5 @@
-package com.appsmith.server.solutions;
-
-import com.appsmith.server.solutions.ce.PermissionGroupPermissionCE;
-
-public interface PermissionGroupPermission extends PermissionGroupPermissionCE, DomainPermission {}
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.solutions.ce.PermissionGroupPermissionCE;
+
+public interface PermissionGroupPermission extends PermissionGroupPermissionCE, DomainPermission {}
@@ -1,8 +1,8 @@
-package com.appsmith.server.solutions;
-
-import com.appsmith.server.solutions.ce.PermissionGroupPermissionCEImpl;
-import org.springframework.stereotype.Component;
-
-@Component
-public class PermissionGroupPermissionImpl extends PermissionGroupPermissionCEImpl
-        implements PermissionGroupPermission {}
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.solutions.ce.PermissionGroupPermissionCEImpl;
+import org.springframework.stereotype.Component;
+
+@Component
+public class PermissionGroupPermissionImpl extends PermissionGroupPermissionCEImpl
+        implements PermissionGroupPermission {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.solutions;
-
-import com.appsmith.server.solutions.ce.PingScheduledTaskCE;
-
-public interface PingScheduledTask extends PingScheduledTaskCE {}
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.solutions.ce.PingScheduledTaskCE;
+
+public interface PingScheduledTask extends PingScheduledTaskCE {}
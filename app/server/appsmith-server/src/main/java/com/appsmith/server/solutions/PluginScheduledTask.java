@@ -1,8 +1,8 @@
-package com.appsmith.server.solutions;
-
-import com.appsmith.server.solutions.ce.PluginScheduledTaskCE;
-
-/**
- * This class represents a scheduled task that pings cloud services for any updates in available plugins.
- */
-public interface PluginScheduledTask extends PluginScheduledTaskCE {}
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.solutions.ce.PluginScheduledTaskCE;
+
+/**
+ * This class represents a scheduled task that pings cloud services for any updates in available plugins.
+ */
+public interface PluginScheduledTask extends PluginScheduledTaskCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.solutions;
-
-import com.appsmith.server.solutions.ce.PolicySolutionCE;
-
-public interface PolicySolution extends PolicySolutionCE {}
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.solutions.ce.PolicySolutionCE;
+
+public interface PolicySolution extends PolicySolutionCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.solutions;
-
-import com.appsmith.server.solutions.ce.RefactoringSolutionCE;
-
-public interface RefactoringSolution extends RefactoringSolutionCE {}
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.solutions.ce.RefactoringSolutionCE;
+
+public interface RefactoringSolution extends RefactoringSolutionCE {}
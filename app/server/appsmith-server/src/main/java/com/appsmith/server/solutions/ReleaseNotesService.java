@@ -1,5 +1,5 @@
-package com.appsmith.server.solutions;
-
-import com.appsmith.server.solutions.ce.ReleaseNotesServiceCE;
-
-public interface ReleaseNotesService extends ReleaseNotesServiceCE {}
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.solutions.ce.ReleaseNotesServiceCE;
+
+public interface ReleaseNotesService extends ReleaseNotesServiceCE {}
@@ -1,5 +1,5 @@
-package com.appsmith.server.solutions;
-
-import com.appsmith.server.solutions.ce.ScheduledTaskCE;
-
-public interface ScheduledTask extends ScheduledTaskCE {}
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.solutions.ce.ScheduledTaskCE;
+
+public interface ScheduledTask extends ScheduledTaskCE {}
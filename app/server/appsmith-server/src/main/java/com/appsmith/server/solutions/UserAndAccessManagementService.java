@@ -1,5 +1,5 @@
-package com.appsmith.server.solutions;
-
-import com.appsmith.server.solutions.ce.UserAndAccessManagementServiceCE;
-
-public interface UserAndAccessManagementService extends UserAndAccessManagementServiceCE {}
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.solutions.ce.UserAndAccessManagementServiceCE;
+
+public interface UserAndAccessManagementService extends UserAndAccessManagementServiceCE {}
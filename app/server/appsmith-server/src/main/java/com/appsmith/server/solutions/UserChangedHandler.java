@@ -1,5 +1,5 @@
-package com.appsmith.server.solutions;
-
-import com.appsmith.server.solutions.ce.UserChangedHandlerCE;
-
-public interface UserChangedHandler extends UserChangedHandlerCE {}
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.solutions.ce.UserChangedHandlerCE;
+
+public interface UserChangedHandler extends UserChangedHandlerCE {}
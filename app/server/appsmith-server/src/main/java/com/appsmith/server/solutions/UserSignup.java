@@ -1,5 +1,5 @@
-package com.appsmith.server.solutions;
-
-import com.appsmith.server.solutions.ce.UserSignupCE;
-
-public interface UserSignup extends UserSignupCE {}
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.solutions.ce.UserSignupCE;
+
+public interface UserSignup extends UserSignupCE {}
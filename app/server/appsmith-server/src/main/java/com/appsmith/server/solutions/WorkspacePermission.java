@@ -1,5 +1,5 @@
-package com.appsmith.server.solutions;
-
-import com.appsmith.server.solutions.ce.WorkspacePermissionCE;
-
-public interface WorkspacePermission extends WorkspacePermissionCE, DomainPermission {}
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.solutions.ce.WorkspacePermissionCE;
+
+public interface WorkspacePermission extends WorkspacePermissionCE, DomainPermission {}
@@ -1,7 +1,7 @@
-package com.appsmith.server.solutions;
-
-import com.appsmith.server.solutions.ce.WorkspacePermissionCEImpl;
-import org.springframework.stereotype.Component;
-
-@Component
-public class WorkspacePermissionImpl extends WorkspacePermissionCEImpl implements WorkspacePermission {}
+package com.appsmith.server.solutions;
+
+import com.appsmith.server.solutions.ce.WorkspacePermissionCEImpl;
+import org.springframework.stereotype.Component;
+
+@Component
+public class WorkspacePermissionImpl extends WorkspacePermissionCEImpl implements WorkspacePermission {}
@@ -1,7 +1,7 @@
-package com.appsmith.server.solutions.ce;
-
-import com.appsmith.server.acl.AclPermission;
-
-public interface EnvironmentPermissionCE {
-    AclPermission getExecutePermission();
-}
+package com.appsmith.server.solutions.ce;
+
+import com.appsmith.server.acl.AclPermission;
+
+public interface EnvironmentPermissionCE {
+    AclPermission getExecutePermission();
+}
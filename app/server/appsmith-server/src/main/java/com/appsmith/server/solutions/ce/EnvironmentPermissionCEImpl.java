@@ -1,11 +1,11 @@
-package com.appsmith.server.solutions.ce;
-
-import com.appsmith.server.acl.AclPermission;
-
-public class EnvironmentPermissionCEImpl implements EnvironmentPermissionCE {
-
-    @Override
-    public AclPermission getExecutePermission() {
-        return null;
-    }
-}
+package com.appsmith.server.solutions.ce;
+
+import com.appsmith.server.acl.AclPermission;
+
+public class EnvironmentPermissionCEImpl implements EnvironmentPermissionCE {
+
+    @Override
+    public AclPermission getExecutePermission() {
+        return null;
+    }
+}
@@ -1,6 +1,6 @@
-package com.appsmith.server.solutions.ce;
-
-public interface PingScheduledTaskCE {
-
-    void pingSchedule();
-}
+package com.appsmith.server.solutions.ce;
+
+public interface PingScheduledTaskCE {
+
+    void pingSchedule();
+}
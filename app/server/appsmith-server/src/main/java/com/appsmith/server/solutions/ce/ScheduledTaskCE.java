@@ -1,5 +1,5 @@
-package com.appsmith.server.solutions.ce;
-
-public interface ScheduledTaskCE {
-    void fetchFeatures();
-}
+package com.appsmith.server.solutions.ce;
+
+public interface ScheduledTaskCE {
+    void fetchFeatures();
+}
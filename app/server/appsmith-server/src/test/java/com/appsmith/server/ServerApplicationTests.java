@@ -1,13 +1,13 @@
-package com.appsmith.server;
-
-import org.junit.jupiter.api.Test;
-import org.springframework.boot.test.context.SpringBootTest;
-
-@SpringBootTest
-public class ServerApplicationTests {
-
-    @Test
-    public void contextLoads() {
-        assert (true);
-    }
-}
+package com.appsmith.server;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+public class ServerApplicationTests {
+
+    @Test
+    public void contextLoads() {
+        assert (true);
+    }
+}
@@ -0,0 +1,162 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.DatasourceStorage;
+import com.appsmith.external.models.Param;
+import com.appsmith.external.models.PluginType;
+import com.appsmith.server.domains.Plugin;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.http.HttpMethod;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ActionResultCacheTest {
+
+    @SuppressWarnings("unchecked")
+    private final ActionResultCache actionResultCache =
+            new ActionResultCache(new ObjectMapper(), Mockito.mock(ReactiveRedisOperations.class), 100, false);
+
+    @Test
+    public void isReadOnlySql_WithSelectsAndMutations_OnlyAcceptsSingleSelects() {
+        assertThat(ActionResultCache.isReadOnlySql("SELECT * FROM users WHERE id = {{Input1.text}};"))
+                .isTrue();
+        assertThat(ActionResultCache.isReadOnlySql(
+                        "-- KPI tile\nWITH totals AS (SELECT sum(amount) AS total FROM orders) SELECT * FROM totals"))
+                .isTrue();
+        assertThat(ActionResultCache.isReadOnlySql("select updated_at from users"))
+                .isTrue();
+
+        assertThat(ActionResultCache.isReadOnlySql("UPDATE users SET name = 'a'"))
+                .isFalse();
+        assertThat(ActionResultCache.isReadOnlySql("SELECT * FROM users; DELETE FROM users"))
+                .isFalse();
+        assertThat(ActionResultCache.isReadOnlySql("SELECT * INTO archive FROM users"))
+                .isFalse();
+        assertThat(ActionResultCache.isReadOnlySql("SELECT * FROM users FOR UPDATE"))
+                .isFalse();
+        assertThat(ActionResultCache.isReadOnlySql(
+                        "WITH deleted AS (DELETE FROM users RETURNING *) SELECT * FROM deleted"))
+                .isFalse();
+        assertThat(ActionResultCache.isReadOnlySql(null)).isFalse();
+    }
+
+    @Test
+    public void isCacheable_WithoutTimeToLiveOrForPost_IsFalse() {
+        Plugin apiPlugin = new Plugin();
+        apiPlugin.setType(PluginType.API);
+
+        ActionDTO getAction = createAction("action-id", null);
+        getAction.getActionConfiguration().setHttpMethod(HttpMethod.GET);
+        assertThat(ActionResultCache.isCacheable(getAction, apiPlugin)).isTrue();
+
+        getAction.getActionConfiguration().setResultCacheTimeToLiveInSeconds(null);
+        assertThat(ActionResultCache.isCacheable(getAction, apiPlugin)).isFalse();
+
+        ActionDTO postAction = createAction("action-id", null);
+        postAction.getActionConfiguration().setHttpMethod(HttpMethod.POST);
+        assertThat(ActionResultCache.isCacheable(postAction, apiPlugin)).isFalse();
+    }
+
+    @Test
+    public void getAndPut_WithSameParams_ReturnsCopyOfResultAndHitRate() {
+        ActionDTO action = createAction("action-id", "SELECT 1");
+        String key = actionResultCache.getKey(createExecuteActionDTO("1"), action, createDatasourceStorage());
+
+        assertThat(actionResultCache.get("action-id", key).block()).isNull();
+        ActionExecutionResult executedResult = new ActionExecutionResult();
+        executedResult.setIsExecutionSuccess(true);
+        executedResult.setBody(List.of(Map.of("id", 1)));
+        actionResultCache.put(action, key, executedResult).block();
+        assertThat(executedResult.getResultCacheInfo().getHit()).isFalse();
+
+        ActionExecutionResult cachedResult =
+                actionResultCache.get("action-id", key).block();
+        assertThat(cachedResult).isNotNull();
+        assertThat(cachedResult.getBody()).isEqualTo(List.of(Map.of("id", 1)));
+        assertThat(cachedResult.getRequest().getActionId()).isEqualTo("action-id");
+        assertThat(cachedResult.getResultCacheInfo().getHit()).isTrue();
+        assertThat(cachedResult.getResultCacheInfo().getHitCount()).isEqualTo(1);
+        assertThat(cachedResult.getResultCacheInfo().getMissCount()).isEqualTo(1);
+        assertThat(cachedResult.getResultCacheInfo().getHitRate()).isEqualTo(0.5);
+
+        // Every execution gets a result of its own
+        cachedResult.setBody("modified");
+        assertThat(actionResultCache.get("action-id", key).block().getBody()).isEqualTo(List.of(Map.of("id", 1)));
+
+        // Other params, or another version of the action, are cached under another key
+        assertThat(actionResultCache.getKey(createExecuteActionDTO("2"), action, createDatasourceStorage()))
+                .isNotEqualTo(key);
+        assertThat(actionResultCache.getKey(
+                        createExecuteActionDTO("1"), createAction("action-id", "SELECT 2"), createDatasourceStorage()))
+                .isNotEqualTo(key);
+    }
+
+    @Test
+    public void put_WithFailedResult_DoesNotCache() {
+        ActionDTO action = createAction("action-id", "SELECT 1");
+        String key = actionResultCache.getKey(createExecuteActionDTO("1"), action, createDatasourceStorage());
+
+        ActionExecutionResult failedResult = new ActionExecutionResult();
+        failedResult.setIsExecutionSuccess(false);
+        actionResultCache.put(action, key, failedResult).block();
+
+        assertThat(actionResultCache.get("action-id", key).block()).isNull();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void put_WithMoreActionsThanMaxSize_KeepsStatsOfRecentActionsOnly() {
+        ActionResultCache smallActionResultCache =
+                new ActionResultCache(new ObjectMapper(), Mockito.mock(ReactiveRedisOperations.class), 1, false);
+        ActionDTO action = createAction("action-id", "SELECT 1");
+
+        smallActionResultCache.put(action, "key", new ActionExecutionResult()).block();
+        ActionExecutionResult result = smallActionResultCache
+                .put(action, "key", new ActionExecutionResult())
+                .block();
+        assertThat(result.getResultCacheInfo().getMissCount()).isEqualTo(2);
+
+        // Executing another action evicts the stats of the first one, which start over
+        smallActionResultCache
+                .put(createAction("other-action-id", "SELECT 2"), "other-key", new ActionExecutionResult())
+                .block();
+        result = smallActionResultCache
+                .put(action, "key", new ActionExecutionResult())
+                .block();
+        assertThat(result.getResultCacheInfo().getMissCount()).isEqualTo(1);
+    }
+
+    private static ActionDTO createAction(String id, String body) {
+        ActionDTO action = new ActionDTO();
+        action.setId(id);
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody(body);
+        actionConfiguration.setResultCacheTimeToLiveInSeconds(60);
+        action.setActionConfiguration(actionConfiguration);
+        return action;
+    }
+
+    private static ExecuteActionDTO createExecuteActionDTO(String paramValue) {
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        executeActionDTO.setViewMode(true);
+        executeActionDTO.setParams(new ArrayList<>(List.of(new Param("Input1.text", paramValue))));
+        return executeActionDTO;
+    }
+
+    private static DatasourceStorage createDatasourceStorage() {
+        DatasourceStorage datasourceStorage = new DatasourceStorage();
+        datasourceStorage.setDatasourceId("datasource-id");
+        datasourceStorage.setEnvironmentId("environment-id");
+        return datasourceStorage;
+    }
+}
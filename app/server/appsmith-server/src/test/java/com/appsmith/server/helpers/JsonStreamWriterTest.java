@@ -0,0 +1,78 @@
+package com.appsmith.server.helpers;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JsonStreamWriterTest {
+
+    private final Gson gson = new Gson();
+
+    private final JsonStreamWriter jsonStreamWriter = new JsonStreamWriter(gson);
+
+    @Test
+    public void object_WithFieldsAndArrays_WritesValidJson() {
+        List<String> names = new ArrayList<>();
+        Flux<byte[]> chunks = jsonStreamWriter.object(List.of(
+                jsonStreamWriter.field("version", Mono.just(2)),
+                jsonStreamWriter.arrayField(
+                        "rows",
+                        Flux.just(Map.of("name", "a"), Map.of("name", "b"))
+                                .doOnNext(row -> names.add(row.get("name")))),
+                jsonStreamWriter.arrayField("empty", Flux.empty()),
+                // Assembled once the rows are written
+                jsonStreamWriter.field("names", Mono.fromSupplier(() -> List.copyOf(names))),
+                jsonStreamWriter.field("missing", Mono.empty())));
+
+        JsonObject jsonObject = gson.fromJson(join(chunks.collectList().block()), JsonObject.class);
+
+        assertThat(jsonObject.get("version").getAsInt()).isEqualTo(2);
+        assertThat(jsonObject.getAsJsonArray("rows")).hasSize(2);
+        assertThat(jsonObject.getAsJsonArray("empty")).isEmpty();
+        assertThat(jsonObject.getAsJsonArray("names").toString()).isEqualTo("[\"a\",\"b\"]");
+        assertThat(jsonObject.get("missing").isJsonNull()).isTrue();
+    }
+
+    @Test
+    public void toDataBuffers_WithGzip_WritesCompressedJson() throws IOException {
+        Flux<byte[]> chunks = jsonStreamWriter.object(
+                List.of(jsonStreamWriter.arrayField("rows", Flux.range(0, 1000).map(i -> Map.of("id", i)))));
+
+        List<DataBuffer> dataBuffers =
+                JsonStreamWriter.toDataBuffers(chunks, true).collectList().block();
+
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        for (DataBuffer dataBuffer : dataBuffers) {
+            byte[] bytes = new byte[dataBuffer.readableByteCount()];
+            dataBuffer.read(bytes);
+            compressed.write(bytes);
+        }
+        String json;
+        try (GZIPInputStream gzipInputStream =
+                new GZIPInputStream(new ByteArrayInputStream(compressed.toByteArray()))) {
+            json = new String(gzipInputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        assertThat(gson.fromJson(json, JsonObject.class).getAsJsonArray("rows")).hasSize(1000);
+    }
+
+    private static String join(List<byte[]> chunks) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        chunks.forEach(outputStream::writeBytes);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,92 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.pf4j.PluginManager;
+import org.pf4j.PluginState;
+import org.pf4j.PluginStateEvent;
+import org.pf4j.PluginStateListener;
+import org.pf4j.PluginWrapper;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PluginExecutorHelperTest {
+
+    private final PluginManager pluginManager = Mockito.mock(PluginManager.class);
+
+    private final PluginExecutor restApiExecutor = new MockPluginExecutor();
+
+    private final PluginExecutor postgresExecutor = new MockPluginExecutor();
+
+    private PluginWrapper restApiPlugin;
+
+    private PluginWrapper postgresPlugin;
+
+    private PluginExecutorHelper pluginExecutorHelper;
+
+    @BeforeEach
+    public void setUp() {
+        restApiPlugin = pluginWrapper("restapi-plugin");
+        postgresPlugin = pluginWrapper("postgres-plugin");
+        Mockito.when(pluginManager.getStartedPlugins()).thenReturn(List.of(restApiPlugin, postgresPlugin));
+        Mockito.when(pluginManager.getExtensions(PluginExecutor.class, "restapi-plugin"))
+                .thenReturn(List.of(restApiExecutor));
+        Mockito.when(pluginManager.getExtensions(PluginExecutor.class, "postgres-plugin"))
+                .thenReturn(List.of(postgresExecutor));
+
+        pluginExecutorHelper = new PluginExecutorHelper(pluginManager);
+        pluginExecutorHelper.init();
+    }
+
+    @Test
+    public void getPluginExecutorFromPackageName_AcrossExecutions_ReusesExecutorResolvedAtStartup() {
+        assertThat(pluginExecutorHelper
+                        .getPluginExecutorFromPackageName("restapi-plugin")
+                        .block())
+                .isSameAs(restApiExecutor);
+        assertThat(pluginExecutorHelper
+                        .getPluginExecutorFromPackageName("restapi-plugin")
+                        .block())
+                .isSameAs(restApiExecutor);
+        assertThat(pluginExecutorHelper
+                        .getPluginExecutorFromPackageName("postgres-plugin")
+                        .block())
+                .isSameAs(postgresExecutor);
+
+        Mockito.verify(pluginManager, Mockito.times(1)).getExtensions(PluginExecutor.class, "restapi-plugin");
+    }
+
+    @Test
+    public void getPluginExecutorFromPackageName_AfterPluginIsStopped_FailsForThatPluginOnly() {
+        ArgumentCaptor<PluginStateListener> listenerCaptor = ArgumentCaptor.forClass(PluginStateListener.class);
+        Mockito.verify(pluginManager).addPluginStateListener(listenerCaptor.capture());
+
+        Mockito.when(pluginManager.getStartedPlugins()).thenReturn(List.of(postgresPlugin));
+        listenerCaptor
+                .getValue()
+                .pluginStateChanged(new PluginStateEvent(pluginManager, restApiPlugin, PluginState.STARTED));
+
+        StepVerifier.create(pluginExecutorHelper.getPluginExecutorFromPackageName("restapi-plugin"))
+                .expectErrorMatches(error -> error instanceof AppsmithException
+                        && ((AppsmithException) error).getError() == AppsmithError.NO_RESOURCE_FOUND)
+                .verify();
+        assertThat(pluginExecutorHelper
+                        .getPluginExecutorFromPackageName("postgres-plugin")
+                        .block())
+                .isSameAs(postgresExecutor);
+    }
+
+    private static PluginWrapper pluginWrapper(String pluginId) {
+        PluginWrapper pluginWrapper = Mockito.mock(PluginWrapper.class);
+        Mockito.when(pluginWrapper.getPluginId()).thenReturn(pluginId);
+        return pluginWrapper;
+    }
+}
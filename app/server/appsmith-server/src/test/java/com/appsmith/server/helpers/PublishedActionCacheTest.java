@@ -0,0 +1,143 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.repositories.PermissionGroupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+
+public class PublishedActionCacheTest {
+
+    private final PermissionGroupRepository permissionGroupRepository = Mockito.mock(PermissionGroupRepository.class);
+
+    private PublishedActionCache publishedActionCache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        ReactiveRedisOperations<String, String> reactiveRedisOperations = Mockito.mock(ReactiveRedisOperations.class);
+        Mockito.when(reactiveRedisOperations.convertAndSend(anyString(), anyString()))
+                .thenReturn(Mono.just(1L));
+        MappingMongoConverter mongoConverter =
+                new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext());
+        publishedActionCache =
+                new PublishedActionCache(mongoConverter, permissionGroupRepository, reactiveRedisOperations);
+    }
+
+    @Test
+    public void get_WithExecutePermission_ReturnsCopyOfAction() {
+        Mockito.when(permissionGroupRepository.getCurrentUserPermissionGroups())
+                .thenReturn(Mono.just(Set.of("viewers")));
+        Plugin plugin = new Plugin();
+        publishedActionCache.put(createAction("action-id", "app-id", "datasource-id"), plugin, 0);
+
+        PublishedActionCache.CachedAction cachedAction = publishedActionCache
+                .get("action-id", AclPermission.EXECUTE_ACTIONS)
+                .block();
+        assertThat(cachedAction).isNotNull();
+        assertThat(cachedAction.plugin()).isSameAs(plugin);
+        assertThat(cachedAction.action().getActionConfiguration().getBody()).isEqualTo("select 1");
+
+        // The plugins render the parameters into the configuration, which mustn't change the cached action
+        cachedAction.action().getActionConfiguration().setBody("select 2");
+        assertThat(publishedActionCache
+                        .get("action-id", AclPermission.EXECUTE_ACTIONS)
+                        .block()
+                        .action()
+                        .getActionConfiguration()
+                        .getBody())
+                .isEqualTo("select 1");
+    }
+
+    @Test
+    public void get_WithoutExecutePermission_ReturnsEmpty() {
+        Mockito.when(permissionGroupRepository.getCurrentUserPermissionGroups())
+                .thenReturn(Mono.just(Set.of("others")));
+        publishedActionCache.put(createAction("action-id", "app-id", "datasource-id"), new Plugin(), 0);
+
+        assertThat(publishedActionCache
+                        .get("action-id", AclPermission.EXECUTE_ACTIONS)
+                        .block())
+                .isNull();
+    }
+
+    @Test
+    public void put_WithEmbeddedDatasourceOrStaleGeneration_DoesNotCache() {
+        Mockito.when(permissionGroupRepository.getCurrentUserPermissionGroups())
+                .thenReturn(Mono.just(Set.of("viewers")));
+        publishedActionCache.put(createAction("embedded-action-id", "app-id", null), new Plugin(), 0);
+
+        long generation = publishedActionCache.getGeneration();
+        publishedActionCache.invalidateAction("other-action-id").block();
+        publishedActionCache.put(createAction("stale-action-id", "app-id", "datasource-id"), new Plugin(), generation);
+
+        assertThat(publishedActionCache
+                        .get("embedded-action-id", AclPermission.EXECUTE_ACTIONS)
+                        .block())
+                .isNull();
+        assertThat(publishedActionCache
+                        .get("stale-action-id", AclPermission.EXECUTE_ACTIONS)
+                        .block())
+                .isNull();
+    }
+
+    @Test
+    public void invalidate_ByApplicationOrDatasource_EvictsOnlyTheirActions() {
+        Mockito.when(permissionGroupRepository.getCurrentUserPermissionGroups())
+                .thenReturn(Mono.just(Set.of("viewers")));
+        publishedActionCache.put(
+                createAction("first-action-id", "first-app-id", "first-datasource-id"), new Plugin(), 0);
+        publishedActionCache.put(
+                createAction("second-action-id", "second-app-id", "second-datasource-id"), new Plugin(), 0);
+        publishedActionCache.put(
+                createAction("third-action-id", "second-app-id", "third-datasource-id"), new Plugin(), 0);
+
+        publishedActionCache.invalidateApplication("first-app-id").block();
+        publishedActionCache.invalidateDatasource("second-datasource-id").block();
+
+        assertThat(publishedActionCache
+                        .get("first-action-id", AclPermission.EXECUTE_ACTIONS)
+                        .block())
+                .isNull();
+        assertThat(publishedActionCache
+                        .get("second-action-id", AclPermission.EXECUTE_ACTIONS)
+                        .block())
+                .isNull();
+        assertThat(publishedActionCache
+                        .get("third-action-id", AclPermission.EXECUTE_ACTIONS)
+                        .block())
+                .isNotNull();
+    }
+
+    private static ActionDTO createAction(String id, String applicationId, String datasourceId) {
+        ActionDTO action = new ActionDTO();
+        action.setId(id);
+        action.setApplicationId(applicationId);
+        Datasource datasource = new Datasource();
+        datasource.setId(datasourceId);
+        action.setDatasource(datasource);
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("select 1");
+        action.setActionConfiguration(actionConfiguration);
+        action.setPolicies(Set.of(Policy.builder()
+                .permission(AclPermission.EXECUTE_ACTIONS.getValue())
+                .permissionGroups(Set.of("viewers"))
+                .build()));
+        return action;
+    }
+}
@@ -0,0 +1,116 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.domains.NewPage;
+import com.appsmith.server.dtos.PageDTO;
+import com.appsmith.server.dtos.ResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PublishedPageCacheTest {
+
+    private final PublishedPageCache publishedPageCache = new PublishedPageCache(new ObjectMapper());
+
+    @Test
+    public void toResponseEntity_WithMatchingETag_RespondsNotModified() throws IOException {
+        PublishedPageCache.CachedPage cachedPage = publishedPageCache.put("key", response("Page1"));
+
+        HttpHeaders requestHeaders = new HttpHeaders();
+        requestHeaders.setIfNoneMatch(cachedPage.eTag());
+        ResponseEntity<byte[]> response = cachedPage.toResponseEntity(requestHeaders);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo(cachedPage.eTag());
+        assertThat(response.getBody()).isNull();
+    }
+
+    @Test
+    public void toResponseEntity_WithoutGzip_RespondsUncompressedBody() throws IOException {
+        PublishedPageCache.CachedPage cachedPage = publishedPageCache.put("key", response("Page1"));
+
+        HttpHeaders requestHeaders = new HttpHeaders();
+        requestHeaders.setIfNoneMatch("\"other\"");
+        ResponseEntity<byte[]> response = cachedPage.toResponseEntity(requestHeaders);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(new String(response.getBody(), StandardCharsets.UTF_8)).contains("\"name\":\"Page1\"");
+
+        requestHeaders.set(HttpHeaders.ACCEPT_ENCODING, "deflate, gzip;q=0.9");
+        ResponseEntity<byte[]> gzippedResponse = cachedPage.toResponseEntity(requestHeaders);
+
+        assertThat(gzippedResponse.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING))
+                .isEqualTo("gzip");
+        assertThat(gzippedResponse.getBody()).isEqualTo(cachedPage.gzippedBody());
+    }
+
+    @Test
+    public void getKey_WithRepublishedPageOrOtherPermissions_ReturnsOtherKey() {
+        NewPage newPage = newPage(Instant.ofEpochMilli(1000), Set.of("read:pages"));
+        String key = PublishedPageCache.getKey(newPage);
+
+        assertThat(PublishedPageCache.getKey(newPage(Instant.ofEpochMilli(1000), Set.of("read:pages"))))
+                .isEqualTo(key);
+        assertThat(PublishedPageCache.getKey(newPage(Instant.ofEpochMilli(2000), Set.of("read:pages"))))
+                .isNotEqualTo(key);
+        assertThat(PublishedPageCache.getKey(newPage(Instant.ofEpochMilli(1000), Set.of("read:pages", "manage:pages"))))
+                .isNotEqualTo(key);
+    }
+
+    @Test
+    public void get_AfterUnpublishedEdit_ReturnsCachedPage() throws IOException {
+        NewPage newPage = newPage(Instant.ofEpochMilli(1000), Set.of("read:pages"));
+        newPage.setUpdatedAt(Instant.ofEpochMilli(1000));
+        PublishedPageCache.CachedPage cachedPage =
+                publishedPageCache.put(PublishedPageCache.getKey(newPage), response("Page1"));
+
+        // An autosave in the editor updates the page, but doesn't publish it
+        PageDTO unpublishedPage = new PageDTO();
+        unpublishedPage.setName("Page1 edited");
+        newPage.setUnpublishedPage(unpublishedPage);
+        newPage.setUpdatedAt(Instant.ofEpochMilli(2000));
+
+        assertThat(publishedPageCache.get(PublishedPageCache.getKey(newPage))).isSameAs(cachedPage);
+
+        newPage.setLastPublishedAt(Instant.ofEpochMilli(3000));
+
+        assertThat(publishedPageCache.get(PublishedPageCache.getKey(newPage))).isNull();
+    }
+
+    @Test
+    public void invalidateApplication_EvictsOnlyPagesOfApplication() throws IOException {
+        String key = PublishedPageCache.getKey(newPage(Instant.ofEpochMilli(1000), Set.of()));
+        publishedPageCache.put(key, response("Page1"));
+        publishedPageCache.put("otherApplicationId:otherPageId:1000:", response("Page2"));
+
+        publishedPageCache.invalidateApplication("applicationId");
+
+        assertThat(publishedPageCache.get(key)).isNull();
+        assertThat(publishedPageCache.get("otherApplicationId:otherPageId:1000:"))
+                .isNotNull();
+    }
+
+    private static ResponseDTO<PageDTO> response(String name) {
+        PageDTO page = new PageDTO();
+        page.setName(name);
+        return new ResponseDTO<>(HttpStatus.OK.value(), page, null);
+    }
+
+    private static NewPage newPage(Instant lastPublishedAt, Set<String> userPermissions) {
+        NewPage newPage = new NewPage();
+        newPage.setId("pageId");
+        newPage.setApplicationId("applicationId");
+        newPage.setLastPublishedAt(lastPublishedAt);
+        newPage.setUserPermissions(userPermissions);
+        return newPage;
+    }
+}
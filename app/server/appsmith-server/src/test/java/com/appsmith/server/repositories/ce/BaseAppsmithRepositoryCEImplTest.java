@@ -0,0 +1,199 @@
+package com.appsmith.server.repositories.ce;
+
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.QApplication;
+import com.appsmith.server.repositories.ApplicationRepository;
+import com.appsmith.server.repositories.PermissionGroupRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.appsmith.server.acl.AclPermission.MANAGE_APPLICATIONS;
+import static com.appsmith.server.acl.AclPermission.READ_APPLICATIONS;
+import static com.appsmith.server.repositories.ce.BaseAppsmithRepositoryCEImpl.fieldName;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+public class BaseAppsmithRepositoryCEImplTest {
+
+    @Autowired
+    ApplicationRepository applicationRepository;
+
+    @Autowired
+    PermissionGroupRepository permissionGroupRepository;
+
+    @Autowired
+    ReactiveMongoOperations mongoOperations;
+
+    @Test
+    public void updatePolicies_WithMissingPolicy_PushesPolicy() {
+        Application application = createApplication(Set.of(policy(READ_APPLICATIONS.getValue(), "viewer")));
+
+        Mono<Application> updatedApplicationMono = applicationRepository
+                .updatePolicies(
+                        idCriteria(application),
+                        Map.of(MANAGE_APPLICATIONS.getValue(), policy(MANAGE_APPLICATIONS.getValue(), "developer")),
+                        true,
+                        null)
+                .then(mongoOperations.findById(application.getId(), Application.class));
+
+        StepVerifier.create(updatedApplicationMono)
+                .assertNext(updatedApplication -> assertThat(updatedApplication.getPolicies())
+                        .containsExactlyInAnyOrder(
+                                policy(READ_APPLICATIONS.getValue(), "viewer"),
+                                policy(MANAGE_APPLICATIONS.getValue(), "developer")))
+                .verifyComplete();
+    }
+
+    @Test
+    public void updatePolicies_WithExistingPolicy_MergesPermissionGroups() {
+        Application application = createApplication(Set.of(
+                policy(READ_APPLICATIONS.getValue(), "viewer"), policy(MANAGE_APPLICATIONS.getValue(), "developer")));
+
+        Mono<Application> updatedApplicationMono = applicationRepository
+                .updatePolicies(
+                        idCriteria(application),
+                        Map.of(READ_APPLICATIONS.getValue(), policy(READ_APPLICATIONS.getValue(), "viewer", "public")),
+                        true,
+                        null)
+                .then(mongoOperations.findById(application.getId(), Application.class));
+
+        StepVerifier.create(updatedApplicationMono)
+                .assertNext(updatedApplication -> assertThat(updatedApplication.getPolicies())
+                        .containsExactlyInAnyOrder(
+                                policy(READ_APPLICATIONS.getValue(), "viewer", "public"),
+                                policy(MANAGE_APPLICATIONS.getValue(), "developer")))
+                .verifyComplete();
+    }
+
+    @Test
+    public void updatePolicies_WhenRemoving_PullsOnlyGivenPermissionGroups() {
+        Application application = createApplication(Set.of(
+                policy(READ_APPLICATIONS.getValue(), "viewer", "public"),
+                policy(MANAGE_APPLICATIONS.getValue(), "developer")));
+
+        Mono<Application> updatedApplicationMono = applicationRepository
+                .updatePolicies(
+                        idCriteria(application),
+                        Map.of(READ_APPLICATIONS.getValue(), policy(READ_APPLICATIONS.getValue(), "public")),
+                        false,
+                        null)
+                .then(mongoOperations.findById(application.getId(), Application.class));
+
+        StepVerifier.create(updatedApplicationMono)
+                .assertNext(updatedApplication -> assertThat(updatedApplication.getPolicies())
+                        .containsExactlyInAnyOrder(
+                                policy(READ_APPLICATIONS.getValue(), "viewer"),
+                                policy(MANAGE_APPLICATIONS.getValue(), "developer")))
+                .verifyComplete();
+    }
+
+    @Test
+    public void updatePolicies_WithNullPermissionGroupsInDb_AddsAndRemovesPermissionGroups() {
+        Application application = createApplication(Set.of(
+                policy(READ_APPLICATIONS.getValue(), "viewer"), policy(MANAGE_APPLICATIONS.getValue(), "developer")));
+        String policiesField = fieldName(QApplication.application.policies);
+        mongoOperations
+                .updateFirst(
+                        Query.query(Criteria.where(fieldName(QApplication.application.id))
+                                .is(application.getId())),
+                        new Update().set(policiesField + ".$[].permissionGroups", null),
+                        Application.class)
+                .block();
+
+        Mono<Application> updatedApplicationMono = applicationRepository
+                .updatePolicies(
+                        idCriteria(application),
+                        Map.of(READ_APPLICATIONS.getValue(), policy(READ_APPLICATIONS.getValue(), "public")),
+                        true,
+                        null)
+                .then(applicationRepository.updatePolicies(
+                        idCriteria(application),
+                        Map.of(MANAGE_APPLICATIONS.getValue(), policy(MANAGE_APPLICATIONS.getValue(), "developer")),
+                        false,
+                        null))
+                .then(mongoOperations.findById(application.getId(), Application.class));
+
+        StepVerifier.create(updatedApplicationMono)
+                .assertNext(updatedApplication -> assertThat(updatedApplication.getPolicies())
+                        .containsExactlyInAnyOrder(
+                                policy(READ_APPLICATIONS.getValue(), "public"), policy(MANAGE_APPLICATIONS.getValue())))
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void updatePolicies_WithPermission_UpdatesOnlyDocumentsWithPermission() {
+        Set<String> userPermissionGroups =
+                permissionGroupRepository.getCurrentUserPermissionGroups().block();
+        String[] userPermissionGroupArray = userPermissionGroups.toArray(String[]::new);
+        Application accessibleApplication = createApplication(Set.of(
+                policy(READ_APPLICATIONS.getValue(), "viewer"),
+                policy(MANAGE_APPLICATIONS.getValue(), userPermissionGroupArray)));
+        Application inaccessibleApplication = createApplication(Set.of(
+                policy(READ_APPLICATIONS.getValue(), "viewer"), policy(MANAGE_APPLICATIONS.getValue(), "developer")));
+
+        List<Criteria> criteria = List.of(Criteria.where(fieldName(QApplication.application.id))
+                .in(accessibleApplication.getId(), inaccessibleApplication.getId()));
+        Mono<List<Application>> updatedApplicationsMono = applicationRepository
+                .updatePolicies(
+                        criteria,
+                        Map.of(READ_APPLICATIONS.getValue(), policy(READ_APPLICATIONS.getValue(), "public")),
+                        true,
+                        MANAGE_APPLICATIONS)
+                .thenMany(mongoOperations.find(
+                        Query.query(Criteria.where(fieldName(QApplication.application.id))
+                                .in(accessibleApplication.getId(), inaccessibleApplication.getId())),
+                        Application.class))
+                .collectList();
+
+        StepVerifier.create(updatedApplicationsMono)
+                .assertNext(updatedApplications -> {
+                    Map<String, Set<Policy>> policiesById = new HashMap<>();
+                    updatedApplications.forEach(updatedApplication ->
+                            policiesById.put(updatedApplication.getId(), updatedApplication.getPolicies()));
+                    assertThat(policiesById.get(accessibleApplication.getId()))
+                            .contains(policy(READ_APPLICATIONS.getValue(), "viewer", "public"));
+                    assertThat(policiesById.get(inaccessibleApplication.getId()))
+                            .contains(policy(READ_APPLICATIONS.getValue(), "viewer"));
+                })
+                .verifyComplete();
+    }
+
+    private Application createApplication(Set<Policy> policies) {
+        Application application = new Application();
+        application.setName("updatePolicies-" + UUID.randomUUID());
+        application.setWorkspaceId(UUID.randomUUID().toString());
+        application.setPolicies(new HashSet<>(policies));
+        return mongoOperations.save(application).block();
+    }
+
+    private static List<Criteria> idCriteria(Application application) {
+        return List.of(Criteria.where(fieldName(QApplication.application.id)).is(application.getId()));
+    }
+
+    private static Policy policy(String permission, String... permissionGroups) {
+        return Policy.builder()
+                .permission(permission)
+                .permissionGroups(new HashSet<>(Set.of(permissionGroups)))
+                .build();
+    }
+}
@@ -0,0 +1,112 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.server.configurations.CommonConfig;
+import com.appsmith.server.configurations.InstanceConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import mockwebserver3.MockResponse;
+import mockwebserver3.MockWebServer;
+import mockwebserver3.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.test.StepVerifier;
+import reactor.util.function.Tuple2;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AstServiceCEImplTest {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private MockWebServer mockRtsServer;
+
+    private AstServiceCEImpl astService;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        mockRtsServer = new MockWebServer();
+        mockRtsServer.start();
+
+        CommonConfig commonConfig = Mockito.mock(CommonConfig.class);
+        Mockito.when(commonConfig.getRtsBaseUrl()).thenReturn("http://localhost:" + mockRtsServer.getPort());
+        InstanceConfig instanceConfig = Mockito.mock(InstanceConfig.class);
+        Mockito.when(instanceConfig.getIsRtsAccessible()).thenReturn(true);
+
+        astService = new AstServiceCEImpl(commonConfig, instanceConfig);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        mockRtsServer.shutdown();
+    }
+
+    private void enqueueReferences(List<Set<String>> references) throws IOException {
+        List<Map<String, Object>> data = references.stream()
+                .map(referencesOfBinding -> Map.<String, Object>of("references", referencesOfBinding))
+                .toList();
+        mockRtsServer.enqueue(new MockResponse()
+                .setBody(objectMapper.writeValueAsString(Map.of("data", data)))
+                .addHeader("Content-Type", "application/json"));
+    }
+
+    @Test
+    public void getPossibleReferences_whenBindingIsRepeated_onlyUncachedBindingsAreSentToRts() throws Exception {
+        enqueueReferences(List.of(Set.of("Query1.data")));
+        enqueueReferences(List.of(Set.of("Table1.selectedRow.id")));
+
+        StepVerifier.create(astService
+                        .getPossibleReferencesFromDynamicBinding(List.of("Query1.data"), 2)
+                        .collectMap(Tuple2::getT1, Tuple2::getT2))
+                .assertNext(
+                        references -> assertThat(references).isEqualTo(Map.of("Query1.data", Set.of("Query1.data"))))
+                .verifyComplete();
+
+        StepVerifier.create(astService
+                        .getPossibleReferencesFromDynamicBinding(List.of("Query1.data", "Table1.selectedRow.id"), 2)
+                        .collectMap(Tuple2::getT1, Tuple2::getT2))
+                .assertNext(references -> assertThat(references)
+                        .isEqualTo(Map.of(
+                                "Query1.data", Set.of("Query1.data"),
+                                "Table1.selectedRow.id", Set.of("Table1.selectedRow.id"))))
+                .verifyComplete();
+
+        assertThat(mockRtsServer.getRequestCount()).isEqualTo(2);
+        mockRtsServer.takeRequest();
+        RecordedRequest secondRequest = mockRtsServer.takeRequest();
+        Map<?, ?> secondRequestBody =
+                objectMapper.readValue(secondRequest.getBody().readUtf8(), Map.class);
+        assertThat(secondRequestBody.get("scripts")).isEqualTo(List.of("Table1.selectedRow.id"));
+
+        // Everything is cached now, so RTS isn't called at all
+        StepVerifier.create(astService
+                        .getPossibleReferencesFromDynamicBinding(List.of("Table1.selectedRow.id", "Query1.data"), 2)
+                        .map(Tuple2::getT1)
+                        .collect(Collectors.toSet()))
+                .assertNext(bindings ->
+                        assertThat(bindings).containsExactlyInAnyOrder("Query1.data", "Table1.selectedRow.id"))
+                .verifyComplete();
+        assertThat(mockRtsServer.getRequestCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void getPossibleReferences_whenEvalVersionChanges_bindingIsParsedAgain() throws Exception {
+        enqueueReferences(List.of(Set.of("Query1.data")));
+        enqueueReferences(List.of(Set.of("Query1.data")));
+
+        StepVerifier.create(astService.getPossibleReferencesFromDynamicBinding(List.of("Query1.data"), 1))
+                .expectNextCount(1)
+                .verifyComplete();
+        StepVerifier.create(astService.getPossibleReferencesFromDynamicBinding(List.of("Query1.data"), 2))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertThat(mockRtsServer.getRequestCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,140 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.DatasourceStorage;
+import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.server.domains.DatasourceContext;
+import com.appsmith.server.domains.DatasourceContextIdentifier;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.helpers.PluginExecutorHelper;
+import com.appsmith.server.services.ConfigService;
+import com.appsmith.server.services.DatasourceService;
+import com.appsmith.server.services.DatasourceStorageService;
+import com.appsmith.server.services.PluginService;
+import com.appsmith.server.solutions.DatasourcePermission;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+
+/**
+ * Interleaves handing out a datasource context with its eviction, in the orders that the eviction job and the
+ * executions may run in.
+ */
+public class DatasourceContextServiceCEImplTest {
+
+    @SuppressWarnings("unchecked")
+    private final PluginExecutor<Object> pluginExecutor = Mockito.mock(PluginExecutor.class);
+
+    private DatasourceContextServiceCEImpl datasourceContextService;
+
+    private DatasourceStorage datasourceStorage;
+
+    private DatasourceContextIdentifier datasourceContextIdentifier;
+
+    @BeforeEach
+    public void setUp() {
+        Mockito.when(pluginExecutor.datasourceCreate(any()))
+                .thenReturn(Mono.just("first_connection"), Mono.just("second_connection"));
+        PluginService pluginService = Mockito.mock(PluginService.class);
+        Mockito.when(pluginService.findById(any())).thenReturn(Mono.just(new Plugin()));
+        PluginExecutorHelper pluginExecutorHelper = Mockito.mock(PluginExecutorHelper.class);
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(any())).thenReturn(Mono.just(pluginExecutor));
+
+        datasourceContextService = new DatasourceContextServiceCEImpl(
+                Mockito.mock(DatasourceService.class),
+                Mockito.mock(DatasourceStorageService.class),
+                pluginService,
+                pluginExecutorHelper,
+                Mockito.mock(ConfigService.class),
+                Mockito.mock(DatasourcePermission.class));
+
+        datasourceStorage = new DatasourceStorage();
+        datasourceStorage.setDatasourceId("datasource-id");
+        datasourceStorage.setPluginId("plugin-id");
+        datasourceStorage.setDatasourceConfiguration(new DatasourceConfiguration());
+        datasourceContextIdentifier = datasourceContextService.initializeDatasourceContextIdentifier(datasourceStorage);
+    }
+
+    @Test
+    public void evictDatasourceContext_WhenHandedOutAfterFoundIdle_KeepsContext() {
+        DatasourceContext<?> datasourceContext =
+                datasourceContextService.getDatasourceContext(datasourceStorage).block();
+        Instant idleSince = Instant.now().minus(Duration.ofMinutes(30));
+        datasourceContext.setLastAccessedAt(idleSince.minus(Duration.ofDays(1)));
+
+        // The eviction job finds the context idle, but it is handed out to an execution before it's evicted
+        assertThat(datasourceContextService
+                        .getDatasourceContext(datasourceStorage)
+                        .block())
+                .isSameAs(datasourceContext);
+        assertThat(datasourceContextService.evictDatasourceContext(
+                        datasourceContextIdentifier,
+                        datasourceContext,
+                        context -> context.getLastAccessedAt().isBefore(idleSince),
+                        "it is idle"))
+                .isFalse();
+
+        StepVerifier.create(datasourceContextService.withPinnedContext(
+                        datasourceContext, pinnedContext -> Mono.just(pinnedContext.getConnection())))
+                .expectNext("first_connection")
+                .verifyComplete();
+        Mockito.verify(pluginExecutor, Mockito.never()).datasourceDestroy(any());
+    }
+
+    @Test
+    public void evictDatasourceContext_WhilePinned_KeepsConnection() {
+        DatasourceContext<?> datasourceContext =
+                datasourceContextService.getDatasourceContext(datasourceStorage).block();
+
+        StepVerifier.create(datasourceContextService.withPinnedContext(datasourceContext, pinnedContext -> {
+                    assertThat(datasourceContextService.evictDatasourceContext(
+                                    datasourceContextIdentifier, pinnedContext, context -> true, "the cache is full"))
+                            .isFalse();
+                    return Mono.just(pinnedContext.getConnection());
+                }))
+                .expectNext("first_connection")
+                .verifyComplete();
+
+        Mockito.verify(pluginExecutor, Mockito.never()).datasourceDestroy(any());
+        assertThat(datasourceContextService.isValidDatasourceContextAvailable(
+                        datasourceStorage, datasourceContextIdentifier))
+                .isTrue();
+    }
+
+    @Test
+    public void withPinnedContext_WhenEvictedAfterHandedOut_FailsAsStaleWithoutRunningTask() {
+        DatasourceContext<?> datasourceContext =
+                datasourceContextService.getDatasourceContext(datasourceStorage).block();
+
+        // The context is evicted between being handed out and being pinned by the execution
+        assertThat(datasourceContextService.evictDatasourceContext(
+                        datasourceContextIdentifier, datasourceContext, context -> true, "the cache is full"))
+                .isTrue();
+        Mockito.verify(pluginExecutor).datasourceDestroy("first_connection");
+
+        AtomicBoolean isTaskRun = new AtomicBoolean();
+        StepVerifier.create(datasourceContextService.withPinnedContext(datasourceContext, pinnedContext -> {
+                    isTaskRun.set(true);
+                    return Mono.just(pinnedContext.getConnection());
+                }))
+                .expectError(StaleConnectionException.class)
+                .verify();
+        assertThat(isTaskRun).isFalse();
+
+        // Retrying gets a fresh context
+        StepVerifier.create(datasourceContextService.retryOnce(
+                        datasourceStorage, pinnedContext -> Mono.just(pinnedContext.getConnection())))
+                .expectNext("second_connection")
+                .verifyComplete();
+    }
+}
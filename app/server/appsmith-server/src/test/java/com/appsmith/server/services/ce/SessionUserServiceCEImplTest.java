@@ -0,0 +1,232 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.server.domains.User;
+import com.appsmith.server.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.core.ReactiveHashOperations;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ReactiveSetOperations;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextImpl;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+
+/**
+ * Runs the session index against an in-memory stand-in for the few Redis commands it uses, which like Redis only
+ * runs the commands once they are subscribed to.
+ */
+public class SessionUserServiceCEImplTest {
+
+    private static final String SESSION_KEY_PREFIX = "spring:session:sessions:";
+
+    private static final String BACKFILLED_KEY = "appsmith:user-sessions-backfilled";
+
+    private final Map<String, Object> sessions = new HashMap<>();
+
+    private final Map<String, Set<String>> sets = new HashMap<>();
+
+    private final Map<String, String> values = new HashMap<>();
+
+    private final AtomicBoolean failSessionScans = new AtomicBoolean();
+
+    private SessionUserServiceCEImpl sessionUserService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        ReactiveRedisOperations<String, Object> redisOperations = Mockito.mock(ReactiveRedisOperations.class);
+        ReactiveHashOperations<String, Object, Object> hashOperations = Mockito.mock(ReactiveHashOperations.class);
+        Mockito.when(redisOperations.opsForHash()).thenReturn(hashOperations);
+        Mockito.when(hashOperations.get(anyString(), any()))
+                .thenAnswer(invocation -> Mono.fromCallable(() -> sessions.get(invocation.<String>getArgument(0))));
+        Mockito.when(redisOperations.hasKey(anyString()))
+                .thenAnswer(
+                        invocation -> Mono.fromCallable(() -> sessions.containsKey(invocation.<String>getArgument(0))));
+        Mockito.when(redisOperations.delete(Mockito.<String>any()))
+                .thenAnswer(invocation -> Mono.fromCallable(() -> Arrays.stream(invocation.getArguments())
+                        .filter(key -> sessions.remove(key) != null)
+                        .count()));
+
+        ReactiveRedisOperations<String, String> stringRedisOperations = Mockito.mock(ReactiveRedisOperations.class);
+        Mockito.when(stringRedisOperations.hasKey(anyString()))
+                .thenAnswer(
+                        invocation -> Mono.fromCallable(() -> values.containsKey(invocation.<String>getArgument(0))));
+        Mockito.when(stringRedisOperations.scan(any(ScanOptions.class)))
+                .thenAnswer(invocation -> Flux.defer(() -> {
+                    String prefix =
+                            invocation.<ScanOptions>getArgument(0).getPattern().replace("*", "");
+                    if (prefix.equals(SESSION_KEY_PREFIX) && failSessionScans.get()) {
+                        return Flux.concat(
+                                Flux.fromIterable(List.copyOf(sessions.keySet()))
+                                        .take(1),
+                                Flux.error(new IllegalStateException("Connection lost")));
+                    }
+                    return Flux.fromStream(Stream.concat(sessions.keySet().stream(), sets.keySet().stream())
+                            .filter(key -> key.startsWith(prefix))
+                            .toList()
+                            .stream());
+                }));
+
+        ReactiveSetOperations<String, String> setOperations = Mockito.mock(ReactiveSetOperations.class);
+        Mockito.when(stringRedisOperations.opsForSet()).thenReturn(setOperations);
+        Mockito.when(setOperations.add(anyString(), Mockito.<String>any()))
+                .thenAnswer(invocation -> Mono.fromCallable(() -> {
+                    Object[] arguments = invocation.getArguments();
+                    Set<String> set = sets.computeIfAbsent((String) arguments[0], key -> new HashSet<>());
+                    return Arrays.stream(arguments, 1, arguments.length)
+                            .filter(member -> set.add((String) member))
+                            .count();
+                }));
+        Mockito.when(setOperations.members(anyString()))
+                .thenAnswer(invocation -> Flux.defer(() -> Flux.fromIterable(
+                        List.copyOf(sets.getOrDefault(invocation.<String>getArgument(0), Set.of())))));
+        Mockito.when(setOperations.scan(anyString()))
+                .thenAnswer(invocation -> Flux.defer(() -> Flux.fromIterable(
+                        List.copyOf(sets.getOrDefault(invocation.<String>getArgument(0), Set.of())))));
+        Mockito.when(setOperations.remove(anyString(), Mockito.<Object>any()))
+                .thenAnswer(invocation -> Mono.fromCallable(() -> {
+                    Object[] arguments = invocation.getArguments();
+                    Set<String> set = sets.getOrDefault((String) arguments[0], new HashSet<>());
+                    long count = Arrays.stream(arguments, 1, arguments.length)
+                            .filter(set::remove)
+                            .count();
+                    // Redis deletes the sets that are left empty
+                    if (set.isEmpty()) {
+                        sets.remove((String) arguments[0]);
+                    }
+                    return count;
+                }));
+
+        ReactiveValueOperations<String, String> valueOperations = Mockito.mock(ReactiveValueOperations.class);
+        Mockito.when(stringRedisOperations.opsForValue()).thenReturn(valueOperations);
+        Mockito.when(valueOperations.set(anyString(), anyString()))
+                .thenAnswer(invocation -> Mono.fromCallable(() -> {
+                    values.put(invocation.getArgument(0), invocation.getArgument(1));
+                    return true;
+                }));
+
+        sessionUserService = new SessionUserServiceCEImpl(
+                Mockito.mock(UserRepository.class), redisOperations, stringRedisOperations);
+    }
+
+    @Test
+    public void addUserSession_AfterBackfill_IsFoundByLookupWithoutExpiry() {
+        values.put(BACKFILLED_KEY, "now");
+        createSession("first-session", "user@example.com");
+        createSession("second-session", "user@example.com");
+        createSession("other-session", "other@example.com");
+
+        sessionUserService.addUserSession("User@example.com", "first-session").block();
+        sessionUserService.addUserSession("user@example.com", "second-session").block();
+        sessionUserService.addUserSession("other@example.com", "other-session").block();
+
+        assertThat(sessionUserService
+                        .getSessionKeysByUserEmail("user@example.com")
+                        .block())
+                .containsExactlyInAnyOrder(SESSION_KEY_PREFIX + "first-session", SESSION_KEY_PREFIX + "second-session");
+
+        sessionUserService.logoutAllSessions("user@example.com").block();
+        assertThat(sessions).containsOnlyKeys(SESSION_KEY_PREFIX + "other-session");
+        assertThat(sets).doesNotContainKey("appsmith:user-sessions:user@example.com");
+    }
+
+    @Test
+    public void getSessionKeysByUserEmail_WithStaleOrReassignedSessions_RemovesThemFromSet() {
+        values.put(BACKFILLED_KEY, "now");
+        createSession("live-session", "user@example.com");
+        createSession("expired-session", "user@example.com");
+        createSession("reused-session", "user@example.com");
+        sessionUserService.addUserSession("user@example.com", "live-session").block();
+        sessionUserService.addUserSession("user@example.com", "expired-session").block();
+        sessionUserService.addUserSession("user@example.com", "reused-session").block();
+
+        sessions.remove(SESSION_KEY_PREFIX + "expired-session");
+        createSession("reused-session", "other@example.com");
+
+        assertThat(sessionUserService
+                        .getSessionKeysByUserEmail("user@example.com")
+                        .block())
+                .containsExactly(SESSION_KEY_PREFIX + "live-session");
+        assertThat(sets.get("appsmith:user-sessions:user@example.com"))
+                .containsExactly(SESSION_KEY_PREFIX + "live-session");
+    }
+
+    @Test
+    public void removeStaleUserSessions_WithExpiredSessions_TrimsAndDeletesSets() {
+        createSession("live-session", "user@example.com");
+        sessionUserService.addUserSession("user@example.com", "live-session").block();
+        sessionUserService.addUserSession("user@example.com", "expired-session").block();
+        sessionUserService
+                .addUserSession("other@example.com", "other-expired-session")
+                .block();
+
+        assertThat(sessionUserService.removeStaleUserSessionsMono().block()).isEqualTo(2L);
+
+        assertThat(sets)
+                .containsOnlyKeys("appsmith:user-sessions:user@example.com")
+                .containsEntry("appsmith:user-sessions:user@example.com", Set.of(SESSION_KEY_PREFIX + "live-session"));
+    }
+
+    @Test
+    public void backfillUserSessions_WhenInterrupted_ScansUntilItCompletes() {
+        createSession("old-session", "user@example.com");
+        createSession("other-old-session", "other@example.com");
+
+        // Until the backfill completes, the sessions that aren't in the sets yet are found by going through them all
+        assertThat(sessionUserService
+                        .getSessionKeysByUserEmail("user@example.com")
+                        .block())
+                .containsExactly(SESSION_KEY_PREFIX + "old-session");
+
+        failSessionScans.set(true);
+        assertThat(sessionUserService
+                        .backfillUserSessionsMono()
+                        .onErrorResume(error -> Mono.empty())
+                        .block())
+                .isNull();
+        assertThat(values).doesNotContainKey(BACKFILLED_KEY);
+
+        failSessionScans.set(false);
+        assertThat(sessionUserService.backfillUserSessionsMono().block()).isTrue();
+        assertThat(values).containsKey(BACKFILLED_KEY);
+        assertThat(sets)
+                .containsEntry("appsmith:user-sessions:user@example.com", Set.of(SESSION_KEY_PREFIX + "old-session"))
+                .containsEntry(
+                        "appsmith:user-sessions:other@example.com", Set.of(SESSION_KEY_PREFIX + "other-old-session"));
+
+        // Once backfilled, the sessions are read from the sets, and the backfill isn't run again
+        sessions.put(SESSION_KEY_PREFIX + "unindexed-session", securityContext("user@example.com"));
+        assertThat(sessionUserService
+                        .getSessionKeysByUserEmail("user@example.com")
+                        .block())
+                .containsExactly(SESSION_KEY_PREFIX + "old-session");
+        assertThat(sessionUserService.backfillUserSessionsMono().block()).isNull();
+    }
+
+    private void createSession(String sessionId, String email) {
+        sessions.put(SESSION_KEY_PREFIX + sessionId, securityContext(email));
+    }
+
+    private static SecurityContextImpl securityContext(String email) {
+        User user = new User();
+        user.setEmail(email);
+        return new SecurityContextImpl(new UsernamePasswordAuthenticationToken(user, null, List.of()));
+    }
+}
@@ -0,0 +1,122 @@
+package com.appsmith.server.services.ce;
+
+import com.appsmith.server.domains.Application;
+import com.appsmith.server.domains.User;
+import com.appsmith.server.repositories.ApplicationRepository;
+import com.appsmith.server.repositories.UserDataRepository;
+import com.appsmith.server.repositories.UserRepository;
+import com.appsmith.server.services.AnalyticsService;
+import com.appsmith.server.services.AssetService;
+import com.appsmith.server.services.FeatureFlagService;
+import com.appsmith.server.services.SessionUserService;
+import com.appsmith.server.services.TenantService;
+import com.appsmith.server.solutions.ReleaseNotesService;
+import com.appsmith.server.solutions.UserChangedHandler;
+import com.mongodb.MongoException;
+import com.mongodb.bulk.BulkWriteResult;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+public class UserDataServiceCEImplTest {
+
+    private final UserDataRepository userDataRepository = Mockito.mock(UserDataRepository.class);
+
+    private UserDataServiceCEImpl userDataService;
+
+    @BeforeEach
+    public void setUp() {
+        User user = new User();
+        user.setId("user-id");
+        SessionUserService sessionUserService = Mockito.mock(SessionUserService.class);
+        Mockito.when(sessionUserService.getCurrentUser()).thenReturn(Mono.just(user));
+        AnalyticsService analyticsService = Mockito.mock(AnalyticsService.class);
+        Mockito.when(analyticsService.identifyUser(any(), any(), anyString())).thenReturn(Mono.just(user));
+        Mockito.when(userDataRepository.findByUserId("user-id")).thenReturn(Mono.empty());
+
+        userDataService = new UserDataServiceCEImpl(
+                Schedulers.immediate(),
+                Mockito.mock(Validator.class),
+                Mockito.mock(MongoConverter.class),
+                Mockito.mock(ReactiveMongoTemplate.class),
+                userDataRepository,
+                analyticsService,
+                Mockito.mock(UserRepository.class),
+                sessionUserService,
+                Mockito.mock(AssetService.class),
+                Mockito.mock(ReleaseNotesService.class),
+                Mockito.mock(FeatureFlagService.class),
+                Mockito.mock(UserChangedHandler.class),
+                Mockito.mock(ApplicationRepository.class),
+                Mockito.mock(TenantService.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void flushLastUsedAppAndWorkspaceLists_WhenWriteFails_KeepsIdsForNextFlush() {
+        Mockito.when(userDataRepository.addIdsToRecentlyUsedLists(anyMap(), anyMap(), anyInt(), anyInt()))
+                .thenReturn(Mono.error(new MongoException("Write failed")))
+                .thenReturn(Mono.just(Mockito.mock(BulkWriteResult.class)));
+
+        userDataService
+                .addToLastUsedAppAndWorkspaceList(application("first-app-id", "first-workspace-id"))
+                .block();
+        StepVerifier.create(userDataService.flushLastUsedAppAndWorkspaceLists())
+                .expectError(MongoException.class)
+                .verify();
+
+        userDataService
+                .addToLastUsedAppAndWorkspaceList(application("second-app-id", "first-workspace-id"))
+                .block();
+        userDataService.flushLastUsedAppAndWorkspaceLists().block();
+
+        ArgumentCaptor<Map<String, List<String>>> workspaceIdsCaptor = ArgumentCaptor.forClass(Map.class);
+        ArgumentCaptor<Map<String, List<String>>> appIdsCaptor = ArgumentCaptor.forClass(Map.class);
+        Mockito.verify(userDataRepository, Mockito.times(2))
+                .addIdsToRecentlyUsedLists(workspaceIdsCaptor.capture(), appIdsCaptor.capture(), eq(10), eq(20));
+        assertThat(workspaceIdsCaptor.getValue()).isEqualTo(Map.of("user-id", List.of("first-workspace-id")));
+        assertThat(appIdsCaptor.getValue()).isEqualTo(Map.of("user-id", List.of("second-app-id", "first-app-id")));
+    }
+
+    @Test
+    public void flushLastUsedAppAndWorkspaceListsOnShutdown_WithPendingIds_WritesThem() {
+        Mockito.when(userDataRepository.addIdsToRecentlyUsedLists(anyMap(), anyMap(), anyInt(), anyInt()))
+                .thenReturn(Mono.just(Mockito.mock(BulkWriteResult.class)));
+
+        userDataService
+                .addToLastUsedAppAndWorkspaceList(application("app-id", "workspace-id"))
+                .block();
+        userDataService.flushLastUsedAppAndWorkspaceListsOnShutdown();
+
+        Mockito.verify(userDataRepository)
+                .addIdsToRecentlyUsedLists(
+                        eq(Map.of("user-id", List.of("workspace-id"))),
+                        eq(Map.of("user-id", List.of("app-id"))),
+                        eq(10),
+                        eq(20));
+    }
+
+    private static Application application(String id, String workspaceId) {
+        Application application = new Application();
+        application.setId(id);
+        application.setWorkspaceId(workspaceId);
+        return application;
+    }
+}
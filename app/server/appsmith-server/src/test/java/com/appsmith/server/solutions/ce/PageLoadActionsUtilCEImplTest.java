@@ -0,0 +1,85 @@
+package com.appsmith.server.solutions.ce;
+
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.external.models.PluginType;
+import com.appsmith.server.services.AstService;
+import com.appsmith.server.services.NewActionService;
+import com.appsmith.server.solutions.ActionPermission;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PageLoadActionsUtilCEImplTest {
+
+    private final PageLoadActionsUtilCEImpl pageLoadActionsUtil = new PageLoadActionsUtilCEImpl(
+            Mockito.mock(NewActionService.class),
+            Mockito.mock(AstService.class),
+            Mockito.mock(ActionPermission.class),
+            new ObjectMapper());
+
+    @Test
+    public void getOnPageLoadActionsInputsHash_WithSameInputsInAnotherOrder_ReturnsSameHash() {
+        Map<String, Set<String>> bindings = new LinkedHashMap<>();
+        bindings.put("Table1.tableData", new LinkedHashSet<>(List.of("Api1.data", "Input1.text")));
+        bindings.put("Text1.text", Set.of("Api2.data"));
+
+        Map<String, Set<String>> reorderedBindings = new LinkedHashMap<>();
+        reorderedBindings.put("Text1.text", Set.of("Api2.data"));
+        reorderedBindings.put("Table1.tableData", new LinkedHashSet<>(List.of("Input1.text", "Api1.data")));
+
+        String hash = pageLoadActionsUtil.getOnPageLoadActionsInputsHash(
+                1, Set.of("Table1", "Text1", "Input1"), bindings, List.of(action("1", "Api1"), action("2", "Api2")));
+        String reorderedHash = pageLoadActionsUtil.getOnPageLoadActionsInputsHash(
+                1,
+                new LinkedHashSet<>(List.of("Input1", "Text1", "Table1")),
+                reorderedBindings,
+                List.of(action("2", "Api2"), action("1", "Api1")));
+
+        assertThat(hash).isNotNull().isEqualTo(reorderedHash);
+    }
+
+    @Test
+    public void getOnPageLoadActionsInputsHash_WithChangedBindingOrAction_ReturnsDifferentHash() {
+        Map<String, Set<String>> bindings = Map.of("Table1.tableData", Set.of("Api1.data"));
+        List<ActionDTO> actions = List.of(action("1", "Api1"));
+
+        String hash = pageLoadActionsUtil.getOnPageLoadActionsInputsHash(1, Set.of("Table1"), bindings, actions);
+
+        assertThat(pageLoadActionsUtil.getOnPageLoadActionsInputsHash(
+                        1, Set.of("Table1"), Map.of("Table1.tableData", Set.of("Api2.data")), actions))
+                .isNotEqualTo(hash);
+        assertThat(pageLoadActionsUtil.getOnPageLoadActionsInputsHash(2, Set.of("Table1"), bindings, actions))
+                .isNotEqualTo(hash);
+
+        ActionDTO renamedAction = action("1", "Api3");
+        assertThat(pageLoadActionsUtil.getOnPageLoadActionsInputsHash(
+                        1, Set.of("Table1"), bindings, List.of(renamedAction)))
+                .isNotEqualTo(hash);
+
+        ActionDTO turnedOffAction = action("1", "Api1");
+        turnedOffAction.setUserSetOnLoad(true);
+        assertThat(pageLoadActionsUtil.getOnPageLoadActionsInputsHash(
+                        1, Set.of("Table1"), bindings, List.of(turnedOffAction)))
+                .isNotEqualTo(hash);
+    }
+
+    private static ActionDTO action(String id, String name) {
+        ActionDTO action = new ActionDTO();
+        action.setId(id);
+        action.setName(name);
+        action.setPluginType(PluginType.API);
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("{{Input1.text}}");
+        action.setActionConfiguration(actionConfiguration);
+        return action;
+    }
+}
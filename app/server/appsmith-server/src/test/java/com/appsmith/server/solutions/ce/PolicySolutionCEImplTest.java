@@ -0,0 +1,124 @@
+package com.appsmith.server.solutions.ce;
+
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionDTO;
+import com.appsmith.external.models.Datasource;
+import com.appsmith.external.models.Policy;
+import com.appsmith.server.acl.AclPermission;
+import com.appsmith.server.acl.PolicyGenerator;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.helpers.PublishedActionCache;
+import com.appsmith.server.repositories.ActionCollectionRepository;
+import com.appsmith.server.repositories.ApplicationRepository;
+import com.appsmith.server.repositories.DatasourceRepository;
+import com.appsmith.server.repositories.NewActionRepository;
+import com.appsmith.server.repositories.NewPageRepository;
+import com.appsmith.server.repositories.PermissionGroupRepository;
+import com.appsmith.server.repositories.ThemeRepository;
+import com.appsmith.server.solutions.ApplicationPermission;
+import com.appsmith.server.solutions.DatasourcePermission;
+import com.appsmith.server.solutions.PagePermission;
+import com.mongodb.bulk.BulkWriteResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+
+public class PolicySolutionCEImplTest {
+
+    private final PermissionGroupRepository permissionGroupRepository = Mockito.mock(PermissionGroupRepository.class);
+
+    private final NewActionRepository newActionRepository = Mockito.mock(NewActionRepository.class);
+
+    private PublishedActionCache publishedActionCache;
+
+    private PolicySolutionCEImpl policySolution;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        ReactiveRedisOperations<String, String> reactiveRedisOperations = Mockito.mock(ReactiveRedisOperations.class);
+        Mockito.when(reactiveRedisOperations.convertAndSend(anyString(), anyString()))
+                .thenReturn(Mono.just(1L));
+        publishedActionCache = new PublishedActionCache(
+                new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, new MongoMappingContext()),
+                permissionGroupRepository,
+                reactiveRedisOperations);
+
+        policySolution = new PolicySolutionCEImpl(
+                Mockito.mock(PolicyGenerator.class),
+                Mockito.mock(ApplicationRepository.class),
+                Mockito.mock(DatasourceRepository.class),
+                Mockito.mock(NewPageRepository.class),
+                newActionRepository,
+                Mockito.mock(ActionCollectionRepository.class),
+                Mockito.mock(ThemeRepository.class),
+                Mockito.mock(DatasourcePermission.class),
+                Mockito.mock(ApplicationPermission.class),
+                Mockito.mock(PagePermission.class),
+                publishedActionCache);
+    }
+
+    @Test
+    public void updateWithPagePermissionsToAllItsActions_WhenAppIsMadePrivate_EvictsItsCachedActions() {
+        Mockito.when(permissionGroupRepository.getCurrentUserPermissionGroups())
+                .thenReturn(Mono.just(Set.of("public-permission-group")));
+        Mockito.when(newActionRepository.updatePolicies(anyList(), anyMap(), anyBoolean(), any()))
+                .thenReturn(Mono.just(Mockito.mock(BulkWriteResult.class)));
+        publishedActionCache.put(createPublicAction("action-id", "app-id"), new Plugin(), 0);
+        publishedActionCache.put(createPublicAction("other-action-id", "other-app-id"), new Plugin(), 0);
+        assertThat(publishedActionCache
+                        .get("action-id", AclPermission.EXECUTE_ACTIONS)
+                        .block())
+                .isNotNull();
+
+        Map<String, Policy> actionPolicyMap = Map.of(
+                AclPermission.EXECUTE_ACTIONS.getValue(),
+                Policy.builder()
+                        .permission(AclPermission.EXECUTE_ACTIONS.getValue())
+                        .permissionGroups(Set.of("public-permission-group"))
+                        .build());
+        policySolution
+                .updateWithPagePermissionsToAllItsActions("app-id", actionPolicyMap, false)
+                .block();
+
+        // The anonymous users can't execute the action with the policies it was cached with anymore
+        assertThat(publishedActionCache
+                        .get("action-id", AclPermission.EXECUTE_ACTIONS)
+                        .block())
+                .isNull();
+        assertThat(publishedActionCache
+                        .get("other-action-id", AclPermission.EXECUTE_ACTIONS)
+                        .block())
+                .isNotNull();
+    }
+
+    private static ActionDTO createPublicAction(String id, String applicationId) {
+        ActionDTO action = new ActionDTO();
+        action.setId(id);
+        action.setApplicationId(applicationId);
+        Datasource datasource = new Datasource();
+        datasource.setId("datasource-id");
+        action.setDatasource(datasource);
+        action.setActionConfiguration(new ActionConfiguration());
+        action.setPolicies(Set.of(Policy.builder()
+                .permission(AclPermission.EXECUTE_ACTIONS.getValue())
+                .permissionGroups(Set.of("public-permission-group"))
+                .build()));
+        return action;
+    }
+}
@@ -1,42 +1,64 @@
-package com.appsmith.caching.components;
-
-import reactor.core.publisher.Mono;
-
-public interface CacheManager {
-    /**
-     * This will log the cache stats with INFO severity.
-     */
-    void logStats();
-
-    /**
-     * This will get item from the cache, Mono.empty() if not found.
-     * @param cacheName The name of the cache.
-     * @param key The key of the item.
-     * @return The Mono of the item.
-     */
-    Mono<Object> get(String cacheName, String key);
-
-    /**
-     * This will put item into the cache.
-     * @param cacheName The name of the cache.
-     * @param key The key of the item.
-     * @param value The value of the item.
-     * @return Mono<Boolean> true if put was successful, false otherwise.
-     */
-    Mono<Boolean> put(String cacheName, String key, Object value);
-
-    /**
-     * This will remove item from the cache.
-     * @param cacheName The name of the cache.
-     * @param key The key of the item.
-     * @return Mono<Void> that will complete after the item is removed.
-     */
-    Mono<Void> evict(String cacheName, String key);
-
-    /**
-     * This will remove all items from the cache.
-     * @param cacheName The name of the cache.
-     * @return Mono<Void> that will complete after the items are removed.
-     */
-    Mono<Void> evictAll(String cacheName);
-}
+package com.appsmith.caching.components;
+
+import com.appsmith.caching.model.CacheStats;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+
+public interface CacheManager {
+    /**
+     * This will log the cache stats with INFO severity.
+     */
+    void logStats();
+
+    /**
+     * This will get the stats of every cache, keyed by the cache name.
+     * @return The map of cache name to its stats.
+     */
+    Map<String, CacheStats> getStats();
+
+    /**
+     * This will get item from the cache, Mono.empty() if not found.
+     * @param cacheName The name of the cache.
+     * @param key The key of the item.
+     * @return The Mono of the item.
+     */
+    Mono<Object> get(String cacheName, String key);
+
+    /**
+     * This will put item into the cache.
+     * @param cacheName The name of the cache.
+     * @param key The key of the item.
+     * @param value The value of the item.
+     * @return Mono<Boolean> true if put was successful, false otherwise.
+     */
+    default Mono<Boolean> put(String cacheName, String key, Object value) {
+        return put(cacheName, key, value, null);
+    }
+
+    /**
+     * This will put item into the cache, which expires after the given time to live.
+     * @param cacheName The name of the cache.
+     * @param key The key of the item.
+     * @param value The value of the item.
+     * @param ttl The time to live of the item, null or zero if it should never expire.
+     * @return Mono<Boolean> true if put was successful, false otherwise.
+     */
+    Mono<Boolean> put(String cacheName, String key, Object value, Duration ttl);
+
+    /**
+     * This will remove item from the cache.
+     * @param cacheName The name of the cache.
+     * @param key The key of the item.
+     * @return Mono<Void> that will complete after the item is removed.
+     */
+    Mono<Void> evict(String cacheName, String key);
+
+    /**
+     * This will remove all items from the cache.
+     * @param cacheName The name of the cache.
+     * @return Mono<Void> that will complete after the items are removed.
+     */
+    Mono<Void> evictAll(String cacheName);
+}
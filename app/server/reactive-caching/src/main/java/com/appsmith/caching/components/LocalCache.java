@@ -0,0 +1,121 @@
+package com.appsmith.caching.components;
+
+import lombok.AllArgsConstructor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * LocalCache is a bounded, in-process cache that sits in front of Redis. Entries are evicted when they are older than
+ * the configured time to live, or when the cache is full, in least recently used order.
+ * <p>
+ * Values are shared between all the callers that read them, so they must not be modified once they are cached.
+ */
+public class LocalCache {
+
+    private final int maxSize;
+
+    private final Duration timeToLive;
+
+    private final Clock clock;
+
+    // Access ordered, so that the least recently used entry is the first one to be evicted. Guarded by `this`.
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    // Incremented on every invalidation, so that a value read from Redis before an invalidation isn't cached after it.
+    private long generation = 0;
+
+    public LocalCache(int maxSize, Duration timeToLive, Clock clock) {
+        this.maxSize = maxSize;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the value cached for the given path, or null if there's none or if it has expired.
+     */
+    public synchronized Object get(String path) {
+        final Entry entry = entries.get(path);
+        if (entry == null) {
+            return null;
+        }
+
+        if (entry.expiresAt.isBefore(clock.instant())) {
+            entries.remove(path);
+            return null;
+        }
+
+        return entry.value;
+    }
+
+    public synchronized long getGeneration() {
+        return generation;
+    }
+
+    public synchronized void put(String path, Object value) {
+        put(path, value, null);
+    }
+
+    /**
+     * Caches the value until the given time to live, or the time to live of this cache, whichever is shorter, runs out.
+     */
+    public synchronized void put(String path, Object value, Duration ttl) {
+        final Duration entryTtl = ttl == null || ttl.compareTo(timeToLive) > 0 ? timeToLive : ttl;
+        entries.put(path, new Entry(value, clock.instant().plus(entryTtl)));
+    }
+
+    /**
+     * Caches the value only if nothing has been invalidated since the given generation was read.
+     */
+    public synchronized void putIfGeneration(String path, Object value, Duration ttl, long expectedGeneration) {
+        if (generation == expectedGeneration) {
+            put(path, value, ttl);
+        }
+    }
+
+    public synchronized void invalidate(String path) {
+        generation++;
+        entries.remove(path);
+    }
+
+    /**
+     * Removes all the entries whose path starts with the given prefix.
+     */
+    public synchronized void invalidateAll(String prefix) {
+        generation++;
+        entries.keySet().removeIf(path -> path.startsWith(prefix));
+    }
+
+    /**
+     * Removes all the entries whose value matches the given predicate.
+     */
+    public synchronized void invalidateValues(Predicate<Object> predicate) {
+        generation++;
+        entries.values().removeIf(entry -> predicate.test(entry.value));
+    }
+
+    public synchronized void clear() {
+        generation++;
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    @AllArgsConstructor
+    private static class Entry {
+        private final Object value;
+
+        private final Instant expiresAt;
+    }
+}
@@ -1,116 +1,281 @@
-package com.appsmith.caching.components;
-
-import com.appsmith.caching.model.CacheStats;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
-import org.springframework.data.redis.core.ReactiveRedisOperations;
-import org.springframework.data.redis.core.ReactiveRedisTemplate;
-import org.springframework.data.redis.core.script.RedisScript;
-import org.springframework.stereotype.Component;
-import reactor.core.publisher.Mono;
-
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
-/**
- * RedisCacheManagerImpl is a class that implements the CacheManager interface.
- * Used Redis as the cache backend.
- */
-@Component
-@ConditionalOnClass({ReactiveRedisTemplate.class})
-@Slf4j
-public class RedisCacheManagerImpl implements CacheManager {
-
-    private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
-    private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
-
-    Map<String, CacheStats> statsMap = new ConcurrentHashMap<>();
-
-    /**
-     * Ensures that the key for cacheName is present in statsMap.
-     * @param cacheName The name of the cache.
-     */
-    private void ensureStats(String cacheName) {
-        if (!statsMap.containsKey(cacheName)) {
-            statsMap.put(cacheName, CacheStats.newInstance());
-        }
-    }
-
-    @Override
-    public void logStats() {
-        statsMap.keySet().forEach(key -> {
-            CacheStats stats = statsMap.get(key);
-            log.debug(
-                    "Cache {} stats: hits = {}, misses = {}, singleEvictions = {}, completeEvictions = {}",
-                    key,
-                    stats.getHits(),
-                    stats.getMisses(),
-                    stats.getSingleEvictions(),
-                    stats.getCompleteEvictions());
-        });
-    }
-
-    /**
-     * Resets the stats.
-     */
-    public void resetStats() {
-        statsMap.clear();
-    }
-
-    @Autowired
-    public RedisCacheManagerImpl(
-            ReactiveRedisTemplate<String, Object> reactiveRedisTemplate,
-            ReactiveRedisOperations<String, String> reactiveRedisOperations) {
-        this.reactiveRedisTemplate = reactiveRedisTemplate;
-        this.reactiveRedisOperations = reactiveRedisOperations;
-    }
-
-    @Override
-    public Mono<Object> get(String cacheName, String key) {
-        ensureStats(cacheName);
-        String path = cacheName + ":" + key;
-        return reactiveRedisTemplate
-                .opsForValue()
-                .get(path)
-                .map(value -> {
-                    // This is a cache hit, update stats and return value
-                    statsMap.get(cacheName).getHits().incrementAndGet();
-                    return value;
-                })
-                .switchIfEmpty(Mono.defer(() -> {
-                    // This is a cache miss, update stats and return empty
-                    statsMap.get(cacheName).getMisses().incrementAndGet();
-                    log.debug("Cache miss for key {}", path);
-                    return Mono.empty();
-                }));
-    }
-
-    @Override
-    public Mono<Boolean> put(String cacheName, String key, Object value) {
-        ensureStats(cacheName);
-        String path = cacheName + ":" + key;
-        log.debug("Cache entry added for key {}", path);
-        return reactiveRedisTemplate.opsForValue().set(path, value);
-    }
-
-    @Override
-    public Mono<Void> evict(String cacheName, String key) {
-        ensureStats(cacheName);
-        statsMap.get(cacheName).getSingleEvictions().incrementAndGet();
-        String path = cacheName + ":" + key;
-        log.debug("Cache entry evicted for key {}", path);
-        return reactiveRedisTemplate.delete(path).then();
-    }
-
-    @Override
-    public Mono<Void> evictAll(String cacheName) {
-        ensureStats(cacheName);
-        statsMap.get(cacheName).getCompleteEvictions().incrementAndGet();
-        String path = cacheName;
-        // Remove all matching keys with wildcard
-        final String script =
-                "for _,k in ipairs(redis.call('keys','" + path + ":*'))" + " do redis.call('del',k) " + "end";
-        return reactiveRedisOperations.execute(RedisScript.of(script)).then();
-    }
-}
+package com.appsmith.caching.components;
+
+import com.appsmith.caching.model.CacheStats;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * RedisCacheManagerImpl is a class that implements the CacheManager interface.
+ * Used Redis as the cache backend.
+ * <p>
+ * Caches listed in `appsmith.cache.local.names` are also kept in an in-process {@link LocalCache} in front of Redis.
+ * Evictions of such caches are broadcast over Redis pub/sub so that every server drops its local copy. A server that
+ * misses a broadcast, say while it is reconnecting to Redis, serves the stale value for at most the local time to live.
+ */
+@Component
+@ConditionalOnClass({ReactiveRedisTemplate.class})
+@Slf4j
+public class RedisCacheManagerImpl implements CacheManager {
+
+    private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+    private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
+
+    public static final String INVALIDATION_CHANNEL = "appsmith:cache-invalidation";
+
+    private static final String INVALIDATE_KEY_PREFIX = "key:";
+
+    private static final String INVALIDATE_ALL_PREFIX = "all:";
+
+    // Number of keys fetched by every SCAN call and removed by every UNLINK call when evicting a complete cache
+    private static final int EVICT_ALL_BATCH_SIZE = 500;
+
+    private final Set<String> localCacheNames;
+
+    private final LocalCache localCache;
+
+    private Disposable invalidationSubscription;
+
+    // Time to live last used for the entries of each cache, so that values read from Redis don't outlive it locally
+    private final Map<String, Duration> ttlMap = new ConcurrentHashMap<>();
+
+    Map<String, CacheStats> statsMap = new ConcurrentHashMap<>();
+
+    /**
+     * Ensures that the key for cacheName is present in statsMap.
+     * @param cacheName The name of the cache.
+     */
+    private void ensureStats(String cacheName) {
+        statsMap.computeIfAbsent(cacheName, name -> CacheStats.newInstance());
+    }
+
+    private boolean isLocal(String cacheName) {
+        return localCacheNames.contains(cacheName);
+    }
+
+    @Override
+    public void logStats() {
+        statsMap.keySet().forEach(key -> {
+            CacheStats stats = statsMap.get(key);
+            log.debug(
+                    "Cache {} stats: localHits = {}, localMisses = {}, hits = {}, misses = {}, singleEvictions = {}, "
+                            + "completeEvictions = {}",
+                    key,
+                    stats.getLocalHits(),
+                    stats.getLocalMisses(),
+                    stats.getHits(),
+                    stats.getMisses(),
+                    stats.getSingleEvictions(),
+                    stats.getCompleteEvictions());
+        });
+    }
+
+    @Override
+    public Map<String, CacheStats> getStats() {
+        return Collections.unmodifiableMap(statsMap);
+    }
+
+    /**
+     * Resets the stats.
+     */
+    public void resetStats() {
+        statsMap.clear();
+    }
+
+    @Autowired
+    public RedisCacheManagerImpl(
+            ReactiveRedisTemplate<String, Object> reactiveRedisTemplate,
+            ReactiveRedisOperations<String, String> reactiveRedisOperations,
+            @Value("${appsmith.cache.local.names:}") String localCacheNames,
+            @Value("${appsmith.cache.local.max-size:10000}") int localCacheMaxSize,
+            @Value("${appsmith.cache.local.ttl:60}") long localCacheTtlInSeconds) {
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.reactiveRedisOperations = reactiveRedisOperations;
+        this.localCacheNames = Arrays.stream(localCacheNames.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+        this.localCache =
+                new LocalCache(localCacheMaxSize, Duration.ofSeconds(localCacheTtlInSeconds), Clock.systemUTC());
+    }
+
+    /**
+     * Listens to evictions made by other servers, so that they are applied to the local cache as well.
+     */
+    @PostConstruct
+    public void subscribeToInvalidations() {
+        if (localCacheNames.isEmpty()) {
+            return;
+        }
+
+        invalidationSubscription = reactiveRedisOperations
+                .listenToChannel(INVALIDATION_CHANNEL)
+                .doOnNext(message -> applyInvalidation(message.getMessage()))
+                .doOnError(error -> {
+                    // Evictions may be missed until we subscribe again, so nothing cached so far can be trusted
+                    log.warn("Error listening to cache invalidations, clearing the local cache", error);
+                    localCache.clear();
+                })
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30)))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void unsubscribeFromInvalidations() {
+        if (invalidationSubscription != null) {
+            invalidationSubscription.dispose();
+        }
+    }
+
+    private void applyInvalidation(String message) {
+        if (message.startsWith(INVALIDATE_KEY_PREFIX)) {
+            localCache.invalidate(message.substring(INVALIDATE_KEY_PREFIX.length()));
+        } else if (message.startsWith(INVALIDATE_ALL_PREFIX)) {
+            localCache.invalidateAll(message.substring(INVALIDATE_ALL_PREFIX.length()) + ":");
+        } else {
+            log.warn("Ignoring unknown cache invalidation message {}", message);
+        }
+    }
+
+    /**
+     * Tells every server, including this one, to drop the given entries from their local cache.
+     */
+    private Mono<Void> publishInvalidation(String message) {
+        return reactiveRedisOperations
+                .convertAndSend(INVALIDATION_CHANNEL, message)
+                .onErrorResume(error -> {
+                    // The entry has already been removed from Redis, other servers will drop it when it expires
+                    log.error("Error publishing cache invalidation {}", message, error);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    @Override
+    public Mono<Object> get(String cacheName, String key) {
+        ensureStats(cacheName);
+        String path = cacheName + ":" + key;
+        if (!isLocal(cacheName)) {
+            return getFromRedis(cacheName, path);
+        }
+
+        Object localValue = localCache.get(path);
+        if (localValue != null) {
+            statsMap.get(cacheName).getLocalHits().incrementAndGet();
+            return Mono.just(localValue);
+        }
+
+        statsMap.get(cacheName).getLocalMisses().incrementAndGet();
+        // Read before going to Redis, so that a value evicted while we wait for Redis is not cached locally
+        long generation = localCache.getGeneration();
+        return getFromRedis(cacheName, path)
+                .doOnNext(value -> localCache.putIfGeneration(path, value, ttlMap.get(cacheName), generation));
+    }
+
+    private Mono<Object> getFromRedis(String cacheName, String path) {
+        return reactiveRedisTemplate
+                .opsForValue()
+                .get(path)
+                .map(value -> {
+                    // This is a cache hit, update stats and return value
+                    statsMap.get(cacheName).getHits().incrementAndGet();
+                    return value;
+                })
+                .switchIfEmpty(Mono.defer(() -> {
+                    // This is a cache miss, update stats and return empty
+                    statsMap.get(cacheName).getMisses().incrementAndGet();
+                    log.debug("Cache miss for key {}", path);
+                    return Mono.empty();
+                }));
+    }
+
+    @Override
+    public Mono<Boolean> put(String cacheName, String key, Object value, Duration ttl) {
+        ensureStats(cacheName);
+        String path = cacheName + ":" + key;
+        log.debug("Cache entry added for key {}", path);
+        boolean expires = ttl != null && !ttl.isZero() && !ttl.isNegative();
+        Mono<Boolean> putMono = expires
+                ? reactiveRedisTemplate.opsForValue().set(path, value, ttl)
+                : reactiveRedisTemplate.opsForValue().set(path, value);
+        if (!isLocal(cacheName)) {
+            return putMono;
+        }
+
+        if (expires) {
+            ttlMap.put(cacheName, ttl);
+        } else {
+            ttlMap.remove(cacheName);
+        }
+        long generation = localCache.getGeneration();
+        return putMono.doOnNext(isSet -> {
+            if (Boolean.TRUE.equals(isSet)) {
+                localCache.putIfGeneration(path, value, expires ? ttl : null, generation);
+            }
+        });
+    }
+
+    @Override
+    public Mono<Void> evict(String cacheName, String key) {
+        ensureStats(cacheName);
+        statsMap.get(cacheName).getSingleEvictions().incrementAndGet();
+        String path = cacheName + ":" + key;
+        log.debug("Cache entry evicted for key {}", path);
+        if (!isLocal(cacheName)) {
+            return reactiveRedisTemplate.delete(path).then();
+        }
+
+        localCache.invalidate(path);
+        return reactiveRedisTemplate.delete(path).then(publishInvalidation(INVALIDATE_KEY_PREFIX + path));
+    }
+
+    @Override
+    public Mono<Void> evictAll(String cacheName) {
+        ensureStats(cacheName);
+        statsMap.get(cacheName).getCompleteEvictions().incrementAndGet();
+        String path = cacheName;
+        // Remove all matching keys in batches. Unlike KEYS, SCAN doesn't block Redis while it walks the keyspace, and
+        // UNLINK frees the memory of the removed values in the background.
+        ScanOptions scanOptions = ScanOptions.scanOptions()
+                .match(escapeGlob(path) + ":*")
+                .count(EVICT_ALL_BATCH_SIZE)
+                .build();
+        Mono<Void> evictMono = reactiveRedisTemplate
+                .scan(scanOptions)
+                .buffer(EVICT_ALL_BATCH_SIZE)
+                .concatMap(keys -> reactiveRedisTemplate.unlink(keys.toArray(String[]::new)))
+                .then();
+        if (!isLocal(cacheName)) {
+            return evictMono;
+        }
+
+        localCache.invalidateAll(path + ":");
+        return evictMono.then(publishInvalidation(INVALIDATE_ALL_PREFIX + path));
+    }
+
+    /**
+     * Escapes the characters that have a special meaning in the patterns matched by SCAN.
+     */
+    private static String escapeGlob(String value) {
+        return value.replaceAll("([*?\\[\\]\\\\])", "\\\\$1");
+    }
+}
@@ -1,34 +1,44 @@
-package com.appsmith.caching.model;
-
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
-import java.util.concurrent.atomic.AtomicInteger;
-
-/**
- * This is a CacheStats class that is used to store the stats of a cache.
- * It is maintained for all cacheNames in the memory
- */
-@Data
-@NoArgsConstructor(staticName = "newInstance")
-public class CacheStats {
-    /**
-     * The number of times the cache was hit.
-     */
-    private AtomicInteger hits = new AtomicInteger(0);
-
-    /**
-     * The number of times the cache was missed.
-     */
-    private AtomicInteger misses = new AtomicInteger(0);
-
-    /**
-     * The number of times the cache was evicted (single key).
-     */
-    private AtomicInteger singleEvictions = new AtomicInteger(0);
-
-    /**
-     * The number of times the cache was evicted (all keys).
-     */
-    private AtomicInteger completeEvictions = new AtomicInteger(0);
-}
+package com.appsmith.caching.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This is a CacheStats class that is used to store the stats of a cache.
+ * It is maintained for all cacheNames in the memory
+ */
+@Data
+@NoArgsConstructor(staticName = "newInstance")
+public class CacheStats {
+    /**
+     * The number of times the cache was hit in Redis.
+     */
+    private AtomicInteger hits = new AtomicInteger(0);
+
+    /**
+     * The number of times the cache was missed in Redis.
+     */
+    private AtomicInteger misses = new AtomicInteger(0);
+
+    /**
+     * The number of times the cache was hit in the in-process local cache.
+     */
+    private AtomicInteger localHits = new AtomicInteger(0);
+
+    /**
+     * The number of times the cache was missed in the in-process local cache, and had to be looked up in Redis.
+     */
+    private AtomicInteger localMisses = new AtomicInteger(0);
+
+    /**
+     * The number of times the cache was evicted (single key).
+     */
+    private AtomicInteger singleEvictions = new AtomicInteger(0);
+
+    /**
+     * The number of times the cache was evicted (all keys).
+     */
+    private AtomicInteger completeEvictions = new AtomicInteger(0);
+}
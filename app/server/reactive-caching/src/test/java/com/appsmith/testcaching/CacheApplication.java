@@ -1,11 +1,11 @@
-package com.appsmith.testcaching;
-
-import org.springframework.boot.SpringApplication;
-import org.springframework.boot.autoconfigure.SpringBootApplication;
-
-@SpringBootApplication
-public class CacheApplication {
-    public static void main(String[] args) {
-        SpringApplication.run(CacheApplication.class, args);
-    }
-}
+package com.appsmith.testcaching;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class CacheApplication {
+    public static void main(String[] args) {
+        SpringApplication.run(CacheApplication.class, args);
+    }
+}
@@ -1,10 +1,10 @@
-package com.appsmith.testcaching.model;
-
-import lombok.AllArgsConstructor;
-import lombok.Data;
-
-@Data
-@AllArgsConstructor(staticName = "of")
-public class ArgumentModel {
-    private String name;
-}
+package com.appsmith.testcaching.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor(staticName = "of")
+public class ArgumentModel {
+    private String name;
+}
@@ -1,10 +1,10 @@
-package com.appsmith.testcaching.model;
-
-import lombok.Data;
-import lombok.EqualsAndHashCode;
-
-@Data
-@EqualsAndHashCode
-public class ParentModel {
-    private int parentIntValue;
-}
+package com.appsmith.testcaching.model;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+@Data
+@EqualsAndHashCode
+public class ParentModel {
+    private int parentIntValue;
+}
@@ -0,0 +1,127 @@
+package com.appsmith.testcaching.test;
+
+import com.appsmith.caching.components.LocalCache;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class LocalCacheTest {
+
+    @Test
+    public void testEntriesExpireAfterTimeToLive() {
+        MutableClock clock = new MutableClock(Instant.parse("2023-01-01T00:00:00Z"));
+        LocalCache localCache = new LocalCache(10, Duration.ofSeconds(60), clock);
+
+        localCache.put("cache:key", "value");
+        clock.instant = clock.instant.plusSeconds(30);
+        assertEquals("value", localCache.get("cache:key"));
+
+        clock.instant = clock.instant.plusSeconds(31);
+        assertNull(localCache.get("cache:key"));
+        assertEquals(0, localCache.size());
+    }
+
+    @Test
+    public void testEntryExpiresAfterShorterTimeToLive() {
+        MutableClock clock = new MutableClock(Instant.parse("2023-01-01T00:00:00Z"));
+        LocalCache localCache = new LocalCache(10, Duration.ofSeconds(60), clock);
+
+        localCache.put("cache:short", "value", Duration.ofSeconds(10));
+        localCache.put("cache:long", "value", Duration.ofSeconds(600));
+        clock.instant = clock.instant.plusSeconds(11);
+        assertNull(localCache.get("cache:short"));
+        assertEquals("value", localCache.get("cache:long"));
+
+        // The time to live of the local cache is an upper bound for all its entries
+        clock.instant = clock.instant.plusSeconds(50);
+        assertNull(localCache.get("cache:long"));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntryIsEvictedWhenFull() {
+        LocalCache localCache = new LocalCache(2, Duration.ofSeconds(60), Clock.systemUTC());
+
+        localCache.put("cache:first", 1);
+        localCache.put("cache:second", 2);
+        // Read the first entry so that the second one becomes the least recently used
+        localCache.get("cache:first");
+        localCache.put("cache:third", 3);
+
+        assertEquals(2, localCache.size());
+        assertEquals(1, localCache.get("cache:first"));
+        assertNull(localCache.get("cache:second"));
+        assertEquals(3, localCache.get("cache:third"));
+    }
+
+    @Test
+    public void testInvalidateAllOnlyRemovesEntriesOfThatCache() {
+        LocalCache localCache = new LocalCache(10, Duration.ofSeconds(60), Clock.systemUTC());
+
+        localCache.put("cache:first", 1);
+        localCache.put("cache:second", 2);
+        localCache.put("cacheTwo:first", 3);
+        localCache.invalidateAll("cache:");
+
+        assertNull(localCache.get("cache:first"));
+        assertNull(localCache.get("cache:second"));
+        assertEquals(3, localCache.get("cacheTwo:first"));
+    }
+
+    @Test
+    public void testInvalidateValuesOnlyRemovesMatchingEntries() {
+        LocalCache localCache = new LocalCache(10, Duration.ofSeconds(60), Clock.systemUTC());
+
+        localCache.put("cache:first", 1);
+        localCache.put("cache:second", 2);
+        localCache.put("cache:third", 3);
+        localCache.invalidateValues(value -> (Integer) value % 2 == 1);
+
+        assertNull(localCache.get("cache:first"));
+        assertEquals(2, localCache.get("cache:second"));
+        assertNull(localCache.get("cache:third"));
+    }
+
+    @Test
+    public void testValueReadBeforeInvalidationIsNotCached() {
+        LocalCache localCache = new LocalCache(10, Duration.ofSeconds(60), Clock.systemUTC());
+
+        long generation = localCache.getGeneration();
+        // Another server evicts the key while this one is still reading the old value from Redis
+        localCache.invalidate("cache:key");
+        localCache.putIfGeneration("cache:key", "stale", null, generation);
+        assertNull(localCache.get("cache:key"));
+
+        localCache.putIfGeneration("cache:key", "fresh", null, localCache.getGeneration());
+        assertEquals("fresh", localCache.get("cache:key"));
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
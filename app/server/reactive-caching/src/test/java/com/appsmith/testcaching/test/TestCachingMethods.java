@@ -1,126 +1,161 @@
-package com.appsmith.testcaching.test;
-
-import com.appsmith.caching.components.CacheManager;
-import com.appsmith.testcaching.model.ArgumentModel;
-import com.appsmith.testcaching.model.TestModel;
-import com.appsmith.testcaching.service.CacheTestService;
-import lombok.extern.slf4j.Slf4j;
-import org.junit.jupiter.api.AfterAll;
-import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.TestInstance;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.context.SpringBootTest;
-
-import java.util.List;
-
-import static org.junit.jupiter.api.Assertions.assertArrayEquals;
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotEquals;
-
-@SpringBootTest
-@TestInstance(TestInstance.Lifecycle.PER_CLASS)
-@Slf4j
-public class TestCachingMethods {
-
-    @Autowired
-    private CacheTestService cacheTestService;
-
-    @Autowired
-    private CacheManager cacheManager;
-
-    /**
-     * This Test is used to test the caching of a method that returns a Mono<T>
-     */
-    @Test
-    public void testCacheAndEvictMono() {
-        TestModel model = cacheTestService.getObjectFor("test1").block();
-        TestModel model2 = cacheTestService.getObjectFor("test1").block();
-        assertEquals(model, model2);
-
-        cacheTestService.evictObjectFor("test1").block();
-
-        // If not evicted with above call, this will return the same object
-        model2 = cacheTestService.getObjectFor("test1").block();
-        assertNotEquals(model, model2);
-    }
-
-    /**
-     * This Test is used to test the caching of a method that returns a Flux<T>
-     */
-    @Test
-    public void testCacheAndEvictFlux() {
-        List<TestModel> model =
-                cacheTestService.getListFor("test1").collectList().block();
-        List<TestModel> model2 =
-                cacheTestService.getListFor("test1").collectList().block();
-        assertArrayEquals(model.toArray(), model2.toArray());
-
-        cacheTestService.evictListFor("test1").block();
-
-        // If not evicted with above call, this will return the same object
-        model2 = cacheTestService.getListFor("test1").collectList().block();
-        for (int i = model.size() - 1; i >= 0; i--) {
-            assertNotEquals(model.get(i), model2.get(i));
-        }
-    }
-
-    /**
-     * This Test is used to test evict all
-     */
-    @Test
-    public void testEvictAll() {
-        TestModel model1 = cacheTestService.getObjectFor("test1").block();
-        TestModel model2 = cacheTestService.getObjectFor("test2").block();
-
-        cacheTestService.evictAllObjects().block();
-
-        TestModel model1_2 = cacheTestService.getObjectFor("test1").block();
-        TestModel model2_2 = cacheTestService.getObjectFor("test2").block();
-
-        assertNotEquals(model1, model1_2);
-        assertNotEquals(model2, model2_2);
-    }
-
-    /**
-     * This Test is used to test SPEL expression in key field.
-     */
-    @Test
-    public void testExpression() {
-        TestModel model =
-                cacheTestService.getObjectForWithKey(ArgumentModel.of("test1")).block();
-        TestModel model2 =
-                cacheTestService.getObjectForWithKey(ArgumentModel.of("test1")).block();
-        assertEquals(model, model2);
-
-        cacheTestService.evictObjectForWithKey("test1").block();
-
-        // If not evicted with above call, this will return the same object
-        model2 = cacheTestService.getObjectForWithKey(ArgumentModel.of("test1")).block();
-        assertNotEquals(model, model2);
-    }
-
-    /**
-     * Test to measure performance of caching
-     */
-    @Test
-    public void measurePerformance() {
-        // Cache first
-        TestModel model1 = cacheTestService.getObjectFor("test1").block();
-        long initialTime = System.nanoTime();
-        int count = 100;
-        for (int i = 0; i < count; i++) {
-            cacheTestService.getObjectFor("test1").block();
-        }
-        long finalTime = System.nanoTime();
-        long timeTaken = finalTime - initialTime;
-        log.info("Time taken for cache operation " + (timeTaken / count) + " nanos");
-    }
-
-    /**
-     * Log stats in the end
-     */
-    @AfterAll
-    public void tearDown() {
-        cacheManager.logStats();
-    }
-}
+package com.appsmith.testcaching.test;
+
+import com.appsmith.caching.components.CacheManager;
+import com.appsmith.testcaching.model.ArgumentModel;
+import com.appsmith.testcaching.model.TestModel;
+import com.appsmith.testcaching.service.CacheTestService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Slf4j
+public class TestCachingMethods {
+
+    @Autowired
+    private CacheTestService cacheTestService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    /**
+     * This Test is used to test the caching of a method that returns a Mono<T>
+     */
+    @Test
+    public void testCacheAndEvictMono() {
+        TestModel model = cacheTestService.getObjectFor("test1").block();
+        TestModel model2 = cacheTestService.getObjectFor("test1").block();
+        assertEquals(model, model2);
+
+        cacheTestService.evictObjectFor("test1").block();
+
+        // If not evicted with above call, this will return the same object
+        model2 = cacheTestService.getObjectFor("test1").block();
+        assertNotEquals(model, model2);
+    }
+
+    /**
+     * This Test is used to test the caching of a method that returns a Flux<T>
+     */
+    @Test
+    public void testCacheAndEvictFlux() {
+        List<TestModel> model =
+                cacheTestService.getListFor("test1").collectList().block();
+        List<TestModel> model2 =
+                cacheTestService.getListFor("test1").collectList().block();
+        assertArrayEquals(model.toArray(), model2.toArray());
+
+        cacheTestService.evictListFor("test1").block();
+
+        // If not evicted with above call, this will return the same object
+        model2 = cacheTestService.getListFor("test1").collectList().block();
+        for (int i = model.size() - 1; i >= 0; i--) {
+            assertNotEquals(model.get(i), model2.get(i));
+        }
+    }
+
+    /**
+     * This Test is used to test evict all
+     */
+    @Test
+    public void testEvictAll() {
+        TestModel model1 = cacheTestService.getObjectFor("test1").block();
+        TestModel model2 = cacheTestService.getObjectFor("test2").block();
+
+        cacheTestService.evictAllObjects().block();
+
+        TestModel model1_2 = cacheTestService.getObjectFor("test1").block();
+        TestModel model2_2 = cacheTestService.getObjectFor("test2").block();
+
+        assertNotEquals(model1, model1_2);
+        assertNotEquals(model2, model2_2);
+    }
+
+    /**
+     * This Test is used to test SPEL expression in key field.
+     */
+    @Test
+    public void testExpression() {
+        TestModel model =
+                cacheTestService.getObjectForWithKey(ArgumentModel.of("test1")).block();
+        TestModel model2 =
+                cacheTestService.getObjectForWithKey(ArgumentModel.of("test1")).block();
+        assertEquals(model, model2);
+
+        cacheTestService.evictObjectForWithKey("test1").block();
+
+        // If not evicted with above call, this will return the same object
+        model2 = cacheTestService.getObjectForWithKey(ArgumentModel.of("test1")).block();
+        assertNotEquals(model, model2);
+    }
+
+    /**
+     * This Test is used to test that concurrent misses for the same key call the original method once
+     */
+    @Test
+    public void testConcurrentMissesLoadOnce() {
+        cacheTestService.countedCalls.set(0);
+        List<TestModel> models = Flux.range(0, 10)
+                .flatMap(i -> cacheTestService.getCountedObjectFor("test1"))
+                .collectList()
+                .block();
+
+        assertEquals(1, cacheTestService.countedCalls.get());
+        assertEquals(10, models.size());
+        models.forEach(model -> assertEquals(models.get(0), model));
+    }
+
+    /**
+     * This Test is used to test the expiry of cached entries
+     */
+    @Test
+    public void testCacheWithTtl() {
+        TestModel model = cacheTestService.getExpiringObjectFor("test1").block();
+        TestModel model2 = cacheTestService.getExpiringObjectFor("test1").block();
+        assertEquals(model, model2);
+
+        // Wait for the entry to expire
+        model2 = Mono.delay(Duration.ofMillis(1500))
+                .then(cacheTestService.getExpiringObjectFor("test1"))
+                .block();
+        assertNotEquals(model, model2);
+    }
+
+    /**
+     * Test to measure performance of caching
+     */
+    @Test
+    public void measurePerformance() {
+        // Cache first
+        TestModel model1 = cacheTestService.getObjectFor("test1").block();
+        long initialTime = System.nanoTime();
+        int count = 100;
+        for (int i = 0; i < count; i++) {
+            cacheTestService.getObjectFor("test1").block();
+        }
+        long finalTime = System.nanoTime();
+        long timeTaken = finalTime - initialTime;
+        log.info("Time taken for cache operation " + (timeTaken / count) + " nanos");
+    }
+
+    /**
+     * Log stats in the end
+     */
+    @AfterAll
+    public void tearDown() {
+        cacheManager.logStats();
+    }
+}